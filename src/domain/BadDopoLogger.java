@@ -27,6 +27,16 @@ public class BadDopoLogger {
         }
     }
 
+    /**
+     * Activa o desactiva el modo silencioso. En modo silencioso solo se
+     * registran advertencias y errores (útil para simulaciones masivas).
+     *
+     * @param quiet true para silenciar los mensajes informativos
+     */
+    public static void setQuiet(boolean quiet) {
+        logger.setLevel(quiet ? Level.WARNING : Level.ALL);
+    }
+
     /**
      * Registra un mensaje de información.
      *
@@ -36,6 +46,14 @@ public class BadDopoLogger {
         logger.info(message);
     }
 
+    /**
+     * Indica si se registran los mensajes informativos (para no construir
+     * el mensaje en código que corre en cada tick).
+     */
+    public static boolean isInfoEnabled() {
+        return logger.isLoggable(Level.INFO);
+    }
+
     /**
      * Registra un error con su excepción.
      *
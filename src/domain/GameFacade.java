@@ -5,16 +5,21 @@ import domain.entity.enemy.Enemy;
 import domain.entity.*;
 import domain.service.GameLogic;
 import domain.service.PersistenceService;
-import domain.service.MapLoaderService;
-import domain.service.MapParserService;
+import domain.service.LevelSetupService;
+import domain.service.ReplayService;
+import domain.service.SaveListener;
+import domain.service.SimulationEngine;
+import domain.service.SimulationThread;
 import exceptions.BadDopoException;
 import domain.state.GameState;
+import domain.state.InputCommand;
+import domain.state.Replay;
 import java.awt.Point;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Fachada del dominio del juego.
@@ -23,15 +28,31 @@ import java.util.Map;
  */
 public class GameFacade {
 
+    /** Propiedad del sistema que apaga el autoguardado con "false". */
+    public static final String AUTOSAVE_PROPERTY = "baddopo.autosave";
+
+    private static final long AUTOSAVE_CHECKPOINT_MS = 30000;
+    private static final long AUTOSAVE_JOURNAL_MS = 250;
+
     private GameState gameState;
     private GameLogic gameLogic;
+    private SimulationEngine simulationEngine;
     private PersistenceService persistenceService;
-    private MapLoaderService mapLoaderService;
-    private MapParserService mapParserService;
+    private ReplayService replayService;
+    private Replay replay; // null si la partida no se puede repetir (cargada)
+    private LevelSetupService levelSetupService;
     private LevelConfigurationDTO currentConfiguration; // Store configuration here
     private long lastUpdateTime;
     private boolean isP2CPU; // Store this explicitly in Facade as well or rely on GameState
-    private boolean paused;
+    private volatile boolean paused; // Lo lee también el hilo de simulación
+    // Cambia cuando se reemplaza el estado (carga o reinicio); el hilo de render la lee
+    private volatile int layoutVersion;
+    private final WorldFrame frame = new WorldFrame(); // Reutilizado en cada captureFrame()
+
+    // null = la simulación avanza en el hilo que llama a update() (también lo lee el hilo de render)
+    private volatile SimulationThread simulationThread;
+    // Recibe las casillas afectadas por acciones aplicadas en el hilo de simulación
+    private volatile Consumer<List<Point>> actionListener;
 
     /**
      * Constructor de la fachada del juego.
@@ -57,8 +78,22 @@ public class GameFacade {
     public GameFacade(String characterType, String characterTypeP2, String p1Name, String p2Name, int level,
             int numberOfPlayers, String aiTypeP1, String aiTypeP2, boolean isP2CPU,
             domain.dto.LevelConfigurationDTO config) {
-        this.gameState = new GameState(characterType, level, numberOfPlayers);
-        this.gameState.setP2CPU(isP2CPU);
+        this(characterType, characterTypeP2, p1Name, p2Name, level, numberOfPlayers, aiTypeP1, aiTypeP2, isP2CPU,
+                config, config != null ? config.getSeed() : null);
+    }
+
+    /**
+     * Constructor con semilla explícita (la usa el reproductor de repeticiones).
+     *
+     * @param config Configuración del nivel (o null para cargar desde JSON)
+     * @param seed   Semilla de la partida (o null para una aleatoria)
+     */
+    public GameFacade(String characterType, String characterTypeP2, String p1Name, String p2Name, int level,
+            int numberOfPlayers, String aiTypeP1, String aiTypeP2, boolean isP2CPU,
+            domain.dto.LevelConfigurationDTO config, Long seed) {
+        this.levelSetupService = new LevelSetupService();
+        this.gameState = levelSetupService.createGameState(characterType, characterTypeP2, p1Name, p2Name, level,
+                numberOfPlayers, aiTypeP1, aiTypeP2, isP2CPU, seed);
         this.isP2CPU = isP2CPU;
 
         // Ensure configuration is initialized
@@ -74,46 +109,16 @@ public class GameFacade {
             // load defaults immediately.
         }
 
-        // Convert Strings to Enums
-        AIType type1 = parseAIType(aiTypeP1);
-        AIType type2 = parseAIType(aiTypeP2);
-
-        // Set Player 2 character type if applicable
-        if (gameState.getPlayer2() != null && characterTypeP2 != null) {
-            Point pos = gameState.getPlayer2().getPosition();
-            Player p2 = new Player(pos, characterTypeP2);
-            gameState.setPlayer2(p2);
-        }
-
-        // Set AI Types
-        if (numberOfPlayers == 0) {
-            // Machine vs Machine
-            if (gameState.getPlayer() != null)
-                gameState.getPlayer().setAIType(type1);
-            if (gameState.getPlayer2() != null)
-                gameState.getPlayer2().setAIType(type2);
-        } else if (numberOfPlayers == 2 && isP2CPU) {
-            // Player 1 vs Machine
-            if (gameState.getPlayer2() != null) {
-                gameState.getPlayer2().setAIType(type2 != null ? type2 : AIType.EXPERT);
-            }
-        }
-
-        this.gameState.setPlayerNames(p1Name, p2Name);
-
         this.gameLogic = new GameLogic(gameState);
+        this.simulationEngine = new SimulationEngine(gameState, gameLogic);
         this.persistenceService = new PersistenceService();
-        this.mapLoaderService = new MapLoaderService();
-        this.mapParserService = new MapParserService();
+        this.replayService = new ReplayService();
         this.lastUpdateTime = System.currentTimeMillis();
         this.paused = false;
 
         // Initialize Level with Config if provided, otherwise default
-        if (config != null) {
-            initializeLevel(level, numberOfPlayers, config);
-        } else {
-            initializeLevel(level, numberOfPlayers);
-        }
+        levelSetupService.initializeLevel(gameState, level, numberOfPlayers, config);
+        this.replay = Replay.startFrom(gameState, config);
     }
 
     public GameFacade(String characterType, String characterTypeP2, String p1Name, String p2Name, int level,
@@ -145,10 +150,15 @@ public class GameFacade {
     // ==================== CONTROL DE PAUSA ====================
 
     public void togglePause() {
+        if (!paused) {
+            // El menú de pausa lee y guarda el estado: el hilo de simulación se detiene antes
+            stopSimulationThread();
+        }
         this.paused = !this.paused;
         // Resetear lastUpdateTime al reanudar para evitar saltos grandes de tiempo
         if (!paused) {
             this.lastUpdateTime = System.currentTimeMillis();
+            resumeSimulationThread();
         }
     }
 
@@ -166,14 +176,57 @@ public class GameFacade {
         persistenceService.saveGame(gameState, file);
     }
 
+    /**
+     * Guarda la partida en segundo plano. El estado se copia en el momento de
+     * la llamada; la escritura a disco no bloquea el hilo del juego.
+     *
+     * @param file     Archivo de destino
+     * @param listener Oyente del resultado (se invoca desde el hilo de guardado)
+     */
+    public void saveGameAsync(File file, SaveListener listener) {
+        persistenceService.saveGameAsync(gameState, file, listener);
+    }
+
+    /**
+     * Indica si la configuración pide autoguardado: sí salvo
+     * -Dbaddopo.autosave=false.
+     */
+    public static boolean isAutosaveRequested() {
+        return !"false".equalsIgnoreCase(System.getProperty(AUTOSAVE_PROPERTY));
+    }
+
+    /**
+     * Activa o desactiva el autoguardado periódico (checkpoint completo cada
+     * 30 s de juego y diario de cambios cada 250 ms). Las partidas de
+     * máquina contra máquina no se autoguardan.
+     */
+    public void setAutosaveEnabled(boolean enabled) {
+        if (enabled && gameState.getNumberOfPlayers() == 0) {
+            return; // Máquina contra máquina: no hay partida que recuperar
+        }
+        if (enabled) {
+            persistenceService.enableAutosave(AUTOSAVE_CHECKPOINT_MS, AUTOSAVE_JOURNAL_MS);
+        } else {
+            persistenceService.disableAutosave();
+        }
+    }
+
     public void loadGame(String filename) throws BadDopoException {
-        GameState loadedState = persistenceService.loadGame(filename);
-        if (loadedState != null) {
-            this.gameState = loadedState;
-            // Re-inicializar GameLogic con el nuevo estado
-            this.gameLogic = new GameLogic(this.gameState);
-            this.paused = false; // Reanudar al cargar
-            this.lastUpdateTime = System.currentTimeMillis();
+        stopSimulationThread();
+        try {
+            GameState loadedState = persistenceService.loadGame(filename);
+            if (loadedState != null) {
+                this.gameState = loadedState;
+                // Re-inicializar GameLogic con el nuevo estado
+                this.gameLogic = new GameLogic(this.gameState);
+                this.simulationEngine = new SimulationEngine(this.gameState, this.gameLogic);
+                this.paused = false; // Reanudar al cargar
+                this.lastUpdateTime = System.currentTimeMillis();
+                this.replay = null; // El estado cargado no se reconstruye desde una semilla
+                this.layoutVersion++;
+            }
+        } finally {
+            resumeSimulationThread();
         }
     }
 
@@ -181,9 +234,21 @@ public class GameFacade {
         return persistenceService.getSavedGames();
     }
 
+    /**
+     * Obtiene el resumen de las partidas guardadas para el menú de carga.
+     */
+    public List<SaveMetadataDTO> getSaveMetadata() {
+        return persistenceService.getSaveMetadata();
+    }
+
+    public void deleteSave(String filename) throws BadDopoException {
+        persistenceService.deleteSave(filename);
+    }
+
     // ==================== REINICIO Y SALIDA ====================
 
     public void restartLevel() {
+        stopSimulationThread();
         // Reiniciar con la misma configuración
         String charType = gameState.getPlayer().getCharacterType();
         int level = gameState.getLevel();
@@ -194,389 +259,370 @@ public class GameFacade {
         String name1 = gameState.getPlayer().getName();
         String name2 = (gameState.getPlayer2() != null) ? gameState.getPlayer2().getName() : "P2";
 
-        this.gameState = new GameState(charType, level, players);
+        this.gameState = (currentConfiguration != null && currentConfiguration.getSeed() != null)
+                ? new GameState(charType, level, players, currentConfiguration.getSeed())
+                : new GameState(charType, level, players);
         if (players == 2 || players == 0) {
             setPlayer2CharacterType(charType2);
         }
         this.gameState.setPlayerNames(name1, name2);
 
         this.gameLogic = new GameLogic(gameState);
+        this.simulationEngine = new SimulationEngine(gameState, gameLogic);
         this.paused = false;
         this.lastUpdateTime = System.currentTimeMillis();
 
-        initializeLevel(level, players);
+        levelSetupService.initializeLevel(gameState, level, players, null);
+        this.replay = Replay.startFrom(gameState, null);
+        this.layoutVersion++;
+        resumeSimulationThread();
     }
 
-    // ==================== INICIALIZACIÓN DE NIVELES ====================
+    // ==================== COMANDOS DE MOVIMIENTO P1 ====================
 
-    /**
-     * Inicializa el nivel especificado.
-     */
-    /**
-     * Inicializa el nivel especificado usando JSON.
-     */
-    private void initializeLevel(int level, int numberOfPlayers) {
-        initializeLevelFromJSON(level, numberOfPlayers);
+    public void movePlayerUp() {
+        if (!paused && !submitToSimulation(InputCommand.P1_UP)) {
+            record(InputCommand.P1_UP);
+            gameLogic.movePlayer(Direction.UP);
+        }
     }
 
-    /**
-     * Initialize level with custom configuration.
-     */
-    private void initializeLevel(int level, int numberOfPlayers, LevelConfigurationDTO config) {
-        try {
-            BadDopoLogger.logInfo(
-                    "Iniciando nivel " + level + " con " + numberOfPlayers + " jugadores y config personalizada.");
-
-            // 1. Setup Base Map Structure (Walls, Ice, Iglu) - Now from JSON
-            setupMapStructure(level, numberOfPlayers);
-
-            // 2. Spawn Configured Entities (Fruits, Enemies, HotTiles)
-            // Use legacy method for backward compatibility
-            spawnDynamicEntities(config);
-
-        } catch (BadDopoException e) {
-            BadDopoLogger.logError("Error al inicializar el nivel: " + e.getMessage(), e);
-        } catch (Exception e) {
-            BadDopoLogger.logError("Error inesperado al inicializar el nivel", e);
+    public void movePlayerDown() {
+        if (!paused && !submitToSimulation(InputCommand.P1_DOWN)) {
+            record(InputCommand.P1_DOWN);
+            gameLogic.movePlayer(Direction.DOWN);
         }
     }
 
-    /**
-     * Initialize level using JSON configuration (new method).
-     */
-    private void initializeLevelFromJSON(int level, int numberOfPlayers) {
-        try {
-            BadDopoLogger.logInfo("Iniciando nivel " + level + " desde JSON con " + numberOfPlayers + " jugadores.");
-
-            // Load level data from JSON
-            LevelDataDTO levelData = mapLoaderService.loadLevel(level);
-
-            // 1. Setup Map Structure from JSON
-            mapParserService.applyMapLayout(gameState, levelData.getMapLayout(), numberOfPlayers);
-
-            // 2. Spawn Dynamic Entities from JSON
-            spawnDynamicEntitiesFromJSON(levelData);
-
-            BadDopoLogger.logInfo("Nivel " + level + " inicializado completamente desde JSON");
-
-        } catch (BadDopoException e) {
-            BadDopoLogger.logError("Error al inicializar el nivel desde JSON: " + e.getMessage(), e);
-        } catch (Exception e) {
-            BadDopoLogger.logError("Error inesperado al inicializar el nivel desde JSON", e);
+    public void movePlayerLeft() {
+        if (!paused && !submitToSimulation(InputCommand.P1_LEFT)) {
+            record(InputCommand.P1_LEFT);
+            gameLogic.movePlayer(Direction.LEFT);
         }
     }
 
-    /**
-     * Sets up the static map elements (Walls, Iglu, Default Ice) based on Level ID.
-     * Now loads from JSON instead of hardcoded methods.
-     */
-    private void setupMapStructure(int level, int numberOfPlayers) throws BadDopoException {
-        try {
-            LevelDataDTO levelData = mapLoaderService.loadLevel(level);
-            mapParserService.applyMapLayout(gameState, levelData.getMapLayout(), numberOfPlayers);
-            BadDopoLogger.logInfo("Estructura del mapa nivel " + level + " cargada desde JSON");
-        } catch (BadDopoException e) {
-            BadDopoLogger.logError("Error cargando estructura del mapa desde JSON: " + e.getMessage(), e);
-            throw e;
+    public void movePlayerRight() {
+        if (!paused && !submitToSimulation(InputCommand.P1_RIGHT)) {
+            record(InputCommand.P1_RIGHT);
+            gameLogic.movePlayer(Direction.RIGHT);
         }
     }
 
-    /**
-     * Spawns entities based on the configuration from JSON.
-     */
-    private void spawnDynamicEntities(LevelConfigurationDTO config) {
-        // Legacy method - convert to use JSON if available
-        // This is called when using old constructor without JSON
-
-        // 1. Spawn Fruits (Ordered Waves)
-        Map<FruitType, Integer> counts = new java.util.EnumMap<>(FruitType.class);
-        for (Map.Entry<String, Integer> entry : config.getFruitCounts().entrySet()) {
-            try {
-                FruitType type = FruitType.valueOf(entry.getKey());
-                counts.put(type, entry.getValue());
-            } catch (IllegalArgumentException e) {
-                BadDopoLogger.logError("Unknown Fruit Type in Config: " + entry.getKey(), e);
-            }
+    public void stopPlayer() {
+        if (!paused && !submitToSimulation(InputCommand.P1_STOP)) {
+            record(InputCommand.P1_STOP);
+            gameLogic.stopPlayer();
         }
+    }
 
-        // Define strict wave order
-        FruitType[] waveOrder = { FruitType.UVA, FruitType.PLATANO, FruitType.PIÑA, FruitType.CACTUS,
-                FruitType.CEREZA };
-
-        // Populate Pending Waves
-        for (FruitType type : waveOrder) {
-            if (counts.containsKey(type)) {
-                int count = counts.get(type);
-                if (count > 0) {
-                    List<Fruit> wave = new ArrayList<>();
-                    for (int i = 0; i < count; i++) {
-                        Point position = findFreePosition();
-                        if (position != null) {
-                            wave.add(new Fruit(position, type));
-                        }
-                    }
-                    if (!wave.isEmpty()) {
-                        gameState.addPendingFruitWave(wave);
-                    }
-                }
-            }
-        }
+    // ==================== COMANDOS DE MOVIMIENTO P2 ====================
 
-        // Spawn First Wave Immediately
-        if (!gameState.getPendingFruitWaves().isEmpty()) {
-            List<Fruit> firstWave = gameState.getPendingFruitWaves().remove(0);
-            for (Fruit f : firstWave) {
-                gameState.addFruit(f);
-            }
+    public void movePlayer2Up() {
+        if (!paused && !submitToSimulation(InputCommand.P2_UP)) {
+            record(InputCommand.P2_UP);
+            gameLogic.movePlayer2(Direction.UP);
         }
+    }
 
-        // 2. Spawn Enemies
-        for (Map.Entry<String, Integer> entry : config.getEnemyCounts().entrySet()) {
-            String enemyTypeStr = entry.getKey();
-            int count = entry.getValue();
-            try {
-                // Simple validation - try to create one dummy (or just rely on factory throw)
-                // Better: just spawn. Factory throws if invalid.
-                for (int i = 0; i < count; i++) {
-                    spawnEnemy(enemyTypeStr);
-                }
-            } catch (IllegalArgumentException e) {
-                BadDopoLogger.logError("Unknown Enemy Type in Config: " + enemyTypeStr, e);
-            }
+    public void movePlayer2Down() {
+        if (!paused && !submitToSimulation(InputCommand.P2_DOWN)) {
+            record(InputCommand.P2_DOWN);
+            gameLogic.movePlayer2(Direction.DOWN);
         }
+    }
 
-        // 3. Spawn Hot Tiles
-        initializeHotTiles(config.getHotTileCount());
-    }
-
-    /**
-     * Spawns entities based on LevelDataDTO from JSON.
-     * TEMPORARILY DISABLED - Only loading map structure
-     */
-    private void spawnDynamicEntitiesFromJSON(LevelDataDTO levelData) {
-        // DISABLED: Only loading map, not entities
-        /*
-         * // 1. Spawn Fruits from JSON waves
-         * if (levelData.getFruitConfig() != null) {
-         * for (FruitWaveDTO wave : levelData.getFruitConfig().getWaves()) {
-         * List<Fruit> fruitWave = new ArrayList<>();
-         * 
-         * for (FruitSpawnDTO fruitSpawn : wave.getFruits()) {
-         * try {
-         * FruitType type = FruitType.valueOf(fruitSpawn.getType());
-         * int count = fruitSpawn.getCount();
-         * 
-         * for (int i = 0; i < count; i++) {
-         * Point position = findFreePosition();
-         * if (position != null) {
-         * fruitWave.add(new Fruit(position, type));
-         * }
-         * }
-         * } catch (IllegalArgumentException e) {
-         * BadDopoLogger.logError("Unknown Fruit Type in JSON: " + fruitSpawn.getType(),
-         * e);
-         * }
-         * }
-         * 
-         * if (!fruitWave.isEmpty()) {
-         * if (wave.isSpawnOnStart()) {
-         * // Spawn immediately
-         * for (Fruit f : fruitWave) {
-         * gameState.addFruit(f);
-         * }
-         * } else {
-         * // Add to pending waves
-         * gameState.addPendingFruitWave(fruitWave);
-         * }
-         * }
-         * }
-         * }
-         * 
-         * // 2. Spawn Enemies from JSON
-         * if (levelData.getEnemyConfig() != null) {
-         * for (EnemySpawnDTO enemySpawn : levelData.getEnemyConfig().getTypes()) {
-         * try {
-         * EnemyType type = EnemyType.valueOf(enemySpawn.getType());
-         * int count = enemySpawn.getCount();
-         * 
-         * for (int i = 0; i < count; i++) {
-         * spawnEnemy(type);
-         * }
-         * } catch (IllegalArgumentException e) {
-         * BadDopoLogger.logError("Unknown Enemy Type in JSON: " + enemySpawn.getType(),
-         * e);
-         * }
-         * }
-         * }
-         */
-
-        BadDopoLogger.logInfo("Mapa cargado desde JSON (entidades deshabilitadas temporalmente)");
-    }
-
-    // Helper for Spawning specific enemy type
-    private void spawnEnemy(String type) {
-        Point position = findFreePosition();
-        if (position != null) {
-            domain.entity.enemy.Enemy enemy = domain.entity.enemy.EnemyFactory.createEnemy(position, type);
-            gameState.addEnemy(enemy);
-        }
-    }
-
-    /**
-     * Finds a random free position in the grid (not occupied by walls, ice, etc).
-     */
-    private Point findFreePosition() {
-        Random random = new Random();
-        int attempts = 0;
-        while (attempts < 100) {
-            int x = random.nextInt(GameState.getGridSize());
-            int y = random.nextInt(GameState.getGridSize());
-            Point p = new Point(x, y);
-
-            // Check collision with walls, iglu, ice, other entities
-            // For simplicity, checking if GameState says it's empty
-            // But GameState might not have a unified "isOccupied" for strictly spawning.
-            // We'll check basic constraints.
-
-            if (gameState.getIglu() != null && gameState.getIglu().collidesWith(p))
-                continue;
-            if (isWall(p))
-                continue;
-            if (hasIceAt(p))
-                continue;
-            if (hasHotTileAt(p))
-                continue;
-            // Check fruits/enemies? Ideally yes, but for now simple check.
-
-            return p;
+    public void movePlayer2Left() {
+        if (!paused && !submitToSimulation(InputCommand.P2_LEFT)) {
+            record(InputCommand.P2_LEFT);
+            gameLogic.movePlayer2(Direction.LEFT);
         }
-        return null;
     }
 
-    private boolean isWall(Point p) {
-        // Simple border check if walls are only borders
-        int s = GameState.getGridSize();
-        return p.x == 0 || p.x == s - 1 || p.y == 0 || p.y == s - 1;
-        // Also check Unbreakable blocks list if needed.
+    public void movePlayer2Right() {
+        if (!paused && !submitToSimulation(InputCommand.P2_RIGHT)) {
+            record(InputCommand.P2_RIGHT);
+            gameLogic.movePlayer2(Direction.RIGHT);
+        }
     }
 
-    private void initializeHotTiles(int count) {
-        for (int i = 0; i < count; i++) {
-            Point pos = findFreePosition();
-            if (pos != null) {
-                gameState.addHotTile(new HotTile(pos));
-            }
+    public void stopPlayer2() {
+        if (!paused && !submitToSimulation(InputCommand.P2_STOP)) {
+            record(InputCommand.P2_STOP);
+            gameLogic.stopPlayer2();
         }
     }
 
-    // --- Helper Methods for Entity Management and Collision ---
+    // ==================== ACCIONES DEL JUGADOR ====================
 
-    private boolean hasIceAt(Point p) {
-        return gameState.getIceBlocks().stream().anyMatch(ice -> ice.getPosition().equals(p));
+    /**
+     * Ejecuta la acción del jugador 1.
+     */
+    public List<Point> performSpaceAction() {
+        if (paused || submitToSimulation(InputCommand.P1_ACTION))
+            return new ArrayList<>();
+        record(InputCommand.P1_ACTION);
+        return gameLogic.performSpaceAction();
     }
 
-    private boolean hasHotTileAt(Point p) {
-        return gameState.getHotTiles().stream().anyMatch(tile -> tile.getPosition().equals(p));
+    /**
+     * Ejecuta la acción del jugador 2.
+     */
+    public List<Point> performActionPlayer2() {
+        if (paused || submitToSimulation(InputCommand.P2_ACTION))
+            return new ArrayList<>();
+        record(InputCommand.P2_ACTION);
+        return gameLogic.performActionPlayer2();
     }
 
-    // ==================== COMANDOS DE MOVIMIENTO P1 ====================
+    /**
+     * Aplica un comando de entrada como si llegara del teclado (lo usan el
+     * hilo de simulación). Las casillas
+     * afectadas por una acción se entregan al oyente de acciones.
+     *
+     * @param command Comando a aplicar
+     */
+    public void apply(InputCommand command) {
+        if (paused || submitToSimulation(command)) {
+            return;
+        }
+        record(command);
+        List<Point> affected = gameLogic.apply(command);
+        Consumer<List<Point>> listener = actionListener;
+        if (listener != null && affected != null && !affected.isEmpty()) {
+            listener.accept(affected);
+        }
+    }
 
-    public void movePlayerUp() {
-        if (!paused)
-            gameLogic.movePlayer(Direction.UP);
+    /**
+     * Registra quién recibe las casillas afectadas por las acciones de los
+     * jugadores que se aplican desde {@link #apply(InputCommand)} (con el
+     * hilo de simulación, performSpaceAction() devuelve una lista vacía y
+     * el resultado llega por aquí, desde ese hilo).
+     *
+     * @param listener Oyente, o null para ninguno
+     */
+    public void setActionListener(Consumer<List<Point>> listener) {
+        this.actionListener = listener;
     }
 
-    public void movePlayerDown() {
-        if (!paused)
-            gameLogic.movePlayer(Direction.DOWN);
+    // ==================== HILO DE SIMULACIÓN ====================
+
+    /**
+     * Pasa la simulación a un hilo propio (ver SimulationThread). Desde
+     * ese momento update() no hace nada fuera de ese hilo, las entradas se
+     * encolan y captureFrame() devuelve la última foto publicada. Se detiene
+     * con la pausa y vuelve a arrancar al reanudar.
+     */
+    public void startSimulationThread() {
+        startSimulationThread(false);
     }
 
-    public void movePlayerLeft() {
-        if (!paused)
-            gameLogic.movePlayer(Direction.LEFT);
+    /**
+     * Como {@link #startSimulationThread()}, indicando si un hilo de render
+     * propio leerá las fotos con {@link #acquireViewFrame()}. Lo decide la
+     * primera llamada.
+     */
+    public void startSimulationThread(boolean separateView) {
+        if (simulationThread == null) {
+            simulationThread = new SimulationThread(this, separateView);
+        }
+        resumeSimulationThread();
     }
 
-    public void movePlayerRight() {
-        if (!paused)
-            gameLogic.movePlayer(Direction.RIGHT);
+    /**
+     * Detiene el hilo de simulación (si corre) y espera a que termine el
+     * tick en curso. El hilo que llama vuelve a ser el dueño del estado.
+     */
+    public void stopSimulationThread() {
+        if (simulationThread != null) {
+            simulationThread.stop();
+        }
     }
 
-    public void stopPlayer() {
-        if (!paused)
-            gameLogic.stopPlayer();
+    public boolean isSimulationThreadRunning() {
+        return simulationThread != null && simulationThread.isRunning();
     }
 
-    // ==================== COMANDOS DE MOVIMIENTO P2 ====================
+    /**
+     * Indica si una entrada del jugador se encoló para el hilo de simulación
+     * y la foto actual todavía no la refleja. Sin el hilo las entradas se
+     * aplican al momento y nunca quedan pendientes.
+     *
+     * @param player 0 para P1, 1 para P2
+     */
+    public boolean isInputPending(int player) {
+        return isOffSimulationThread() && simulationThread.hasPendingInput(player);
+    }
 
-    public void movePlayer2Up() {
-        if (!paused)
-            gameLogic.movePlayer2(Direction.UP);
+    /**
+     * Entradas del jugador encoladas para el hilo de simulación desde que se
+     * creó (0 sin hilo). Se comparan con {@link WorldFrame#getAppliedInputs}
+     * de una foto para saber si ya las refleja.
+     *
+     * @param player 0 para P1, 1 para P2
+     */
+    public long getSubmittedInputs(int player) {
+        return simulationThread != null ? simulationThread.getSubmittedInputs(player) : 0;
     }
 
-    public void movePlayer2Down() {
-        if (!paused)
-            gameLogic.movePlayer2(Direction.DOWN);
+    private void resumeSimulationThread() {
+        if (simulationThread != null && !paused) {
+            simulationThread.start();
+        }
     }
 
-    public void movePlayer2Left() {
-        if (!paused)
-            gameLogic.movePlayer2(Direction.LEFT);
+    /**
+     * Indica si el estado lo modifica otro hilo: el de simulación, y quien
+     * llama no es él.
+     */
+    private boolean isOffSimulationThread() {
+        return simulationThread != null && simulationThread.isRunning() && !simulationThread.isCurrentThread();
     }
 
-    public void movePlayer2Right() {
-        if (!paused)
-            gameLogic.movePlayer2(Direction.RIGHT);
+    /**
+     * Encola la entrada para el hilo de simulación si corre en otro hilo.
+     *
+     * @return true si la entrada se encoló (o se descartó por cola llena) y
+     *         no debe aplicarse aquí
+     */
+    private boolean submitToSimulation(InputCommand command) {
+        if (!isOffSimulationThread()) {
+            return false;
+        }
+        if (!simulationThread.submit(command)) {
+            BadDopoLogger.logInfo("Cola de entradas llena: se descarta " + command);
+        }
+        return true;
     }
 
-    public void stopPlayer2() {
-        if (!paused)
-            gameLogic.stopPlayer2();
+    // ==================== REPETICIONES ====================
+
+    /**
+     * Registra una entrada con el tick de simulación en que se aplicará.
+     */
+    private void record(InputCommand command) {
+        if (replay != null) {
+            replay.record(simulationEngine.getTickCount(), command);
+        }
     }
 
-    // ==================== ACCIONES DEL JUGADOR ====================
+    /**
+     * Obtiene la repetición de la partida actual (null si se cargó de un
+     * guardado).
+     */
+    public Replay getReplay() {
+        if (replay != null) {
+            replay.setEndTick(simulationEngine.getTickCount());
+        }
+        return replay;
+    }
 
     /**
-     * Ejecuta la acción del jugador 1.
+     * Guarda la repetición de la partida actual como la última jugada.
+     *
+     * @return Archivo escrito
+     * @throws BadDopoException si no hay repetición o no se puede escribir
      */
-    public List<Point> performSpaceAction() {
-        if (paused)
-            return new ArrayList<>();
-        return gameLogic.performSpaceAction();
+    public File saveReplay() throws BadDopoException {
+        if (replay == null) {
+            throw BadDopoException.replayNotAvailable();
+        }
+        return replayService.saveLastReplay(getReplay());
     }
 
     /**
-     * Ejecuta la acción del jugador 2.
+     * Guarda la repetición de la partida actual en un archivo.
      */
-    public List<Point> performActionPlayer2() {
-        if (paused)
-            return new ArrayList<>();
-        return gameLogic.performActionPlayer2();
+    public void saveReplay(File file) throws BadDopoException {
+        if (replay == null) {
+            throw BadDopoException.replayNotAvailable();
+        }
+        replayService.saveReplay(getReplay(), file);
     }
 
     // ==================== ACTUALIZACIÓN DEL JUEGO ====================
 
     /**
      * Actualiza el estado completo del juego.
-     * Debe llamarse en cada frame del gameloop.
+     * Debe llamarse en cada frame del gameloop. El tiempo real transcurrido
+     * se entrega al motor de simulación, que lo consume en ticks fijos.
      */
     public void update() {
+        if (isOffSimulationThread()) {
+            return; // Los ticks los da el hilo de simulación
+        }
         long currentTime = System.currentTimeMillis();
-        int deltaTime = (int) (currentTime - lastUpdateTime);
+        long elapsed = currentTime - lastUpdateTime;
         lastUpdateTime = currentTime;
 
         if (!paused) {
-            gameLogic.update(deltaTime);
+            int ticks = simulationEngine.advance(elapsed);
+            if (ticks > 0 && !simulationEngine.isFinished()) {
+                persistenceService.autosave(gameState, simulationEngine.getElapsedGameTime());
+            }
         }
     }
 
+    /**
+     * Obtiene el motor de simulación de paso fijo de la partida actual.
+     * Permite avanzar el juego sin reloj (modo headless).
+     *
+     * @return Motor de simulación
+     */
+    public SimulationEngine getSimulationEngine() {
+        return simulationEngine;
+    }
+
     // ==================== SNAPSHOTS PARA PRESENTACIÓN ====================
 
+    /**
+     * Captura el estado dibujable de la partida en un frame reutilizable.
+     * Su contenido es válido hasta la siguiente llamada. Con el hilo de
+     * simulación en marcha devuelve la última foto que este publicó.
+     *
+     * @return Frame con jugadores, enemigos, frutas, hielo y baldosas calientes
+     */
+    public WorldFrame captureFrame() {
+        if (isOffSimulationThread()) {
+            return simulationThread.acquireFrame();
+        }
+        frame.capture(gameState);
+        frame.setLayoutVersion(layoutVersion);
+        return frame;
+    }
+
+    /**
+     * Foto para un hilo de render propio (ver
+     * {@link #startSimulationThread(boolean)}). A diferencia de
+     * captureFrame() nunca lee el estado vivo: con el hilo de simulación
+     * detenido devuelve la última foto publicada.
+     *
+     * @return La foto, o null si no hay hilo de simulación con render propio
+     */
+    public WorldFrame acquireViewFrame() {
+        SimulationThread thread = simulationThread;
+        return thread != null ? thread.acquireViewFrame() : null;
+    }
+
+    /**
+     * Frame del que leer el HUD y el fin de partida: con el hilo de
+     * simulación en marcha, la última foto adquirida (la misma que se
+     * dibuja); sin él, null y las consultas leen el GameState directamente.
+     */
+    private WorldFrame hudFrame() {
+        return isOffSimulationThread() ? simulationThread.currentFrame() : null;
+    }
+
     /**
      * Obtiene snapshot del jugador para renderizado.
      *
      * @return Snapshot del jugador
      */
     public PlayerSnapshot getPlayerSnapshot() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.getPlayer().copy();
+        }
         return PlayerSnapshot.from(gameState.getPlayer());
     }
 
@@ -586,6 +632,10 @@ public class GameFacade {
      * @return Snapshot del jugador 2 o null
      */
     public PlayerSnapshot getPlayer2Snapshot() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.getPlayer2() != null ? hud.getPlayer2().copy() : null;
+        }
         if (gameState.getPlayer2() != null) {
             return PlayerSnapshot.from(gameState.getPlayer2());
         }
@@ -593,7 +643,8 @@ public class GameFacade {
     }
 
     /**
-     * Obtiene snapshots de todos los enemigos para renderizado.
+     * Obtiene snapshots de todos los enemigos para renderizado. Lee el
+     * estado vivo: con el hilo de simulación en marcha usar captureFrame().
      *
      * @return Lista de snapshots de enemigos
      */
@@ -657,12 +708,21 @@ public class GameFacade {
     }
 
     // ==================== CONSULTAS DEL ESTADO DEL JUGADOR ====================
+    // Con el hilo de simulación en marcha se sirven desde hudFrame().
 
     public Point getPlayerPosition() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.getPlayer().getPosition();
+        }
         return gameState.getPlayer().getPosition();
     }
 
     public String getPlayerDirection() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.getPlayer().getDirection();
+        }
         Direction dir = gameState.getPlayer().getCurrentDirection();
         if (dir == Direction.IDLE) {
             dir = gameState.getPlayer().getFacingDirection();
@@ -671,30 +731,58 @@ public class GameFacade {
     }
 
     public boolean isPlayerMoving() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.getPlayer().isMoving();
+        }
         return gameState.getPlayer().getCurrentDirection() != Direction.IDLE;
     }
 
     public boolean isPlayerSneezing() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.getPlayer().isSneezing();
+        }
         return gameState.getPlayer().isSneezing();
     }
 
     public boolean isPlayerKicking() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.getPlayer().isKicking();
+        }
         return gameState.getPlayer().isKicking();
     }
 
     public boolean isPlayerDying() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.getPlayer().isDying();
+        }
         return gameState.getPlayer().isDying();
     }
 
     public boolean isPlayerCelebrating() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.getPlayer().isCelebrating();
+        }
         return gameState.getPlayer().isCelebrating();
     }
 
     public boolean isPlayerAlive() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.isPlayerAlive();
+        }
         return gameState.getPlayer() != null && gameState.getPlayer().isAlive();
     }
 
     public boolean isPlayer2Alive() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.isPlayer2Alive();
+        }
         return gameState.getPlayer2() == null || gameState.getPlayer2().isAlive();
     }
 
@@ -704,24 +792,11 @@ public class GameFacade {
      * @return true si la animación terminó
      */
     public boolean isDeathAnimationComplete() {
-        Player player = gameState.getPlayer();
-        Player player2 = gameState.getPlayer2();
-
-        boolean p1Dead = (player != null) && !player.isDying() && !player.isAlive();
-        boolean p2Dead = (player2 != null) && !player2.isDying() && !player2.isAlive();
-
-        // In PvP/MvM, game over only if BOTH players die (GameLogic ensures isGameOver
-        // is set).
-        // Here we ensure we wait for BOTH animations to complete before showing
-        // summary.
-        if (isTimeUp()) {
-            return true;
-        }
-
-        if (gameState.getNumberOfPlayers() == 2 || gameState.getNumberOfPlayers() == 0) {
-            return p1Dead && p2Dead;
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.isDeathAnimationComplete();
         }
-        return p1Dead;
+        return gameState.isDeathAnimationComplete();
     }
 
     /**
@@ -730,6 +805,10 @@ public class GameFacade {
      * @return true si está ocupado
      */
     public boolean isPlayerBusy() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.isPlayerBusy();
+        }
         return gameState.getPlayer().isBusy();
     }
 
@@ -740,10 +819,18 @@ public class GameFacade {
     // ==================== CONSULTAS DEL ESTADO DEL JUEGO ====================
 
     public boolean isGameOver() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.isGameOver();
+        }
         return gameState.isGameOver();
     }
 
     public boolean isVictory() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.isVictory();
+        }
         return gameState.isVictory();
     }
 
@@ -753,8 +840,7 @@ public class GameFacade {
      * @return true si el tiempo se acabó O si el jugador murió completamente
      */
     public boolean shouldRestartLevel() {
-        return gameState.isTimeUp() ||
-                (gameState.isGameOver() && isDeathAnimationComplete());
+        return isTimeUp() || (isGameOver() && isDeathAnimationComplete());
     }
 
     public int getLevel() {
@@ -772,22 +858,38 @@ public class GameFacade {
     // ==================== TEMPORIZADOR ====================
 
     public String getFormattedTime() {
-        return gameState.getFormattedTime();
+        return GameState.formatTime(getTimeRemaining());
     }
 
     public long getTimeRemaining() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.getTimeRemaining();
+        }
         return gameState.getTimeRemaining();
     }
 
     public boolean isTimeUp() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.isTimeUp();
+        }
         return gameState.isTimeUp();
     }
 
     public int getScore() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.getScore();
+        }
         return gameState.getScore();
     }
 
     public int getScorePlayer2() {
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.getScorePlayer2();
+        }
         return gameState.getScorePlayer2();
     }
 
@@ -879,13 +981,17 @@ public class GameFacade {
      * @return Cantidad de frutas restantes de ese tipo
      */
     public int countRemainingFruits(String fruitType) {
-        int count = 0;
-        for (Fruit fruit : gameState.getFruits()) {
-            if (!fruit.isCollected() && fruit.getType().toString().equals(fruitType)) {
-                count++;
-            }
+        FruitType type;
+        try {
+            type = FruitType.valueOf(fruitType);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return 0;
         }
-        return count;
+        WorldFrame hud = hudFrame();
+        if (hud != null) {
+            return hud.getRemainingFruits(type);
+        }
+        return gameState.getRemainingFruits(type);
     }
 
     // ==================== TIPOS DISPONIBLES ====================
@@ -916,21 +1022,6 @@ public class GameFacade {
         return types;
     }
 
-    /**
-     * Parsea un String a AIType de forma segura.
-     */
-    private AIType parseAIType(String typeName) {
-        if (typeName == null)
-            return null; // Allow null to mean "no change" or "default" depending on context
-        try {
-            return AIType.valueOf(typeName);
-        } catch (IllegalArgumentException e) {
-            BadDopoLogger.logError("Invalid AI Type: " + typeName + ", default to EXPERT", e);
-            return AIType.EXPERT;
-        }
-
-    }
-
     // ==================== MISSING METHODS RESTORED ====================
 
     /**
@@ -939,20 +1030,17 @@ public class GameFacade {
      */
     public void applyConfiguration() {
         if (currentConfiguration != null) {
-            // Clear existing logic if needed or just spawn new entities
             // Clear existing dynamic entities but PRESERVE map structure (walls, ice, iglu)
-            gameState.getFruits().clear();
-
-            // Clear pending waves as well
-            if (gameState.getPendingFruitWaves() != null) {
-                gameState.getPendingFruitWaves().clear();
+            levelSetupService.applyConfiguration(gameState, currentConfiguration);
+
+            if (replay != null) {
+                if (simulationEngine.getTickCount() == 0 && replay.getAppliedConfiguration() == null) {
+                    replay.setAppliedConfiguration(currentConfiguration);
+                } else {
+                    BadDopoLogger.logInfo("Configuración aplicada de nuevo o en curso: partida sin repetición");
+                    replay = null;
+                }
             }
-
-            gameState.getEnemies().clear();
-            gameState.getHotTiles().clear();
-
-            // Setup entities again based on configuration
-            spawnDynamicEntities(currentConfiguration);
         }
     }
 
@@ -960,6 +1048,22 @@ public class GameFacade {
         return this.isP2CPU;
     }
 
+    /**
+     * Versión del mapa fijo (fondo, bloques irrompibles e iglú). Cambia cada
+     * vez que se carga una partida o se reinicia el nivel, para que la
+     * presentación sepa cuándo volver a componer lo que tiene en caché.
+     */
+    public int getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    /**
+     * Obtiene la semilla de la partida actual (se guarda junto con la partida).
+     */
+    public long getSeed() {
+        return gameState.getSeed();
+    }
+
     public List<String> getUniqueFruitTypes() {
         // Return enum names that are distinct?
         // Actually just all available fruit types
@@ -1,7 +1,6 @@
 package domain.behavior;
 
 import domain.entity.Direction;
-import java.awt.Point;
 import java.util.Random;
 
 /**
@@ -12,10 +11,10 @@ import java.util.Random;
 public class ChaseMovement implements MovementBehavior {
 
     @Override
-    public Direction calculateDirection(Point currentPosition, Point targetPosition,
+    public Direction calculateDirection(int currentX, int currentY, int targetX, int targetY,
                                         int stuckCounter, Random random) {
-        int dx = targetPosition.x - currentPosition.x;
-        int dy = targetPosition.y - currentPosition.y;
+        int dx = targetX - currentX;
+        int dy = targetY - currentY;
 
         // Si está muy atascado, intentar movimiento alternativo
         if (stuckCounter > 2) {
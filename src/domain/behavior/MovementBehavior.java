@@ -1,7 +1,6 @@
 package domain.behavior;
 
 import domain.entity.Direction;
-import java.awt.Point;
 import java.util.Random;
 
 /**
@@ -19,12 +18,14 @@ public interface MovementBehavior extends Serializable {
     /**
      * Calcula la dirección de movimiento del enemigo.
      *
-     * @param currentPosition Posición actual del enemigo
-     * @param targetPosition  Posición objetivo (generalmente el jugador)
-     * @param stuckCounter    Contador de veces que el enemigo se ha atascado
-     * @param random          Generador de números aleatorios
+     * @param currentX     Columna actual del enemigo
+     * @param currentY     Fila actual del enemigo
+     * @param targetX      Columna objetivo (generalmente el jugador)
+     * @param targetY      Fila objetivo
+     * @param stuckCounter Contador de veces que el enemigo se ha atascado
+     * @param random       Generador de números aleatorios
      * @return Dirección calculada
      */
-    Direction calculateDirection(Point currentPosition, Point targetPosition,
+    Direction calculateDirection(int currentX, int currentY, int targetX, int targetY,
             int stuckCounter, Random random);
 }
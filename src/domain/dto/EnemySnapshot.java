@@ -12,6 +12,7 @@ public class EnemySnapshot extends EntitySnapshot {
     private boolean controlledByPlayer;
     private boolean breakingIce;
     private boolean isDrilling;
+    private int moveInterval;
 
     /**
      * Constructor privado. Usar Builder.
@@ -24,7 +25,9 @@ public class EnemySnapshot extends EntitySnapshot {
         this.controlledByPlayer = builder.controlledByPlayer;
         this.breakingIce = builder.breakingIce;
         this.isDrilling = builder.isDrilling;
+        this.moveInterval = builder.moveInterval;
         this.id = builder.id;
+        this.generation = builder.generation;
     }
 
     @Override
@@ -39,16 +42,26 @@ public class EnemySnapshot extends EntitySnapshot {
      * @return Snapshot del enemigo
      */
     public static EnemySnapshot from(Enemy enemy) {
-        return new Builder()
-                .id(enemy.getId())
-                .position(enemy.getPosition())
-                .active(enemy.isActive())
-                .enemyType(enemy.getTypeName())
-                .direction(enemy.getCurrentDirection().toString())
-                .controlledByPlayer(enemy.isControlledByPlayer())
-                .breakingIce(enemy.isBreakingIce())
-                .isDrilling(enemy.isDrilling())
-                .build();
+        EnemySnapshot snapshot = new Builder().build();
+        snapshot.update(enemy);
+        return snapshot;
+    }
+
+    /**
+     * Sobrescribe este snapshot con el estado actual del enemigo (para
+     * reutilizarlo entre frames, ver WorldFrame).
+     */
+    void update(Enemy enemy) {
+        this.id = enemy.getId();
+        this.generation = enemy.getGeneration();
+        setPosition(enemy.getX(), enemy.getY());
+        this.active = enemy.isActive();
+        this.enemyType = enemy.getTypeName();
+        this.direction = enemy.getCurrentDirection().toString();
+        this.controlledByPlayer = enemy.isControlledByPlayer();
+        this.breakingIce = enemy.isBreakingIce();
+        this.isDrilling = enemy.isDrilling();
+        this.moveInterval = enemy.getCurrentMoveInterval();
     }
 
     // ==================== GETTERS ====================
@@ -73,6 +86,13 @@ public class EnemySnapshot extends EntitySnapshot {
         return isDrilling;
     }
 
+    /**
+     * Intervalo de movimiento vigente en milisegundos (tiempo entre casillas).
+     */
+    public int getMoveInterval() {
+        return moveInterval;
+    }
+
     // ==================== BUILDER ====================
 
     /**
@@ -86,13 +106,20 @@ public class EnemySnapshot extends EntitySnapshot {
         private boolean controlledByPlayer;
         private boolean breakingIce;
         private boolean isDrilling;
-        private String id;
+        private int moveInterval;
+        private int id = -1;
+        private int generation;
 
-        public Builder id(String id) {
+        public Builder id(int id) {
             this.id = id;
             return this;
         }
 
+        public Builder generation(int generation) {
+            this.generation = generation;
+            return this;
+        }
+
         public Builder position(java.awt.Point position) {
             this.position = new java.awt.Point(position);
             return this;
@@ -128,6 +155,11 @@ public class EnemySnapshot extends EntitySnapshot {
             return this;
         }
 
+        public Builder moveInterval(int moveInterval) {
+            this.moveInterval = moveInterval;
+            return this;
+        }
+
         public EnemySnapshot build() {
             return new EnemySnapshot(this);
         }
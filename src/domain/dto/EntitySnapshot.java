@@ -12,7 +12,8 @@ public abstract class EntitySnapshot {
 
     protected Point position;
     protected boolean active;
-    protected String id;
+    protected int id = -1;
+    protected int generation;
 
     /**
      * Constructor protegido para uso de subclases.
@@ -38,6 +39,32 @@ public abstract class EntitySnapshot {
         return new Point(position);
     }
 
+    /**
+     * Fija la posición reutilizando el Point existente (snapshots
+     * reutilizados entre frames).
+     */
+    void setPosition(int x, int y) {
+        if (position == null) {
+            position = new Point(x, y);
+        } else {
+            position.setLocation(x, y);
+        }
+    }
+
+    /**
+     * Columna de la entidad, sin copiar la posición.
+     */
+    public int getCellX() {
+        return position.x;
+    }
+
+    /**
+     * Fila de la entidad, sin copiar la posición.
+     */
+    public int getCellY() {
+        return position.y;
+    }
+
     /**
      * Verifica si la entidad está activa.
      *
@@ -47,7 +74,18 @@ public abstract class EntitySnapshot {
         return active;
     }
 
-    public String getId() {
+    /**
+     * Identificador denso de la entidad en su partida (-1 si no tiene).
+     * Sirve de índice para tablas de la capa de presentación.
+     */
+    public int getId() {
         return id;
     }
+
+    /**
+     * Generación del identificador (ver Entity#getGeneration()).
+     */
+    public int getGeneration() {
+        return generation;
+    }
 }
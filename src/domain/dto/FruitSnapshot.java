@@ -16,6 +16,8 @@ public class FruitSnapshot extends EntitySnapshot {
      */
     private FruitSnapshot(Builder builder) {
         this.position = builder.position;
+        this.id = builder.id;
+        this.generation = builder.generation;
         this.active = builder.active;
         this.fruitType = builder.fruitType;
         this.state = builder.state;
@@ -34,15 +36,24 @@ public class FruitSnapshot extends EntitySnapshot {
      * @return Snapshot de la fruta
      */
     public static FruitSnapshot from(Fruit fruit) {
-        return new Builder()
-                .position(fruit.getPosition())
-                .active(!fruit.isCollected() || fruit.getState() == domain.entity.FruitState.COLLECTED) // Keep active
-                                                                                                        // during
-                                                                                                        // animation
-                .fruitType(fruit.getType().toString())
-                .state(fruit.getState().toString())
-                .collected(fruit.isCollected())
-                .build();
+        FruitSnapshot snapshot = new Builder().build();
+        snapshot.update(fruit);
+        return snapshot;
+    }
+
+    /**
+     * Sobrescribe este snapshot con el estado actual de la fruta (para
+     * reutilizarlo entre frames, ver WorldFrame).
+     */
+    void update(Fruit fruit) {
+        this.id = fruit.getId();
+        this.generation = fruit.getGeneration();
+        setPosition(fruit.getX(), fruit.getY());
+        // Sigue activa durante la animación de recolección
+        this.active = !fruit.isCollected() || fruit.getState() == domain.entity.FruitState.COLLECTED;
+        this.fruitType = fruit.getType().toString();
+        this.state = fruit.getState().toString();
+        this.collected = fruit.isCollected();
     }
 
     // ==================== GETTERS ====================
@@ -66,11 +77,23 @@ public class FruitSnapshot extends EntitySnapshot {
      */
     public static class Builder {
         private java.awt.Point position;
+        private int id = -1;
+        private int generation;
         private boolean active;
         private String fruitType;
         private String state;
         private boolean collected;
 
+        public Builder id(int id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder generation(int generation) {
+            this.generation = generation;
+            return this;
+        }
+
         public Builder position(java.awt.Point position) {
             this.position = new java.awt.Point(position);
             return this;
@@ -5,7 +5,8 @@ import java.awt.Point;
 import java.io.Serializable;
 
 /**
- * Snapshot inmutable de una baldosa caliente para la capa de presentación.
+ * Snapshot de una baldosa caliente para la capa de presentación. Es de solo
+ * lectura para quien lo recibe; WorldFrame lo reutiliza entre frames.
  */
 public class HotTileSnapshot implements Serializable {
 
@@ -17,6 +18,13 @@ public class HotTileSnapshot implements Serializable {
         this.position = new Point(position);
     }
 
+    /**
+     * Snapshot vacío para los pools de WorldFrame.
+     */
+    HotTileSnapshot() {
+        this.position = new Point();
+    }
+
     /**
      * Crea un snapshot desde una baldosa caliente.
      *
@@ -27,6 +35,13 @@ public class HotTileSnapshot implements Serializable {
         return new HotTileSnapshot(hotTile.getPosition());
     }
 
+    /**
+     * Sobrescribe este snapshot con la posición de la baldosa.
+     */
+    void update(HotTile hotTile) {
+        position.setLocation(hotTile.getX(), hotTile.getY());
+    }
+
     /**
      * Obtiene la posición de la baldosa.
      *
@@ -35,4 +50,12 @@ public class HotTileSnapshot implements Serializable {
     public Point getPosition() {
         return new Point(position);
     }
+
+    public int getCellX() {
+        return position.x;
+    }
+
+    public int getCellY() {
+        return position.y;
+    }
 }
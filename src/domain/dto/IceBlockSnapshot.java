@@ -15,6 +15,8 @@ public class IceBlockSnapshot extends EntitySnapshot {
      */
     private IceBlockSnapshot(Builder builder) {
         this.position = builder.position;
+        this.id = builder.id;
+        this.generation = builder.generation;
         this.active = builder.active;
         this.breaking = builder.breaking;
         this.breakProgress = builder.breakProgress;
@@ -32,12 +34,22 @@ public class IceBlockSnapshot extends EntitySnapshot {
      * @return Snapshot del bloque de hielo
      */
     public static IceBlockSnapshot from(IceBlock iceBlock) {
-        return new Builder()
-                .position(iceBlock.getPosition())
-                .active(true)
-                .breaking(iceBlock.isBreaking())
-                .breakProgress(iceBlock.getBreakProgress())
-                .build();
+        IceBlockSnapshot snapshot = new Builder().build();
+        snapshot.update(iceBlock);
+        return snapshot;
+    }
+
+    /**
+     * Sobrescribe este snapshot con el estado actual del bloque (para
+     * reutilizarlo entre frames, ver WorldFrame).
+     */
+    void update(IceBlock iceBlock) {
+        this.id = iceBlock.getId();
+        this.generation = iceBlock.getGeneration();
+        setPosition(iceBlock.getX(), iceBlock.getY());
+        this.active = true;
+        this.breaking = iceBlock.isBreaking();
+        this.breakProgress = iceBlock.getBreakProgress();
     }
 
     // ==================== GETTERS ====================
@@ -57,10 +69,22 @@ public class IceBlockSnapshot extends EntitySnapshot {
      */
     public static class Builder {
         private java.awt.Point position;
+        private int id = -1;
+        private int generation;
         private boolean active;
         private boolean breaking;
         private int breakProgress;
 
+        public Builder id(int id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder generation(int generation) {
+            this.generation = generation;
+            return this;
+        }
+
         public Builder position(java.awt.Point position) {
             this.position = new java.awt.Point(position);
             return this;
@@ -1,6 +1,7 @@
 package domain.dto;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -12,6 +13,7 @@ public class LevelConfigurationDTO {
     private Map<String, Integer> fruitCounts;
     private Map<String, Integer> enemyCounts;
     private int hotTileCount;
+    private Long seed; // null = semilla aleatoria
 
     public LevelConfigurationDTO() {
         this.fruitCounts = new HashMap<>();
@@ -43,6 +45,27 @@ public class LevelConfigurationDTO {
         this.hotTileCount = hotTileCount;
     }
 
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Crea una copia independiente conservando el orden de iteración de los
+     * conteos (el orden de aparición de enemigos depende de él).
+     */
+    public LevelConfigurationDTO copy() {
+        LevelConfigurationDTO copy = new LevelConfigurationDTO();
+        copy.fruitCounts = new LinkedHashMap<>(fruitCounts);
+        copy.enemyCounts = new LinkedHashMap<>(enemyCounts);
+        copy.hotTileCount = hotTileCount;
+        copy.seed = seed;
+        return copy;
+    }
+
     public void addFruit(String type, int count) {
         fruitCounts.put(type, count);
     }
@@ -0,0 +1,79 @@
+package domain.dto;
+
+/**
+ * DTO con el resultado de una partida Máquina vs Máquina del torneo.
+ */
+public class MatchResultDTO {
+
+    public static final String WINNER_P1 = "P1";
+    public static final String WINNER_P2 = "P2";
+    public static final String DRAW = "DRAW";
+
+    private final int level;
+    private final int matchIndex;
+    private final String aiTypeP1;
+    private final String aiTypeP2;
+    private final String winner;
+    private final int scoreP1;
+    private final int scoreP2;
+    private final long ticks;
+    private final boolean timeUp;
+    private final long seed;
+
+    public MatchResultDTO(int level, int matchIndex, String aiTypeP1, String aiTypeP2, String winner,
+            int scoreP1, int scoreP2, long ticks, boolean timeUp, long seed) {
+        this.level = level;
+        this.matchIndex = matchIndex;
+        this.aiTypeP1 = aiTypeP1;
+        this.aiTypeP2 = aiTypeP2;
+        this.winner = winner;
+        this.scoreP1 = scoreP1;
+        this.scoreP2 = scoreP2;
+        this.ticks = ticks;
+        this.timeUp = timeUp;
+        this.seed = seed;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getMatchIndex() {
+        return matchIndex;
+    }
+
+    public String getAiTypeP1() {
+        return aiTypeP1;
+    }
+
+    public String getAiTypeP2() {
+        return aiTypeP2;
+    }
+
+    public String getWinner() {
+        return winner;
+    }
+
+    public int getScoreP1() {
+        return scoreP1;
+    }
+
+    public int getScoreP2() {
+        return scoreP2;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public boolean isTimeUp() {
+        return timeUp;
+    }
+
+    /**
+     * Semilla con la que se jugó la partida (permite reproducirla).
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
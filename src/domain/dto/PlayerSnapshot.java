@@ -22,6 +22,8 @@ public class PlayerSnapshot extends EntitySnapshot {
      */
     private PlayerSnapshot(Builder builder) {
         this.position = builder.position;
+        this.id = builder.id;
+        this.generation = builder.generation;
         this.active = builder.active;
         this.characterType = builder.characterType;
         this.name = builder.name;
@@ -45,23 +47,42 @@ public class PlayerSnapshot extends EntitySnapshot {
      * @return Snapshot del jugador
      */
     public static PlayerSnapshot from(Player player) {
+        PlayerSnapshot snapshot = new Builder().build();
+        snapshot.update(player);
+        return snapshot;
+    }
+
+    /**
+     * Sobrescribe este snapshot con el estado actual del jugador (para
+     * reutilizarlo entre frames, ver WorldFrame).
+     */
+    void update(Player player) {
         Direction dir = player.getCurrentDirection();
         if (dir == Direction.IDLE) {
             dir = player.getFacingDirection();
         }
 
-        return new Builder()
-                .position(player.getPosition())
-                .active(player.isAlive() || player.isDying())
-                .characterType(player.getCharacterType())
-                .name(player.getName())
-                .direction(dir.toString())
-                .moving(player.getCurrentDirection() != Direction.IDLE)
-                .sneezing(player.isSneezing())
-                .kicking(player.isKicking())
-                .dying(player.isDying())
-                .celebrating(player.isCelebrating())
-                .build();
+        this.id = player.getId();
+        this.generation = player.getGeneration();
+        setPosition(player.getX(), player.getY());
+        this.active = player.isAlive() || player.isDying();
+        this.characterType = player.getCharacterType();
+        this.name = player.getName();
+        this.direction = dir.toString();
+        this.moving = player.getCurrentDirection() != Direction.IDLE;
+        this.sneezing = player.isSneezing();
+        this.kicking = player.isKicking();
+        this.dying = player.isDying();
+        this.celebrating = player.isCelebrating();
+    }
+
+    /**
+     * Copia independiente de este snapshot.
+     */
+    public PlayerSnapshot copy() {
+        return new Builder().id(id).generation(generation).position(getPosition()).active(active)
+                .characterType(characterType).name(name).direction(direction).moving(moving).sneezing(sneezing)
+                .kicking(kicking).dying(dying).celebrating(celebrating).build();
     }
 
     // ==================== GETTERS ====================
@@ -105,6 +126,8 @@ public class PlayerSnapshot extends EntitySnapshot {
      */
     public static class Builder {
         private java.awt.Point position;
+        private int id = -1;
+        private int generation;
         private boolean active;
         private String characterType;
         private String name;
@@ -115,6 +138,16 @@ public class PlayerSnapshot extends EntitySnapshot {
         private boolean dying;
         private boolean celebrating;
 
+        public Builder id(int id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder generation(int generation) {
+            this.generation = generation;
+            return this;
+        }
+
         public Builder position(java.awt.Point position) {
             this.position = new java.awt.Point(position);
             return this;
@@ -0,0 +1,175 @@
+package domain.dto;
+
+/**
+ * Resumen de una partida guardada para el menú de carga.
+ * Se obtiene del índice de guardados, sin abrir el archivo de la partida.
+ */
+public class SaveMetadataDTO {
+
+    private final String filename;
+    private final boolean readable;
+    private final int level;
+    private final int numberOfPlayers;
+    private final String player1Name;
+    private final String player2Name;
+    private final int score;
+    private final int scorePlayer2;
+    private final long timeRemaining;
+    private final long savedAt;
+    private final long thumbnailHash;
+
+    /**
+     * Constructor privado. Usar Builder.
+     */
+    private SaveMetadataDTO(Builder builder) {
+        this.filename = builder.filename;
+        this.readable = builder.readable;
+        this.level = builder.level;
+        this.numberOfPlayers = builder.numberOfPlayers;
+        this.player1Name = builder.player1Name;
+        this.player2Name = builder.player2Name;
+        this.score = builder.score;
+        this.scorePlayer2 = builder.scorePlayer2;
+        this.timeRemaining = builder.timeRemaining;
+        this.savedAt = builder.savedAt;
+        this.thumbnailHash = builder.thumbnailHash;
+    }
+
+    // ==================== GETTERS ====================
+
+    public String getFilename() {
+        return filename;
+    }
+
+    /**
+     * Indica si el archivo se pudo leer. Si es false solo el nombre y la
+     * fecha son válidos.
+     */
+    public boolean isReadable() {
+        return readable;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getNumberOfPlayers() {
+        return numberOfPlayers;
+    }
+
+    public String getPlayer1Name() {
+        return player1Name;
+    }
+
+    public String getPlayer2Name() {
+        return player2Name;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getScorePlayer2() {
+        return scorePlayer2;
+    }
+
+    /**
+     * Tiempo restante de la partida guardada en milisegundos.
+     */
+    public long getTimeRemaining() {
+        return timeRemaining;
+    }
+
+    /**
+     * Fecha de modificación del archivo (milisegundos desde epoch).
+     */
+    public long getSavedAt() {
+        return savedAt;
+    }
+
+    /**
+     * Huella del tablero (bloques de hielo y elementos fijos). Dos guardados
+     * con la misma huella tienen la misma miniatura.
+     */
+    public long getThumbnailHash() {
+        return thumbnailHash;
+    }
+
+    // ==================== BUILDER ====================
+
+    /**
+     * Builder para SaveMetadataDTO siguiendo el patrón Builder.
+     */
+    public static class Builder {
+        private String filename;
+        private boolean readable = true;
+        private int level;
+        private int numberOfPlayers;
+        private String player1Name;
+        private String player2Name;
+        private int score;
+        private int scorePlayer2;
+        private long timeRemaining;
+        private long savedAt;
+        private long thumbnailHash;
+
+        public Builder filename(String filename) {
+            this.filename = filename;
+            return this;
+        }
+
+        public Builder readable(boolean readable) {
+            this.readable = readable;
+            return this;
+        }
+
+        public Builder level(int level) {
+            this.level = level;
+            return this;
+        }
+
+        public Builder numberOfPlayers(int numberOfPlayers) {
+            this.numberOfPlayers = numberOfPlayers;
+            return this;
+        }
+
+        public Builder player1Name(String player1Name) {
+            this.player1Name = player1Name;
+            return this;
+        }
+
+        public Builder player2Name(String player2Name) {
+            this.player2Name = player2Name;
+            return this;
+        }
+
+        public Builder score(int score) {
+            this.score = score;
+            return this;
+        }
+
+        public Builder scorePlayer2(int scorePlayer2) {
+            this.scorePlayer2 = scorePlayer2;
+            return this;
+        }
+
+        public Builder timeRemaining(long timeRemaining) {
+            this.timeRemaining = timeRemaining;
+            return this;
+        }
+
+        public Builder savedAt(long savedAt) {
+            this.savedAt = savedAt;
+            return this;
+        }
+
+        public Builder thumbnailHash(long thumbnailHash) {
+            this.thumbnailHash = thumbnailHash;
+            return this;
+        }
+
+        public SaveMetadataDTO build() {
+            return new SaveMetadataDTO(this);
+        }
+    }
+}
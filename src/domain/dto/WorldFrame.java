@@ -0,0 +1,278 @@
+package domain.dto;
+
+import domain.entity.Fruit;
+import domain.entity.FruitType;
+import domain.entity.HotTile;
+import domain.entity.IceBlock;
+import domain.entity.enemy.Enemy;
+import domain.state.GameState;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+/**
+ * Foto del mundo para dibujar un frame, construida sobre snapshots
+ * reutilizables.
+ *
+ * GameFacade guarda una sola instancia y la rellena en cada captura: los
+ * snapshots y las listas se sobrescriben en el sitio, y solo se crean
+ * objetos nuevos cuando hay más entidades que en cualquier captura
+ * anterior. Las listas son de solo lectura para quien las recibe.
+ *
+ * El contenido es válido hasta la siguiente captura; quien necesite
+ * conservar un snapshot más tiempo debe usar los métodos get*Snapshot(s)
+ * de GameFacade, que siguen devolviendo copias independientes.
+ *
+ * Además de las entidades guarda el marcador, el tiempo y el estado de fin
+ * de partida, para que el HUD lea la misma foto que se dibuja.
+ */
+public class WorldFrame {
+
+    private final PlayerSnapshot player = new PlayerSnapshot.Builder().build();
+    private final PlayerSnapshot player2 = new PlayerSnapshot.Builder().build();
+    private boolean hasPlayer2;
+
+    private final SnapshotList<EnemySnapshot> enemies =
+            new SnapshotList<>(() -> new EnemySnapshot.Builder().build());
+    private final SnapshotList<FruitSnapshot> fruits =
+            new SnapshotList<>(() -> new FruitSnapshot.Builder().build());
+    private final SnapshotList<IceBlockSnapshot> iceBlocks =
+            new SnapshotList<>(() -> new IceBlockSnapshot.Builder().build());
+    private final SnapshotList<HotTileSnapshot> hotTiles =
+            new SnapshotList<>(HotTileSnapshot::new);
+
+    // Marcador, tiempo y fin de partida
+    private int score;
+    private int scorePlayer2;
+    private long timeRemaining;
+    private boolean timeUp;
+    private boolean gameOver;
+    private boolean victory;
+    private boolean deathAnimationComplete;
+    private boolean playerAlive;
+    private boolean playerBusy;
+    private boolean player2Alive;
+    private static final FruitType[] FRUIT_TYPES = FruitType.values();
+    private final int[] remainingFruits = new int[FRUIT_TYPES.length];
+
+    // Entradas de cada jugador ya aplicadas cuando se tomó la foto
+    private final long[] appliedInputs = new long[2];
+    // Versión del estado (GameFacade.getLayoutVersion) de la que se tomó
+    private int layoutVersion;
+
+    /**
+     * Copia el estado actual de la partida en este frame.
+     *
+     * @param state Estado de la partida
+     */
+    public void capture(GameState state) {
+        player.update(state.getPlayer());
+        hasPlayer2 = state.getPlayer2() != null;
+        if (hasPlayer2) {
+            player2.update(state.getPlayer2());
+        }
+
+        List<Enemy> enemyList = state.getEnemies();
+        enemies.reset();
+        for (int i = 0; i < enemyList.size(); i++) {
+            enemies.next().update(enemyList.get(i));
+        }
+
+        List<Fruit> fruitList = state.getFruits();
+        fruits.reset();
+        for (int i = 0; i < fruitList.size(); i++) {
+            fruits.next().update(fruitList.get(i));
+        }
+
+        List<IceBlock> iceList = state.getIceBlocks();
+        iceBlocks.reset();
+        for (int i = 0; i < iceList.size(); i++) {
+            iceBlocks.next().update(iceList.get(i));
+        }
+
+        List<HotTile> tileList = state.getHotTiles();
+        hotTiles.reset();
+        for (int i = 0; i < tileList.size(); i++) {
+            hotTiles.next().update(tileList.get(i));
+        }
+
+        score = state.getScore();
+        scorePlayer2 = state.getScorePlayer2();
+        timeRemaining = state.getTimeRemaining();
+        timeUp = state.isTimeUp();
+        gameOver = state.isGameOver();
+        victory = state.isVictory();
+        deathAnimationComplete = state.isDeathAnimationComplete();
+        playerAlive = state.getPlayer() != null && state.getPlayer().isAlive();
+        playerBusy = state.getPlayer() != null && state.getPlayer().isBusy();
+        player2Alive = state.getPlayer2() == null || state.getPlayer2().isAlive();
+        for (FruitType type : FRUIT_TYPES) {
+            remainingFruits[type.ordinal()] = state.getRemainingFruits(type);
+        }
+    }
+
+    public PlayerSnapshot getPlayer() {
+        return player;
+    }
+
+    /**
+     * @return Snapshot del jugador 2 o null si no hay
+     */
+    public PlayerSnapshot getPlayer2() {
+        return hasPlayer2 ? player2 : null;
+    }
+
+    public List<EnemySnapshot> getEnemies() {
+        return enemies;
+    }
+
+    public List<FruitSnapshot> getFruits() {
+        return fruits;
+    }
+
+    public List<IceBlockSnapshot> getIceBlocks() {
+        return iceBlocks;
+    }
+
+    public List<HotTileSnapshot> getHotTiles() {
+        return hotTiles;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getScorePlayer2() {
+        return scorePlayer2;
+    }
+
+    public long getTimeRemaining() {
+        return timeRemaining;
+    }
+
+    public boolean isTimeUp() {
+        return timeUp;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public boolean isVictory() {
+        return victory;
+    }
+
+    public boolean isDeathAnimationComplete() {
+        return deathAnimationComplete;
+    }
+
+    public boolean isPlayerAlive() {
+        return playerAlive;
+    }
+
+    public boolean isPlayerBusy() {
+        return playerBusy;
+    }
+
+    /**
+     * @return true si el jugador 2 vive o no hay jugador 2
+     */
+    public boolean isPlayer2Alive() {
+        return player2Alive;
+    }
+
+    public int getRemainingFruits(FruitType type) {
+        return remainingFruits[type.ordinal()];
+    }
+
+    /**
+     * @param fruitType Nombre del tipo de fruta
+     * @return Frutas de ese tipo sin recoger (0 si el tipo no existe)
+     */
+    public int countRemainingFruits(String fruitType) {
+        try {
+            return getRemainingFruits(FruitType.valueOf(fruitType));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * @return Tiempo restante en formato MM:SS
+     */
+    public String getFormattedTime() {
+        return GameState.formatTime(timeRemaining);
+    }
+
+    /**
+     * Anota cuántas entradas de cada jugador se habían aplicado al tomar la
+     * foto (lo usa el hilo de simulación).
+     */
+    public void setAppliedInputs(long player1, long player2) {
+        appliedInputs[0] = player1;
+        appliedInputs[1] = player2;
+    }
+
+    /**
+     * @param player 0 para P1, 1 para P2
+     * @return Entradas del jugador aplicadas antes de esta foto
+     */
+    public long getAppliedInputs(int player) {
+        return appliedInputs[player];
+    }
+
+    /**
+     * Anota la versión del estado de la que se tomó la foto (cambia al
+     * cargar o reiniciar, cuando las entidades saltan sin animación).
+     */
+    public void setLayoutVersion(int layoutVersion) {
+        this.layoutVersion = layoutVersion;
+    }
+
+    public int getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    /**
+     * Lista de solo lectura sobre un pool de snapshots que crece bajo demanda.
+     */
+    private static final class SnapshotList<T> extends AbstractList<T> implements RandomAccess {
+
+        private final List<T> pool = new ArrayList<>();
+        private final Supplier<T> factory;
+        private int size;
+
+        SnapshotList(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        void reset() {
+            size = 0;
+        }
+
+        /**
+         * Devuelve el siguiente snapshot libre del pool y lo incluye en la lista.
+         */
+        T next() {
+            if (size == pool.size()) {
+                pool.add(factory.get());
+            }
+            return pool.get(size++);
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return pool.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -2,6 +2,9 @@ package domain.entity;
 
 import domain.dto.EntitySnapshot;
 import java.awt.Point;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serializable;
 
 /**
@@ -11,9 +14,21 @@ import java.io.Serializable;
  */
 public abstract class Entity implements Serializable {
 
+    // Mismo valor que calculaba la JVM antes de fijarlo: los .dat antiguos siguen cargando
+    private static final long serialVersionUID = 668342190548479823L;
+
+    /** Valor de {@link #getTimerDelay()} sin temporizadores en marcha. */
+    public static final int NO_TIMER = -1;
+
     protected Point position;
     protected boolean active;
-    protected String id;
+
+    // Observador de movimientos (índice de ocupación de GameState)
+    protected transient EntityObserver observer;
+
+    // Identificador denso asignado por GameState (-1 = fuera de una partida)
+    protected transient int id = -1;
+    protected transient int generation;
 
     /**
      * Constructor base para todas las entidades.
@@ -23,13 +38,38 @@ public abstract class Entity implements Serializable {
     public Entity(Point position) {
         this.position = new Point(position);
         this.active = true;
-        this.id = java.util.UUID.randomUUID().toString();
     }
 
-    public String getId() {
+    /**
+     * Obtiene el identificador denso de la entidad dentro de su partida.
+     * Lo asigna GameState al añadir la entidad y se reutiliza cuando la
+     * entidad sale de la partida.
+     *
+     * @return Identificador (0, 1, 2...) o -1 si no está en ningún GameState
+     */
+    public int getId() {
         return id;
     }
 
+    /**
+     * Generación del identificador: distingue a esta entidad de otras que
+     * hayan tenido antes el mismo identificador.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Asigna el identificador de la entidad (lo usa GameState).
+     *
+     * @param id         Identificador denso, o -1 para desasignarlo
+     * @param generation Generación del identificador
+     */
+    public void assignId(int id, int generation) {
+        this.id = id;
+        this.generation = generation;
+    }
+
     /**
      * Actualiza el estado de la entidad según el tiempo transcurrido.
      *
@@ -38,6 +78,20 @@ public abstract class Entity implements Serializable {
      */
     public abstract void update(int deltaTime);
 
+    /**
+     * Tiempo de juego que puede acumularse antes de que update() cambie el
+     * estado de la entidad: mientras no se alcance, update(t) solo hace
+     * avanzar sus contadores, da igual en cuántas llamadas se reparta t.
+     * GameState lo usa para despertar a la entidad en su rueda de
+     * temporizadores (ver TimingWheel). Por defecto, en cada tick.
+     *
+     * @return Milisegundos (al menos 1), o NO_TIMER si no hay ningún
+     *         temporizador en marcha
+     */
+    public int getTimerDelay() {
+        return 1;
+    }
+
     /**
      * Obtiene el tipo de entidad.
      *
@@ -64,13 +118,27 @@ public abstract class Entity implements Serializable {
         return new Point(position);
     }
 
+    /**
+     * Columna actual, sin copiar la posición (para bucles del tick).
+     */
+    public int getX() {
+        return position.x;
+    }
+
+    /**
+     * Fila actual, sin copiar la posición (para bucles del tick).
+     */
+    public int getY() {
+        return position.y;
+    }
+
     /**
      * Establece la posición de la entidad.
      *
      * @param position Nueva posición
      */
     public void setPosition(Point position) {
-        this.position = new Point(position);
+        relocate(position.x, position.y);
     }
 
     /**
@@ -88,7 +156,9 @@ public abstract class Entity implements Serializable {
      * @param active Nuevo estado de actividad
      */
     public void setActive(boolean active) {
+        boolean occupiedBefore = occupiesCell();
         this.active = active;
+        notifyOccupancyChange(occupiedBefore);
     }
 
     /**
@@ -97,7 +167,122 @@ public abstract class Entity implements Serializable {
      * @param newPosition Nueva posición
      */
     public void moveTo(Point newPosition) {
-        this.position = new Point(newPosition);
+        relocate(newPosition.x, newPosition.y);
+    }
+
+    /**
+     * Mueve la entidad a la celda indicada.
+     *
+     * @param x Columna
+     * @param y Fila
+     */
+    public void moveTo(int x, int y) {
+        relocate(x, y);
+    }
+
+    // ==================== OBSERVADOR ====================
+
+    /**
+     * Registra el observador que será notificado de movimientos y cambios
+     * de ocupación.
+     *
+     * @param observer Observador (null para desvincular)
+     */
+    public void setObserver(EntityObserver observer) {
+        this.observer = observer;
+    }
+
+    /**
+     * Indica si la entidad ocupa su celda a efectos de colisión.
+     *
+     * @return true si está activa
+     */
+    public boolean occupiesCell() {
+        return active;
+    }
+
+    /**
+     * Cambia la posición de la entidad notificando al observador.
+     *
+     * @param newPosition Nueva posición
+     */
+    protected void relocate(Point newPosition) {
+        relocate(newPosition.x, newPosition.y);
+    }
+
+    /**
+     * Cambia la posición de la entidad notificando al observador. La
+     * posición se actualiza en el sitio: nunca sale de la entidad sin copiar.
+     *
+     * @param x Nueva columna
+     * @param y Nueva fila
+     */
+    protected void relocate(int x, int y) {
+        int oldX = position.x;
+        int oldY = position.y;
+        position.x = x;
+        position.y = y;
+        if (observer != null && occupiesCell() && (oldX != x || oldY != y)) {
+            observer.onEntityMoved(this, oldX, oldY);
+        }
+    }
+
+    /**
+     * Notifica al observador si la ocupación de la celda cambió.
+     *
+     * @param occupiedBefore Ocupación antes del cambio de estado
+     */
+    protected void notifyOccupancyChange(boolean occupiedBefore) {
+        boolean occupiesNow = occupiesCell();
+        if (observer != null && occupiedBefore != occupiesNow) {
+            observer.onOccupancyChanged(this, occupiesNow);
+        }
+    }
+
+    /**
+     * Avisa al observador antes de cambiar los temporizadores fuera de
+     * update() (para que los ponga al día).
+     */
+    protected void beforeTimerChange() {
+        if (observer != null) {
+            observer.onTimersChanging(this);
+        }
+    }
+
+    /**
+     * Avisa al observador de que los temporizadores cambiaron fuera de
+     * update() (para que reprograme el próximo vencimiento).
+     */
+    protected void afterTimerChange() {
+        if (observer != null) {
+            observer.onTimersChanged(this);
+        }
+    }
+
+    // ==================== ESTADO BINARIO ====================
+
+    /**
+     * Escribe el estado mutable de la entidad para el formato de guardado
+     * binario. La posición y los parámetros de construcción los escribe el
+     * códec de GameState. Las subclases amplían este método y
+     * {@link #readState(DataInput)} en el mismo orden.
+     *
+     * @param out Flujo de salida
+     * @throws IOException si falla la escritura
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeBoolean(active);
+    }
+
+    /**
+     * Lee el estado escrito por {@link #writeState(DataOutput)} sobre una
+     * entidad recién construida (sin observador).
+     *
+     * @param in Flujo de entrada
+     * @throws IOException si falla la lectura
+     */
+    public void readState(DataInput in) throws IOException {
+        active = in.readBoolean();
     }
 
     /**
@@ -110,6 +295,17 @@ public abstract class Entity implements Serializable {
         return position.equals(pos);
     }
 
+    /**
+     * Verifica si esta entidad está en la celda indicada.
+     *
+     * @param x Columna
+     * @param y Fila
+     * @return true si la entidad está en esa celda
+     */
+    public boolean isAt(int x, int y) {
+        return position.x == x && position.y == y;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj)
@@ -0,0 +1,49 @@
+package domain.entity;
+
+/**
+ * Observador de cambios de una entidad.
+ * Permite que el estado del juego mantenga sus índices sincronizados
+ * sin recorrer las listas de entidades.
+ */
+public interface EntityObserver {
+
+    /**
+     * Notifica que una entidad que ocupa celda cambió de posición.
+     *
+     * @param entity Entidad movida (ya en su nueva posición)
+     * @param oldX   Columna anterior
+     * @param oldY   Fila anterior
+     */
+    void onEntityMoved(Entity entity, int oldX, int oldY);
+
+    /**
+     * Notifica que una entidad empezó o dejó de ocupar su celda
+     * (activación, desactivación o recolección).
+     *
+     * @param entity   Entidad modificada
+     * @param occupies true si ahora ocupa su celda
+     */
+    void onOccupancyChanged(Entity entity, boolean occupies);
+
+    /**
+     * Notifica que una fruta pasó a estar recolectada.
+     *
+     * @param fruit Fruta recolectada
+     */
+    void onFruitCollected(Fruit fruit);
+
+    /**
+     * Notifica que una entidad va a cambiar sus temporizadores fuera de
+     * update() (empezar una animación, recolección...).
+     *
+     * @param entity Entidad que va a cambiar
+     */
+    void onTimersChanging(Entity entity);
+
+    /**
+     * Notifica que una entidad cambió sus temporizadores fuera de update().
+     *
+     * @param entity Entidad modificada
+     */
+    void onTimersChanged(Entity entity);
+}
@@ -2,7 +2,11 @@ package domain.entity;
 
 import domain.dto.EntitySnapshot;
 import domain.dto.FruitSnapshot;
+import domain.service.VarInt;
 import java.awt.Point;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Random;
 
 /**
@@ -11,6 +15,13 @@ import java.util.Random;
  */
 public class Fruit extends Entity {
 
+    private static final long serialVersionUID = 1034322629452935592L;
+
+    // Orden de las casillas vecinas para el movimiento de la PIÑA
+    private static final Direction[] ADJACENT_DIRECTIONS = {
+            Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT
+    };
+
     private FruitType type;
     private FruitState state;
     private boolean collected;
@@ -25,11 +36,22 @@ public class Fruit extends Entity {
      * @param type     Tipo de fruta
      */
     public Fruit(Point position, FruitType type) {
+        this(position, type, new Random());
+    }
+
+    /**
+     * Constructor de la fruta.
+     *
+     * @param position Posición inicial
+     * @param type     Tipo de fruta
+     * @param random   Fuente aleatoria de la partida
+     */
+    public Fruit(Point position, FruitType type, Random random) {
         super(position);
         this.type = type;
         this.state = FruitState.SPAWNING;
         this.collected = false;
-        this.random = new Random();
+        this.random = random;
         this.moveTimer = random.nextInt(1000); // Desynchronize movement by up to 1 second
     }
 
@@ -119,8 +141,49 @@ public class Fruit extends Entity {
     }
 
     public void setState(FruitState state) {
+        beforeTimerChange();
         this.state = state;
         this.animationTimer = 0;
+        afterTimerChange();
+    }
+
+    /**
+     * Tiempo hasta la próxima transición de estado de update(). En IDLE, las
+     * frutas que no cambian solas (UVA, PLATANO, PIÑA) no tienen
+     * temporizador: la PIÑA se mueve con el turno del jugador.
+     */
+    @Override
+    public int getTimerDelay() {
+        if (!active) {
+            return 1; // GameLogic la retira en el próximo tick
+        }
+        if (collected && state == FruitState.COLLECTED) {
+            return Math.max(1, 1000 - animationTimer);
+        }
+        switch (state) {
+            case SPAWNING:
+            case SPIKES_COOLDOWN:
+                return Math.max(1, 1000 - animationTimer);
+            case IDLE:
+                if (type == FruitType.CACTUS) {
+                    return Math.max(1, type.getActionInterval() - animationTimer);
+                }
+                if (type == FruitType.CEREZA) {
+                    // shouldMove() se evalúa antes de sumar el tick: vence al
+                    // alcanzar el intervalo y teletransporta en el tick siguiente
+                    return Math.max(1, type.getActionInterval() - moveTimer);
+                }
+                return NO_TIMER;
+            case SPIKES_WARNING:
+                return Math.max(1, 2000 - animationTimer);
+            case SPIKES_ACTIVE:
+                return Math.max(1, type.getActionInterval() - animationTimer);
+            case TELEPORT_OUT:
+            case TELEPORT_IN:
+                return Math.max(1, 500 - animationTimer);
+            default:
+                return NO_TIMER;
+        }
     }
 
     @Override
@@ -154,8 +217,18 @@ public class Fruit extends Entity {
      * @param newPosition Nueva posición
      */
     public void move(Point newPosition) {
-        this.position = new Point(newPosition);
+        move(newPosition.x, newPosition.y);
+    }
+
+    /**
+     * Mueve la fruta a la celda indicada y reinicia su temporizador de
+     * movimiento.
+     */
+    public void move(int x, int y) {
+        beforeTimerChange();
+        relocate(x, y);
         this.moveTimer = 0;
+        afterTimerChange();
     }
 
     /**
@@ -163,14 +236,8 @@ public class Fruit extends Entity {
      * Usado por frutas que se mueven (PIÑA).
      */
     public Point getRandomAdjacentPosition() {
-        Point[] adjacentPositions = {
-                new Point(position.x, position.y - 1), // UP
-                new Point(position.x, position.y + 1), // DOWN
-                new Point(position.x - 1, position.y), // LEFT
-                new Point(position.x + 1, position.y) // RIGHT
-        };
-
-        return adjacentPositions[random.nextInt(adjacentPositions.length)];
+        Direction direction = ADJACENT_DIRECTIONS[random.nextInt(ADJACENT_DIRECTIONS.length)];
+        return new Point(position.x + direction.getDeltaX(), position.y + direction.getDeltaY());
     }
 
     // ==================== RECOLECCIÓN ====================
@@ -179,14 +246,42 @@ public class Fruit extends Entity {
      * Marca la fruta como recolectada.
      */
     public void collect() {
+        beforeTimerChange();
+        boolean occupiedBefore = occupiesCell();
+        boolean collectedBefore = collected;
         this.collected = true;
         this.state = FruitState.COLLECTED;
+        notifyOccupancyChange(occupiedBefore);
+        if (observer != null && !collectedBefore) {
+            observer.onFruitCollected(this);
+        }
+        afterTimerChange();
         // logic will keep it active until animation finishes or handled by GameLogic
         // cleanup
     }
 
     // ==================== GETTERS ====================
 
+    // ==================== ESTADO BINARIO ====================
+
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        out.writeByte((active ? 1 : 0) | (collected ? 2 : 0));
+        out.writeByte(state.ordinal());
+        VarInt.writeSigned(out, moveTimer);
+        VarInt.writeSigned(out, animationTimer);
+    }
+
+    @Override
+    public void readState(DataInput in) throws IOException {
+        int flags = in.readUnsignedByte();
+        active = (flags & 1) != 0;
+        collected = (flags & 2) != 0;
+        state = VarInt.readEnum(in, FruitState.values());
+        moveTimer = VarInt.readSignedInt(in);
+        animationTimer = VarInt.readSignedInt(in);
+    }
+
     public FruitType getType() {
         return type;
     }
@@ -195,6 +290,14 @@ public class Fruit extends Entity {
         return collected;
     }
 
+    /**
+     * Una fruta recolectada ya no ocupa su celda aunque siga animándose.
+     */
+    @Override
+    public boolean occupiesCell() {
+        return active && !collected;
+    }
+
     /**
      * Verifica si puede moverse (delegado al tipo).
      */
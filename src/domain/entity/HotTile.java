@@ -31,4 +31,12 @@ public class HotTile implements Serializable {
     public Point getPosition() {
         return new Point(position);
     }
+
+    public int getX() {
+        return position.x;
+    }
+
+    public int getY() {
+        return position.y;
+    }
 }
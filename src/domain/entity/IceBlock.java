@@ -2,7 +2,11 @@ package domain.entity;
 
 import domain.dto.EntitySnapshot;
 import domain.dto.IceBlockSnapshot;
+import domain.service.VarInt;
 import java.awt.Point;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Entidad que representa un bloque de hielo en el juego.
@@ -10,8 +14,10 @@ import java.awt.Point;
  */
 public class IceBlock extends Entity {
 
+    private static final long serialVersionUID = 7637225860138616496L;
+
     private boolean breaking;
-    private long breakStartTime;
+    private long breakElapsed;
     private boolean permanent;
 
     private static final long BREAK_ANIMATION_DURATION = 300;
@@ -34,13 +40,25 @@ public class IceBlock extends Entity {
     public IceBlock(Point position, boolean permanent) {
         super(position);
         this.breaking = false;
-        this.breakStartTime = 0;
+        this.breakElapsed = 0;
         this.permanent = permanent;
     }
 
     @Override
     public void update(int deltaTime) {
-        // No requiere actualización por frame, solo por tiempo real
+        // La ruptura avanza con el tiempo de juego, no con el reloj real
+        if (breaking && !permanent) {
+            breakElapsed += deltaTime;
+        }
+    }
+
+    /**
+     * Solo avanza mientras se rompe, y entonces en cada tick (el progreso se
+     * dibuja).
+     */
+    @Override
+    public int getTimerDelay() {
+        return breaking && !permanent ? 1 : NO_TIMER;
     }
 
     @Override
@@ -60,8 +78,10 @@ public class IceBlock extends Entity {
      */
     public void startBreaking() {
         if (!breaking && !permanent) {
+            beforeTimerChange();
             breaking = true;
-            breakStartTime = System.currentTimeMillis();
+            breakElapsed = 0;
+            afterTimerChange();
         }
     }
 
@@ -70,7 +90,7 @@ public class IceBlock extends Entity {
      */
     public boolean isFullyBroken() {
         if (!breaking || permanent) return false;
-        return System.currentTimeMillis() - breakStartTime >= BREAK_ANIMATION_DURATION;
+        return breakElapsed >= BREAK_ANIMATION_DURATION;
     }
 
     /**
@@ -78,8 +98,26 @@ public class IceBlock extends Entity {
      */
     public int getBreakProgress() {
         if (!breaking || permanent) return 0;
-        long elapsed = System.currentTimeMillis() - breakStartTime;
-        return (int) Math.min(100, (elapsed * 100) / BREAK_ANIMATION_DURATION);
+        return (int) Math.min(100, (breakElapsed * 100) / BREAK_ANIMATION_DURATION);
+    }
+
+    // ==================== ESTADO BINARIO ====================
+
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        out.writeByte((active ? 1 : 0) | (breaking ? 2 : 0) | (permanent ? 4 : 0));
+        if (breaking) {
+            VarInt.write(out, breakElapsed);
+        }
+    }
+
+    @Override
+    public void readState(DataInput in) throws IOException {
+        int flags = in.readUnsignedByte();
+        active = (flags & 1) != 0;
+        breaking = (flags & 2) != 0;
+        permanent = (flags & 4) != 0;
+        breakElapsed = breaking ? VarInt.read(in) : 0;
     }
 
     // ==================== GETTERS ====================
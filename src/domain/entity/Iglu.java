@@ -43,7 +43,14 @@ public class Iglu implements Serializable {
      * Verifica si una posición dada colisiona con el iglú.
      */
     public boolean collidesWith(Point p) {
-        return p.x >= position.x && p.x < position.x + width &&
-                p.y >= position.y && p.y < position.y + height;
+        return collidesWith(p.x, p.y);
+    }
+
+    /**
+     * Verifica si la celda indicada colisiona con el iglú.
+     */
+    public boolean collidesWith(int x, int y) {
+        return x >= position.x && x < position.x + width &&
+                y >= position.y && y < position.y + height;
     }
 }
@@ -2,7 +2,11 @@ package domain.entity;
 
 import domain.dto.EntitySnapshot;
 import domain.dto.PlayerSnapshot;
+import domain.service.VarInt;
 import java.awt.Point;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Entidad que representa al jugador en el juego.
@@ -11,6 +15,8 @@ import java.awt.Point;
  */
 public class Player extends Entity {
 
+    private static final long serialVersionUID = 655369462504835809L;
+
     private Direction currentDirection;
     private Direction facingDirection;
     private boolean alive;
@@ -63,6 +69,24 @@ public class Player extends Entity {
         updateDeath(deltaTime);
     }
 
+    /**
+     * Lo que falte del estornudo, la patada o la muerte en curso.
+     */
+    @Override
+    public int getTimerDelay() {
+        int delay = NO_TIMER;
+        if (sneezing) {
+            delay = sneezeTimer;
+        }
+        if (kicking && (delay == NO_TIMER || kickTimer < delay)) {
+            delay = kickTimer;
+        }
+        if (dying && (delay == NO_TIMER || deathTimer < delay)) {
+            delay = deathTimer;
+        }
+        return delay == NO_TIMER ? NO_TIMER : Math.max(1, delay);
+    }
+
     @Override
     public EntityType getEntityType() {
         return EntityType.PLAYER;
@@ -90,8 +114,7 @@ public class Player extends Entity {
             this.facingDirection = direction;
         }
 
-        position.x += direction.getDeltaX();
-        position.y += direction.getDeltaY();
+        relocate(position.x + direction.getDeltaX(), position.y + direction.getDeltaY());
     }
 
     /**
@@ -107,27 +130,33 @@ public class Player extends Entity {
      * Inicia la animación de estornudo (crear hielo).
      */
     public void startSneeze() {
+        beforeTimerChange();
         this.sneezing = true;
         this.sneezeTimer = SNEEZE_DURATION;
         this.currentDirection = Direction.IDLE;
+        afterTimerChange();
     }
 
     /**
      * Inicia la animación de patada (romper hielo).
      */
     public void startKick() {
+        beforeTimerChange();
         this.kicking = true;
         this.kickTimer = KICK_DURATION;
         this.currentDirection = Direction.IDLE;
+        afterTimerChange();
     }
 
     /**
      * Inicia la secuencia de muerte del jugador.
      */
     public void die() {
+        beforeTimerChange();
         this.dying = true;
         this.deathTimer = DEATH_DURATION;
         this.currentDirection = Direction.IDLE;
+        afterTimerChange();
     }
 
     /**
@@ -240,6 +269,44 @@ public class Player extends Entity {
         return name;
     }
 
+    // ==================== ESTADO BINARIO ====================
+
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        int flags = (active ? 1 : 0) | (alive ? 2 : 0) | (sneezing ? 4 : 0) | (kicking ? 8 : 0)
+                | (dying ? 16 : 0) | (celebrating ? 32 : 0);
+        out.writeByte(flags);
+        out.writeByte(currentDirection.ordinal());
+        out.writeByte(facingDirection.ordinal());
+        out.writeByte(aiType != null ? aiType.ordinal() + 1 : 0);
+        out.writeUTF(name != null ? name : "");
+        VarInt.writeSigned(out, sneezeTimer);
+        VarInt.writeSigned(out, kickTimer);
+        VarInt.writeSigned(out, deathTimer);
+    }
+
+    @Override
+    public void readState(DataInput in) throws IOException {
+        int flags = in.readUnsignedByte();
+        active = (flags & 1) != 0;
+        alive = (flags & 2) != 0;
+        sneezing = (flags & 4) != 0;
+        kicking = (flags & 8) != 0;
+        dying = (flags & 16) != 0;
+        celebrating = (flags & 32) != 0;
+        currentDirection = VarInt.readEnum(in, Direction.values());
+        facingDirection = VarInt.readEnum(in, Direction.values());
+        int ai = in.readUnsignedByte();
+        if (ai > AIType.values().length) {
+            throw new IOException("Ordinal fuera de rango: " + ai);
+        }
+        aiType = ai == 0 ? null : AIType.values()[ai - 1];
+        name = in.readUTF();
+        sneezeTimer = VarInt.readSignedInt(in);
+        kickTimer = VarInt.readSignedInt(in);
+        deathTimer = VarInt.readSignedInt(in);
+    }
+
     public void setName(String name) {
         this.name = name;
     }
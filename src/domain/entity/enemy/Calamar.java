@@ -5,11 +5,18 @@ import domain.behavior.ChaseMovement;
 import domain.entity.IceBlock;
 import domain.service.CollisionDetector;
 import java.awt.Point;
+import java.util.Random;
 
 public class Calamar extends Enemy {
 
+    private static final long serialVersionUID = -4755651979038667638L;
+
     public Calamar(Point position) {
-        super(position);
+        this(position, new Random());
+    }
+
+    public Calamar(Point position, Random random) {
+        super(position, random);
         this.movementBehavior = new ChaseMovement();
     }
 
@@ -41,13 +48,14 @@ public class Calamar extends Enemy {
     @Override
     public void updateMovement(Point targetPosition, CollisionDetector collisionDetector) {
         chasePlayer(targetPosition);
-        Point nextPos = getNextPosition();
+        int nextX = getNextX();
+        int nextY = getNextY();
 
         // Si hay hielo en el camino, romperlo
-        if (collisionDetector.isValidPosition(nextPos) && collisionDetector.hasIceAt(nextPos)) {
-            IceBlock ice = collisionDetector.getIceAt(nextPos);
+        if (collisionDetector.isValidPosition(nextX, nextY) && collisionDetector.hasIceAt(nextX, nextY)) {
+            IceBlock ice = collisionDetector.getIceAt(nextX, nextY);
             if (ice != null) {
-                ice.startBreaking();
+                breakIce(ice);
                 startBreakIce();
                 domain.BadDopoLogger.logInfo("✓ Calamar IA rompió hielo automáticamente");
             }
@@ -7,48 +7,102 @@ import domain.entity.Direction;
 
 import domain.entity.Entity;
 import domain.entity.EntityType;
+import domain.entity.IceBlock;
 import domain.service.CollisionDetector;
+import domain.service.VarInt;
+import domain.state.EnemyTable;
+import domain.state.GameRandom;
 import java.awt.Point;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Random;
 
 /**
  * Entidad abstracta que representa un enemigo en el juego.
  * Base para la jerarquía escalable de enemigos.
+ *
+ * La posición, la dirección, los temporizadores y las banderas del tick se
+ * guardan en una fila de {@link EnemyTable}: la de la partida mientras el
+ * enemigo está en un GameState, o una tabla propia de una fila si no.
+ *
+ * Cada enemigo tiene su propia secuencia aleatoria, sembrada con la fuente
+ * de la partida al crearlo: lo que decide en un tick no depende del orden
+ * en que se planifican los demás (ver {@link #commitPlan(CollisionDetector)}).
  */
 public abstract class Enemy extends Entity {
 
-    // protected EnemyType type; // Removed
-    protected Direction currentDirection;
-    protected int moveTimer;
-    protected Random random;
-    protected boolean controlledByPlayer;
+    private static final long serialVersionUID = 5283167614718025351L;
+
+    // Forma serializada de la fila de la tabla: solo se rellenan al
+    // escribir el objeto (ver writeObject)
+    private Direction currentDirection;
+    private int moveTimer;
+    private boolean controlledByPlayer;
+    private int stuckCounter;
+    private boolean isBreakingIce;
+    private int breakIceTimer;
+
+    // Secuencia aleatoria propia (se guarda con el estado del enemigo)
+    private GameRandom stream;
     protected Point targetPosition;
-    protected int stuckCounter;
     protected Point lastPosition;
 
     // Estrategia de movimiento (Strategy Pattern)
     protected MovementBehavior movementBehavior;
 
-    // Animación de romper hielo
-    protected boolean isBreakingIce;
-    protected int breakIceTimer;
-    protected static final int BREAK_ICE_DURATION = 500;
+    // Fila con el estado del tick
+    protected transient EnemyTable table;
+    protected transient int row;
+
+    private static final Direction[] MOVE_DIRECTIONS = { Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT };
 
     /**
-     * Constructor base.
+     * Constructor base con fuente aleatoria propia.
      */
     public Enemy(Point position) {
+        this(position, new Random());
+    }
+
+    /**
+     * Constructor base.
+     *
+     * @param position Posición inicial
+     * @param random   Fuente aleatoria de la partida (siembra la del enemigo)
+     */
+    public Enemy(Point position, Random random) {
         super(position);
-        // this.type = type; // Removed
-        this.random = new Random();
-        this.currentDirection = getRandomDirection();
-        this.moveTimer = 0;
-        this.controlledByPlayer = false;
+        this.stream = new GameRandom(random.nextLong());
+        this.table = new EnemyTable(1);
+        this.row = table.addRow();
+        table.setPosition(row, position.x, position.y);
+        table.setActive(row, active);
+        table.setIntervals(row, getMoveInterval(), getChargeMoveInterval());
+        table.setDirection(row, getRandomDirection());
         this.targetPosition = null;
-        this.stuckCounter = 0;
         this.lastPosition = new Point(position);
-        this.isBreakingIce = false;
-        this.breakIceTimer = 0;
+    }
+
+    /**
+     * Pasa el estado de este enemigo a la fila indicada, que desde ahora es
+     * la suya (lo usa EnemyTable al añadirlo).
+     *
+     * @param target    Tabla de destino
+     * @param targetRow Fila de destino
+     */
+    public void moveRow(EnemyTable target, int targetRow) {
+        target.copyRow(targetRow, table, row);
+        this.table = target;
+        this.row = targetRow;
+    }
+
+    /**
+     * Fila del enemigo en su tabla actual.
+     */
+    public int getRow() {
+        return row;
     }
 
     /**
@@ -59,20 +113,19 @@ public abstract class Enemy extends Entity {
 
     @Override
     public void update(int deltaTime) {
-        if (!controlledByPlayer) {
-            if (!isBreakingIce) {
-                moveTimer += deltaTime;
-            }
-        }
+        table.update(row, deltaTime);
+    }
 
-        if (isBreakingIce) {
-            breakIceTimer += deltaTime;
-            if (breakIceTimer >= BREAK_ICE_DURATION) {
-                isBreakingIce = false;
-                breakIceTimer = 0;
-                moveTimer = 0;
-            }
-        }
+    @Override
+    public void setActive(boolean active) {
+        table.setActive(row, active);
+        super.setActive(active);
+    }
+
+    @Override
+    protected void relocate(int x, int y) {
+        table.setPosition(row, x, y);
+        super.relocate(x, y);
     }
 
     @Override
@@ -90,42 +143,118 @@ public abstract class Enemy extends Entity {
     // ==================== MOVIMIENTO COMÚN ====================
 
     public Point getNextPosition() {
-        Point next = new Point(position);
-        next.x += currentDirection.getDeltaX();
-        next.y += currentDirection.getDeltaY();
-        return next;
+        return new Point(getNextX(), getNextY());
+    }
+
+    /**
+     * Columna a la que avanzaría en su dirección actual.
+     */
+    public int getNextX() {
+        return position.x + getCurrentDirection().getDeltaX();
+    }
+
+    /**
+     * Fila a la que avanzaría en su dirección actual.
+     */
+    public int getNextY() {
+        return position.y + getCurrentDirection().getDeltaY();
     }
 
     public void chasePlayer(Point playerPosition) {
-        this.targetPosition = new Point(playerPosition);
+        if (targetPosition == null) {
+            targetPosition = new Point(playerPosition);
+        } else {
+            targetPosition.setLocation(playerPosition);
+        }
         if (movementBehavior != null) {
-            this.currentDirection = movementBehavior.calculateDirection(
-                    position, playerPosition, stuckCounter, random);
+            table.setDirection(row, movementBehavior.calculateDirection(
+                    position.x, position.y, playerPosition.x, playerPosition.y, getStuckCounter(), stream));
         }
     }
 
     public void move(Point newPosition) {
+        move(newPosition.x, newPosition.y);
+    }
+
+    /**
+     * Mueve al enemigo a la celda indicada actualizando el contador de
+     * atasco. Durante la planificación solo se guarda la celda como
+     * intención.
+     *
+     * @param x Columna
+     * @param y Fila
+     */
+    public void move(int x, int y) {
+        step(x, y, false);
+    }
+
+    private void step(int x, int y, boolean exclusive) {
         if (position.equals(lastPosition)) {
-            stuckCounter++;
+            table.setStuckCounter(row, getStuckCounter() + 1);
         } else {
-            stuckCounter = 0;
-            lastPosition = new Point(position);
+            table.setStuckCounter(row, 0);
+            if (lastPosition == null) {
+                lastPosition = new Point(position);
+            } else {
+                lastPosition.setLocation(position);
+            }
         }
 
-        this.position = new Point(newPosition);
-        this.moveTimer = 0;
+        if (table.isPlanning()) {
+            table.setMoveIntent(row, x, y, exclusive);
+        } else {
+            relocate(x, y);
+        }
+        table.setMoveTimer(row, 0);
+    }
+
+    /**
+     * Rompe un bloque de hielo. Durante la planificación solo se guarda el
+     * bloque como intención.
+     */
+    protected void breakIce(IceBlock ice) {
+        if (table.isPlanning()) {
+            table.setBreakIntent(row, ice);
+        } else {
+            ice.startBreaking();
+        }
+    }
+
+    /**
+     * Aplica lo que el enemigo decidió en {@link #updateMovement} mientras
+     * su tabla planificaba: rompe el hielo elegido y cambia de celda. Si la
+     * celda la ocupó otro enemigo que se aplicó antes en el mismo tick, se
+     * queda donde está y cambia de dirección, como al chocar.
+     *
+     * @param collisionDetector Detector sobre el estado ya actualizado
+     */
+    public void commitPlan(CollisionDetector collisionDetector) {
+        IceBlock ice = table.getBreakIntent(row);
+        if (ice != null) {
+            ice.startBreaking();
+        }
+        if (table.hasMoveIntent(row)) {
+            int x = table.getIntentX(row);
+            int y = table.getIntentY(row);
+            if (table.isExclusiveIntent(row) && collisionDetector.hasOtherEnemyAt(x, y, this)) {
+                changeDirection();
+            } else {
+                relocate(x, y);
+            }
+        }
+        table.clearIntent(row);
     }
 
     public void reverseDirection() {
-        currentDirection = currentDirection.getOpposite();
-        this.moveTimer = 0;
-        stuckCounter++;
+        table.setDirection(row, getCurrentDirection().getOpposite());
+        table.setMoveTimer(row, 0);
+        table.setStuckCounter(row, getStuckCounter() + 1);
     }
 
     public void changeDirection() {
-        currentDirection = getRandomDirection();
-        this.moveTimer = 0;
-        stuckCounter++;
+        table.setDirection(row, getRandomDirection());
+        table.setMoveTimer(row, 0);
+        table.setStuckCounter(row, getStuckCounter() + 1);
     }
 
     public void processDefaultMovement(CollisionDetector collisionDetector) {
@@ -140,21 +269,21 @@ public abstract class Enemy extends Entity {
      * @return true si se movió exitosamente, false si estaba bloqueado.
      */
     protected boolean tryMove(CollisionDetector collisionDetector) {
-        Point nextPos = getNextPosition();
-        if (collisionDetector.canEnemyMoveTo(nextPos, this)) {
-            move(nextPos);
+        int nextX = getNextX();
+        int nextY = getNextY();
+        if (collisionDetector.canEnemyMoveTo(nextX, nextY, this)) {
+            step(nextX, nextY, true);
             return true;
         }
         return false;
     }
 
     public void setDirection(Direction direction) {
-        this.currentDirection = direction;
+        table.setDirection(row, direction);
     }
 
     protected Direction getRandomDirection() {
-        Direction[] directions = { Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT };
-        return directions[random.nextInt(directions.length)];
+        return MOVE_DIRECTIONS[stream.nextInt(MOVE_DIRECTIONS.length)];
     }
 
     // ==================== ABSTRACT CONFIGURATION ====================
@@ -164,6 +293,21 @@ public abstract class Enemy extends Entity {
      */
     public abstract int getMoveInterval();
 
+    /**
+     * @return Intervalo de movimiento mientras embiste (ver
+     *         {@link #isDrilling()}); por defecto el intervalo base.
+     */
+    protected int getChargeMoveInterval() {
+        return getMoveInterval();
+    }
+
+    /**
+     * @return Intervalo de movimiento vigente según el estado actual.
+     */
+    public int getCurrentMoveInterval() {
+        return table.getCurrentInterval(row);
+    }
+
     /**
      * @return Puntos que otorga al morir.
      */
@@ -187,22 +331,19 @@ public abstract class Enemy extends Entity {
 
     public void startBreakIce() {
         if (canBreakIce()) {
-            this.isBreakingIce = true;
-            this.breakIceTimer = 0;
+            table.setBreaking(row, true);
+            table.setBreakTimer(row, 0);
         }
     }
 
     // ==================== ESTADO ====================
 
     public boolean shouldMove() {
-        if (isBreakingIce)
-            return false;
-
-        return moveTimer >= getMoveInterval();
+        return table.shouldMove(row);
     }
 
     public void resetStuckCounter() {
-        this.stuckCounter = 0;
+        table.setStuckCounter(row, 0);
     }
 
     // ==================== GETTERS Y SETTERS ====================
@@ -212,20 +353,88 @@ public abstract class Enemy extends Entity {
      */
     public abstract String getTypeName();
 
+    // ==================== ESTADO BINARIO ====================
+
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        out.writeByte((active ? 1 : 0) | (isControlledByPlayer() ? 2 : 0) | (isBreakingIce() ? 4 : 0)
+                | (targetPosition != null ? 8 : 0));
+        out.writeByte(getCurrentDirection().ordinal());
+        VarInt.writeSigned(out, getMoveTimer());
+        VarInt.writeSigned(out, getStuckCounter());
+        VarInt.writeSigned(out, table.getBreakTimer(row));
+        VarInt.writeCell(out, lastPosition != null ? lastPosition : position);
+        if (targetPosition != null) {
+            VarInt.writeCell(out, targetPosition);
+        }
+        // Estado de la secuencia aleatoria: 48 bits
+        long state = stream.getState();
+        out.writeShort((int) (state >>> 32));
+        out.writeInt((int) state);
+    }
+
+    @Override
+    public void readState(DataInput in) throws IOException {
+        int flags = in.readUnsignedByte();
+        active = (flags & 1) != 0;
+        table.setActive(row, active);
+        table.setControlled(row, (flags & 2) != 0);
+        table.setBreaking(row, (flags & 4) != 0);
+        table.setDirection(row, VarInt.readEnum(in, Direction.values()));
+        table.setMoveTimer(row, VarInt.readSignedInt(in));
+        table.setStuckCounter(row, VarInt.readSignedInt(in));
+        table.setBreakTimer(row, VarInt.readSignedInt(in));
+        lastPosition = VarInt.readCell(in);
+        targetPosition = (flags & 8) != 0 ? VarInt.readCell(in) : null;
+        long state = (long) in.readUnsignedShort() << 32 | (in.readInt() & 0xFFFFFFFFL);
+        stream.restore(stream.getInitialSeed(), state);
+    }
+
+    // ==================== SERIALIZACIÓN ====================
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        currentDirection = getCurrentDirection();
+        moveTimer = getMoveTimer();
+        controlledByPlayer = isControlledByPlayer();
+        stuckCounter = getStuckCounter();
+        isBreakingIce = isBreakingIce();
+        breakIceTimer = table.getBreakTimer(row);
+        out.defaultWriteObject();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (stream == null) {
+            // Guardados de cuando los enemigos usaban la fuente de la partida
+            stream = new GameRandom(new Random().nextLong());
+        }
+        table = new EnemyTable(1);
+        row = table.addRow();
+        table.setPosition(row, position.x, position.y);
+        table.setActive(row, active);
+        table.setIntervals(row, getMoveInterval(), getChargeMoveInterval());
+        table.setDirection(row, currentDirection);
+        table.setMoveTimer(row, moveTimer);
+        table.setControlled(row, controlledByPlayer);
+        table.setStuckCounter(row, stuckCounter);
+        table.setBreaking(row, isBreakingIce);
+        table.setBreakTimer(row, breakIceTimer);
+    }
+
     public Direction getCurrentDirection() {
-        return currentDirection;
+        return table.getDirection(row);
     }
 
     public int getMoveTimer() {
-        return moveTimer;
+        return table.getMoveTimer(row);
     }
 
     public boolean isControlledByPlayer() {
-        return controlledByPlayer;
+        return table.isControlled(row);
     }
 
     public void setControlledByPlayer(boolean controlled) {
-        this.controlledByPlayer = controlled;
+        table.setControlled(row, controlled);
     }
 
     public Point getTargetPosition() {
@@ -233,16 +442,16 @@ public abstract class Enemy extends Entity {
     }
 
     public int getStuckCounter() {
-        return stuckCounter;
+        return table.getStuckCounter(row);
     }
 
     public boolean isBreakingIce() {
-        return isBreakingIce;
+        return table.isBreaking(row);
     }
 
     // Abstract hook for drilling (only Narval uses it, but base Enemy had
     // accessors)
     public boolean isDrilling() {
-        return false;
+        return table.isDrilling(row);
     }
 }
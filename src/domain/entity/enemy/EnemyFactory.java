@@ -1,23 +1,36 @@
 package domain.entity.enemy;
 
 import java.awt.Point;
+import java.util.Random;
 
 public class EnemyFactory {
 
     public static Enemy createEnemy(Point position, String type) {
+        return createEnemy(position, type, new Random());
+    }
+
+    /**
+     * Crea un enemigo que usa la fuente aleatoria indicada.
+     *
+     * @param position Posición inicial
+     * @param type     Tipo de enemigo ("TROLL", "MACETA", "CALAMAR", "NARVAL")
+     * @param random   Fuente aleatoria de la partida
+     * @return Enemigo creado
+     */
+    public static Enemy createEnemy(Point position, String type, Random random) {
         if (type == null) {
             throw new IllegalArgumentException("Enemy type cannot be null");
         }
 
         switch (type.toUpperCase()) {
             case "TROLL":
-                return new Troll(position);
+                return new Troll(position, random);
             case "MACETA":
-                return new Maceta(position);
+                return new Maceta(position, random);
             case "CALAMAR":
-                return new Calamar(position);
+                return new Calamar(position, random);
             case "NARVAL":
-                return new Narval(position);
+                return new Narval(position, random);
             default:
                 throw new IllegalArgumentException("Unknown enemy type: " + type);
         }
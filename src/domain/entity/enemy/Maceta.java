@@ -4,11 +4,18 @@ import domain.behavior.ChaseMovement;
 
 import domain.service.CollisionDetector;
 import java.awt.Point;
+import java.util.Random;
 
 public class Maceta extends Enemy {
 
+    private static final long serialVersionUID = 243017316316599476L;
+
     public Maceta(Point position) {
-        super(position);
+        this(position, new Random());
+    }
+
+    public Maceta(Point position, Random random) {
+        super(position, random);
         this.movementBehavior = new ChaseMovement();
     }
 
@@ -5,16 +5,30 @@ import domain.entity.Direction;
 import domain.entity.IceBlock;
 import domain.service.CollisionDetector;
 import java.awt.Point;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
 
 public class Narval extends Enemy {
 
+    private static final long serialVersionUID = 1806104106989937906L;
+
+    private static final int DRILL_MOVE_INTERVAL = 240; // Fast charge
+
+    // Forma serializada de la bandera de la tabla (ver writeObject)
     private boolean isDrilling;
 
     public Narval(Point position) {
-        super(position);
+        this(position, new Random());
+    }
+
+    public Narval(Point position, Random random) {
+        super(position, random);
         // Narval doesn't use standard movement behavior for chasing,
         // it uses Line of Sight custom logic.
-        this.isDrilling = false;
     }
 
     @Override
@@ -23,15 +37,30 @@ public class Narval extends Enemy {
     }
 
     @Override
-    public boolean shouldMove() {
-        if (isBreakingIce)
-            return false;
+    public void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeBoolean(isDrilling());
+    }
 
-        int interval = getMoveInterval();
-        if (isDrilling) {
-            interval = 240; // Fast charge
-        }
-        return moveTimer >= interval;
+    @Override
+    public void readState(DataInput in) throws IOException {
+        super.readState(in);
+        table.setDrilling(row, in.readBoolean());
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        isDrilling = isDrilling();
+        out.defaultWriteObject();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        table.setDrilling(row, isDrilling);
+    }
+
+    @Override
+    protected int getChargeMoveInterval() {
+        return DRILL_MOVE_INTERVAL;
     }
 
     @Override
@@ -54,24 +83,19 @@ public class Narval extends Enemy {
         return true;
     }
 
-    @Override
-    public boolean isDrilling() {
-        return isDrilling;
-    }
-
     public void startDrilling() {
-        isDrilling = true;
+        table.setDrilling(row, true);
     }
 
     public void stopDrilling() {
-        isDrilling = false;
+        table.setDrilling(row, false);
     }
 
     @Override
     public void updateMovement(Point targetPosition, CollisionDetector collisionDetector) {
         // 1. Detection (Always active if not drilling)
-        if (!isDrilling) {
-            Direction chargeDir = getPlayerDirectionIfSeeing(this.getPosition(), targetPosition, collisionDetector);
+        if (!isDrilling()) {
+            Direction chargeDir = getPlayerDirectionIfSeeing(targetPosition, collisionDetector);
             if (chargeDir != null) {
                 this.setDirection(chargeDir);
                 this.startDrilling();
@@ -79,13 +103,14 @@ public class Narval extends Enemy {
         }
 
         // 2. Execution
-        if (isDrilling) {
-            Point nextPos = getNextPosition();
+        if (isDrilling()) {
+            int nextX = getNextX();
+            int nextY = getNextY();
 
             // Check bounds/obstacles
-            if (!collisionDetector.isValidPosition(nextPos) ||
-                    collisionDetector.hasIgluAt(nextPos) ||
-                    collisionDetector.hasUnbreakableBlockAt(nextPos)) {
+            if (!collisionDetector.isValidPosition(nextX, nextY) ||
+                    collisionDetector.hasIgluAt(nextX, nextY) ||
+                    collisionDetector.hasUnbreakableBlockAt(nextX, nextY)) {
 
                 // Hit wall -> Stop
                 stopDrilling();
@@ -93,18 +118,10 @@ public class Narval extends Enemy {
             }
 
             // Check Ice -> Destroy
-            IceBlock ice = collisionDetector.getIceBlockAt(nextPos); // Assuming method exists or is getIceAt
-            // CollisionDetector has getIceAt. GameLogic used getIceBlockAt?
-            // GameLogic uses collisionDetector.getIceAt(nextPos) earlier but getIceBlockAt
-            // in Narval code?
-            // Checking CollisionDetector outline might be needed. I'll use getIceAt for
-            // safety or check.
-            if (ice == null && collisionDetector.hasIceAt(nextPos)) {
-                ice = collisionDetector.getIceAt(nextPos);
-            }
+            IceBlock ice = collisionDetector.getIceAt(nextX, nextY);
 
             if (ice != null) {
-                ice.startBreaking();
+                breakIce(ice);
                 // We need to remove it from GameState.
                 // But we don't have GameState here, only CollisionDetector.
                 // CollisionDetector usually just queries.
@@ -133,55 +150,53 @@ public class Narval extends Enemy {
                 // So I should pass GameState.
             }
 
-            move(nextPos);
+            move(nextX, nextY);
             return;
         }
 
         // 3. Wander (Only if not drilling)
-        Point nextPos = getNextPosition();
-        if (collisionDetector.canEnemyMoveTo(nextPos, this)) {
-            move(nextPos);
-        } else {
+        if (!tryMove(collisionDetector)) {
             changeDirection();
         }
     }
 
     // Moved from GameLogic
-    private Direction getPlayerDirectionIfSeeing(Point enemyPos, Point playerPos, CollisionDetector collisionDetector) {
-        if (enemyPos.x == playerPos.x) {
-            if (enemyPos.y > playerPos.y) {
-                if (isPathClear(enemyPos, playerPos, Direction.UP, collisionDetector))
+    private Direction getPlayerDirectionIfSeeing(Point playerPos, CollisionDetector collisionDetector) {
+        if (position.x == playerPos.x) {
+            if (position.y > playerPos.y) {
+                if (isPathClear(playerPos, Direction.UP, collisionDetector))
                     return Direction.UP;
             } else {
-                if (isPathClear(enemyPos, playerPos, Direction.DOWN, collisionDetector))
+                if (isPathClear(playerPos, Direction.DOWN, collisionDetector))
                     return Direction.DOWN;
             }
-        } else if (enemyPos.y == playerPos.y) {
-            if (enemyPos.x > playerPos.x) {
-                if (isPathClear(enemyPos, playerPos, Direction.LEFT, collisionDetector))
+        } else if (position.y == playerPos.y) {
+            if (position.x > playerPos.x) {
+                if (isPathClear(playerPos, Direction.LEFT, collisionDetector))
                     return Direction.LEFT;
             } else {
-                if (isPathClear(enemyPos, playerPos, Direction.RIGHT, collisionDetector))
+                if (isPathClear(playerPos, Direction.RIGHT, collisionDetector))
                     return Direction.RIGHT;
             }
         }
         return null;
     }
 
-    private boolean isPathClear(Point start, Point end, Direction dir, CollisionDetector collisionDetector) {
-        Point p = new Point(start);
-        p.x += dir.getDeltaX();
-        p.y += dir.getDeltaY();
+    private boolean isPathClear(Point end, Direction dir, CollisionDetector collisionDetector) {
+        int dx = dir.getDeltaX();
+        int dy = dir.getDeltaY();
+        int x = position.x + dx;
+        int y = position.y + dy;
 
-        while (!p.equals(end)) {
+        while (x != end.x || y != end.y) {
             // Ice does NOT block vision for Narval charge.
-            if (collisionDetector.hasUnbreakableBlockAt(p) || collisionDetector.hasIgluAt(p)) {
+            if (collisionDetector.hasUnbreakableBlockAt(x, y) || collisionDetector.hasIgluAt(x, y)) {
                 return false;
             }
-            p.x += dir.getDeltaX();
-            p.y += dir.getDeltaY();
+            x += dx;
+            y += dy;
 
-            if (!collisionDetector.isValidPosition(p))
+            if (!collisionDetector.isValidPosition(x, y))
                 return false;
         }
         return true;
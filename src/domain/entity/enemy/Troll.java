@@ -2,11 +2,18 @@ package domain.entity.enemy;
 
 import domain.service.CollisionDetector;
 import java.awt.Point;
+import java.util.Random;
 
 public class Troll extends Enemy {
 
+    private static final long serialVersionUID = -8696610432378592654L;
+
     public Troll(Point position) {
-        super(position);
+        this(position, new Random());
+    }
+
+    public Troll(Point position, Random random) {
+        super(position, random);
     }
 
     @Override
@@ -1,6 +1,5 @@
 package domain.service;
 
-import domain.entity.enemy.Enemy;
 import domain.entity.*;
 import domain.state.GameState;
 import java.awt.Point;
@@ -16,13 +15,18 @@ public class AIController {
     private GameLogic gameLogic;
     private Random aiRandom;
 
+    // Campo de distancias compartido por ambos jugadores (uno por tick)
+    private final DistanceField distanceField;
+    private long aiTick;
+    private long distanceFieldTick;
+
     // IA - Jugador 1
     private int aiPlayer1MoveTimer;
     private int aiPlayer1ActionTimer;
     private Point aiPlayer1Target;
     private Point aiPreviousPlayer1Position;
     private int aiPlayer1ConsecutiveFailedMoves;
-    private List<Point> aiPlayer1RecentPositions;
+    private final PositionHistory aiPlayer1RecentPositions;
 
     // IA - Jugador 2
     private int aiPlayer2MoveTimer;
@@ -30,11 +34,15 @@ public class AIController {
     private Point aiPlayer2Target;
     private Point aiPreviousPlayer2Position;
     private int aiPlayer2ConsecutiveFailedMoves;
-    private List<Point> aiPlayer2RecentPositions;
+    private final PositionHistory aiPlayer2RecentPositions;
 
     // Constantes
     private static final int AI_MOVE_INTERVAL = 400;
     private static final int AI_ACTION_INTERVAL = 300; // Faster action checks (was 800)
+    private static final Direction[] ALL_DIRECTIONS = Direction.values();
+
+    // Orden de direcciones que baraja moveAlternative (reutilizado)
+    private final Direction[] shuffledDirections = new Direction[ALL_DIRECTIONS.length];
 
     /**
      * Constructor del controlador de IA.
@@ -45,7 +53,10 @@ public class AIController {
     public AIController(GameState gameState, GameLogic gameLogic) {
         this.gameState = gameState;
         this.gameLogic = gameLogic;
-        this.aiRandom = new Random();
+        this.aiRandom = gameState.getRandom();
+        this.distanceField = new DistanceField(GameState.getGridSize());
+        this.aiTick = 0;
+        this.distanceFieldTick = -1;
 
         // Inicializar variables IA Jugador 1
         this.aiPlayer1MoveTimer = 0;
@@ -53,7 +64,7 @@ public class AIController {
         this.aiPlayer1Target = null;
         this.aiPreviousPlayer1Position = new Point(gameState.getPlayer().getPosition());
         this.aiPlayer1ConsecutiveFailedMoves = 0;
-        this.aiPlayer1RecentPositions = new ArrayList<>();
+        this.aiPlayer1RecentPositions = new PositionHistory();
 
         // Inicializar variables IA Jugador 2
         this.aiPlayer2MoveTimer = 0;
@@ -63,13 +74,15 @@ public class AIController {
             this.aiPreviousPlayer2Position = new Point(gameState.getPlayer2().getPosition());
         }
         this.aiPlayer2ConsecutiveFailedMoves = 0;
-        this.aiPlayer2RecentPositions = new ArrayList<>();
+        this.aiPlayer2RecentPositions = new PositionHistory();
     }
 
     /**
      * Actualiza la IA de ambos jugadores.
      */
     public void updateAI(int deltaTime) {
+        aiTick++;
+
         // En MvM (0 players) actualizamos ambos.
         // En P1 vs CPU (2 players + p2CPU) solo actualizamos P2 (P1 es humano).
         if (gameState.getNumberOfPlayers() == 0) {
@@ -133,14 +146,15 @@ public class AIController {
     // ==================== LÓGICA COMÚN DE IA ====================
 
     private void processAIPlayerLogic(Player player, boolean isPlayer1) {
-        Point playerPos = player.getPosition();
+        int playerX = player.getX();
+        int playerY = player.getY();
         Point prevPos = isPlayer1 ? aiPreviousPlayer1Position : aiPreviousPlayer2Position;
         int failedMoves = isPlayer1 ? aiPlayer1ConsecutiveFailedMoves : aiPlayer2ConsecutiveFailedMoves;
-        List<Point> recentPositions = isPlayer1 ? aiPlayer1RecentPositions : aiPlayer2RecentPositions;
+        PositionHistory recentPositions = isPlayer1 ? aiPlayer1RecentPositions : aiPlayer2RecentPositions;
 
         // Detectar atasco
         if (prevPos != null) {
-            if (prevPos.equals(playerPos)) {
+            if (player.isAt(prevPos)) {
                 failedMoves++;
             } else {
                 failedMoves = 0;
@@ -148,21 +162,22 @@ public class AIController {
         }
 
         // Actualizar estado
+        if (prevPos == null) {
+            prevPos = new Point();
+        }
+        prevPos.setLocation(playerX, playerY);
         if (isPlayer1) {
-            aiPreviousPlayer1Position = new Point(playerPos);
+            aiPreviousPlayer1Position = prevPos;
             aiPlayer1ConsecutiveFailedMoves = failedMoves;
         } else {
-            aiPreviousPlayer2Position = new Point(playerPos);
+            aiPreviousPlayer2Position = prevPos;
             aiPlayer2ConsecutiveFailedMoves = failedMoves;
         }
 
         // Historial de posiciones
-        recentPositions.add(new Point(playerPos));
-        if (recentPositions.size() > 8) {
-            recentPositions.remove(0);
-        }
+        recentPositions.add(playerX, playerY);
 
-        boolean inLoop = detectPositionLoop(recentPositions);
+        boolean inLoop = recentPositions.isLooping();
 
         // Si está atascado, intentar liberarse
         if (failedMoves > 4 || inLoop) {
@@ -211,23 +226,12 @@ public class AIController {
 
     private void processFearfulStrategy(Player player, boolean isPlayer1, int failedMoves) {
         // FEARFUL: Prioritize Safety > Fruit.
-        Point playerPos = player.getPosition();
-        Enemy nearestEnemy = findNearestEnemy(playerPos);
-
-        if (nearestEnemy != null) {
-            int dist = manhattanDistance(playerPos, nearestEnemy.getPosition());
+        int dist = distanceField().getEnemyDistance(player.getX(), player.getY());
 
-            // Si el enemigo está MUY cerca, CORRER (prioridad sobre estornudar)
-            if (dist <= 3) {
-                moveAwayFrom(playerPos, nearestEnemy.getPosition(), isPlayer1);
-            }
-            // Si está a media distancia, intentar alejarse, pero processAIPlayerActions
-            // intentará estornudar si es posible
-            else if (dist <= 6) {
-                moveAwayFrom(playerPos, nearestEnemy.getPosition(), isPlayer1);
-            } else {
-                moveRandomly(isPlayer1);
-            }
+        // Si el enemigo está cerca o a media distancia, CORRER; processAIPlayerActions
+        // intentará estornudar si es posible
+        if (dist <= 6) {
+            moveAwayFromEnemies(player.getX(), player.getY(), isPlayer1);
         } else {
             moveRandomly(isPlayer1);
         }
@@ -235,51 +239,31 @@ public class AIController {
 
     private void processExpertStrategy(Player player, boolean isPlayer1, int failedMoves) {
         // EXPERT: Pathfinding inteligente que esquiva enemigos.
-        Point playerPos = player.getPosition();
-        Enemy nearestEnemy = findNearestEnemy(playerPos);
+        int playerX = player.getX();
+        int playerY = player.getY();
+        DistanceField field = distanceField();
 
         // 1. Supervivencia Inmediata: Si hay un enemigo pegado (distancia <= 2), huir
         // usando lógica de evasión directa
-        if (nearestEnemy != null && manhattanDistance(playerPos, nearestEnemy.getPosition()) <= 2) {
-            moveAwayFrom(playerPos, nearestEnemy.getPosition(), isPlayer1);
+        if (field.getEnemyDistance(playerX, playerY) <= 2) {
+            moveAwayFromEnemies(playerX, playerY, isPlayer1);
             return;
         }
 
-        // 2. Buscar fruta usando Pathfinding (BFS) CON EVASIÓN DE ENEMIGOS
-        Fruit targetFruit = findBestFruitBFS(playerPos, true); // true = avoid enemies
-
-        if (targetFruit != null) {
-            Point nextStep = getNextStepBFS(playerPos, targetFruit.getPosition(), true);
-            if (nextStep != null) {
-                moveToStep(playerPos, nextStep, isPlayer1);
-                return;
-            }
+        // 2. Seguir el campo de distancias hacia la fruta segura más cercana
+        if (field.hasTargetFruit(playerX, playerY)) {
+            return;
+        }
+        Direction nextStep = field.nextStepTowardsFruit(playerX, playerY);
+        if (nextStep != null) {
+            executeMove(nextStep, isPlayer1);
+            return;
         }
 
         // 3. Fallback: moverse random (que suele ser evasivo si se bloquea)
         moveRandomly(isPlayer1);
     }
 
-    // Movimiento directo a un paso adyacente (calculado por BFS)
-    private void moveToStep(Point current, Point nextInfo, boolean isPlayer1) {
-        int dx = nextInfo.x - current.x;
-        int dy = nextInfo.y - current.y;
-        Direction direction = null;
-
-        if (dx == 1)
-            direction = Direction.RIGHT;
-        else if (dx == -1)
-            direction = Direction.LEFT;
-        else if (dy == 1)
-            direction = Direction.DOWN;
-        else if (dy == -1)
-            direction = Direction.UP;
-
-        if (direction != null) {
-            executeMove(direction, isPlayer1);
-        }
-    }
-
     private void moveToTarget(Point playerPos, Point target, boolean isPlayer1, int failedMoves) {
         if (isPlayer1)
             aiPlayer1Target = target;
@@ -294,7 +278,6 @@ public class AIController {
     }
 
     private void processAIPlayerActions(Player player, boolean isPlayer1) {
-        Point playerPos = player.getPosition();
         Point target = isPlayer1 ? aiPlayer1Target : aiPlayer2Target;
         AIType type = player.getAIType();
         if (type == null)
@@ -302,15 +285,13 @@ public class AIController {
 
         // FEARFUL: Logic improved to use Sneeze more often
         if (type == AIType.FEARFUL) {
-            Enemy enemy = findNearestEnemy(playerPos);
+            int dist = distanceField().getEnemyDistance(player.getX(), player.getY());
             // Si el enemigo no esta en rango de panico inmediato, considerar estornudar
-            if (enemy != null) {
-                int dist = manhattanDistance(playerPos, enemy.getPosition());
-
+            if (dist != DistanceField.UNREACHABLE) {
                 // Occasional defensive sneeze if enemy is mid-range (chance based)
                 boolean randomSneeze = aiRandom.nextInt(100) < 30; // 30% chance per tick if conditions met
 
-                if (dist > 2 && dist <= 7 && randomSneeze && shouldCreateIceFearful(player, enemy.getPosition())) {
+                if (dist > 2 && dist <= 7 && randomSneeze && shouldCreateIceFearful(player)) {
                     if (isPlayer1)
                         gameLogic.performIceSneeze(player);
                     else
@@ -342,7 +323,7 @@ public class AIController {
     // ==================== MOVIMIENTOS ====================
 
     private void moveRandomly(boolean isPlayer1) {
-        Direction dir = Direction.values()[aiRandom.nextInt(4)];
+        Direction dir = ALL_DIRECTIONS[aiRandom.nextInt(4)];
         executeMove(dir, isPlayer1);
     }
 
@@ -361,22 +342,10 @@ public class AIController {
         executeMove(direction, isPlayer1);
     }
 
-    private void moveAwayFrom(Point from, Point dangerPos, boolean isPlayer1) {
-        // Mejorada: Evaluar los 4 movimientos posibles y elegir el que más aleja
-        Direction bestDir = null;
-        int maxDist = -1;
-
-        for (Direction dir : Direction.values()) {
-            Point next = new Point(from.x + dir.getDeltaX(), from.y + dir.getDeltaY());
-
-            if (isValidMove(next)) {
-                int dist = manhattanDistance(next, dangerPos); // Distancia futura
-                if (dist > maxDist) {
-                    maxDist = dist;
-                    bestDir = dir;
-                }
-            }
-        }
+    private void moveAwayFromEnemies(int fromX, int fromY, boolean isPlayer1) {
+        // Evaluar los 4 movimientos posibles y elegir el que más aleja del enemigo
+        // más cercano
+        Direction bestDir = distanceField().safestStep(fromX, fromY);
 
         if (bestDir != null) {
             executeMove(bestDir, isPlayer1);
@@ -387,9 +356,17 @@ public class AIController {
     }
 
     private void moveAlternative(Point from, Point to, boolean isPlayer1) {
-        List<Direction> directions = new ArrayList<>(Arrays.asList(Direction.values()));
-        Collections.shuffle(directions);
-        executeMove(directions.get(0), isPlayer1);
+        // Mismo barajado que Collections.shuffle (misma secuencia aleatoria),
+        // sobre un array reutilizado
+        Direction[] directions = shuffledDirections;
+        System.arraycopy(ALL_DIRECTIONS, 0, directions, 0, directions.length);
+        for (int i = directions.length; i > 1; i--) {
+            int j = aiRandom.nextInt(i);
+            Direction swap = directions[i - 1];
+            directions[i - 1] = directions[j];
+            directions[j] = swap;
+        }
+        executeMove(directions[0], isPlayer1);
     }
 
     private void executeMove(Direction dir, boolean isPlayer1) {
@@ -402,135 +379,54 @@ public class AIController {
 
     // ==================== UTILIDADES ====================
 
-    // BFS Simple con opción de evitar enemigos
-    private Fruit findBestFruitBFS(Point start, boolean avoidEnemies) {
-        Queue<Point> queue = new LinkedList<>();
-        queue.add(start);
-        Set<Point> visited = new HashSet<>();
-        visited.add(start);
-
-        while (!queue.isEmpty()) {
-            Point current = queue.poll();
-
-            // Encontró fruta
-            for (Fruit f : gameState.getFruits()) {
-                if (!f.isCollected() && f.getPosition().equals(current)) {
-                    if (f.isLethal())
-                        continue;
-                    return f; // Primera fruta encontrada es la más cercana accesible
-                }
-            }
-
-            for (Direction dir : Direction.values()) {
-                Point next = new Point(current.x + dir.getDeltaX(), current.y + dir.getDeltaY());
-                if (isValidMove(next) && !visited.contains(next)) {
-                    if (avoidEnemies && !isSafeFromEnemies(next)) {
-                        continue; // Saltar casillas peligrosas
-                    }
-                    visited.add(next);
-                    queue.add(next);
-                }
-            }
-        }
-        return null;
-    }
-
-    private Point getNextStepBFS(Point start, Point target, boolean avoidEnemies) {
-        Queue<Point> queue = new LinkedList<>();
-        queue.add(start);
-        Map<Point, Point> parents = new HashMap<>();
-        parents.put(start, null);
-
-        boolean found = false;
-
-        while (!queue.isEmpty()) {
-            Point current = queue.poll();
-            if (current.equals(target)) {
-                found = true;
-                break;
-            }
-
-            for (Direction dir : Direction.values()) {
-                Point next = new Point(current.x + dir.getDeltaX(), current.y + dir.getDeltaY());
-                if (isValidMove(next) && !parents.containsKey(next)) {
-                    if (avoidEnemies && !isSafeFromEnemies(next)) {
-                        continue;
-                    }
-                    parents.put(next, current);
-                    queue.add(next);
-                }
-            }
-        }
-
-        if (found) {
-            Point step = target;
-            while (parents.get(step) != null && !parents.get(step).equals(start)) {
-                step = parents.get(step);
-            }
-            return step;
-        }
-        return null;
-    }
-
-    // Check if position is safe (not adjacent to any enemy)
-    private boolean isSafeFromEnemies(Point p) {
-        for (Enemy e : gameState.getEnemies()) {
-            if (!e.isActive())
-                continue;
-            // Si la distancia es <= 2, es peligroso (el enemigo puede moverse y alcanzarnos
-            // rápido)
-            if (manhattanDistance(p, e.getPosition()) <= 2) {
-                return false;
-            }
+    /**
+     * Obtiene el campo de distancias del tick actual, calculándolo solo la
+     * primera vez que se consulta en el tick.
+     */
+    private DistanceField distanceField() {
+        if (distanceFieldTick != aiTick) {
+            distanceField.compute(gameState);
+            distanceFieldTick = aiTick;
         }
-        return true;
+        return distanceField;
     }
 
-    private boolean isValidMove(Point p) {
-        if (p.x < 0 || p.x >= GameState.getGridSize() || p.y < 0 || p.y >= GameState.getGridSize())
+    private boolean isValidMove(int x, int y) {
+        if (x < 0 || x >= GameState.getGridSize() || y < 0 || y >= GameState.getGridSize())
             return false;
 
-        if (gameState.getIglu() != null) {
-            Iglu iglu = gameState.getIglu();
-            Point igluPos = iglu.getPosition();
-            // 3x3 hardcoded check as fallback
-            if (p.x >= igluPos.x && p.x < igluPos.x + 3 &&
-                    p.y >= igluPos.y && p.y < igluPos.y + 3) {
-                return false;
-            }
+        Iglu iglu = gameState.getIglu();
+        if (iglu != null && iglu.collidesWith(x, y)) {
+            return false;
         }
 
-        for (UnbreakableBlock b : gameState.getUnbreakableBlocks()) {
-            if (b.getPosition().equals(p))
-                return false;
-        }
+        if (gameState.getOccupancy().hasUnbreakable(x, y))
+            return false;
 
-        if (hasIceAt(p))
+        if (hasIceAt(x, y))
             return false;
         return true;
     }
 
     private boolean shouldBreakIce(Player player, Point target) {
         Direction dir = player.getFacingDirection();
-        Point checkPos = new Point(
-                player.getPosition().x + dir.getDeltaX(),
-                player.getPosition().y + dir.getDeltaY());
-        return hasIceAt(checkPos);
+        return hasIceAt(player.getX() + dir.getDeltaX(), player.getY() + dir.getDeltaY());
     }
 
-    private boolean shouldCreateIceFearful(Player player, Point enemyPos) {
+    private boolean shouldCreateIceFearful(Player player) {
         Direction dir = player.getFacingDirection();
-        Point checkPos = new Point(
-                player.getPosition().x + dir.getDeltaX(),
-                player.getPosition().y + dir.getDeltaY());
-        return isValidMove(checkPos) && !hasIceAt(checkPos);
+        int checkX = player.getX() + dir.getDeltaX();
+        int checkY = player.getY() + dir.getDeltaY();
+        return isValidMove(checkX, checkY) && !hasIceAt(checkX, checkY);
     }
 
     private boolean shouldCreateIce(Player player) {
-        Enemy enemy = findNearestEnemy(player.getPosition());
+        int px = player.getX();
+        int py = player.getY();
+        DistanceField field = distanceField();
+        int d = field.getEnemyDistance(px, py);
 
-        if (enemy != null) {
-            int d = manhattanDistance(player.getPosition(), enemy.getPosition());
+        if (d != DistanceField.UNREACHABLE) {
 
             // 1. Proximity Defense (Enemy close but not too close)
             if (d > 2 && d < 5) {
@@ -539,26 +435,26 @@ public class AIController {
 
             // 2. Strategic Blocking (Alignment Sniping)
             // If enemy is aligned and we are facing them, trap them!
-            Point pPos = player.getPosition();
-            Point ePos = enemy.getPosition();
+            int ex = field.getNearestEnemyX(px, py);
+            int ey = field.getNearestEnemyY(px, py);
             Direction facing = player.getFacingDirection();
 
-            boolean alignedX = (pPos.x == ePos.x);
-            boolean alignedY = (pPos.y == ePos.y);
+            boolean alignedX = (px == ex);
+            boolean alignedY = (py == ey);
 
             // Only snipe if strictly aligned and within reasonable range (not across entire
             // map)
             if ((alignedX || alignedY) && d < 10 && d > 1) {
                 if (alignedX) {
-                    if (pPos.y < ePos.y && facing == Direction.DOWN)
+                    if (py < ey && facing == Direction.DOWN)
                         return true; // Enemy below
-                    if (pPos.y > ePos.y && facing == Direction.UP)
+                    if (py > ey && facing == Direction.UP)
                         return true; // Enemy above
                 }
                 if (alignedY) {
-                    if (pPos.x < ePos.x && facing == Direction.RIGHT)
+                    if (px < ex && facing == Direction.RIGHT)
                         return true; // Enemy right
-                    if (pPos.x > ePos.x && facing == Direction.LEFT)
+                    if (px > ex && facing == Direction.LEFT)
                         return true; // Enemy left
                 }
             }
@@ -566,24 +462,14 @@ public class AIController {
         return false;
     }
 
-    private boolean detectPositionLoop(List<Point> history) {
-        if (history.size() < 6)
-            return false;
-        Point last = history.get(history.size() - 1);
-        int count = 0;
-        for (Point p : history) {
-            if (p.equals(last))
-                count++;
-        }
-        return count >= 3;
-    }
-
     private Fruit findClosestFruit(Point from) {
         Fruit closest = null;
         int minDist = Integer.MAX_VALUE;
-        for (Fruit f : gameState.getFruits()) {
+        List<Fruit> fruits = gameState.getFruits();
+        for (int i = 0; i < fruits.size(); i++) {
+            Fruit f = fruits.get(i);
             if (!f.isCollected() && !f.isLethal()) {
-                int d = manhattanDistance(from, f.getPosition());
+                int d = Math.abs(from.x - f.getX()) + Math.abs(from.y - f.getY());
                 if (d < minDist) {
                     minDist = d;
                     closest = f;
@@ -597,12 +483,10 @@ public class AIController {
 
     private void handleStuckState(Player player, boolean isPlayer1) {
         // First try: Kick surrounding ice
-        Point p = player.getPosition();
         List<Direction> iceDirs = new ArrayList<>();
 
-        for (Direction d : Direction.values()) {
-            Point neighbor = new Point(p.x + d.getDeltaX(), p.y + d.getDeltaY());
-            if (hasIceAt(neighbor)) {
+        for (Direction d : ALL_DIRECTIONS) {
+            if (hasIceAt(player.getX() + d.getDeltaX(), player.getY() + d.getDeltaY())) {
                 iceDirs.add(d);
             }
         }
@@ -626,31 +510,51 @@ public class AIController {
         moveRandomly(isPlayer1);
     }
 
-    private Enemy findNearestEnemy(Point from) {
-        Enemy nearest = null;
-        int minDist = Integer.MAX_VALUE;
-        for (Enemy e : gameState.getEnemies()) {
-            if (e.isActive()) {
-                int d = manhattanDistance(from, e.getPosition());
-                if (d < minDist) {
-                    minDist = d;
-                    nearest = e;
-                }
+    private boolean hasIceAt(int x, int y) {
+        return gameState.getOccupancy().hasIce(x, y);
+    }
+
+    /**
+     * Últimas posiciones de un jugador IA (como mucho 8), guardadas como
+     * celdas empaquetadas en un buffer circular, para detectar bucles.
+     */
+    private static final class PositionHistory {
+        private static final int CAPACITY = 8;
+
+        private final int[] cells = new int[CAPACITY];
+        private int start;
+        private int size;
+
+        void add(int x, int y) {
+            int cell = y * GameState.getGridSize() + x;
+            if (size < CAPACITY) {
+                cells[(start + size++) % CAPACITY] = cell;
+            } else {
+                cells[start] = cell;
+                start = (start + 1) % CAPACITY;
             }
         }
-        return nearest;
-    }
 
-    private int manhattanDistance(Point a, Point b) {
-        return Math.abs(a.x - b.x) + Math.abs(a.y - b.y);
-    }
+        void clear() {
+            start = 0;
+            size = 0;
+        }
 
-    private boolean hasIceAt(Point pos) {
-        for (IceBlock ice : gameState.getIceBlocks()) {
-            if (ice.isAt(pos))
-                return true;
+        /**
+         * Indica si la última posición se repite al menos 3 veces en un
+         * historial de 6 o más posiciones.
+         */
+        boolean isLooping() {
+            if (size < 6)
+                return false;
+            int last = cells[(start + size - 1) % CAPACITY];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (cells[(start + i) % CAPACITY] == last)
+                    count++;
+            }
+            return count >= 3;
         }
-        return false;
     }
 
 }
@@ -0,0 +1,357 @@
+package domain.service;
+
+import domain.entity.IceBlock;
+import domain.state.GameState;
+
+import java.awt.Point;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Diario incremental del autoguardado.
+ * Entre dos checkpoints completos solo se escriben las secciones de
+ * {@link GameState} que cambiaron desde la entrada anterior. Los bloques
+ * de hielo se registran por celda (agregados, quitados o modificados), y
+ * los jugadores y enemigos por registro: solo los que cambiaron, con su
+ * posición en la sección.
+ *
+ * Formato del diario: "BDJR", versión y CRC32 del checkpoint al que
+ * pertenece; después, entradas con longitud (VarInt), datos y CRC32. Al
+ * cargar se descarta una entrada final incompleta (escritura interrumpida)
+ * y el diario entero si no corresponde al checkpoint.
+ *
+ * Esta clase solo codifica y decodifica; la escritura a disco la hace
+ * PersistenceService en su hilo de guardado.
+ */
+public class AutosaveJournal {
+
+    private static final int MAGIC = 0x42444A52; // "BDJR"
+    private static final int VERSION = 3;
+
+    /** Bit de la máscara de una entrada que indica cambios de hielo por celda. */
+    private static final int ICE_DELTA = 1 << GameState.SECTION_COUNT;
+
+    /** Secciones que se pueden escribir por registro, en el orden de la entrada. */
+    private static final int[] RECORD_SECTIONS = { GameState.SECTION_PLAYERS, GameState.SECTION_ENEMIES };
+
+    private final GameStateCodec codec;
+    private final byte[][] lastSections = new byte[GameState.SECTION_COUNT][];
+    private final byte[][][] lastRecords = new byte[GameState.SECTION_COUNT][][];
+    private Map<Point, byte[]> lastIce;
+    private long checkpointCrc;
+
+    public AutosaveJournal(GameStateCodec codec) {
+        this.codec = codec;
+    }
+
+    // ==================== CODIFICACIÓN ====================
+
+    /**
+     * Codifica un checkpoint completo y lo toma como referencia de los
+     * siguientes deltas.
+     *
+     * @return Bytes del checkpoint (un guardado binario normal)
+     */
+    public byte[] encodeCheckpoint(GameState state) {
+        byte[] checkpoint = codec.encode(state);
+        for (int section = 0; section < GameState.SECTION_COUNT; section++) {
+            lastSections[section] = sectionBytes(state, section);
+        }
+        for (int section : RECORD_SECTIONS) {
+            lastRecords[section] = records(state, section);
+        }
+        lastIce = iceByCell(state);
+        checkpointCrc = crc(checkpoint, 0, checkpoint.length);
+        return checkpoint;
+    }
+
+    /**
+     * Codifica la cabecera de un diario vacío para el último checkpoint.
+     */
+    public byte[] encodeJournalHeader() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt((int) checkpointCrc);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Codifica una entrada con los cambios desde la entrada anterior.
+     * La cabecera (tiempo, puntuaciones, banderas) se escribe siempre.
+     *
+     * @param state    Estado actual
+     * @param gameTime Tiempo de juego de la entrada (informativo)
+     * @return Entrada lista para añadir al diario
+     */
+    public byte[] encodeDelta(GameState state, long gameTime) {
+        if (lastSections[GameState.SECTION_HEADER] == null) {
+            throw new IllegalStateException("El diario necesita un checkpoint previo");
+        }
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(payload)) {
+            byte[][] changed = new byte[GameState.SECTION_COUNT][];
+            int mask = 0;
+            for (int section = 0; section < GameState.SECTION_COUNT; section++) {
+                byte[] current = sectionBytes(state, section);
+                if (section == GameState.SECTION_HEADER || !Arrays.equals(current, lastSections[section])) {
+                    changed[section] = current;
+                    lastSections[section] = current;
+                    mask |= 1 << section;
+                }
+            }
+
+            // Hielo: por celda salvo que haya bloques apilados
+            Map<Point, byte[]> ice = null;
+            if (changed[GameState.SECTION_ICE] != null) {
+                ice = iceByCell(state);
+                if (ice != null && lastIce != null) {
+                    mask = (mask & ~(1 << GameState.SECTION_ICE)) | ICE_DELTA;
+                }
+            }
+
+            // Jugadores y enemigos: por registro si no cambió cuántos hay
+            byte[][][] records = new byte[GameState.SECTION_COUNT][][];
+            for (int section : RECORD_SECTIONS) {
+                if (changed[section] != null) {
+                    records[section] = records(state, section);
+                    if (lastRecords[section] != null && records[section].length == lastRecords[section].length) {
+                        mask = (mask & ~(1 << section)) | recordDeltaBit(section);
+                    }
+                }
+            }
+
+            VarInt.write(out, gameTime);
+            VarInt.write(out, mask);
+            for (int section = 0; section < GameState.SECTION_COUNT; section++) {
+                if ((mask & (1 << section)) != 0) {
+                    out.write(changed[section]);
+                }
+            }
+            if ((mask & ICE_DELTA) != 0) {
+                writeIceDelta(out, lastIce, ice);
+            }
+            if (changed[GameState.SECTION_ICE] != null) {
+                lastIce = ice;
+            }
+            for (int section : RECORD_SECTIONS) {
+                if ((mask & recordDeltaBit(section)) != 0) {
+                    writeRecordDelta(out, lastRecords[section], records[section]);
+                }
+                if (records[section] != null) {
+                    lastRecords[section] = records[section];
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] data = payload.toByteArray();
+        ByteArrayOutputStream entry = new ByteArrayOutputStream(data.length + 8);
+        try (DataOutputStream out = new DataOutputStream(entry)) {
+            VarInt.write(out, data.length);
+            out.write(data);
+            out.writeInt((int) crc(data, 0, data.length));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return entry.toByteArray();
+    }
+
+    private void writeIceDelta(DataOutputStream out, Map<Point, byte[]> before, Map<Point, byte[]> after)
+            throws IOException {
+        List<Point> removed = new ArrayList<>();
+        for (Point cell : before.keySet()) {
+            if (!after.containsKey(cell)) {
+                removed.add(cell);
+            }
+        }
+        List<Map.Entry<Point, byte[]>> changed = new ArrayList<>();
+        for (Map.Entry<Point, byte[]> entry : after.entrySet()) {
+            if (!Arrays.equals(entry.getValue(), before.get(entry.getKey()))) {
+                changed.add(entry);
+            }
+        }
+
+        VarInt.write(out, removed.size());
+        for (Point cell : removed) {
+            VarInt.writeCell(out, cell);
+        }
+        VarInt.write(out, changed.size());
+        for (Map.Entry<Point, byte[]> entry : changed) {
+            VarInt.writeCell(out, entry.getKey());
+            out.write(entry.getValue());
+        }
+    }
+
+    private static void writeRecordDelta(DataOutputStream out, byte[][] before, byte[][] after)
+            throws IOException {
+        int changed = 0;
+        for (int i = 0; i < after.length; i++) {
+            if (!Arrays.equals(after[i], before[i])) {
+                changed++;
+            }
+        }
+        VarInt.write(out, changed);
+        for (int i = 0; i < after.length; i++) {
+            if (!Arrays.equals(after[i], before[i])) {
+                VarInt.write(out, i);
+                out.write(after[i]);
+            }
+        }
+    }
+
+    /**
+     * Bit de la máscara que indica cambios por registro de la sección.
+     */
+    private static int recordDeltaBit(int section) {
+        return ICE_DELTA << (section == GameState.SECTION_PLAYERS ? 1 : 2);
+    }
+
+    private static byte[][] records(GameState state, int section) {
+        byte[][] records = new byte[state.getRecordCount(section)][];
+        for (int i = 0; i < records.length; i++) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(16);
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                state.writeRecord(section, i, out);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            records[i] = bytes.toByteArray();
+        }
+        return records;
+    }
+
+    /**
+     * Estado codificado de cada bloque de hielo por celda, o null si alguna
+     * celda tiene más de un bloque (entonces se usa la sección completa).
+     */
+    private Map<Point, byte[]> iceByCell(GameState state) {
+        Map<Point, byte[]> cells = new HashMap<>();
+        for (IceBlock ice : state.getIceBlocks()) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(4);
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                ice.writeState(out);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            if (cells.put(ice.getPosition(), bytes.toByteArray()) != null) {
+                return null;
+            }
+        }
+        return cells;
+    }
+
+    private static byte[] sectionBytes(GameState state, int section) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            state.writeSection(section, out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // ==================== RECUPERACIÓN ====================
+
+    /**
+     * Reconstruye el estado aplicando el diario sobre su checkpoint.
+     *
+     * @param checkpoint Bytes del checkpoint
+     * @param journal    Bytes del diario (null o vacío si no hay)
+     * @return Estado al momento de la última entrada completa
+     * @throws IOException si el checkpoint no se puede leer
+     */
+    public GameState restore(byte[] checkpoint, byte[] journal) throws IOException {
+        GameState state = codec.decode(checkpoint);
+        if (journal == null || journal.length == 0) {
+            return state;
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(journal));
+        try {
+            if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION
+                    || in.readInt() != (int) crc(checkpoint, 0, checkpoint.length)) {
+                return state; // Diario de otro checkpoint: se ignora
+            }
+        } catch (EOFException e) {
+            return state;
+        }
+
+        while (true) {
+            byte[] payload;
+            try {
+                int length = VarInt.readInt(in);
+                payload = new byte[length];
+                in.readFully(payload);
+                if (in.readInt() != (int) crc(payload, 0, payload.length)) {
+                    break;
+                }
+            } catch (EOFException e) {
+                break; // Fin del diario o última entrada incompleta
+            }
+            applyEntry(state, payload);
+        }
+        return state;
+    }
+
+    private void applyEntry(GameState state, byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        VarInt.read(in); // tiempo de juego
+        int mask = VarInt.readInt(in);
+        for (int section = 0; section < GameState.SECTION_COUNT; section++) {
+            if ((mask & (1 << section)) != 0) {
+                state.readSection(section, in);
+            }
+        }
+        if ((mask & ICE_DELTA) != 0) {
+            int removed = VarInt.readInt(in);
+            for (int i = 0; i < removed; i++) {
+                removeIceAt(state, VarInt.readCell(in));
+            }
+            int changed = VarInt.readInt(in);
+            for (int i = 0; i < changed; i++) {
+                Point cell = VarInt.readCell(in);
+                removeIceAt(state, cell);
+                IceBlock ice = new IceBlock(cell);
+                ice.readState(in);
+                state.addIceBlock(ice);
+            }
+        }
+        for (int section : RECORD_SECTIONS) {
+            if ((mask & recordDeltaBit(section)) != 0) {
+                int changed = VarInt.readInt(in);
+                for (int i = 0; i < changed; i++) {
+                    state.readRecord(section, VarInt.readInt(in), in);
+                }
+            }
+        }
+    }
+
+    private void removeIceAt(GameState state, Point cell) {
+        IceBlock ice;
+        while ((ice = state.getOccupancy().getIce(cell.x, cell.y)) != null) {
+            state.removeIceBlock(ice);
+        }
+    }
+
+    private static long crc(byte[] data, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(data, offset, length);
+        return crc.getValue();
+    }
+}
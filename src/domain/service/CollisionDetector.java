@@ -3,11 +3,15 @@ package domain.service;
 import domain.entity.enemy.Enemy;
 import domain.entity.*;
 import domain.state.GameState;
+import domain.state.OccupancyGrid;
 import java.awt.Point;
 
 /**
  * Servicio responsable de detectar colisiones entre entidades del juego.
  * Separa la lógica de detección de colisiones de la lógica principal del juego.
+ * Las consultas por celda se resuelven en O(1) con el índice de ocupación
+ * de GameState. Cada consulta tiene una variante con coordenadas x/y que no
+ * necesita construir un Point (la que usan los bucles del tick).
  */
 public class CollisionDetector {
 
@@ -29,12 +33,11 @@ public class CollisionDetector {
      * @return true si hay un enemigo activo en esa posición
      */
     public boolean hasEnemyAt(Point position) {
-        for (Enemy enemy : gameState.getEnemies()) {
-            if (enemy.isActive() && enemy.isAt(position)) {
-                return true;
-            }
-        }
-        return false;
+        return hasEnemyAt(position.x, position.y);
+    }
+
+    public boolean hasEnemyAt(int x, int y) {
+        return grid().getEnemyCount(x, y) > 0;
     }
 
     /**
@@ -45,12 +48,15 @@ public class CollisionDetector {
      * @return true si hay otro enemigo en esa posición
      */
     public boolean hasOtherEnemyAt(Point position, Enemy currentEnemy) {
-        for (Enemy enemy : gameState.getEnemies()) {
-            if (enemy != currentEnemy && enemy.isActive() && enemy.isAt(position)) {
-                return true;
-            }
+        return hasOtherEnemyAt(position.x, position.y, currentEnemy);
+    }
+
+    public boolean hasOtherEnemyAt(int x, int y, Enemy currentEnemy) {
+        int count = grid().getEnemyCount(x, y);
+        if (currentEnemy != null && currentEnemy.occupiesCell() && currentEnemy.isAt(x, y)) {
+            count--;
         }
-        return false;
+        return count > 0;
     }
 
     /**
@@ -60,28 +66,44 @@ public class CollisionDetector {
      * @return true si hay un bloque de hielo en esa posición
      */
     public boolean hasIceAt(Point position) {
-        for (IceBlock ice : gameState.getIceBlocks()) {
-            if (ice.getPosition().equals(position)) {
-                return true;
-            }
-        }
-        return false;
+        return hasIceAt(position.x, position.y);
+    }
+
+    public boolean hasIceAt(int x, int y) {
+        return grid().hasIce(x, y);
     }
 
     public boolean hasIgluAt(Point position) {
+        return hasIgluAt(position.x, position.y);
+    }
+
+    public boolean hasIgluAt(int x, int y) {
         if (gameState.getIglu() != null) {
-            return gameState.getIglu().collidesWith(position);
+            return gameState.getIglu().collidesWith(x, y);
         }
         return false;
     }
 
     public boolean hasUnbreakableBlockAt(Point position) {
-        for (UnbreakableBlock block : gameState.getUnbreakableBlocks()) {
-            if (block.getPosition().equals(position)) {
-                return true;
-            }
-        }
-        return false;
+        return hasUnbreakableBlockAt(position.x, position.y);
+    }
+
+    public boolean hasUnbreakableBlockAt(int x, int y) {
+        return grid().hasUnbreakable(x, y);
+    }
+
+    /**
+     * Verifica si hay una baldosa caliente en la posición especificada.
+     *
+     * @param position Posición a verificar
+     * @return true si hay una baldosa caliente en esa posición
+     */
+    public boolean hasHotTileAt(Point position) {
+        return hasHotTileAt(position.x, position.y);
+    }
+
+    public boolean hasHotTileAt(int x, int y) {
+        return grid().hasHotTile(x, y);
     }
 
     /**
@@ -91,12 +113,11 @@ public class CollisionDetector {
      * @return Bloque de hielo o null si no hay ninguno
      */
     public IceBlock getIceAt(Point position) {
-        for (IceBlock ice : gameState.getIceBlocks()) {
-            if (ice.isAt(position)) {
-                return ice;
-            }
-        }
-        return null;
+        return getIceAt(position.x, position.y);
+    }
+
+    public IceBlock getIceAt(int x, int y) {
+        return grid().getIce(x, y);
     }
 
     /**
@@ -106,12 +127,11 @@ public class CollisionDetector {
      * @return true si hay una fruta no recolectada en esa posición
      */
     public boolean hasFruitAt(Point position) {
-        for (Fruit fruit : gameState.getFruits()) {
-            if (!fruit.isCollected() && fruit.isAt(position)) {
-                return true;
-            }
-        }
-        return false;
+        return hasFruitAt(position.x, position.y);
+    }
+
+    public boolean hasFruitAt(int x, int y) {
+        return grid().getFruitCount(x, y) > 0;
     }
 
     /**
@@ -121,7 +141,11 @@ public class CollisionDetector {
      * @return true si el jugador está en esa posición
      */
     public boolean isPlayerAt(Point position) {
-        return gameState.getPlayer().isAt(position);
+        return isPlayerAt(position.x, position.y);
+    }
+
+    public boolean isPlayerAt(int x, int y) {
+        return gameState.getPlayer().isAt(x, y);
     }
 
     /**
@@ -131,7 +155,11 @@ public class CollisionDetector {
      * @return true si la posición está bloqueada
      */
     public boolean isPositionBlocked(Point position) {
-        return hasIceAt(position) || hasIgluAt(position) || hasUnbreakableBlockAt(position);
+        return isPositionBlocked(position.x, position.y);
+    }
+
+    public boolean isPositionBlocked(int x, int y) {
+        return hasIceAt(x, y) || hasIgluAt(x, y) || hasUnbreakableBlockAt(x, y);
     }
 
     /**
@@ -141,9 +169,13 @@ public class CollisionDetector {
      * @return true si la posición está dentro de los límites
      */
     public boolean isValidPosition(Point position) {
+        return isValidPosition(position.x, position.y);
+    }
+
+    public boolean isValidPosition(int x, int y) {
         int gridSize = GameState.getGridSize();
-        return position.x >= 0 && position.x < gridSize &&
-                position.y >= 0 && position.y < gridSize;
+        return x >= 0 && x < gridSize &&
+                y >= 0 && y < gridSize;
     }
 
     /**
@@ -171,17 +203,12 @@ public class CollisionDetector {
             return;
         }
 
-        Point pos = player.getPosition();
-
         // 1. Enemy Collision (Death)
-        for (Enemy enemy : gameState.getEnemies()) {
-            if (enemy.isActive() && enemy.getPosition().equals(pos)) {
-                // Si el jugador es invulnerable o está atacando, quizás no muera?
-                // Por ahora, colisión simple = muerte.
-                // Excepto si el enemigo está spawneando? (Future proofing)
-                player.die();
-                return;
-            }
+        if (hasEnemyAt(player.getX(), player.getY())) {
+            // Si el jugador es invulnerable o está atacando, quizás no muera?
+            // Por ahora, colisión simple = muerte.
+            // Excepto si el enemigo está spawneando? (Future proofing)
+            player.die();
         }
 
     }
@@ -190,12 +217,15 @@ public class CollisionDetector {
      * Obtiene el bloque de hielo en una posición específica.
      */
     public IceBlock getIceBlockAt(Point position) {
-        for (IceBlock ice : gameState.getIceBlocks()) {
-            if (ice.isAt(position)) {
-                return ice;
-            }
-        }
-        return null;
+        return getIceAt(position);
+    }
+
+    /**
+     * El índice se consulta en cada llamada porque GameState puede
+     * reconstruirlo (por ejemplo tras deserializar).
+     */
+    private OccupancyGrid grid() {
+        return gameState.getOccupancy();
     }
 
     // ==================== CONVENIENCE METHODS ====================
@@ -208,11 +238,15 @@ public class CollisionDetector {
      * @return true if position is valid and has no static obstacles or enemies
      */
     public boolean isPositionFree(Point position) {
-        return isValidPosition(position) &&
-                !isPositionBlocked(position) &&
-                !hasEnemyAt(position) &&
-                !isPlayerAt(position) && // Optional depending on context, but safe for spawning
-                !hasFruitAt(position);
+        return isPositionFree(position.x, position.y);
+    }
+
+    public boolean isPositionFree(int x, int y) {
+        return isValidPosition(x, y) &&
+                !isPositionBlocked(x, y) &&
+                !hasEnemyAt(x, y) &&
+                !isPlayerAt(x, y) && // Optional depending on context, but safe for spawning
+                !hasFruitAt(x, y);
     }
 
     /**
@@ -227,8 +261,12 @@ public class CollisionDetector {
      * @return true if the enemy can move to this position
      */
     public boolean canEnemyMoveTo(Point position, Enemy self) {
-        return isValidPosition(position) &&
-                !isPositionBlocked(position) && // Checks Ice, Iglu, Unbreakable
-                !hasOtherEnemyAt(position, self);
+        return canEnemyMoveTo(position.x, position.y, self);
+    }
+
+    public boolean canEnemyMoveTo(int x, int y, Enemy self) {
+        return isValidPosition(x, y) &&
+                !isPositionBlocked(x, y) && // Checks Ice, Iglu, Unbreakable
+                !hasOtherEnemyAt(x, y, self);
     }
 }
@@ -0,0 +1,284 @@
+package domain.service;
+
+import domain.entity.Direction;
+import domain.entity.Fruit;
+import domain.entity.Iglu;
+import domain.state.EnemyTable;
+import domain.state.GameState;
+import domain.state.OccupancyGrid;
+import java.util.Arrays;
+
+/**
+ * Campo de distancias sobre el grid calculado con BFS sobre arreglos de
+ * enteros. Se calcula una vez por tick y lo comparten todas las estrategias
+ * de IA de ambos jugadores.
+ *
+ * Capas:
+ * - Distancia (Manhattan) al enemigo activo más cercano y su celda.
+ * - Distancia a pie a la fruta objetivo más cercana, evitando las celdas
+ * peligrosas (a distancia 2 o menos de un enemigo).
+ *
+ * Las tablas de vecinos se precalculan y los buffers se reutilizan, por lo
+ * que una búsqueda no reserva memoria.
+ */
+public class DistanceField {
+
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /** Distancia a un enemigo a partir de la cual una celda se considera segura. */
+    private static final int DANGER_RADIUS = 2;
+
+    private static final Direction[] DIRECTIONS = { Direction.UP, Direction.DOWN, Direction.LEFT,
+            Direction.RIGHT };
+
+    private final int size;
+    private final int cells;
+    private final int[] neighbors;
+    private final int[] queue;
+    private final boolean[] passable;
+    private final boolean[] fruitTarget;
+    private final int[] enemyDistance;
+    private final int[] enemyOrigin;
+    private final int[] fruitDistance;
+
+    /**
+     * Constructor del campo de distancias.
+     *
+     * @param size Tamaño del lado del grid
+     */
+    public DistanceField(int size) {
+        this.size = size;
+        this.cells = size * size;
+        this.neighbors = new int[cells * DIRECTIONS.length];
+        this.queue = new int[cells];
+        this.passable = new boolean[cells];
+        this.fruitTarget = new boolean[cells];
+        this.enemyDistance = new int[cells];
+        this.enemyOrigin = new int[cells];
+        this.fruitDistance = new int[cells];
+
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int cell = index(x, y);
+                for (int d = 0; d < DIRECTIONS.length; d++) {
+                    int nx = x + DIRECTIONS[d].getDeltaX();
+                    int ny = y + DIRECTIONS[d].getDeltaY();
+                    neighbors[cell * DIRECTIONS.length + d] = contains(nx, ny) ? index(nx, ny) : -1;
+                }
+            }
+        }
+    }
+
+    // ==================== CÁLCULO ====================
+
+    /**
+     * Recalcula todas las capas a partir del estado actual.
+     *
+     * @param gameState Estado del juego
+     */
+    public void compute(GameState gameState) {
+        computePassable(gameState);
+        computeEnemyDistance(gameState);
+        computeFruitDistance(gameState);
+    }
+
+    private void computePassable(GameState gameState) {
+        OccupancyGrid grid = gameState.getOccupancy();
+        Iglu iglu = gameState.getIglu();
+        int igluX = iglu != null ? iglu.getPosition().x : -1;
+        int igluY = iglu != null ? iglu.getPosition().y : -1;
+
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                boolean inIglu = iglu != null && x >= igluX && x < igluX + iglu.getWidth()
+                        && y >= igluY && y < igluY + iglu.getHeight();
+                passable[index(x, y)] = !inIglu && !grid.hasUnbreakable(x, y) && !grid.hasIce(x, y);
+            }
+        }
+    }
+
+    /**
+     * BFS multi-origen desde todos los enemigos activos sobre el grid
+     * completo (sin obstáculos), equivalente a la distancia Manhattan.
+     */
+    private void computeEnemyDistance(GameState gameState) {
+        Arrays.fill(enemyDistance, UNREACHABLE);
+        Arrays.fill(enemyOrigin, -1);
+        int head = 0;
+        int tail = 0;
+
+        EnemyTable enemies = gameState.getEnemyTable();
+        for (int row = 0; row < enemies.size(); row++) {
+            if (!enemies.isActive(row))
+                continue;
+            int x = enemies.getX(row);
+            int y = enemies.getY(row);
+            if (!contains(x, y))
+                continue;
+            int cell = index(x, y);
+            if (enemyDistance[cell] != 0) {
+                enemyDistance[cell] = 0;
+                enemyOrigin[cell] = cell;
+                queue[tail++] = cell;
+            }
+        }
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int next = enemyDistance[cell] + 1;
+            int base = cell * DIRECTIONS.length;
+            for (int d = 0; d < DIRECTIONS.length; d++) {
+                int n = neighbors[base + d];
+                if (n >= 0 && enemyDistance[n] == UNREACHABLE) {
+                    enemyDistance[n] = next;
+                    enemyOrigin[n] = enemyOrigin[cell];
+                    queue[tail++] = n;
+                }
+            }
+        }
+    }
+
+    /**
+     * BFS multi-origen desde las frutas objetivo (no recolectadas y no letales)
+     * sobre celdas transitables y seguras.
+     */
+    private void computeFruitDistance(GameState gameState) {
+        Arrays.fill(fruitDistance, UNREACHABLE);
+        Arrays.fill(fruitTarget, false);
+        int head = 0;
+        int tail = 0;
+
+        for (Fruit fruit : gameState.getFruits()) {
+            if (fruit.isCollected() || fruit.isLethal())
+                continue;
+            if (!contains(fruit.getX(), fruit.getY()))
+                continue;
+            int cell = index(fruit.getX(), fruit.getY());
+            fruitTarget[cell] = true;
+            if (passable[cell] && isSafeCell(cell) && fruitDistance[cell] != 0) {
+                fruitDistance[cell] = 0;
+                queue[tail++] = cell;
+            }
+        }
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int next = fruitDistance[cell] + 1;
+            int base = cell * DIRECTIONS.length;
+            for (int d = 0; d < DIRECTIONS.length; d++) {
+                int n = neighbors[base + d];
+                if (n >= 0 && fruitDistance[n] == UNREACHABLE && passable[n] && isSafeCell(n)) {
+                    fruitDistance[n] = next;
+                    queue[tail++] = n;
+                }
+            }
+        }
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Calcula el siguiente paso hacia la fruta segura más cercana.
+     *
+     * @return Dirección a tomar, o null si no hay fruta alcanzable o ya se
+     *         está sobre ella
+     */
+    public Direction nextStepTowardsFruit(int x, int y) {
+        if (!contains(x, y))
+            return null;
+        int cell = index(x, y);
+        if (fruitTarget[cell])
+            return null;
+
+        Direction best = null;
+        int bestDistance = UNREACHABLE;
+        int base = cell * DIRECTIONS.length;
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            int n = neighbors[base + d];
+            if (n >= 0 && fruitDistance[n] < bestDistance) {
+                bestDistance = fruitDistance[n];
+                best = DIRECTIONS[d];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Elige la dirección transitable que deja más lejos del enemigo más cercano.
+     * Quedarse quieto (IDLE) solo se elige si es estrictamente mejor.
+     *
+     * @return Dirección de escape, o null si no hay movimiento posible
+     */
+    public Direction safestStep(int x, int y) {
+        if (!contains(x, y))
+            return null;
+        int cell = index(x, y);
+        Direction best = null;
+        int bestDistance = -1;
+        int base = cell * DIRECTIONS.length;
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            int n = neighbors[base + d];
+            if (n >= 0 && passable[n] && enemyDistance[n] > bestDistance) {
+                bestDistance = enemyDistance[n];
+                best = DIRECTIONS[d];
+            }
+        }
+        if (passable[cell] && enemyDistance[cell] > bestDistance) {
+            best = Direction.IDLE;
+        }
+        return best;
+    }
+
+    /**
+     * Verifica si la celda contiene una fruta objetivo (no recolectada ni letal).
+     */
+    public boolean hasTargetFruit(int x, int y) {
+        return contains(x, y) && fruitTarget[index(x, y)];
+    }
+
+    public int getEnemyDistance(int x, int y) {
+        return contains(x, y) ? enemyDistance[index(x, y)] : UNREACHABLE;
+    }
+
+    /**
+     * Obtiene la columna del enemigo más cercano a la celda (-1 si no hay).
+     */
+    public int getNearestEnemyX(int x, int y) {
+        int origin = contains(x, y) ? enemyOrigin[index(x, y)] : -1;
+        return origin >= 0 ? origin % size : -1;
+    }
+
+    /**
+     * Obtiene la fila del enemigo más cercano a la celda (-1 si no hay).
+     */
+    public int getNearestEnemyY(int x, int y) {
+        int origin = contains(x, y) ? enemyOrigin[index(x, y)] : -1;
+        return origin >= 0 ? origin / size : -1;
+    }
+
+    public int getFruitDistance(int x, int y) {
+        return contains(x, y) ? fruitDistance[index(x, y)] : UNREACHABLE;
+    }
+
+    public boolean isPassable(int x, int y) {
+        return contains(x, y) && passable[index(x, y)];
+    }
+
+    public boolean isSafe(int x, int y) {
+        return contains(x, y) && isSafeCell(index(x, y));
+    }
+
+    // ==================== UTILIDADES ====================
+
+    private boolean isSafeCell(int cell) {
+        return enemyDistance[cell] > DANGER_RADIUS;
+    }
+
+    private boolean contains(int x, int y) {
+        return x >= 0 && x < size && y >= 0 && y < size;
+    }
+
+    private int index(int x, int y) {
+        return y * size + x;
+    }
+}
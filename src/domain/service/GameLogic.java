@@ -3,12 +3,16 @@ package domain.service;
 import domain.entity.enemy.Enemy;
 import domain.entity.*;
 
+import domain.state.EnemyTable;
 import domain.state.GameState;
+import domain.state.InputCommand;
 import java.awt.Point;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Lógica central del juego.
@@ -17,11 +21,27 @@ import java.util.Random;
  */
 public class GameLogic {
 
+    /** Enemigos listos a partir de los cuales se planifican en el pool. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 256;
+
+    // Enemigos por tarea del pool
+    private static final int PLAN_CHUNK = 64;
+
     private GameState gameState;
     private CollisionDetector collisionDetector;
     private Random random;
     private AIController aiController;
 
+    // Objetivos de los enemigos, hielo roto, enemigos listos para moverse y
+    // entidades despertadas por sus temporizadores en el tick, reutilizados
+    // entre ticks
+    private final Point player1Target = new Point();
+    private final Point player2Target = new Point();
+    private final List<IceBlock> brokenIce = new ArrayList<>();
+    private final List<Enemy> readyEnemies = new ArrayList<>();
+    private final List<Entity> woken = new ArrayList<>();
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
     /**
      * Constructor de la lógica del juego.
      *
@@ -30,7 +50,7 @@ public class GameLogic {
     public GameLogic(GameState gameState) {
         this.gameState = gameState;
         this.collisionDetector = new CollisionDetector(gameState);
-        this.random = new Random();
+        this.random = gameState.getRandom();
 
         // Crear AIController solo en modo Machine vs Machine O Player vs Machine
         if (gameState.getNumberOfPlayers() == 0
@@ -57,6 +77,53 @@ public class GameLogic {
         return performAction(gameState.getPlayer2());
     }
 
+    /**
+     * Aplica un comando de entrada de cualquiera de los jugadores.
+     *
+     * @param command Comando a aplicar
+     * @return Casillas afectadas si el comando es una acción, o null
+     */
+    public List<Point> apply(InputCommand command) {
+        switch (command) {
+            case P1_UP:
+                movePlayer(Direction.UP);
+                return null;
+            case P1_DOWN:
+                movePlayer(Direction.DOWN);
+                return null;
+            case P1_LEFT:
+                movePlayer(Direction.LEFT);
+                return null;
+            case P1_RIGHT:
+                movePlayer(Direction.RIGHT);
+                return null;
+            case P1_STOP:
+                stopPlayer();
+                return null;
+            case P1_ACTION:
+                return performSpaceAction();
+            case P2_UP:
+                movePlayer2(Direction.UP);
+                return null;
+            case P2_DOWN:
+                movePlayer2(Direction.DOWN);
+                return null;
+            case P2_LEFT:
+                movePlayer2(Direction.LEFT);
+                return null;
+            case P2_RIGHT:
+                movePlayer2(Direction.RIGHT);
+                return null;
+            case P2_STOP:
+                stopPlayer2();
+                return null;
+            case P2_ACTION:
+                return performActionPlayer2();
+            default:
+                return null;
+        }
+    }
+
     /**
      * Lógica común para realizar acción (Sneeze/Kick) para cualquier jugador.
      */
@@ -102,19 +169,16 @@ public class GameLogic {
     public void movePlayerControlledEnemy(Direction direction) {
         for (Enemy enemy : gameState.getEnemies()) {
             if (enemy.isControlledByPlayer()) {
-                Point oldPosition = enemy.getPosition();
+                int oldX = enemy.getX();
+                int oldY = enemy.getY();
 
                 // Calcular nueva posición basada en la dirección
-                Point newPosition = new Point(oldPosition);
-                newPosition.x += direction.getDeltaX();
-                newPosition.y += direction.getDeltaY();
-
-                enemy.move(newPosition);
+                enemy.move(oldX + direction.getDeltaX(), oldY + direction.getDeltaY());
                 enemy.setDirection(direction); // Actualizar dirección visual
 
-                if (!collisionDetector.isValidPosition(enemy.getPosition()) ||
-                        collisionDetector.isPositionBlocked(enemy.getPosition())) {
-                    enemy.setPosition(oldPosition);
+                if (!collisionDetector.isValidPosition(enemy.getX(), enemy.getY()) ||
+                        collisionDetector.isPositionBlocked(enemy.getX(), enemy.getY())) {
+                    enemy.moveTo(oldX, oldY);
                 } else {
                     // If moved successfully? No, user specified "player moves a tile".
                     // This is Player CONTROLLED Enemy (Machine vs Machine).
@@ -133,12 +197,13 @@ public class GameLogic {
             return;
         }
 
-        Point oldPosition = player.getPosition();
+        int oldX = player.getX();
+        int oldY = player.getY();
         player.move(direction);
 
-        if (!collisionDetector.isValidPosition(player.getPosition()) ||
-                collisionDetector.isPositionBlocked(player.getPosition())) {
-            player.setPosition(oldPosition);
+        if (!collisionDetector.isValidPosition(player.getX(), player.getY()) ||
+                collisionDetector.isPositionBlocked(player.getX(), player.getY())) {
+            player.moveTo(oldX, oldY);
             player.stopMoving();
             return;
         }
@@ -311,46 +376,39 @@ public class GameLogic {
             return;
 
         // Enemies target the closest player
-        Point p1Pos = gameState.getPlayer().getPosition();
-        Point p2Pos = (gameState.getPlayer2() != null) ? gameState.getPlayer2().getPosition() : null;
-
-        int currentLevel = gameState.getLevel();
-        int numberOfPlayers = gameState.getNumberOfPlayers();
-
-        for (Enemy enemy : gameState.getEnemies()) {
-            if (!enemy.isActive())
-                continue;
+        Player player1 = gameState.getPlayer();
+        Player player2 = gameState.getPlayer2();
+        player1Target.setLocation(player1.getX(), player1.getY());
+        if (player2 != null) {
+            player2Target.setLocation(player2.getX(), player2.getY());
+        }
 
-            enemy.update(deltaTime);
-
-            if (enemy.shouldMove()) {
-                // Determine target based on distance AND liveness
-                Point targetPos = p1Pos;
-                boolean p1Alive = gameState.getPlayer().isAlive();
-                boolean p2Alive = (gameState.getPlayer2() != null && gameState.getPlayer2().isAlive());
-
-                if (p1Alive && !p2Alive) {
-                    targetPos = p1Pos;
-                } else if (!p1Alive && p2Alive) {
-                    targetPos = p2Pos;
-                } else if (p1Alive && p2Alive) {
-                    // Both alive, pick closest
-                    if (p2Pos != null) {
-                        double dist1 = enemy.getPosition().distance(p1Pos.x, p1Pos.y);
-                        double dist2 = enemy.getPosition().distance(p2Pos.x, p2Pos.y);
-                        if (dist2 < dist1) {
-                            targetPos = p2Pos;
-                        }
-                    }
+        // Los temporizadores de todos los enemigos avanzan sobre las columnas
+        // de la tabla; solo los que ya deben moverse pasan a su tipo, en dos
+        // fases. Al planificar, cada uno decide con su propia secuencia
+        // aleatoria y sin cambiar celdas ni hielo, así que el índice de
+        // ocupación queda fijo (hace de instantánea del tablero) y el orden
+        // de planificación no cambia el resultado: con muchos enemigos se
+        // reparten en el pool. Después se aplican en el orden de las filas,
+        // que decide quién se queda una celda disputada.
+        EnemyTable table = gameState.getEnemyTable();
+        table.advance(deltaTime, readyEnemies);
+        if (!readyEnemies.isEmpty()) {
+            table.setPlanning(true);
+            try {
+                if (readyEnemies.size() >= parallelThreshold) {
+                    EnemyPool.INSTANCE.invoke(new PlanTask(0, readyEnemies.size()));
                 } else {
-                    // Both dead, keep default (p1Pos) or stop?
-                    // Game should be over, so it doesn't matter much, but let's default to P1
-                    targetPos = p1Pos;
+                    planEnemies(0, readyEnemies.size());
                 }
-
-                processEnemyMovement(enemy, targetPos, currentLevel, numberOfPlayers);
+            } finally {
+                table.setPlanning(false);
+            }
+            for (int i = 0; i < readyEnemies.size(); i++) {
+                readyEnemies.get(i).commitPlan(collisionDetector);
             }
         }
+        readyEnemies.clear();
 
         if (!gameState.isGameOver()) {
             collisionDetector.checkCollisions();
@@ -363,6 +421,64 @@ public class GameLogic {
         }
     }
 
+    /**
+     * Planifica el movimiento de los enemigos listos en [from, to). Solo
+     * lee el estado compartido y escribe en la fila de cada enemigo.
+     */
+    private void planEnemies(int from, int to) {
+        Player player1 = gameState.getPlayer();
+        Player player2 = gameState.getPlayer2();
+        Point p1Pos = player1Target;
+        Point p2Pos = player2 != null ? player2Target : null;
+        boolean p1Alive = player1.isAlive();
+        boolean p2Alive = (player2 != null && player2.isAlive());
+        int currentLevel = gameState.getLevel();
+        int numberOfPlayers = gameState.getNumberOfPlayers();
+
+        for (int i = from; i < to; i++) {
+            Enemy enemy = readyEnemies.get(i);
+            // Determine target based on distance AND liveness
+            Point targetPos = p1Pos;
+
+            if (p1Alive && !p2Alive) {
+                targetPos = p1Pos;
+            } else if (!p1Alive && p2Alive) {
+                targetPos = p2Pos;
+            } else if (p1Alive && p2Alive) {
+                // Both alive, pick closest
+                if (p2Pos != null) {
+                    // Distancia euclídea al cuadrado: mismo orden sin raíz ni Point
+                    int dist1 = squaredDistance(enemy, p1Pos);
+                    int dist2 = squaredDistance(enemy, p2Pos);
+                    if (dist2 < dist1) {
+                        targetPos = p2Pos;
+                    }
+                }
+            } else {
+                // Both dead, keep default (p1Pos) or stop?
+                // Game should be over, so it doesn't matter much, but let's default to P1
+                targetPos = p1Pos;
+            }
+
+            processEnemyMovement(enemy, targetPos, currentLevel, numberOfPlayers);
+        }
+    }
+
+    /**
+     * Cambia el número de enemigos listos a partir del cual se planifican
+     * en el pool (por defecto {@link #DEFAULT_PARALLEL_THRESHOLD}). El
+     * resultado es el mismo con cualquier valor.
+     */
+    public void setParallelThreshold(int enemies) {
+        this.parallelThreshold = Math.max(1, enemies);
+    }
+
+    private static int squaredDistance(Entity entity, Point target) {
+        int dx = entity.getX() - target.x;
+        int dy = entity.getY() - target.y;
+        return dx * dx + dy * dy;
+    }
+
     /**
      * Procesa el movimiento de un enemigo específico.
      */
@@ -382,10 +498,12 @@ public class GameLogic {
      * Actualiza todas las frutas del juego.
      */
     private void checkPlayerFruitCollision(Player player) {
-        Iterator<Fruit> iterator = gameState.getFruits().iterator();
-        while (iterator.hasNext()) {
-            Fruit fruit = iterator.next();
-            if (fruit.isActive() && !fruit.isCollected() && fruit.getPosition().equals(player.getPosition())) {
+        List<Fruit> fruits = gameState.getFruits();
+        int playerX = player.getX();
+        int playerY = player.getY();
+        for (int i = 0; i < fruits.size(); i++) {
+            Fruit fruit = fruits.get(i);
+            if (fruit.isActive() && !fruit.isCollected() && fruit.isAt(playerX, playerY)) {
 
                 // If player is already dead/dying, ignore lethal collision to prevent infinite
                 // death loop
@@ -398,12 +516,12 @@ public class GameLogic {
 
                 // Normal Collection
                 fruit.collect(); // Sets state to COLLECTED
-                gameState.addScore(fruit.getType().getScore()); // Score is in GameState usually? Or Player?
-                // Checking Player.java will confirm where score is.
-                // If Player has no addScore, GameState likely holds it.
-                // Let's assume GameState.addScore based on previous logic view
-                // (gameState.getScore()).
-                // Wait, logic earlier said player.addScore().
+                // Score is kept in GameState, one counter per player
+                if (player == gameState.getPlayer2()) {
+                    gameState.addScorePlayer2(fruit.getType().getScore());
+                } else {
+                    gameState.addScore(fruit.getType().getScore());
+                }
 
                 // Do NOT remove immediately.
                 // iterator.remove();
@@ -415,9 +533,10 @@ public class GameLogic {
      * Actualiza todas las frutas del juego.
      */
     private void updateFruits(int deltaTime) {
-        Iterator<Fruit> iterator = gameState.getFruits().iterator();
-        while (iterator.hasNext()) {
-            Fruit fruit = iterator.next();
+        // Solo las frutas cuyo temporizador vence en este tick (ver TimingWheel)
+        gameState.wakeTimers(EntityType.FRUIT, deltaTime, woken);
+        for (int i = 0; i < woken.size(); i++) {
+            Fruit fruit = (Fruit) woken.get(i);
             FruitState previousState = fruit.getState();
             fruit.update(deltaTime); // Update state/timers
 
@@ -426,34 +545,29 @@ public class GameLogic {
                     previousState == FruitState.TELEPORT_OUT &&
                     fruit.getState() == FruitState.TELEPORT_IN) {
 
-                Point newPos = findRandomEmptyPosition();
-                if (newPos != null) {
-                    fruit.move(newPos);
-                    domain.BadDopoLogger.logInfo("✓ Cereza teletransportada a " + newPos);
+                int cell = findRandomEmptyCell();
+                if (cell >= 0) {
+                    int gridSize = GameState.getGridSize();
+                    fruit.move(cell / gridSize, cell % gridSize);
+                    if (domain.BadDopoLogger.isInfoEnabled()) {
+                        domain.BadDopoLogger.logInfo("✓ Cereza teletransportada a " + fruit.getPosition());
+                    }
                 }
             }
 
             if (!fruit.isActive()) {
-                iterator.remove();
-                continue;
-            }
-
-            if (fruit.isCollected()) {
-                // If collected, we just wait for it to become inactive (handled inside
-                // Fruit.update eventually? No, I need to add that logic to Fruit or here)
-                // Actually, let's make Fruit handle its own inactivation after animation.
+                gameState.removeFruit(fruit);
                 continue;
             }
+            // Collected fruits wait for Fruit.update to deactivate them after the animation
 
-            if (fruit.isCollected()) {
-                // If collected, we just wait for it to become inactive
-                continue;
-            }
+            gameState.scheduleTimers(fruit);
 
             // PINEAPPLE MOVEMENT WAS REMOVED FROM HERE
             // Moved to moveFruitsAfterPlayerTurn() to sync with player movement
             // as requested by user ("deben moverse cada vez que el jugador se mueve")
         }
+        woken.clear();
     }
 
     /**
@@ -476,18 +590,23 @@ public class GameLogic {
      * Actualiza todos los bloques de hielo del juego.
      */
     public void updateIceBlocks(int deltaTime) {
-        List<IceBlock> toRemove = new ArrayList<>();
-
-        for (IceBlock ice : gameState.getIceBlocks()) {
+        // Solo los bloques que se están rompiendo (el resto no tiene temporizador)
+        gameState.wakeTimers(EntityType.ICE_BLOCK, deltaTime, woken);
+        for (int i = 0; i < woken.size(); i++) {
+            IceBlock ice = (IceBlock) woken.get(i);
             ice.update(deltaTime);
             if (ice.isFullyBroken()) {
-                toRemove.add(ice);
+                brokenIce.add(ice);
+            } else {
+                gameState.scheduleTimers(ice);
             }
         }
+        woken.clear();
 
-        for (IceBlock ice : toRemove) {
-            gameState.removeIceBlock(ice);
+        for (int i = 0; i < brokenIce.size(); i++) {
+            gameState.removeIceBlock(brokenIce.get(i));
         }
+        brokenIce.clear();
     }
 
     // ==================== ACTUALIZACIÓN PRINCIPAL ====================
@@ -499,24 +618,20 @@ public class GameLogic {
         Player player = gameState.getPlayer();
         Player player2 = gameState.getPlayer2();
 
-        player.update(deltaTime);
-        if (player2 != null) {
-            player2.update(deltaTime);
+        // Jugadores cuyo estornudo, patada o muerte termina en este tick
+        gameState.wakeTimers(EntityType.PLAYER, deltaTime, woken);
+        for (int i = 0; i < woken.size(); i++) {
+            Entity woke = woken.get(i);
+            woke.update(deltaTime);
+            gameState.scheduleTimers(woke);
         }
+        woken.clear();
 
         // Actualizar temporizador
         gameState.updateTime(deltaTime);
 
         // Check for wave completion
-        boolean allCollected = true;
-        for (Fruit fruit : gameState.getFruits()) {
-            if (!fruit.isCollected()) {
-                allCollected = false;
-                break;
-            }
-        }
-
-        if (allCollected && !gameState.getPendingFruitWaves().isEmpty()) {
+        if (gameState.isWaveComplete() && !gameState.getPendingFruitWaves().isEmpty()) {
             List<Fruit> nextWave = gameState.getPendingFruitWaves().remove(0);
             for (Fruit fruit : nextWave) {
                 gameState.addFruit(fruit);
@@ -569,13 +684,7 @@ public class GameLogic {
      * Verifica si el jugador ha ganado (todas las frutas recolectadas).
      */
     private void checkVictory() {
-        boolean allFruitsCollected = true;
-        for (Fruit fruit : gameState.getFruits()) {
-            if (!fruit.isCollected()) {
-                allFruitsCollected = false;
-                break;
-            }
-        }
+        boolean allFruitsCollected = gameState.isWaveComplete();
 
         // Fix: Check if game has actually started (time remaining < initial limit)
         // or if we simply check if ANY fruits were ever added.
@@ -606,22 +715,47 @@ public class GameLogic {
      * Encuentra una posición vacía aleatoria en el grid.
      */
     public Point findRandomEmptyPosition() {
+        int cell = findRandomEmptyCell();
+        if (cell < 0)
+            return null;
         int gridSize = GameState.getGridSize();
-        List<Point> emptyPositions = new ArrayList<>();
+        return new Point(cell / gridSize, cell % gridSize);
+    }
 
+    /**
+     * Igual que {@link #findRandomEmptyPosition()} pero sin reservar memoria:
+     * cuenta las celdas libres y toma la k-ésima con una sola tirada, en el
+     * mismo orden (columna a columna), así que el resultado con una semilla
+     * no cambia.
+     *
+     * @return Celda como x * tamaño + y, o -1 si no hay ninguna libre
+     */
+    private int findRandomEmptyCell() {
+        int gridSize = GameState.getGridSize();
+        int count = 0;
         for (int x = 0; x < gridSize; x++) {
             for (int y = 0; y < gridSize; y++) {
-                Point pos = new Point(x, y);
-                if (collisionDetector.isPositionFree(pos) && !isHotTile(pos)) {
-                    emptyPositions.add(pos);
+                if (isEmptyCell(x, y)) {
+                    count++;
                 }
             }
         }
+        if (count == 0)
+            return -1;
 
-        if (emptyPositions.isEmpty())
-            return null;
+        int k = random.nextInt(count);
+        for (int x = 0; x < gridSize; x++) {
+            for (int y = 0; y < gridSize; y++) {
+                if (isEmptyCell(x, y) && k-- == 0) {
+                    return x * gridSize + y;
+                }
+            }
+        }
+        return -1;
+    }
 
-        return emptyPositions.get(random.nextInt(emptyPositions.size()));
+    private boolean isEmptyCell(int x, int y) {
+        return collisionDetector.isPositionFree(x, y) && !collisionDetector.hasHotTileAt(x, y);
     }
 
     // ==================== HOT TILE VALIDATION ====================
@@ -633,11 +767,46 @@ public class GameLogic {
      * @return true si hay una baldosa caliente en esa posición
      */
     private boolean isHotTile(Point position) {
-        for (HotTile tile : gameState.getHotTiles()) {
-            if (tile.getPosition().equals(position)) {
-                return true;
+        return collisionDetector.hasHotTileAt(position);
+    }
+
+    /**
+     * Planificación de un tramo de enemigos listos; se divide hasta
+     * PLAN_CHUNK.
+     */
+    private final class PlanTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        PlanTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PLAN_CHUNK) {
+                planEnemies(from, to);
+                return;
             }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PlanTask(from, mid), new PlanTask(mid, to));
         }
-        return false;
+    }
+
+    /**
+     * Pool fork/join compartido por todas las partidas (se crea al primer uso).
+     */
+    private static final class EnemyPool {
+        private static final ForkJoinPool INSTANCE = new ForkJoinPool(
+                Math.max(1, Runtime.getRuntime().availableProcessors()), pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("BadDopo-Enemies-" + thread.getPoolIndex());
+                    thread.setDaemon(true);
+                    return thread;
+                }, null, false);
     }
 }
@@ -0,0 +1,75 @@
+package domain.service;
+
+import domain.state.GameState;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Códec binario versionado del estado del juego.
+ * Sustituye la serialización de Java en los guardados: no escribe nombres
+ * de clase, UUIDs ni objetos Random, sino solo los campos de estado, con
+ * el estado de la secuencia aleatoria de cada enemigo (ver
+ * {@link GameState#writeState(java.io.DataOutput)}).
+ *
+ * Formato: "BDGS" + versión (1 byte) + estado.
+ */
+public class GameStateCodec {
+
+    private static final int MAGIC = 0x42444753; // "BDGS"
+    private static final int VERSION = 2;
+
+    /**
+     * Codifica el estado en un arreglo de bytes.
+     *
+     * @param gameState Estado a codificar
+     * @return Bytes del guardado
+     */
+    public byte[] encode(GameState gameState) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            gameState.writeState(out);
+        } catch (IOException e) {
+            // ByteArrayOutputStream no lanza IOException
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodifica un guardado binario.
+     *
+     * @param data Bytes leídos del archivo
+     * @return Estado reconstruido
+     * @throws IOException si no es un guardado binario o está corrupto
+     */
+    public GameState decode(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("No es un guardado binario");
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Versión de guardado no soportada: " + version);
+            }
+            return GameState.readState(in);
+        } catch (RuntimeException e) {
+            // Datos corruptos que pasan las comprobaciones de formato
+            throw new IOException("Guardado binario corrupto", e);
+        }
+    }
+
+    /**
+     * Indica si los bytes empiezan con la cabecera del formato binario
+     * (los guardados antiguos empiezan con la de ObjectOutputStream).
+     */
+    public boolean isBinarySave(byte[] data) {
+        return data.length >= 4 && ((data[0] & 0xFF) << 24 | (data[1] & 0xFF) << 16 | (data[2] & 0xFF) << 8
+                | (data[3] & 0xFF)) == MAGIC;
+    }
+}
@@ -0,0 +1,403 @@
+package domain.service;
+
+import domain.BadDopoLogger;
+import domain.dto.LevelConfigurationDTO;
+import domain.dto.LevelDataDTO;
+import domain.entity.AIType;
+import domain.entity.Fruit;
+import domain.entity.FruitType;
+import domain.entity.HotTile;
+import domain.entity.Player;
+import domain.state.GameState;
+import exceptions.BadDopoException;
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Servicio que prepara una partida nueva: crea el GameState con sus
+ * jugadores y coloca el mapa y las entidades del nivel.
+ *
+ * Lo usan la fachada y el reproductor de repeticiones, de modo que ambos
+ * consumen el Random de la partida exactamente en el mismo orden.
+ */
+public class LevelSetupService {
+
+    private final MapLoaderService mapLoaderService;
+    private final MapParserService mapParserService;
+
+    public LevelSetupService() {
+        this.mapLoaderService = new MapLoaderService();
+        this.mapParserService = new MapParserService();
+    }
+
+    // ==================== CREACIÓN DEL ESTADO ====================
+
+    /**
+     * Crea el estado de una partida nueva, sin nivel cargado.
+     *
+     * @param characterType   Tipo de personaje de P1
+     * @param characterTypeP2 Tipo de personaje de P2 (o null para el de defecto)
+     * @param p1Name          Nombre de P1
+     * @param p2Name          Nombre de P2
+     * @param level           Nivel a jugar
+     * @param numberOfPlayers Número de jugadores (0=IA vs IA, 1=1P, 2=2P)
+     * @param aiTypeP1        Tipo de IA para P1 (String)
+     * @param aiTypeP2        Tipo de IA para P2 (String)
+     * @param isP2CPU         Si P2 lo controla la máquina
+     * @param seed            Semilla de la partida (o null para una aleatoria)
+     * @return Estado nuevo
+     */
+    public GameState createGameState(String characterType, String characterTypeP2, String p1Name, String p2Name,
+            int level, int numberOfPlayers, String aiTypeP1, String aiTypeP2, boolean isP2CPU, Long seed) {
+        GameState gameState = (seed != null)
+                ? new GameState(characterType, level, numberOfPlayers, seed)
+                : new GameState(characterType, level, numberOfPlayers);
+        gameState.setP2CPU(isP2CPU);
+
+        // Convert Strings to Enums
+        AIType type1 = parseAIType(aiTypeP1);
+        AIType type2 = parseAIType(aiTypeP2);
+
+        // Set Player 2 character type if applicable
+        if (gameState.getPlayer2() != null && characterTypeP2 != null) {
+            Point pos = gameState.getPlayer2().getPosition();
+            gameState.setPlayer2(new Player(pos, characterTypeP2));
+        }
+
+        // Set AI Types
+        if (numberOfPlayers == 0) {
+            // Machine vs Machine
+            if (gameState.getPlayer() != null)
+                gameState.getPlayer().setAIType(type1);
+            if (gameState.getPlayer2() != null)
+                gameState.getPlayer2().setAIType(type2);
+        } else if (numberOfPlayers == 2 && isP2CPU) {
+            // Player 1 vs Machine
+            if (gameState.getPlayer2() != null) {
+                gameState.getPlayer2().setAIType(type2 != null ? type2 : AIType.EXPERT);
+            }
+        }
+
+        gameState.setPlayerNames(p1Name, p2Name);
+        return gameState;
+    }
+
+    /**
+     * Parsea un String a AIType de forma segura.
+     */
+    private AIType parseAIType(String typeName) {
+        if (typeName == null)
+            return null; // Allow null to mean "no change" or "default" depending on context
+        try {
+            return AIType.valueOf(typeName);
+        } catch (IllegalArgumentException e) {
+            BadDopoLogger.logError("Invalid AI Type: " + typeName + ", default to EXPERT", e);
+            return AIType.EXPERT;
+        }
+    }
+
+    /**
+     * Sustituye frutas, enemigos y baldosas calientes por los de la
+     * configuración, conservando el mapa (muros, hielo e iglú).
+     *
+     * @param gameState Estado de la partida
+     * @param config    Configuración a aplicar
+     */
+    public void applyConfiguration(GameState gameState, LevelConfigurationDTO config) {
+        gameState.clearFruits();
+
+        // Clear pending waves as well
+        if (gameState.getPendingFruitWaves() != null) {
+            gameState.getPendingFruitWaves().clear();
+        }
+
+        gameState.clearEnemies();
+        gameState.clearHotTiles();
+
+        // Setup entities again based on configuration
+        spawnDynamicEntities(gameState, config);
+    }
+
+    // ==================== INICIALIZACIÓN DE NIVELES ====================
+
+    /**
+     * Inicializa el nivel especificado: con la configuración dada, o desde
+     * JSON si no hay configuración.
+     *
+     * @param gameState       Estado recién creado
+     * @param level           Nivel a jugar
+     * @param numberOfPlayers Número de jugadores
+     * @param config          Configuración del nivel (o null)
+     */
+    public void initializeLevel(GameState gameState, int level, int numberOfPlayers, LevelConfigurationDTO config) {
+        if (config != null) {
+            initializeLevelWithConfig(gameState, level, numberOfPlayers, config);
+        } else {
+            initializeLevelFromJSON(gameState, level, numberOfPlayers);
+        }
+    }
+
+    /**
+     * Initialize level with custom configuration.
+     */
+    private void initializeLevelWithConfig(GameState gameState, int level, int numberOfPlayers,
+            LevelConfigurationDTO config) {
+        try {
+            BadDopoLogger.logInfo(
+                    "Iniciando nivel " + level + " con " + numberOfPlayers + " jugadores y config personalizada.");
+
+            // 1. Setup Base Map Structure (Walls, Ice, Iglu) - Now from JSON
+            setupMapStructure(gameState, level, numberOfPlayers);
+
+            // 2. Spawn Configured Entities (Fruits, Enemies, HotTiles)
+            // Use legacy method for backward compatibility
+            spawnDynamicEntities(gameState, config);
+
+        } catch (BadDopoException e) {
+            BadDopoLogger.logError("Error al inicializar el nivel: " + e.getMessage(), e);
+        } catch (Exception e) {
+            BadDopoLogger.logError("Error inesperado al inicializar el nivel", e);
+        }
+    }
+
+    /**
+     * Initialize level using JSON configuration (new method).
+     */
+    private void initializeLevelFromJSON(GameState gameState, int level, int numberOfPlayers) {
+        try {
+            BadDopoLogger.logInfo("Iniciando nivel " + level + " desde JSON con " + numberOfPlayers + " jugadores.");
+
+            // Load level data from JSON
+            LevelDataDTO levelData = mapLoaderService.loadLevel(level);
+
+            // 1. Setup Map Structure from JSON
+            mapParserService.applyMapLayout(gameState, levelData.getMapLayout(), numberOfPlayers);
+
+            // 2. Spawn Dynamic Entities from JSON
+            spawnDynamicEntitiesFromJSON(levelData);
+
+            BadDopoLogger.logInfo("Nivel " + level + " inicializado completamente desde JSON");
+
+        } catch (BadDopoException e) {
+            BadDopoLogger.logError("Error al inicializar el nivel desde JSON: " + e.getMessage(), e);
+        } catch (Exception e) {
+            BadDopoLogger.logError("Error inesperado al inicializar el nivel desde JSON", e);
+        }
+    }
+
+    /**
+     * Sets up the static map elements (Walls, Iglu, Default Ice) based on Level ID.
+     * Now loads from JSON instead of hardcoded methods.
+     */
+    private void setupMapStructure(GameState gameState, int level, int numberOfPlayers) throws BadDopoException {
+        try {
+            LevelDataDTO levelData = mapLoaderService.loadLevel(level);
+            mapParserService.applyMapLayout(gameState, levelData.getMapLayout(), numberOfPlayers);
+            BadDopoLogger.logInfo("Estructura del mapa nivel " + level + " cargada desde JSON");
+        } catch (BadDopoException e) {
+            BadDopoLogger.logError("Error cargando estructura del mapa desde JSON: " + e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Spawns entities based on the configuration from JSON.
+     */
+    private void spawnDynamicEntities(GameState gameState, LevelConfigurationDTO config) {
+        // Legacy method - convert to use JSON if available
+        // This is called when using old constructor without JSON
+
+        // 1. Spawn Fruits (Ordered Waves)
+        Map<FruitType, Integer> counts = new java.util.EnumMap<>(FruitType.class);
+        for (Map.Entry<String, Integer> entry : config.getFruitCounts().entrySet()) {
+            try {
+                FruitType type = FruitType.valueOf(entry.getKey());
+                counts.put(type, entry.getValue());
+            } catch (IllegalArgumentException e) {
+                BadDopoLogger.logError("Unknown Fruit Type in Config: " + entry.getKey(), e);
+            }
+        }
+
+        // Define strict wave order
+        FruitType[] waveOrder = { FruitType.UVA, FruitType.PLATANO, FruitType.PIÑA, FruitType.CACTUS,
+                FruitType.CEREZA };
+
+        // Populate Pending Waves
+        for (FruitType type : waveOrder) {
+            if (counts.containsKey(type)) {
+                int count = counts.get(type);
+                if (count > 0) {
+                    List<Fruit> wave = new ArrayList<>();
+                    for (int i = 0; i < count; i++) {
+                        Point position = findFreePosition(gameState);
+                        if (position != null) {
+                            wave.add(new Fruit(position, type, gameState.getRandom()));
+                        }
+                    }
+                    if (!wave.isEmpty()) {
+                        gameState.addPendingFruitWave(wave);
+                    }
+                }
+            }
+        }
+
+        // Spawn First Wave Immediately
+        if (!gameState.getPendingFruitWaves().isEmpty()) {
+            List<Fruit> firstWave = gameState.getPendingFruitWaves().remove(0);
+            for (Fruit f : firstWave) {
+                gameState.addFruit(f);
+            }
+        }
+
+        // 2. Spawn Enemies
+        for (Map.Entry<String, Integer> entry : config.getEnemyCounts().entrySet()) {
+            String enemyTypeStr = entry.getKey();
+            int count = entry.getValue();
+            try {
+                // Simple validation - try to create one dummy (or just rely on factory throw)
+                // Better: just spawn. Factory throws if invalid.
+                for (int i = 0; i < count; i++) {
+                    spawnEnemy(gameState, enemyTypeStr);
+                }
+            } catch (IllegalArgumentException e) {
+                BadDopoLogger.logError("Unknown Enemy Type in Config: " + enemyTypeStr, e);
+            }
+        }
+
+        // 3. Spawn Hot Tiles
+        initializeHotTiles(gameState, config.getHotTileCount());
+    }
+
+    /**
+     * Spawns entities based on LevelDataDTO from JSON.
+     * TEMPORARILY DISABLED - Only loading map structure
+     */
+    private void spawnDynamicEntitiesFromJSON(LevelDataDTO levelData) {
+        // DISABLED: Only loading map, not entities
+        /*
+         * // 1. Spawn Fruits from JSON waves
+         * if (levelData.getFruitConfig() != null) {
+         * for (FruitWaveDTO wave : levelData.getFruitConfig().getWaves()) {
+         * List<Fruit> fruitWave = new ArrayList<>();
+         * 
+         * for (FruitSpawnDTO fruitSpawn : wave.getFruits()) {
+         * try {
+         * FruitType type = FruitType.valueOf(fruitSpawn.getType());
+         * int count = fruitSpawn.getCount();
+         * 
+         * for (int i = 0; i < count; i++) {
+         * Point position = findFreePosition();
+         * if (position != null) {
+         * fruitWave.add(new Fruit(position, type));
+         * }
+         * }
+         * } catch (IllegalArgumentException e) {
+         * BadDopoLogger.logError("Unknown Fruit Type in JSON: " + fruitSpawn.getType(),
+         * e);
+         * }
+         * }
+         * 
+         * if (!fruitWave.isEmpty()) {
+         * if (wave.isSpawnOnStart()) {
+         * // Spawn immediately
+         * for (Fruit f : fruitWave) {
+         * gameState.addFruit(f);
+         * }
+         * } else {
+         * // Add to pending waves
+         * gameState.addPendingFruitWave(fruitWave);
+         * }
+         * }
+         * }
+         * }
+         * 
+         * // 2. Spawn Enemies from JSON
+         * if (levelData.getEnemyConfig() != null) {
+         * for (EnemySpawnDTO enemySpawn : levelData.getEnemyConfig().getTypes()) {
+         * try {
+         * EnemyType type = EnemyType.valueOf(enemySpawn.getType());
+         * int count = enemySpawn.getCount();
+         * 
+         * for (int i = 0; i < count; i++) {
+         * spawnEnemy(type);
+         * }
+         * } catch (IllegalArgumentException e) {
+         * BadDopoLogger.logError("Unknown Enemy Type in JSON: " + enemySpawn.getType(),
+         * e);
+         * }
+         * }
+         * }
+         */
+
+        BadDopoLogger.logInfo("Mapa cargado desde JSON (entidades deshabilitadas temporalmente)");
+    }
+
+    // Helper for Spawning specific enemy type
+    private void spawnEnemy(GameState gameState, String type) {
+        Point position = findFreePosition(gameState);
+        if (position != null) {
+            domain.entity.enemy.Enemy enemy = domain.entity.enemy.EnemyFactory.createEnemy(position, type,
+                    gameState.getRandom());
+            gameState.addEnemy(enemy);
+        }
+    }
+
+    /**
+     * Finds a random free position in the grid (not occupied by walls, ice, etc).
+     */
+    private Point findFreePosition(GameState gameState) {
+        java.util.Random random = gameState.getRandom();
+        int attempts = 0;
+        while (attempts < 100) {
+            int x = random.nextInt(GameState.getGridSize());
+            int y = random.nextInt(GameState.getGridSize());
+            Point p = new Point(x, y);
+
+            // Check collision with walls, iglu, ice, other entities
+            // For simplicity, checking if GameState says it's empty
+            // But GameState might not have a unified "isOccupied" for strictly spawning.
+            // We'll check basic constraints.
+
+            if (gameState.getIglu() != null && gameState.getIglu().collidesWith(p))
+                continue;
+            if (isWall(p))
+                continue;
+            if (hasIceAt(gameState, p))
+                continue;
+            if (hasHotTileAt(gameState, p))
+                continue;
+            // Check fruits/enemies? Ideally yes, but for now simple check.
+
+            return p;
+        }
+        return null;
+    }
+
+    private boolean isWall(Point p) {
+        // Simple border check if walls are only borders
+        int s = GameState.getGridSize();
+        return p.x == 0 || p.x == s - 1 || p.y == 0 || p.y == s - 1;
+        // Also check Unbreakable blocks list if needed.
+    }
+
+    private void initializeHotTiles(GameState gameState, int count) {
+        for (int i = 0; i < count; i++) {
+            Point pos = findFreePosition(gameState);
+            if (pos != null) {
+                gameState.addHotTile(new HotTile(pos));
+            }
+        }
+    }
+
+    // --- Helper Methods for Entity Management and Collision ---
+
+    private boolean hasIceAt(GameState gameState, Point p) {
+        return gameState.getOccupancy().hasIce(p.x, p.y);
+    }
+
+    private boolean hasHotTileAt(GameState gameState, Point p) {
+        return gameState.getOccupancy().hasHotTile(p.x, p.y);
+    }
+}
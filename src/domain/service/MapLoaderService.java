@@ -228,6 +228,32 @@ public class MapLoaderService {
         BadDopoLogger.logInfo("Validación de nivel " + data.getLevelId() + " exitosa");
     }
 
+    /**
+     * Obtiene los IDs de los niveles disponibles en Resources/levels
+     * (archivos level_N.json), ordenados de menor a mayor.
+     *
+     * @return Lista de IDs de nivel
+     */
+    public List<Integer> getAvailableLevelIds() {
+        List<Integer> ids = new ArrayList<>();
+        try (java.nio.file.DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(LEVELS_PATH),
+                "level_*.json")) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                String number = name.substring("level_".length(), name.length() - ".json".length());
+                try {
+                    ids.add(Integer.parseInt(number));
+                } catch (NumberFormatException e) {
+                    BadDopoLogger.logError("Nombre de nivel inválido: " + name, e);
+                }
+            }
+        } catch (IOException e) {
+            BadDopoLogger.logError("No se pudo listar el directorio de niveles", e);
+        }
+        java.util.Collections.sort(ids);
+        return ids;
+    }
+
     /**
      * Limpia la caché de niveles (útil para testing o recarga).
      */
@@ -40,9 +40,9 @@ public class MapParserService {
         }
 
         // Limpiar estado actual
-        state.getIceBlocks().clear();
-        state.getHotTiles().clear();
-        state.getUnbreakableBlocks().clear();
+        state.clearIceBlocks();
+        state.clearHotTiles();
+        state.clearUnbreakableBlocks();
 
         BadDopoLogger.logInfo("Parseando mapa de " + grid.length + "x" + grid[0].length);
 
@@ -2,27 +2,75 @@ package domain.service;
 
 import exceptions.BadDopoException;
 import domain.BadDopoLogger;
+import domain.dto.SaveMetadataDTO;
 import domain.state.GameState;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Servicio de persistencia para guardar y cargar partidas.
+ * Las partidas se guardan con {@link GameStateCodec}; los archivos .dat
+ * antiguos (serialización de Java) se siguen pudiendo cargar.
+ *
+ * Todas las escrituras son atómicas (archivo temporal, fsync y renombrado),
+ * de modo que un fallo a mitad de guardado nunca deja un archivo corrupto.
  */
 public class PersistenceService {
 
-    private static final String SAVE_DIRECTORY = "saves";
+    private static final String DEFAULT_SAVE_DIRECTORY = "saves";
     private static final String SAVE_EXTENSION = ".dat";
+    private static final String AUTOSAVE_FILE = "autosave" + SAVE_EXTENSION;
+    private static final String JOURNAL_FILE = "autosave.journal";
+    private static final String INDEX_FILE = "index.bdi";
+
+    private final GameStateCodec codec = new GameStateCodec();
+    private final Path saveDirectory;
+    private final SaveIndex saveIndex;
+
+    // Guardados asíncronos pendientes por archivo de destino (se fusionan)
+    private final ConcurrentHashMap<Path, PendingSave> pendingSaves = new ConcurrentHashMap<>();
+
+    // Autoguardado (checkpoint + diario); solo lo usa el hilo del juego
+    private AutosaveJournal journal;
+    private GameState autosaveState;
+    private long checkpointInterval;
+    private long journalInterval;
+    private long lastCheckpointTime;
+    private long lastJournalTime;
+    // Lo marca el hilo de guardado si falla una escritura del diario
+    private volatile boolean checkpointNeeded;
 
     public PersistenceService() {
+        this(Paths.get(DEFAULT_SAVE_DIRECTORY));
+    }
+
+    /**
+     * @param saveDirectory Directorio de los guardados, su índice y el
+     *                      autoguardado
+     */
+    public PersistenceService(Path saveDirectory) {
+        this.saveDirectory = saveDirectory;
+        this.saveIndex = new SaveIndex(saveDirectory, saveDirectory.resolve(INDEX_FILE), SAVE_EXTENSION,
+                this::readQuietly);
         createSaveDirectory();
     }
 
@@ -31,9 +79,8 @@ public class PersistenceService {
      */
     private void createSaveDirectory() {
         try {
-            Path path = Paths.get(SAVE_DIRECTORY);
-            if (!Files.exists(path)) {
-                Files.createDirectories(path);
+            if (!Files.exists(saveDirectory)) {
+                Files.createDirectories(saveDirectory);
             }
         } catch (IOException e) {
             BadDopoLogger.logError("Error al crear directorio de guardado", e);
@@ -51,7 +98,7 @@ public class PersistenceService {
     public String saveGame(GameState gameState) throws BadDopoException {
         String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
         String filename = "save_" + timestamp + SAVE_EXTENSION;
-        Path path = Paths.get(SAVE_DIRECTORY, filename);
+        Path path = saveDirectory.resolve(filename);
         return saveGame(gameState, path.toFile());
     }
 
@@ -64,8 +111,10 @@ public class PersistenceService {
      * @throws BadDopoException Si hay error al guardar
      */
     public String saveGame(GameState gameState, File file) throws BadDopoException {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file))) {
-            oos.writeObject(gameState);
+        try {
+            writeAtomically(file.toPath(), codec.encode(gameState));
+            saveIndex.update(file.toPath(),
+                    SaveIndex.describe(file.getName(), gameState, System.currentTimeMillis()));
             BadDopoLogger.logInfo("Partida guardada exitosamente: " + file.getName());
             return file.getName();
         } catch (IOException e) {
@@ -73,6 +122,270 @@ public class PersistenceService {
         }
     }
 
+    // ==================== GUARDADO ASÍNCRONO ====================
+
+    /**
+     * Guarda la partida sin bloquear al hilo que llama.
+     * El estado se codifica en el momento (copia consistente y barata) y la
+     * escritura a disco se hace en el hilo de guardado. Si llegan varias
+     * peticiones para el mismo archivo antes de que se escriba, solo se
+     * escribe la más reciente y se avisa a todos los oyentes.
+     *
+     * @param gameState Estado a guardar (debe llamarse desde el hilo del juego)
+     * @param file      Archivo de destino
+     * @param listener  Oyente del resultado (puede ser null)
+     */
+    public void saveGameAsync(GameState gameState, File file, SaveListener listener) {
+        byte[] data = codec.encode(gameState);
+        SaveMetadataDTO metadata = SaveIndex.describe(file.getName(), gameState, System.currentTimeMillis());
+        Path target = file.toPath().toAbsolutePath();
+        boolean[] schedule = { false };
+
+        pendingSaves.compute(target, (key, previous) -> {
+            if (previous != null) {
+                synchronized (previous) {
+                    if (!previous.taken) {
+                        previous.data = data;
+                        previous.metadata = metadata;
+                        previous.listeners.add(listener);
+                        return previous;
+                    }
+                }
+            }
+            // No hay petición o la anterior ya se está escribiendo: va detrás
+            schedule[0] = true;
+            return new PendingSave(data, metadata, listener);
+        });
+        if (schedule[0]) {
+            SaveExecutor.INSTANCE.execute(() -> writePending(target));
+        }
+    }
+
+    // ==================== AUTOGUARDADO ====================
+
+    /**
+     * Activa el autoguardado: un checkpoint completo cada
+     * checkpointIntervalMs de juego y, entre checkpoints, una entrada de
+     * diario con los cambios cada journalIntervalMs.
+     */
+    public void enableAutosave(long checkpointIntervalMs, long journalIntervalMs) {
+        this.journal = new AutosaveJournal(codec);
+        this.autosaveState = null;
+        this.checkpointInterval = checkpointIntervalMs;
+        this.journalInterval = journalIntervalMs;
+    }
+
+    public void disableAutosave() {
+        this.journal = null;
+        this.autosaveState = null;
+    }
+
+    public boolean isAutosaveEnabled() {
+        return journal != null;
+    }
+
+    /**
+     * Registra el estado actual si toca. Se llama desde el hilo del juego
+     * tras avanzar la simulación; la codificación se hace aquí y la escritura
+     * en el hilo de guardado.
+     *
+     * @param gameState Estado actual (un estado distinto fuerza un checkpoint)
+     * @param gameTime  Tiempo de juego simulado en milisegundos
+     */
+    public void autosave(GameState gameState, long gameTime) {
+        if (journal == null) {
+            return;
+        }
+        Path checkpointPath = saveDirectory.resolve(AUTOSAVE_FILE).toAbsolutePath();
+        Path journalPath = saveDirectory.resolve(JOURNAL_FILE).toAbsolutePath();
+
+        // Sin el diario en disco los deltas no tendrían base: se empieza otro checkpoint
+        if (gameState != autosaveState || gameTime - lastCheckpointTime >= checkpointInterval
+                || gameTime < lastCheckpointTime || checkpointNeeded) {
+            checkpointNeeded = false;
+            byte[] checkpoint = journal.encodeCheckpoint(gameState);
+            byte[] header = journal.encodeJournalHeader();
+            SaveMetadataDTO metadata = SaveIndex.describe(AUTOSAVE_FILE, gameState, System.currentTimeMillis());
+            autosaveState = gameState;
+            lastCheckpointTime = gameTime;
+            lastJournalTime = gameTime;
+            SaveExecutor.INSTANCE.execute(() -> {
+                try {
+                    // Primero el checkpoint: si se corta aquí, el diario viejo no coincide y se ignora
+                    writeAtomically(checkpointPath, checkpoint);
+                    writeAtomically(journalPath, header);
+                    saveIndex.update(checkpointPath, metadata);
+                } catch (IOException e) {
+                    checkpointNeeded = true;
+                    BadDopoLogger.logError("Error al escribir el checkpoint de autoguardado", e);
+                }
+            });
+        } else if (gameTime - lastJournalTime >= journalInterval) {
+            byte[] entry = journal.encodeDelta(gameState, gameTime);
+            lastJournalTime = gameTime;
+            SaveExecutor.INSTANCE.execute(() -> {
+                if (checkpointNeeded) {
+                    return; // El diario ya no sigue al checkpoint: se espera al siguiente
+                }
+                try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND)) {
+                    ByteBuffer buffer = ByteBuffer.wrap(entry);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(false);
+                } catch (IOException e) {
+                    // Sin diario (borrado o checkpoint fallido) el siguiente autoguardado reescribe ambos
+                    checkpointNeeded = true;
+                    BadDopoLogger.logError("Error al escribir el diario de autoguardado", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Carga el autoguardado: el último checkpoint más las entradas de su
+     * diario.
+     *
+     * @return Estado recuperado
+     * @throws BadDopoException si no hay autoguardado o no se puede leer
+     */
+    public GameState loadAutosave() throws BadDopoException {
+        Path checkpointPath = saveDirectory.resolve(AUTOSAVE_FILE);
+        Path journalPath = saveDirectory.resolve(JOURNAL_FILE);
+        if (!Files.exists(checkpointPath)) {
+            throw BadDopoException.saveFileNotFound(AUTOSAVE_FILE);
+        }
+        try {
+            byte[] checkpoint = Files.readAllBytes(checkpointPath);
+            byte[] entries = Files.exists(journalPath) ? Files.readAllBytes(journalPath) : null;
+            GameState gameState = new AutosaveJournal(codec).restore(checkpoint, entries);
+            BadDopoLogger.logInfo("Autoguardado recuperado");
+            return gameState;
+        } catch (IOException e) {
+            throw BadDopoException.loadError(e.getMessage());
+        }
+    }
+
+    /**
+     * Espera a que terminen los guardados asíncronos encolados hasta ahora.
+     *
+     * @param timeoutMillis Tiempo máximo de espera
+     * @return true si terminaron a tiempo
+     */
+    public boolean awaitPendingSaves(long timeoutMillis) throws InterruptedException {
+        java.util.concurrent.CountDownLatch done = new java.util.concurrent.CountDownLatch(1);
+        SaveExecutor.INSTANCE.execute(done::countDown);
+        return done.await(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void writePending(Path target) {
+        PendingSave save = pendingSaves.get(target);
+        if (save == null) {
+            return;
+        }
+        byte[] data;
+        SaveMetadataDTO metadata;
+        synchronized (save) {
+            save.taken = true;
+            data = save.data;
+            metadata = save.metadata;
+        }
+        pendingSaves.remove(target, save);
+
+        String name = target.getFileName().toString();
+        try {
+            writeAtomically(target, data);
+            saveIndex.update(target, metadata);
+            BadDopoLogger.logInfo("Partida guardada exitosamente: " + name);
+            for (SaveListener listener : save.listeners) {
+                if (listener != null) {
+                    listener.onSaveCompleted(name);
+                }
+            }
+        } catch (IOException e) {
+            BadDopoException error = BadDopoException.saveError(e.getMessage());
+            BadDopoLogger.logError("Error en guardado asíncrono: " + name, e);
+            for (SaveListener listener : save.listeners) {
+                if (listener != null) {
+                    listener.onSaveFailed(error);
+                }
+            }
+        }
+    }
+
+    /**
+     * Escribe el archivo de forma atómica: temporal en el mismo directorio,
+     * fsync y renombrado sobre el destino.
+     *
+     * El temporal se crea con los permisos por defecto del proceso (umask),
+     * como un FileOutputStream, y si el destino ya existe se le copian los
+     * suyos: el renombrado no cambia los permisos del guardado.
+     */
+    static void writeAtomically(Path target, byte[] data) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path temp;
+        FileChannel channel;
+        while (true) {
+            temp = dir.resolve(target.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong())
+                    + ".tmp");
+            try {
+                channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                break;
+            } catch (FileAlreadyExistsException e) {
+                // Otro nombre
+            }
+        }
+        try {
+            try (FileChannel out = channel) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                out.force(true);
+            }
+            PosixFileAttributeView targetView = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+            if (targetView != null && Files.exists(target)) {
+                Files.setPosixFilePermissions(temp, targetView.readAttributes().permissions());
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Petición de guardado pendiente. Protegida por su propio monitor.
+     */
+    private static final class PendingSave {
+        private byte[] data;
+        private SaveMetadataDTO metadata;
+        private final List<SaveListener> listeners = new ArrayList<>();
+        private boolean taken;
+
+        PendingSave(byte[] data, SaveMetadataDTO metadata, SaveListener listener) {
+            this.data = data;
+            this.metadata = metadata;
+            this.listeners.add(listener);
+        }
+    }
+
+    /**
+     * Hilo único de guardado compartido (se crea al primer uso).
+     */
+    private static final class SaveExecutor {
+        private static final ExecutorService INSTANCE = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "BadDopo-Save");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     /**
      * Carga una partida guardada.
      *
@@ -81,34 +394,86 @@ public class PersistenceService {
      * @throws BadDopoException Si hay error al cargar
      */
     public GameState loadGame(String filename) throws BadDopoException {
-        Path path = Paths.get(SAVE_DIRECTORY, filename);
+        if (AUTOSAVE_FILE.equals(filename)) {
+            return loadAutosave();
+        }
+        Path path = saveDirectory.resolve(filename);
         if (!Files.exists(path)) {
             throw BadDopoException.saveFileNotFound(filename);
         }
 
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(path.toFile()))) {
-            GameState gameState = (GameState) ois.readObject();
+        try {
+            byte[] data = Files.readAllBytes(path);
+            GameState gameState = codec.isBinarySave(data) ? codec.decode(data) : loadLegacy(data);
             BadDopoLogger.logInfo("Partida cargada exitosamente: " + filename);
             return gameState;
-        } catch (IOException | ClassNotFoundException e) {
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
             throw BadDopoException.loadError(e.getMessage());
         }
     }
 
+    /**
+     * Lee un guardado en el formato anterior (serialización de Java).
+     */
+    private GameState loadLegacy(byte[] data) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            return (GameState) ois.readObject();
+        }
+    }
+
+    /**
+     * Lee un guardado para indexarlo; devuelve null si no se puede leer.
+     */
+    private GameState readQuietly(Path path) {
+        try {
+            byte[] data = Files.readAllBytes(path);
+            return codec.isBinarySave(data) ? codec.decode(data) : loadLegacy(data);
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            BadDopoLogger.logError("No se pudo indexar el guardado: " + path.getFileName(), e);
+            return null;
+        }
+    }
+
     /**
      * Obtiene la lista de partidas guardadas disponibles.
      *
      * @return Lista de nombres de archivos
      */
     public List<String> getSavedGames() {
-        try (Stream<Path> walk = Files.walk(Paths.get(SAVE_DIRECTORY))) {
-            return walk.filter(Files::isRegularFile)
-                    .map(x -> x.getFileName().toString())
-                    .filter(f -> f.endsWith(SAVE_EXTENSION))
-                    .collect(Collectors.toList());
+        return getSaveMetadata().stream().map(SaveMetadataDTO::getFilename).collect(Collectors.toList());
+    }
+
+    /**
+     * Obtiene el resumen de cada partida guardada desde el índice, ordenado
+     * por nombre. Solo se abren los guardados que no estaban indexados.
+     *
+     * @return Resúmenes de las partidas guardadas
+     */
+    public List<SaveMetadataDTO> getSaveMetadata() {
+        return saveIndex.list();
+    }
+
+    /**
+     * Borra una partida guardada y su entrada del índice. Al borrar el
+     * autoguardado también se borra su diario.
+     *
+     * @param filename Nombre del archivo
+     * @throws BadDopoException si no existe o no se puede borrar
+     */
+    public void deleteSave(String filename) throws BadDopoException {
+        Path path = saveDirectory.resolve(filename);
+        try {
+            if (!Files.deleteIfExists(path)) {
+                throw BadDopoException.saveFileNotFound(filename);
+            }
+            if (AUTOSAVE_FILE.equals(filename)) {
+                Files.deleteIfExists(saveDirectory.resolve(JOURNAL_FILE));
+            }
         } catch (IOException e) {
-            BadDopoLogger.logError("Error al listar partidas guardadas", e);
-            return new ArrayList<>();
+            throw BadDopoException.deleteError(filename, e);
+        } finally {
+            saveIndex.remove(filename);
         }
+        BadDopoLogger.logInfo("Partida borrada: " + filename);
     }
 }
@@ -0,0 +1,121 @@
+package domain.service;
+
+import domain.entity.AIType;
+import domain.entity.Player;
+import domain.state.GameState;
+import domain.state.Replay;
+
+/**
+ * Reproductor de repeticiones sin interfaz gráfica.
+ * Recrea la partida desde sus parámetros de inicio y la re-simula tick a
+ * tick, aplicando cada entrada grabada antes del tick en que llegó.
+ *
+ * Avanzar es tan rápido como el motor de simulación; retroceder vuelve a
+ * crear la partida y re-simula desde el tick 0. La partida se monta solo con
+ * GameState, GameLogic y SimulationEngine: sin fachada ni persistencia.
+ */
+public class ReplayPlayer {
+
+    private final Replay replay;
+    private final LevelSetupService levelSetupService = new LevelSetupService();
+    private GameState gameState;
+    private GameLogic gameLogic;
+    private SimulationEngine engine;
+    private int nextEvent;
+
+    /**
+     * Constructor del reproductor. Deja la partida en el tick 0.
+     *
+     * @param replay Repetición a reproducir
+     */
+    public ReplayPlayer(Replay replay) {
+        this.replay = replay;
+        rewind();
+    }
+
+    // ==================== REPRODUCCIÓN ====================
+
+    /**
+     * Vuelve a crear la partida en su estado inicial (tick 0).
+     */
+    public void rewind() {
+        // Mismo orden que GameFacade: la lógica se crea antes de cargar el nivel
+        gameState = levelSetupService.createGameState(replay.getCharacterType(), replay.getCharacterTypeP2(),
+                replay.getPlayerName(), replay.getPlayer2Name(), replay.getLevel(), replay.getNumberOfPlayers(),
+                replay.getAiTypeP1(), replay.getAiTypeP2(), replay.isP2CPU(), replay.getSeed());
+        gameLogic = new GameLogic(gameState);
+        engine = new SimulationEngine(gameState, gameLogic);
+        levelSetupService.initializeLevel(gameState, replay.getLevel(), replay.getNumberOfPlayers(),
+                copyOf(replay.getInitialConfiguration()));
+        if (replay.getAppliedConfiguration() != null) {
+            levelSetupService.applyConfiguration(gameState, copyOf(replay.getAppliedConfiguration()));
+        }
+
+        // Los tipos de IA se fijan tal como estaban al grabar
+        applyAIType(gameState.getPlayer(), replay.getAiTypeP1());
+        applyAIType(gameState.getPlayer2(), replay.getAiTypeP2());
+        nextEvent = 0;
+    }
+
+    /**
+     * Ejecuta un tick aplicando antes las entradas que llegaron en él.
+     */
+    public void step() {
+        long tick = engine.getTickCount();
+        while (nextEvent < replay.getEventCount() && replay.getEventTick(nextEvent) <= tick) {
+            gameLogic.apply(replay.getEventCommand(nextEvent));
+            nextEvent++;
+        }
+        engine.step();
+    }
+
+    /**
+     * Lleva la partida al tick indicado. Si está antes del tick actual se
+     * re-simula desde el principio.
+     *
+     * @param tick Tick de destino
+     */
+    public void seek(long tick) {
+        if (tick < engine.getTickCount()) {
+            rewind();
+        }
+        while (engine.getTickCount() < tick) {
+            step();
+        }
+    }
+
+    /**
+     * Re-simula hasta el último tick grabado.
+     */
+    public void runToEnd() {
+        seek(replay.getEndTick());
+    }
+
+    private void applyAIType(Player player, String aiType) {
+        if (player != null) {
+            player.setAIType(aiType != null ? AIType.valueOf(aiType) : null);
+        }
+    }
+
+    private static domain.dto.LevelConfigurationDTO copyOf(domain.dto.LevelConfigurationDTO config) {
+        return config != null ? config.copy() : null;
+    }
+
+    // ==================== CONSULTAS ====================
+
+    public long getCurrentTick() {
+        return engine.getTickCount();
+    }
+
+    public boolean isAtEnd() {
+        return engine.getTickCount() >= replay.getEndTick();
+    }
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public Replay getReplay() {
+        return replay;
+    }
+}
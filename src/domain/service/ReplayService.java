@@ -0,0 +1,220 @@
+package domain.service;
+
+import domain.BadDopoLogger;
+import domain.dto.LevelConfigurationDTO;
+import domain.state.InputCommand;
+import domain.state.Replay;
+import exceptions.BadDopoException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Servicio que guarda y carga repeticiones en formato binario compacto.
+ *
+ * Formato (versión 2; la 1 se grabó cuando los enemigos se movían uno a uno
+ * con la fuente de la partida y ya no se reproduce igual):
+ * - Cabecera: "BDRP", versión, semilla, nivel, jugadores, personajes,
+ * nombres, tipos de IA, P2 CPU y las configuraciones inicial y aplicada.
+ * - Entradas: cantidad y, por cada una, la diferencia de ticks con la
+ * anterior (VarInt) y el código del comando (1 byte).
+ *
+ * Una partida típica ocupa unos pocos cientos de bytes.
+ */
+public class ReplayService {
+
+    private static final int MAGIC = 0x42445250; // "BDRP"
+    private static final int VERSION = 2;
+
+    private static final String REPLAY_DIRECTORY = "replays";
+    private static final String LAST_REPLAY = "last_replay.bdr";
+
+    // ==================== GUARDADO ====================
+
+    /**
+     * Guarda la repetición como la última partida jugada.
+     *
+     * @return Archivo escrito
+     */
+    public File saveLastReplay(Replay replay) throws BadDopoException {
+        Path path = Paths.get(REPLAY_DIRECTORY, LAST_REPLAY);
+        try {
+            Files.createDirectories(path.getParent());
+        } catch (IOException e) {
+            throw BadDopoException.replayWriteError(path.toString(), e);
+        }
+        saveReplay(replay, path.toFile());
+        return path.toFile();
+    }
+
+    /**
+     * Guarda la repetición en el archivo indicado.
+     */
+    public void saveReplay(Replay replay, File file) throws BadDopoException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file)))) {
+            write(replay, out);
+            BadDopoLogger.logInfo("Repetición guardada: " + file.getName() + " (" + replay.getEventCount()
+                    + " entradas)");
+        } catch (IOException e) {
+            throw BadDopoException.replayWriteError(file.getName(), e);
+        }
+    }
+
+    /**
+     * Escribe la repetición en un flujo binario.
+     */
+    public void write(Replay replay, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(replay.getSeed());
+        VarInt.write(out, replay.getLevel());
+        VarInt.write(out, replay.getNumberOfPlayers());
+        writeString(out, replay.getCharacterType());
+        writeString(out, replay.getCharacterTypeP2());
+        writeString(out, replay.getPlayerName());
+        writeString(out, replay.getPlayer2Name());
+        writeString(out, replay.getAiTypeP1());
+        writeString(out, replay.getAiTypeP2());
+        out.writeBoolean(replay.isP2CPU());
+        writeConfiguration(out, replay.getInitialConfiguration());
+        writeConfiguration(out, replay.getAppliedConfiguration());
+
+        VarInt.write(out, replay.getEndTick());
+        VarInt.write(out, replay.getEventCount());
+        int previousTick = 0;
+        for (int i = 0; i < replay.getEventCount(); i++) {
+            int tick = replay.getEventTick(i);
+            VarInt.write(out, tick - previousTick);
+            out.writeByte(replay.getEventCommand(i).getCode());
+            previousTick = tick;
+        }
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private void writeConfiguration(DataOutputStream out, LevelConfigurationDTO config) throws IOException {
+        out.writeBoolean(config != null);
+        if (config == null) {
+            return;
+        }
+        writeCounts(out, config.getFruitCounts());
+        writeCounts(out, config.getEnemyCounts());
+        VarInt.write(out, config.getHotTileCount());
+    }
+
+    private void writeCounts(DataOutputStream out, Map<String, Integer> counts) throws IOException {
+        VarInt.write(out, counts.size());
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            out.writeUTF(entry.getKey());
+            VarInt.write(out, Math.max(0, entry.getValue()));
+        }
+    }
+
+    // ==================== CARGA ====================
+
+    /**
+     * Carga la última repetición guardada.
+     */
+    public Replay loadLastReplay() throws BadDopoException {
+        return loadReplay(Paths.get(REPLAY_DIRECTORY, LAST_REPLAY).toFile());
+    }
+
+    /**
+     * Carga una repetición desde archivo.
+     */
+    public Replay loadReplay(File file) throws BadDopoException {
+        if (!file.exists()) {
+            throw BadDopoException.saveFileNotFound(file.getName());
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            return read(in);
+        } catch (IOException e) {
+            throw BadDopoException.replayReadError(file.getName(), e);
+        }
+    }
+
+    /**
+     * Lee una repetición desde un flujo binario.
+     */
+    public Replay read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("No es un archivo de repetición");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Versión de repetición no soportada: " + version);
+        }
+        long seed = in.readLong();
+        int level = VarInt.readInt(in);
+        int numberOfPlayers = VarInt.readInt(in);
+        String characterType = readString(in);
+        String characterTypeP2 = readString(in);
+        String playerName = readString(in);
+        String player2Name = readString(in);
+        String aiTypeP1 = readString(in);
+        String aiTypeP2 = readString(in);
+        boolean p2CPU = in.readBoolean();
+        LevelConfigurationDTO initial = readConfiguration(in);
+        LevelConfigurationDTO applied = readConfiguration(in);
+
+        Replay replay = new Replay(seed, level, numberOfPlayers, characterType, characterTypeP2, playerName,
+                player2Name, aiTypeP1, aiTypeP2, p2CPU, initial);
+        replay.setAppliedConfiguration(applied);
+
+        long endTick = VarInt.read(in);
+        int count = VarInt.readInt(in);
+        long tick = 0;
+        for (int i = 0; i < count; i++) {
+            tick += VarInt.read(in);
+            InputCommand command = InputCommand.fromCode(in.readUnsignedByte());
+            if (command == null) {
+                throw new IOException("Comando desconocido en la entrada " + i);
+            }
+            replay.record(tick, command);
+        }
+        replay.setEndTick(endTick);
+        return replay;
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private LevelConfigurationDTO readConfiguration(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        LevelConfigurationDTO config = new LevelConfigurationDTO();
+        config.setFruitCounts(readCounts(in));
+        config.setEnemyCounts(readCounts(in));
+        config.setHotTileCount(VarInt.readInt(in));
+        return config;
+    }
+
+    private Map<String, Integer> readCounts(DataInputStream in) throws IOException {
+        int size = VarInt.readInt(in);
+        // LinkedHashMap: conserva el orden grabado, del que depende la aparición
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            counts.put(in.readUTF(), VarInt.readInt(in));
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,308 @@
+package domain.service;
+
+import domain.BadDopoLogger;
+import domain.dto.SaveMetadataDTO;
+import domain.entity.Player;
+import domain.state.GameState;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Índice de las partidas guardadas.
+ * Guarda en un archivo pequeño el resumen de cada partida (nivel, nombres,
+ * puntuaciones, tiempo restante y huella del tablero) junto con el tamaño y
+ * la fecha del archivo, para listar el menú de carga sin abrir cada guardado.
+ *
+ * Se actualiza al guardar y al borrar. Al listar, las entradas cuyo archivo
+ * cambió por fuera del juego se vuelven a leer y las de archivos que ya no
+ * existen se quitan. Todos los métodos están sincronizados: se usa desde el
+ * hilo de Swing y desde el hilo de guardado.
+ */
+public class SaveIndex {
+
+    private static final int MAGIC = 0x42445349; // "BDSI"
+    private static final int VERSION = 1;
+
+    private final Path directory;
+    private final Path indexFile;
+    private final String extension;
+    private final Function<Path, GameState> reader;
+
+    private Map<String, Entry> entries;
+
+    /**
+     * @param directory Directorio de guardados
+     * @param indexFile Archivo del índice
+     * @param extension Extensión de los guardados a indexar
+     * @param reader    Lee un guardado completo (null si no se puede leer)
+     */
+    public SaveIndex(Path directory, Path indexFile, String extension, Function<Path, GameState> reader) {
+        this.directory = directory;
+        this.indexFile = indexFile;
+        this.extension = extension;
+        this.reader = reader;
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Lista los guardados ordenados por nombre. Solo lee los archivos que no
+     * están en el índice o cambiaron desde que se indexaron.
+     */
+    public synchronized List<SaveMetadataDTO> list() {
+        Map<String, Entry> current = entries();
+        Map<String, Entry> listed = new TreeMap<>();
+        boolean dirty = false;
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + extension)) {
+            for (Path file : stream) {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                String name = file.getFileName().toString();
+                Entry entry = current.get(name);
+                if (entry == null || !entry.matches(attributes)) {
+                    entry = new Entry(read(file, attributes), attributes);
+                    dirty = true;
+                }
+                listed.put(name, entry);
+            }
+        } catch (IOException e) {
+            BadDopoLogger.logError("Error al listar partidas guardadas", e);
+            return new ArrayList<>();
+        }
+
+        if (dirty || listed.size() != current.size()) {
+            entries = new HashMap<>(listed);
+            persist();
+        }
+        List<SaveMetadataDTO> result = new ArrayList<>(listed.size());
+        for (Entry entry : listed.values()) {
+            result.add(entry.metadata);
+        }
+        return result;
+    }
+
+    // ==================== MANTENIMIENTO ====================
+
+    /**
+     * Registra un guardado recién escrito.
+     *
+     * @param file     Archivo ya escrito
+     * @param metadata Resumen calculado al codificar el estado
+     */
+    public synchronized void update(Path file, SaveMetadataDTO metadata) {
+        if (!isIndexed(file)) {
+            return;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            entries().put(file.getFileName().toString(), new Entry(metadata, attributes));
+            persist();
+        } catch (IOException e) {
+            BadDopoLogger.logError("Error al actualizar el índice de guardados", e);
+        }
+    }
+
+    /**
+     * Quita un guardado del índice.
+     */
+    public synchronized void remove(String filename) {
+        if (entries().remove(filename) != null) {
+            persist();
+        }
+    }
+
+    private boolean isIndexed(Path file) {
+        Path parent = file.toAbsolutePath().getParent();
+        return parent != null && parent.equals(directory.toAbsolutePath())
+                && file.getFileName().toString().endsWith(extension);
+    }
+
+    /**
+     * Calcula el resumen de un estado. Debe llamarse desde el hilo que
+     * modifica el estado.
+     */
+    public static SaveMetadataDTO describe(String filename, GameState state, long savedAt) {
+        Player player1 = state.getPlayer();
+        Player player2 = state.getPlayer2();
+        return new SaveMetadataDTO.Builder()
+                .filename(filename)
+                .level(state.getLevel())
+                .numberOfPlayers(state.getNumberOfPlayers())
+                .player1Name(player1 != null ? player1.getName() : null)
+                .player2Name(player2 != null ? player2.getName() : null)
+                .score(state.getScore())
+                .scorePlayer2(state.getScorePlayer2())
+                .timeRemaining(state.getTimeRemaining())
+                .savedAt(savedAt)
+                .thumbnailHash(boardHash(state))
+                .build();
+    }
+
+    /**
+     * CRC32 de las secciones de hielo y elementos fijos del estado.
+     */
+    private static long boardHash(GameState state) {
+        CRC32 crc = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(OutputStream.nullOutputStream(),
+                crc))) {
+            state.writeSection(GameState.SECTION_ICE, out);
+            state.writeSection(GameState.SECTION_STATIC, out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return crc.getValue();
+    }
+
+    private SaveMetadataDTO read(Path file, BasicFileAttributes attributes) {
+        String name = file.getFileName().toString();
+        long savedAt = attributes.lastModifiedTime().toMillis();
+        GameState state = reader.apply(file);
+        if (state == null) {
+            // Se indexa igual para no reintentar la lectura en cada listado
+            return new SaveMetadataDTO.Builder().filename(name).readable(false).savedAt(savedAt).build();
+        }
+        return describe(name, state, savedAt);
+    }
+
+    // ==================== ARCHIVO DEL ÍNDICE ====================
+
+    private Map<String, Entry> entries() {
+        if (entries == null) {
+            entries = load();
+        }
+        return entries;
+    }
+
+    private Map<String, Entry> load() {
+        Map<String, Entry> loaded = new HashMap<>();
+        if (!Files.exists(indexFile)) {
+            return loaded;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(indexFile))) {
+            if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+                return loaded;
+            }
+            int count = VarInt.readInt(in);
+            for (int i = 0; i < count; i++) {
+                Entry entry = Entry.read(in);
+                loaded.put(entry.metadata.getFilename(), entry);
+            }
+        } catch (IOException e) {
+            // Índice dañado: se reconstruye en el próximo listado
+            BadDopoLogger.logError("Índice de guardados ilegible, se reconstruirá", e);
+            loaded.clear();
+        }
+        return loaded;
+    }
+
+    private void persist() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + entries.size() * 64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            VarInt.write(out, entries.size());
+            for (Entry entry : entries.values()) {
+                entry.write(out);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        try {
+            PersistenceService.writeAtomically(indexFile, bytes.toByteArray());
+        } catch (IOException e) {
+            BadDopoLogger.logError("Error al escribir el índice de guardados", e);
+        }
+    }
+
+    /**
+     * Entrada del índice: resumen más tamaño y fecha del archivo indexado.
+     */
+    private static final class Entry {
+        private final SaveMetadataDTO metadata;
+        private final long size;
+        private final long lastModified;
+
+        Entry(SaveMetadataDTO metadata, BasicFileAttributes attributes) {
+            this(metadata, attributes.size(), attributes.lastModifiedTime().toMillis());
+        }
+
+        Entry(SaveMetadataDTO metadata, long size, long lastModified) {
+            this.metadata = metadata;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        boolean matches(BasicFileAttributes attributes) {
+            return size == attributes.size() && lastModified == attributes.lastModifiedTime().toMillis();
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeUTF(metadata.getFilename());
+            VarInt.write(out, size);
+            out.writeLong(lastModified);
+            out.writeLong(metadata.getSavedAt());
+            out.writeBoolean(metadata.isReadable());
+            if (!metadata.isReadable()) {
+                return;
+            }
+            VarInt.write(out, metadata.getLevel());
+            VarInt.write(out, metadata.getNumberOfPlayers());
+            writeString(out, metadata.getPlayer1Name());
+            writeString(out, metadata.getPlayer2Name());
+            VarInt.writeSigned(out, metadata.getScore());
+            VarInt.writeSigned(out, metadata.getScorePlayer2());
+            VarInt.writeSigned(out, metadata.getTimeRemaining());
+            out.writeLong(metadata.getThumbnailHash());
+        }
+
+        static Entry read(DataInputStream in) throws IOException {
+            SaveMetadataDTO.Builder builder = new SaveMetadataDTO.Builder().filename(in.readUTF());
+            long size = VarInt.read(in);
+            long lastModified = in.readLong();
+            builder.savedAt(in.readLong());
+            boolean readable = in.readBoolean();
+            builder.readable(readable);
+            if (readable) {
+                builder.level(VarInt.readInt(in))
+                        .numberOfPlayers(VarInt.readInt(in))
+                        .player1Name(readString(in))
+                        .player2Name(readString(in))
+                        .score(VarInt.readSignedInt(in))
+                        .scorePlayer2(VarInt.readSignedInt(in))
+                        .timeRemaining(VarInt.readSigned(in))
+                        .thumbnailHash(in.readLong());
+            }
+            return new Entry(builder.build(), size, lastModified);
+        }
+
+        private static void writeString(DataOutputStream out, String value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeUTF(value);
+            }
+        }
+
+        private static String readString(DataInputStream in) throws IOException {
+            return in.readBoolean() ? in.readUTF() : null;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package domain.service;
+
+import exceptions.BadDopoException;
+
+/**
+ * Recibe el resultado de un guardado asíncrono.
+ * Se invoca desde el hilo de guardado: la capa de presentación debe pasar
+ * el resultado al hilo de Swing antes de tocar componentes.
+ */
+public interface SaveListener {
+
+    /**
+     * El guardado se escribió y sincronizó en disco.
+     *
+     * @param filename Nombre del archivo guardado
+     */
+    void onSaveCompleted(String filename);
+
+    /**
+     * El guardado falló; el archivo anterior (si existía) queda intacto.
+     *
+     * @param error Causa del fallo
+     */
+    void onSaveFailed(BadDopoException error);
+}
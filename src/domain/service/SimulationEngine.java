@@ -0,0 +1,129 @@
+package domain.service;
+
+import domain.state.GameState;
+
+/**
+ * Motor de simulación de paso fijo (fixed timestep).
+ * Avanza GameLogic en ticks de duración constante usando un acumulador,
+ * independiente de cualquier temporizador de Swing o reloj de pared.
+ *
+ * En modo interactivo se le entrega el tiempo real transcurrido con
+ * {@link #advance(long)}; en modo headless se llama a {@link #step()} o
+ * {@link #runUntilFinished(long)} tan rápido como lo permita la CPU.
+ */
+public class SimulationEngine {
+
+    /** Duración fija de un tick de simulación en milisegundos. */
+    public static final int TICK_MS = 16;
+
+    /** Tiempo máximo aceptado por llamada para evitar la "espiral de la muerte". */
+    private static final long MAX_FRAME_TIME = 250;
+
+    private final GameState gameState;
+    private final GameLogic gameLogic;
+    private long accumulator;
+    private long tickCount;
+
+    /**
+     * Constructor del motor de simulación.
+     *
+     * @param gameState Estado del juego a simular
+     * @param gameLogic Lógica que se avanza en cada tick
+     */
+    public SimulationEngine(GameState gameState, GameLogic gameLogic) {
+        this.gameState = gameState;
+        this.gameLogic = gameLogic;
+        this.accumulator = 0;
+        this.tickCount = 0;
+    }
+
+    // ==================== AVANCE DE LA SIMULACIÓN ====================
+
+    /**
+     * Acumula tiempo real transcurrido y ejecuta todos los ticks completos
+     * que caben en él. El resto queda en el acumulador para el próximo frame.
+     *
+     * @param elapsedMs Tiempo transcurrido desde la última llamada
+     * @return Número de ticks ejecutados
+     */
+    public int advance(long elapsedMs) {
+        if (elapsedMs <= 0) {
+            return 0;
+        }
+        accumulator += Math.min(elapsedMs, MAX_FRAME_TIME);
+
+        int ticks = 0;
+        while (accumulator >= TICK_MS) {
+            step();
+            accumulator -= TICK_MS;
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * Ejecuta exactamente un tick de simulación.
+     */
+    public void step() {
+        gameLogic.update(TICK_MS);
+        tickCount++;
+    }
+
+    /**
+     * Ejecuta ticks sin esperar al reloj hasta que la partida termine
+     * o se alcance el límite indicado.
+     *
+     * @param maxTicks Límite de ticks a ejecutar
+     * @return Número de ticks ejecutados
+     */
+    public long runUntilFinished(long maxTicks) {
+        long ticks = 0;
+        while (ticks < maxTicks && !isFinished()) {
+            step();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * Descarta el tiempo acumulado (por ejemplo al reanudar tras una pausa).
+     */
+    public void resetAccumulator() {
+        accumulator = 0;
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Verifica si la partida ya terminó (victoria, derrota o tiempo agotado).
+     */
+    public boolean isFinished() {
+        return gameState.isVictory() || gameState.isGameOver();
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Obtiene el tiempo de juego simulado en milisegundos.
+     */
+    public long getElapsedGameTime() {
+        return tickCount * TICK_MS;
+    }
+
+    /**
+     * Fracción del siguiente tick ya acumulada (0.0 a 1.0).
+     */
+    public double getAlpha() {
+        return (double) accumulator / TICK_MS;
+    }
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public GameLogic getGameLogic() {
+        return gameLogic;
+    }
+}
@@ -0,0 +1,262 @@
+package domain.service;
+
+import domain.GameFacade;
+import domain.dto.WorldFrame;
+import domain.state.InputCommand;
+import domain.state.InputQueue;
+import domain.state.TripleBuffer;
+
+/**
+ * Hilo propio para la simulación de una partida interactiva.
+ *
+ * Mientras corre, es el único hilo que modifica el GameState: en cada
+ * vuelta aplica las entradas pendientes, avanza el motor de simulación con
+ * el tiempo real transcurrido y publica una foto del mundo. Con el hilo de
+ * Swing solo comparte dos estructuras sin bloqueos:
+ * <ul>
+ * <li>los comandos de entrada, en una {@link InputQueue} (Swing produce,
+ * este hilo consume);</li>
+ * <li>las fotos para dibujar, en un {@link TripleBuffer} de
+ * {@link WorldFrame} (este hilo produce, el render consume).</li>
+ * </ul>
+ * Así un frame lento de dibujo no retrasa los ticks. Con un hilo de render
+ * propio (renderizado activo) cada foto se publica además en un segundo
+ * TripleBuffer que solo consume ese hilo ({@link #acquireViewFrame()}), y
+ * el hilo de Swing sigue leyendo el suyo para la entrada y los menús.
+ *
+ * El hilo de Swing no
+ * debe leer el GameState mientras este hilo corre, porque se sigue
+ * escribiendo después de cada publicación: las consultas del HUD y del fin
+ * de partida de la fachada (puntuación, tiempo, frutas restantes, victoria
+ * o derrota) se sirven desde la foto adquirida ({@link #currentFrame()}).
+ *
+ * Las operaciones que sustituyen o leen el estado completo (pausa,
+ * guardado, carga, reinicio) se hacen con el hilo detenido: GameFacade lo
+ * para y lo espera antes, y lo vuelve a arrancar después.
+ *
+ * Se activa con -Dbaddopo.simulationThread=true.
+ */
+public class SimulationThread implements Runnable {
+
+    public static final String ENABLED_PROPERTY = "baddopo.simulationThread";
+
+    private static final int INPUT_CAPACITY = 64;
+    private static final long TICK_NANOS = SimulationEngine.TICK_MS * 1_000_000L;
+
+    private final GameFacade facade;
+    private final InputQueue input = new InputQueue(INPUT_CAPACITY);
+    private final TripleBuffer<WorldFrame> frames =
+            new TripleBuffer<>(new WorldFrame(), new WorldFrame(), new WorldFrame());
+    private final TripleBuffer<WorldFrame> viewFrames; // null sin hilo de render propio
+
+    private volatile boolean running;
+    private volatile Thread thread;
+    private volatile long framesPublished;
+
+    // Entradas encoladas (hilo de Swing) y aplicadas (dueño del estado) por jugador
+    private final long[] submittedInputs = new long[2];
+    private final long[] appliedInputs = new long[2];
+
+    /**
+     * @param facade Fachada de la partida (el hilo usa su estado actual en
+     *               cada vuelta)
+     */
+    public SimulationThread(GameFacade facade) {
+        this(facade, false);
+    }
+
+    /**
+     * @param facade       Fachada de la partida
+     * @param separateView true si un hilo de render propio lee sus fotos con
+     *                   {@link #acquireViewFrame()}
+     */
+    public SimulationThread(GameFacade facade, boolean separateView) {
+        this.facade = facade;
+        this.viewFrames = separateView
+                ? new TripleBuffer<>(new WorldFrame(), new WorldFrame(), new WorldFrame())
+                : null;
+    }
+
+    /**
+     * Indica si el hilo de simulación está pedido por configuración.
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Publica y adquiere una foto del estado actual y arranca el hilo. Debe
+     * llamarse desde el hilo que hasta ahora modificaba el estado y que
+     * después lee las fotos.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        publishFrame();
+        frames.acquire();
+        running = true;
+        Thread worker = new Thread(this, "BadDopo-Simulation");
+        worker.setDaemon(true);
+        thread = worker;
+        worker.start();
+    }
+
+    /**
+     * Detiene el hilo y espera a que termine su vuelta actual. Las entradas
+     * que quedaban en la cola se aplican en el hilo que llama, que desde
+     * ese momento vuelve a ser el dueño del estado.
+     */
+    public synchronized void stop() {
+        Thread worker = thread;
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        boolean interrupted = false;
+        while (worker.isAlive()) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        thread = null;
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        applyPendingInput();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Indica si quien llama es el propio hilo de simulación.
+     */
+    public boolean isCurrentThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Encola una entrada para el próximo tick (lo llama el hilo de Swing).
+     *
+     * @return false si la cola estaba llena y la entrada se descartó
+     */
+    public boolean submit(InputCommand command) {
+        if (!input.offer(command)) {
+            return false;
+        }
+        submittedInputs[command.getPlayerIndex()]++;
+        return true;
+    }
+
+    /**
+     * Indica si alguna entrada encolada del jugador todavía no se ve en la
+     * foto adquirida (lo llama el hilo de Swing, que es el que encola). Sirve
+     * para no aceptar otro paso mientras la foto muestra la casilla anterior.
+     *
+     * @param player 0 para P1, 1 para P2
+     */
+    public boolean hasPendingInput(int player) {
+        return submittedInputs[player] > frames.current().getAppliedInputs(player);
+    }
+
+    /**
+     * Entradas del jugador encoladas hasta ahora (lo llama el hilo de Swing).
+     *
+     * @param player 0 para P1, 1 para P2
+     */
+    public long getSubmittedInputs(int player) {
+        return submittedInputs[player];
+    }
+
+    /**
+     * Última foto publicada (lo llama el hilo que dibuja, o el de Swing si
+     * hay un hilo de render propio). Válida hasta la siguiente llamada.
+     */
+    public WorldFrame acquireFrame() {
+        return frames.acquire();
+    }
+
+    /**
+     * Última foto publicada para el hilo de render propio. Válida hasta la
+     * siguiente llamada; se sigue pudiendo leer con el hilo detenido.
+     *
+     * @return La foto, o null si este hilo no publica para un render propio
+     */
+    public WorldFrame acquireViewFrame() {
+        return viewFrames != null ? viewFrames.acquire() : null;
+    }
+
+    /**
+     * Foto adquirida por última vez con {@link #acquireFrame()}, sin
+     * buscar una más nueva: sirve para consultas sueltas en mitad de un
+     * frame de dibujo o de un tick de Swing.
+     */
+    public WorldFrame currentFrame() {
+        return frames.current();
+    }
+
+    /**
+     * Fotos publicadas desde que se creó.
+     */
+    public long getFramesPublished() {
+        return framesPublished;
+    }
+
+    @Override
+    public void run() {
+        long nextTick = System.nanoTime();
+        while (running) {
+            try {
+                applyPendingInput();
+                facade.update();
+                publishFrame();
+            } catch (RuntimeException e) {
+                domain.BadDopoLogger.logError("Error en el hilo de simulación", e);
+            }
+
+            nextTick += TICK_NANOS;
+            long now = System.nanoTime();
+            if (now - nextTick > TICK_NANOS) {
+                // Atrasado más de un tick: el motor ya recupera el tiempo real
+                nextTick = now;
+            }
+            long remaining = nextTick - now;
+            if (remaining > 0) {
+                try {
+                    Thread.sleep(remaining / 1_000_000L, (int) (remaining % 1_000_000L));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    running = false;
+                }
+            }
+        }
+    }
+
+    private void applyPendingInput() {
+        InputCommand command;
+        while ((command = input.poll()) != null) {
+            facade.apply(command);
+            appliedInputs[command.getPlayerIndex()]++;
+        }
+    }
+
+    private void publishFrame() {
+        publishFrame(frames);
+        if (viewFrames != null) {
+            publishFrame(viewFrames);
+        }
+        framesPublished++;
+    }
+
+    private void publishFrame(TripleBuffer<WorldFrame> buffer) {
+        WorldFrame frame = buffer.getWriteBuffer();
+        frame.capture(facade.getGameState());
+        frame.setAppliedInputs(appliedInputs[0], appliedInputs[1]);
+        frame.setLayoutVersion(facade.getLayoutVersion());
+        buffer.publish();
+    }
+}
@@ -0,0 +1,222 @@
+package domain.service;
+
+import domain.BadDopoLogger;
+import domain.dto.LevelConfigurationDTO;
+import domain.dto.MatchResultDTO;
+import domain.entity.AIType;
+import domain.entity.Player;
+import domain.state.GameState;
+import exceptions.BadDopoException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Servicio que ejecuta torneos Máquina vs Máquina sin interfaz gráfica.
+ * Cada partida se monta solo con GameState, GameLogic y motor de simulación
+ * propios (sin fachada, persistencia ni grabación de repeticiones) y las
+ * partidas se reparten entre varios hilos.
+ */
+public class TournamentService {
+
+    /** Margen de ticks tras el límite de tiempo para terminar animaciones. */
+    private static final long EXTRA_TICKS = 10000 / SimulationEngine.TICK_MS;
+
+    private static final String CSV_HEADER = "level,match,ai_p1,ai_p2,winner,score_p1,score_p2,ticks,time_up,seed";
+
+    private final LevelSetupService levelSetupService = new LevelSetupService();
+    private final LevelConfigurationDTO configuration;
+    private final int threads;
+    private final long baseSeed;
+
+    /**
+     * Constructor del servicio de torneos. Usa la semilla de la configuración
+     * o, si no tiene, una aleatoria.
+     *
+     * @param configuration Frutas, enemigos y baldosas de cada partida
+     * @param threads       Número de hilos de trabajo (mínimo 1)
+     */
+    public TournamentService(LevelConfigurationDTO configuration, int threads) {
+        this(configuration, threads,
+                configuration.getSeed() != null ? configuration.getSeed() : new java.util.Random().nextLong());
+    }
+
+    /**
+     * Constructor del servicio de torneos con semilla base explícita.
+     * Con la misma semilla base el torneo completo es reproducible.
+     *
+     * @param configuration Frutas, enemigos y baldosas de cada partida
+     * @param threads       Número de hilos de trabajo (mínimo 1)
+     * @param baseSeed      Semilla de la que se deriva la de cada partida
+     */
+    public TournamentService(LevelConfigurationDTO configuration, int threads, long baseSeed) {
+        this.configuration = configuration;
+        this.threads = Math.max(1, threads);
+        this.baseSeed = baseSeed;
+    }
+
+    // ==================== EJECUCIÓN ====================
+
+    /**
+     * Juega N partidas de cada emparejamiento de tipos de IA en cada nivel.
+     *
+     * @param levels             Niveles a jugar
+     * @param matchesPerPairing  Partidas por emparejamiento y nivel
+     * @return Resultados en orden de nivel, emparejamiento y partida
+     * @throws BadDopoException si alguna partida falla
+     */
+    public List<MatchResultDTO> runTournament(List<Integer> levels, int matchesPerPairing) throws BadDopoException {
+        List<Callable<MatchResultDTO>> matches = new ArrayList<>();
+        for (int level : levels) {
+            for (AIType p1 : AIType.values()) {
+                for (AIType p2 : AIType.values()) {
+                    for (int i = 0; i < matchesPerPairing; i++) {
+                        final int matchIndex = i;
+                        matches.add(() -> playMatch(level, p1, p2, matchIndex));
+                    }
+                }
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "BadDopo-Tournament");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<MatchResultDTO> results = new ArrayList<>();
+            for (Future<MatchResultDTO> future : executor.invokeAll(matches)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw BadDopoException.tournamentError("interrumpido", e);
+        } catch (ExecutionException e) {
+            throw BadDopoException.tournamentError(e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Juega una partida completa a máxima velocidad.
+     *
+     * @param level      Nivel a jugar
+     * @param aiTypeP1   IA del jugador 1
+     * @param aiTypeP2   IA del jugador 2
+     * @param matchIndex Índice de la partida dentro del emparejamiento
+     * @return Resultado de la partida
+     */
+    public MatchResultDTO playMatch(int level, AIType aiTypeP1, AIType aiTypeP2, int matchIndex) {
+        long seed = matchSeed(level, aiTypeP1, aiTypeP2, matchIndex);
+        // Mismo orden que GameFacade: la lógica se crea antes de cargar el nivel
+        GameState gameState = levelSetupService.createGameState("Chocolate", "Fresa", "Máquina 1", "Máquina 2",
+                level, 0, aiTypeP1.name(), aiTypeP2.name(), false, seed);
+        GameLogic gameLogic = new GameLogic(gameState);
+        SimulationEngine engine = new SimulationEngine(gameState, gameLogic);
+        levelSetupService.initializeLevel(gameState, level, 0, copyConfiguration(seed));
+        long ticks = engine.runUntilFinished(GameState.getTimeLimit() / SimulationEngine.TICK_MS + EXTRA_TICKS);
+
+        return new MatchResultDTO(level, matchIndex, aiTypeP1.name(), aiTypeP2.name(), determineWinner(gameState),
+                gameState.getScore(), gameState.getScorePlayer2(), ticks, gameState.isTimeUp(),
+                seed);
+    }
+
+    /**
+     * Determina el ganador: sobrevive quien siga vivo; si ambos siguen vivos
+     * o ambos murieron, gana la mayor puntuación.
+     */
+    private String determineWinner(GameState gameState) {
+        Player player2 = gameState.getPlayer2();
+        boolean p1Alive = gameState.getPlayer() != null && gameState.getPlayer().isAlive();
+        boolean p2Alive = player2 == null || player2.isAlive();
+
+        if (p1Alive && !p2Alive)
+            return MatchResultDTO.WINNER_P1;
+        if (!p1Alive && p2Alive)
+            return MatchResultDTO.WINNER_P2;
+        if (gameState.getScore() > gameState.getScorePlayer2())
+            return MatchResultDTO.WINNER_P1;
+        if (gameState.getScorePlayer2() > gameState.getScore())
+            return MatchResultDTO.WINNER_P2;
+        return MatchResultDTO.DRAW;
+    }
+
+    /**
+     * Deriva la semilla de una partida a partir de la semilla base y de su
+     * posición en el torneo (mezcla SplitMix64), de modo que no depende del
+     * orden en que los hilos ejecutan las partidas.
+     */
+    long matchSeed(int level, AIType aiTypeP1, AIType aiTypeP2, int matchIndex) {
+        long z = baseSeed;
+        z = mix(z + level);
+        z = mix(z + aiTypeP1.ordinal());
+        z = mix(z + aiTypeP2.ordinal());
+        return mix(z + matchIndex);
+    }
+
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public long getBaseSeed() {
+        return baseSeed;
+    }
+
+    /**
+     * Cada partida recibe su propia copia de la configuración.
+     */
+    private LevelConfigurationDTO copyConfiguration(long seed) {
+        LevelConfigurationDTO copy = new LevelConfigurationDTO();
+        copy.setFruitCounts(new HashMap<>(configuration.getFruitCounts()));
+        copy.setEnemyCounts(new HashMap<>(configuration.getEnemyCounts()));
+        copy.setHotTileCount(configuration.getHotTileCount());
+        copy.setSeed(seed);
+        return copy;
+    }
+
+    // ==================== RESULTADOS ====================
+
+    /**
+     * Escribe los resultados en formato CSV.
+     *
+     * @param results Resultados del torneo
+     * @param file    Archivo de salida
+     * @throws BadDopoException si no se puede escribir el archivo
+     */
+    public void writeCsv(List<MatchResultDTO> results, Path file) throws BadDopoException {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write(CSV_HEADER);
+                writer.newLine();
+                for (MatchResultDTO r : results) {
+                    writer.write(r.getLevel() + "," + r.getMatchIndex() + "," + r.getAiTypeP1() + ","
+                            + r.getAiTypeP2() + "," + r.getWinner() + "," + r.getScoreP1() + ","
+                            + r.getScoreP2() + "," + r.getTicks() + "," + r.isTimeUp() + "," + r.getSeed());
+                    writer.newLine();
+                }
+            }
+            BadDopoLogger.logInfo("Resultados del torneo escritos en " + file);
+        } catch (IOException e) {
+            throw BadDopoException.resultsWriteError(file.toString(), e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package domain.service;
+
+import java.awt.Point;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Codificación de enteros de longitud variable (7 bits por byte) usada por
+ * los formatos binarios del juego. Los valores pequeños ocupan un byte.
+ * También empaqueta celdas del grid en un solo byte.
+ */
+public final class VarInt {
+
+    private VarInt() {
+    }
+
+    /**
+     * Escribe un entero no negativo.
+     */
+    public static void write(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Lee un entero escrito con {@link #write(DataOutput, long)}.
+     *
+     * @throws IOException si el valor es demasiado largo (datos corruptos)
+     */
+    public static long read(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("VarInt demasiado largo");
+    }
+
+    /**
+     * Lee un entero no negativo que debe caber en un int.
+     */
+    public static int readInt(DataInput in) throws IOException {
+        long value = read(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException("Valor fuera de rango: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Lee el ordinal de un enum escrito como un byte sin signo.
+     *
+     * @param values Valores del enum (E.values())
+     * @throws IOException si el ordinal no existe (datos corruptos)
+     */
+    public static <E extends Enum<E>> E readEnum(DataInput in, E[] values) throws IOException {
+        int ordinal = in.readUnsignedByte();
+        if (ordinal >= values.length) {
+            throw new IOException("Ordinal fuera de rango: " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    /**
+     * Escribe un entero con signo (codificación zigzag: -1 ocupa un byte).
+     */
+    public static void writeSigned(DataOutput out, long value) throws IOException {
+        write(out, (value << 1) ^ (value >> 63));
+    }
+
+    public static long readSigned(DataInput in) throws IOException {
+        long raw = read(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public static int readSignedInt(DataInput in) throws IOException {
+        return (int) readSigned(in);
+    }
+
+    // ==================== CELDAS ====================
+
+    /** Byte reservado para celdas que no caben en 4 bits por coordenada. */
+    private static final int WIDE_CELL = 0xFF;
+
+    /**
+     * Escribe una celda. Si ambas coordenadas están entre 0 y 14 ocupa un
+     * byte (x en los 4 bits altos, y en los bajos); si no, se escribe el
+     * marcador seguido de ambas coordenadas con signo.
+     */
+    public static void writeCell(DataOutput out, int x, int y) throws IOException {
+        if (x >= 0 && x < 15 && y >= 0 && y < 15) {
+            out.writeByte((x << 4) | y);
+        } else {
+            out.writeByte(WIDE_CELL);
+            writeSigned(out, x);
+            writeSigned(out, y);
+        }
+    }
+
+    public static void writeCell(DataOutput out, Point p) throws IOException {
+        writeCell(out, p.x, p.y);
+    }
+
+    public static Point readCell(DataInput in) throws IOException {
+        int packed = in.readUnsignedByte();
+        if (packed == WIDE_CELL) {
+            return new Point(readSignedInt(in), readSignedInt(in));
+        }
+        return new Point(packed >>> 4, packed & 0x0F);
+    }
+}
@@ -0,0 +1,364 @@
+package domain.state;
+
+import domain.entity.Direction;
+import domain.entity.IceBlock;
+import domain.entity.enemy.Enemy;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Estado de los enemigos guardado por columnas.
+ *
+ * Cada campo que cambia en el tick (posición, dirección, temporizadores,
+ * intervalos y banderas) vive en su propio array primitivo, una fila por
+ * enemigo. Un {@link Enemy} es una vista sobre su fila: sus getters y
+ * setters leen y escriben aquí, así que los snapshots, el guardado y la
+ * lógica de movimiento de cada tipo siguen usando la misma API.
+ *
+ * GameState mantiene una tabla con las filas en el orden de su lista de
+ * enemigos, y {@link #advance(int, List)} recorre esas columnas de forma
+ * contigua en cada tick. Un enemigo que no está en ninguna partida tiene
+ * su propia tabla de una fila; al añadirlo a otra tabla su fila se copia.
+ *
+ * Mientras la tabla planifica (ver {@link #setPlanning(boolean)}), los
+ * enemigos no cambian de celda ni rompen hielo: dejan en su fila la celda
+ * a la que quieren ir y el bloque que quieren romper, y GameLogic los
+ * aplica después en el orden de las filas.
+ */
+public final class EnemyTable {
+
+    /** Duración de la animación de romper hielo, en milisegundos. */
+    public static final int BREAK_ICE_DURATION = 500;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private static final int ACTIVE = 1;
+    private static final int CONTROLLED = 2;
+    private static final int BREAKING = 4;
+    private static final int DRILLING = 8;
+    // Intención del tick: moverse a (intentX, intentY), y si es exclusiva,
+    // solo cuando la celda siga libre de otros enemigos al aplicarla
+    private static final int MOVE_INTENT = 16;
+    private static final int EXCLUSIVE_INTENT = 32;
+
+    private Enemy[] enemies;
+    private int[] x;
+    private int[] y;
+    private byte[] direction;
+    private byte[] flags;
+    private int[] moveTimer;
+    private int[] breakTimer;
+    private int[] stuck;
+    private int[] moveInterval;
+    private int[] chargeInterval;
+    private int[] intentX;
+    private int[] intentY;
+    private IceBlock[] breakIntent;
+    private int size;
+    private boolean planning;
+
+    public EnemyTable(int initialCapacity) {
+        allocate(Math.max(1, initialCapacity));
+    }
+
+    private void allocate(int capacity) {
+        enemies = new Enemy[capacity];
+        x = new int[capacity];
+        y = new int[capacity];
+        direction = new byte[capacity];
+        flags = new byte[capacity];
+        moveTimer = new int[capacity];
+        breakTimer = new int[capacity];
+        stuck = new int[capacity];
+        moveInterval = new int[capacity];
+        chargeInterval = new int[capacity];
+        intentX = new int[capacity];
+        intentY = new int[capacity];
+        breakIntent = new IceBlock[capacity];
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= enemies.length) {
+            return;
+        }
+        int capacity = Math.max(rows, enemies.length * 2);
+        enemies = Arrays.copyOf(enemies, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        direction = Arrays.copyOf(direction, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        moveTimer = Arrays.copyOf(moveTimer, capacity);
+        breakTimer = Arrays.copyOf(breakTimer, capacity);
+        stuck = Arrays.copyOf(stuck, capacity);
+        moveInterval = Arrays.copyOf(moveInterval, capacity);
+        chargeInterval = Arrays.copyOf(chargeInterval, capacity);
+        intentX = Arrays.copyOf(intentX, capacity);
+        intentY = Arrays.copyOf(intentY, capacity);
+        breakIntent = Arrays.copyOf(breakIntent, capacity);
+    }
+
+    // ==================== FILAS ====================
+
+    /**
+     * Añade una fila al final con los datos actuales del enemigo, que pasa
+     * a ser una vista sobre ella.
+     *
+     * @param enemy Enemigo (con su fila en otra tabla)
+     * @return Fila asignada
+     */
+    public int add(Enemy enemy) {
+        ensureCapacity(size + 1);
+        int row = size++;
+        enemies[row] = enemy;
+        enemy.moveRow(this, row);
+        return row;
+    }
+
+    /**
+     * Crea una fila sin enemigo asociado (para el constructor de Enemy).
+     */
+    public int addRow() {
+        ensureCapacity(size + 1);
+        return size++;
+    }
+
+    /**
+     * Copia en {@code row} la fila {@code sourceRow} de otra tabla.
+     */
+    public void copyRow(int row, EnemyTable source, int sourceRow) {
+        x[row] = source.x[sourceRow];
+        y[row] = source.y[sourceRow];
+        direction[row] = source.direction[sourceRow];
+        flags[row] = (byte) (source.flags[sourceRow] & ~(MOVE_INTENT | EXCLUSIVE_INTENT));
+        moveTimer[row] = source.moveTimer[sourceRow];
+        breakTimer[row] = source.breakTimer[sourceRow];
+        stuck[row] = source.stuck[sourceRow];
+        moveInterval[row] = source.moveInterval[sourceRow];
+        chargeInterval[row] = source.chargeInterval[sourceRow];
+    }
+
+    /**
+     * Vacía la tabla. Cada enemigo vuelve a una tabla propia con su estado
+     * actual, de modo que sigue siendo válido fuera de la partida.
+     */
+    public void clear() {
+        for (int row = 0; row < size; row++) {
+            new EnemyTable(1).add(enemies[row]);
+            enemies[row] = null;
+            breakIntent[row] = null;
+        }
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Enemy getEnemy(int row) {
+        return enemies[row];
+    }
+
+    // ==================== TICK ====================
+
+    /**
+     * Avanza los temporizadores de todos los enemigos activos y añade a
+     * {@code ready} los que ya deben moverse, en el orden de las filas.
+     *
+     * @param deltaTime Tiempo del tick en milisegundos
+     * @param ready     Lista de salida
+     */
+    public void advance(int deltaTime, List<Enemy> ready) {
+        for (int row = 0; row < size; row++) {
+            if ((flags[row] & ACTIVE) == 0) {
+                continue;
+            }
+            update(row, deltaTime);
+            if (shouldMove(row)) {
+                ready.add(enemies[row]);
+            }
+        }
+    }
+
+    /**
+     * Avanza los temporizadores de una fila: el de movimiento solo corre
+     * si no la controla un jugador ni está rompiendo hielo, y al terminar
+     * de romper hielo el de movimiento vuelve a cero.
+     */
+    public void update(int row, int deltaTime) {
+        int f = flags[row];
+        if ((f & (CONTROLLED | BREAKING)) == 0) {
+            moveTimer[row] += deltaTime;
+        }
+        if ((f & BREAKING) != 0) {
+            breakTimer[row] += deltaTime;
+            if (breakTimer[row] >= BREAK_ICE_DURATION) {
+                flags[row] = (byte) (f & ~BREAKING);
+                breakTimer[row] = 0;
+                moveTimer[row] = 0;
+            }
+        }
+    }
+
+    public boolean shouldMove(int row) {
+        return (flags[row] & BREAKING) == 0 && moveTimer[row] >= getCurrentInterval(row);
+    }
+
+    // ==================== PLANIFICACIÓN ====================
+
+    /**
+     * Activa o desactiva la fase de planificación. Mientras está activa,
+     * cada enemigo solo escribe en su propia fila, así que las filas se
+     * pueden planificar en paralelo.
+     */
+    public void setPlanning(boolean planning) {
+        this.planning = planning;
+    }
+
+    public boolean isPlanning() {
+        return planning;
+    }
+
+    /**
+     * Guarda la celda a la que quiere moverse la fila en este tick.
+     *
+     * @param exclusive true si la celda debe seguir sin otros enemigos al
+     *                  aplicar la intención
+     */
+    public void setMoveIntent(int row, int x, int y, boolean exclusive) {
+        intentX[row] = x;
+        intentY[row] = y;
+        setFlag(row, MOVE_INTENT, true);
+        setFlag(row, EXCLUSIVE_INTENT, exclusive);
+    }
+
+    public boolean hasMoveIntent(int row) {
+        return (flags[row] & MOVE_INTENT) != 0;
+    }
+
+    public boolean isExclusiveIntent(int row) {
+        return (flags[row] & EXCLUSIVE_INTENT) != 0;
+    }
+
+    public int getIntentX(int row) {
+        return intentX[row];
+    }
+
+    public int getIntentY(int row) {
+        return intentY[row];
+    }
+
+    /**
+     * Guarda el bloque de hielo que la fila quiere romper en este tick.
+     */
+    public void setBreakIntent(int row, IceBlock ice) {
+        breakIntent[row] = ice;
+    }
+
+    public IceBlock getBreakIntent(int row) {
+        return breakIntent[row];
+    }
+
+    /**
+     * Descarta la intención de la fila (después de aplicarla).
+     */
+    public void clearIntent(int row) {
+        flags[row] = (byte) (flags[row] & ~(MOVE_INTENT | EXCLUSIVE_INTENT));
+        breakIntent[row] = null;
+    }
+
+    // ==================== COLUMNAS ====================
+
+    public int getX(int row) {
+        return x[row];
+    }
+
+    public int getY(int row) {
+        return y[row];
+    }
+
+    public void setPosition(int row, int x, int y) {
+        this.x[row] = x;
+        this.y[row] = y;
+    }
+
+    public Direction getDirection(int row) {
+        return DIRECTIONS[direction[row]];
+    }
+
+    public void setDirection(int row, Direction direction) {
+        this.direction[row] = (byte) direction.ordinal();
+    }
+
+    public int getMoveTimer(int row) {
+        return moveTimer[row];
+    }
+
+    public void setMoveTimer(int row, int value) {
+        moveTimer[row] = value;
+    }
+
+    public int getBreakTimer(int row) {
+        return breakTimer[row];
+    }
+
+    public void setBreakTimer(int row, int value) {
+        breakTimer[row] = value;
+    }
+
+    public int getStuckCounter(int row) {
+        return stuck[row];
+    }
+
+    public void setStuckCounter(int row, int value) {
+        stuck[row] = value;
+    }
+
+    /**
+     * @param move   Intervalo de movimiento normal
+     * @param charge Intervalo mientras embiste (ver {@link #isDrilling(int)})
+     */
+    public void setIntervals(int row, int move, int charge) {
+        moveInterval[row] = move;
+        chargeInterval[row] = charge;
+    }
+
+    public int getCurrentInterval(int row) {
+        return (flags[row] & DRILLING) != 0 ? chargeInterval[row] : moveInterval[row];
+    }
+
+    public boolean isActive(int row) {
+        return (flags[row] & ACTIVE) != 0;
+    }
+
+    public void setActive(int row, boolean value) {
+        setFlag(row, ACTIVE, value);
+    }
+
+    public boolean isControlled(int row) {
+        return (flags[row] & CONTROLLED) != 0;
+    }
+
+    public void setControlled(int row, boolean value) {
+        setFlag(row, CONTROLLED, value);
+    }
+
+    public boolean isBreaking(int row) {
+        return (flags[row] & BREAKING) != 0;
+    }
+
+    public void setBreaking(int row, boolean value) {
+        setFlag(row, BREAKING, value);
+    }
+
+    public boolean isDrilling(int row) {
+        return (flags[row] & DRILLING) != 0;
+    }
+
+    public void setDrilling(int row, boolean value) {
+        setFlag(row, DRILLING, value);
+    }
+
+    private void setFlag(int row, int flag, boolean value) {
+        flags[row] = (byte) (value ? flags[row] | flag : flags[row] & ~flag);
+    }
+}
@@ -0,0 +1,73 @@
+package domain.state;
+
+import java.util.Arrays;
+
+/**
+ * Reparte identificadores enteros densos (0, 1, 2...) para las entidades de
+ * la partida. Los identificadores liberados se reutilizan antes de crear
+ * nuevos, así que el mayor identificador en uso se mantiene cerca del
+ * número de entidades vivas y sirve como índice de arrays.
+ *
+ * Cada identificador tiene una generación que aumenta al liberarlo: el par
+ * (identificador, generación) distingue a una entidad de otra posterior que
+ * reutilice su identificador.
+ */
+public class EntityIds {
+
+    private int[] generations = new int[16];
+    private int[] free = new int[16];
+    private int freeCount;
+    private int capacity;
+
+    /**
+     * Obtiene un identificador libre.
+     */
+    public int allocate() {
+        if (freeCount > 0) {
+            return free[--freeCount];
+        }
+        if (capacity == generations.length) {
+            generations = Arrays.copyOf(generations, capacity * 2);
+        }
+        return capacity++;
+    }
+
+    /**
+     * Devuelve un identificador para que se reutilice e invalida su
+     * generación actual.
+     *
+     * @param id Identificador obtenido con {@link #allocate()}
+     */
+    public void release(int id) {
+        if (id < 0 || id >= capacity) {
+            return;
+        }
+        generations[id]++;
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, free.length * 2);
+        }
+        free[freeCount++] = id;
+    }
+
+    /**
+     * Generación vigente de un identificador.
+     */
+    public int getGeneration(int id) {
+        return id >= 0 && id < capacity ? generations[id] : 0;
+    }
+
+    /**
+     * Cota superior (exclusiva) de los identificadores entregados: tamaño
+     * suficiente para un array indexado por identificador.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Número de identificadores en uso.
+     */
+    public int getLiveCount() {
+        return capacity - freeCount;
+    }
+}
@@ -0,0 +1,74 @@
+package domain.state;
+
+import java.util.Random;
+
+/**
+ * Fuente de números aleatorios de una partida.
+ * Usa el mismo generador congruencial que java.util.Random pero sin
+ * sincronización ni operaciones atómicas (cada partida tiene la suya) y con
+ * su estado interno accesible para poder guardarlo y restaurarlo.
+ */
+public class GameRandom extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    private long initialSeed;
+    private long state;
+
+    /**
+     * Constructor con semilla explícita.
+     *
+     * @param seed Semilla de la partida
+     */
+    public GameRandom(long seed) {
+        super(seed);
+        setSeed(seed);
+    }
+
+    /**
+     * Reinicia el generador con una nueva semilla.
+     * (Random invoca este método desde su constructor.)
+     */
+    @Override
+    public void setSeed(long seed) {
+        this.initialSeed = seed;
+        this.state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    protected int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+
+    // ==================== ESTADO ====================
+
+    /**
+     * Obtiene la semilla con la que se inició el generador.
+     */
+    public long getInitialSeed() {
+        return initialSeed;
+    }
+
+    /**
+     * Obtiene el estado interno actual (48 bits).
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Restaura el generador a una semilla y un estado guardados.
+     *
+     * @param initialSeed Semilla original
+     * @param state       Estado interno
+     */
+    public void restore(long initialSeed, long state) {
+        this.initialSeed = initialSeed;
+        this.state = state & MASK;
+    }
+}
@@ -1,17 +1,29 @@
 package domain.state;
 
 import domain.entity.enemy.Enemy;
+import domain.entity.enemy.EnemyFactory;
 import domain.entity.*;
+import domain.service.SimulationEngine;
+import domain.service.VarInt;
 import java.awt.Point;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
 /**
  * Estado global del juego.
  * Contiene todas las entidades, configuración y estado temporal.
+ *
+ * Las listas de entidades deben modificarse mediante los métodos de esta
+ * clase para mantener sincronizado el índice de ocupación por celda.
  */
-public class GameState implements Serializable {
+public class GameState implements Serializable, EntityObserver {
 
     private static final long serialVersionUID = 1L;
 
@@ -37,20 +49,72 @@ public class GameState implements Serializable {
     private int scorePlayer2;
     private boolean p2CPU;
 
+    // Fuente aleatoria única de la partida (su semilla queda en el guardado)
+    private long seed;
+    private GameRandom random;
+
+    // Índice de ocupación por celda (se reconstruye al deserializar)
+    private transient OccupancyGrid occupancy;
+
+    // Identificadores densos de jugadores, enemigos, frutas y hielo (se
+    // reasignan al deserializar)
+    private transient EntityIds ids;
+
+    // Ruedas de temporizadores de jugadores, frutas y hielo: una por fase del
+    // tick, cada una con su reloj (se reconstruyen al deserializar)
+    private transient TimingWheel playerTimers;
+    private transient TimingWheel fruitTimers;
+    private transient TimingWheel iceTimers;
+
+    // Orden de alta de cada entidad, por identificador. Las listas solo
+    // crecen por el final, así que es el mismo orden que el de las listas
+    private transient long[] listOrder;
+    private transient long nextListOrder;
+
+    // Estado del tick de los enemigos por columnas, filas en el orden de
+    // la lista (se reconstruye al deserializar)
+    private transient EnemyTable enemyTable;
+
+    // Frutas sin recolectar de la lista activa, por tipo (índice = ordinal) y
+    // en total; se mantienen al agregar, recolectar y quitar frutas
+    private transient int[] remainingFruits;
+    private transient int remainingFruitTotal;
+
+    // Banderas de la última cabecera binaria leída (ver readSection)
+    private transient int headerFlags;
+
     /**
-     * Constructor del estado del juego.
+     * Constructor del estado del juego con semilla aleatoria.
      *
      * @param characterType   Tipo de personaje del jugador
      * @param level           Nivel actual
      * @param numberOfPlayers Número de jugadores (0=IA vs IA, 1=1P, 2=2P)
      */
     public GameState(String characterType, int level, int numberOfPlayers) {
+        this(characterType, level, numberOfPlayers, new java.util.Random().nextLong());
+    }
+
+    /**
+     * Constructor del estado del juego.
+     *
+     * @param characterType   Tipo de personaje del jugador
+     * @param level           Nivel actual
+     * @param numberOfPlayers Número de jugadores (0=IA vs IA, 1=1P, 2=2P)
+     * @param seed            Semilla de la fuente aleatoria de la partida
+     */
+    public GameState(String characterType, int level, int numberOfPlayers, long seed) {
+        this.ids = new EntityIds();
+        createTimers();
+        this.remainingFruits = new int[FruitType.values().length];
         this.player = new Player(new Point(6, 6), characterType);
+        register(player);
         if (numberOfPlayers == 2 || numberOfPlayers == 0) {
             // Player 2 will be properly initialized/positioned by GameFacade
             this.player2 = new Player(new Point(0, 0), "Vainilla");
+            register(player2);
         }
         this.enemies = new ArrayList<>();
+        this.enemyTable = new EnemyTable(8);
         this.fruits = new ArrayList<>();
         this.pendingFruitWaves = new ArrayList<>();
         this.iceBlocks = new ArrayList<>();
@@ -66,6 +130,9 @@ public class GameState implements Serializable {
         this.score = 0;
         this.scorePlayer2 = 0;
         this.p2CPU = false;
+        this.seed = seed;
+        this.random = new GameRandom(seed);
+        this.occupancy = new OccupancyGrid(GRID_SIZE);
     }
 
     // ==================== GETTERS ESTÁTICOS ====================
@@ -77,6 +144,13 @@ public class GameState implements Serializable {
         return GRID_SIZE;
     }
 
+    /**
+     * Obtiene el tiempo límite de una partida en milisegundos.
+     */
+    public static int getTimeLimit() {
+        return TIME_LIMIT;
+    }
+
     // ==================== GETTERS DE ENTIDADES ====================
 
     public Player getPlayer() {
@@ -88,13 +162,23 @@ public class GameState implements Serializable {
     }
 
     public void setPlayer2(Player player2) {
+        unregister(this.player2);
         this.player2 = player2;
+        register(player2);
     }
 
     public List<Enemy> getEnemies() {
         return enemies;
     }
 
+    /**
+     * Columnas con el estado del tick de los enemigos, una fila por
+     * enemigo en el orden de {@link #getEnemies()}.
+     */
+    public EnemyTable getEnemyTable() {
+        return enemyTable;
+    }
+
     public List<Fruit> getFruits() {
         return fruits;
     }
@@ -114,6 +198,9 @@ public class GameState implements Serializable {
      */
     public void addEnemy(Enemy enemy) {
         enemies.add(enemy);
+        enemyTable.add(enemy);
+        register(enemy);
+        track(enemy);
     }
 
     /**
@@ -121,6 +208,51 @@ public class GameState implements Serializable {
      */
     public void addFruit(Fruit fruit) {
         fruits.add(fruit);
+        register(fruit);
+        track(fruit);
+        if (!fruit.isCollected()) {
+            countRemainingFruit(fruit, 1);
+        }
+    }
+
+    /**
+     * Quita una fruta de la partida por su índice en la lista.
+     *
+     * @param index Índice en {@link #getFruits()}
+     * @return Fruta quitada
+     */
+    public Fruit removeFruit(int index) {
+        return removeFruitAt(index);
+    }
+
+    /**
+     * Quita una fruta de la partida.
+     *
+     * @param fruit Fruta a quitar
+     * @return true si estaba en la partida
+     */
+    public boolean removeFruit(Fruit fruit) {
+        // Por identidad: equals() compara posiciones, y una fruta recolectada
+        // puede compartir casilla con otra viva
+        for (int i = 0; i < fruits.size(); i++) {
+            if (fruits.get(i) == fruit) {
+                removeFruitAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Fruit removeFruitAt(int index) {
+        Fruit fruit = fruits.remove(index);
+        if (fruit.occupiesCell()) {
+            occupy(EntityType.FRUIT, fruit.getX(), fruit.getY(), false);
+        }
+        if (!fruit.isCollected()) {
+            countRemainingFruit(fruit, -1);
+        }
+        untrack(fruit);
+        return fruit;
     }
 
     /**
@@ -128,23 +260,49 @@ public class GameState implements Serializable {
      */
     public void addIceBlock(IceBlock iceBlock) {
         iceBlocks.add(iceBlock);
+        register(iceBlock);
+        Point p = iceBlock.getPosition();
+        occupancy.addIce(iceBlock, p.x, p.y);
     }
 
     /**
      * Elimina un bloque de hielo del juego.
      */
     public void removeIceBlock(IceBlock iceBlock) {
-        iceBlocks.remove(iceBlock);
+        if (removeByIdentity(iceBlocks, iceBlock)) {
+            unregister(iceBlock);
+            Point p = iceBlock.getPosition();
+            IceBlock replacement = null;
+            if (occupancy.hasStackedIce(p.x, p.y)) {
+                for (IceBlock other : iceBlocks) {
+                    if (other.isAt(p)) {
+                        replacement = other;
+                        break;
+                    }
+                }
+            }
+            occupancy.removeIce(iceBlock, p.x, p.y, replacement);
+        }
+    }
+
+    // El hielo apilado comparte casilla y, por tanto, equals()
+    private static boolean removeByIdentity(List<IceBlock> list, IceBlock iceBlock) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == iceBlock) {
+                list.remove(i);
+                return true;
+            }
+        }
+        return false;
     }
 
-    /**
-     * Agrega una baldosa caliente al juego.
-     */
     /**
      * Agrega una baldosa caliente al juego.
      */
     public void addHotTile(HotTile hotTile) {
         hotTiles.add(hotTile);
+        Point p = hotTile.getPosition();
+        occupancy.setHotTile(p.x, p.y, true);
     }
 
     public Iglu getIglu() {
@@ -161,6 +319,750 @@ public class GameState implements Serializable {
 
     public void addUnbreakableBlock(UnbreakableBlock block) {
         unbreakableBlocks.add(block);
+        Point p = block.getPosition();
+        occupancy.setUnbreakable(p.x, p.y, true);
+    }
+
+    /**
+     * Elimina todos los enemigos.
+     */
+    public void clearEnemies() {
+        for (Enemy enemy : enemies) {
+            untrack(enemy);
+        }
+        enemies.clear();
+        enemyTable.clear();
+        occupancy.clearEnemies();
+    }
+
+    /**
+     * Elimina todas las frutas activas (no las oleadas pendientes).
+     */
+    public void clearFruits() {
+        for (Fruit fruit : fruits) {
+            untrack(fruit);
+        }
+        fruits.clear();
+        occupancy.clearFruits();
+        Arrays.fill(remainingFruits, 0);
+        remainingFruitTotal = 0;
+    }
+
+    /**
+     * Elimina todos los bloques de hielo.
+     */
+    public void clearIceBlocks() {
+        for (IceBlock ice : iceBlocks) {
+            unregister(ice);
+        }
+        iceBlocks.clear();
+        occupancy.clearIce();
+    }
+
+    /**
+     * Elimina todas las baldosas calientes.
+     */
+    public void clearHotTiles() {
+        hotTiles.clear();
+        occupancy.clearHotTiles();
+    }
+
+    /**
+     * Elimina todos los bloques irrompibles.
+     */
+    public void clearUnbreakableBlocks() {
+        unbreakableBlocks.clear();
+        occupancy.clearUnbreakable();
+    }
+
+    // ==================== ÍNDICE DE OCUPACIÓN ====================
+
+    /**
+     * Obtiene el índice de ocupación por celda.
+     */
+    public OccupancyGrid getOccupancy() {
+        return occupancy;
+    }
+
+    /**
+     * Reconstruye el índice de ocupación a partir de las listas de entidades.
+     */
+    public void rebuildOccupancy() {
+        occupancy = new OccupancyGrid(GRID_SIZE);
+        for (Enemy enemy : enemies) {
+            track(enemy);
+        }
+        for (Fruit fruit : fruits) {
+            track(fruit);
+        }
+        for (IceBlock ice : iceBlocks) {
+            Point p = ice.getPosition();
+            occupancy.addIce(ice, p.x, p.y);
+        }
+        for (HotTile tile : hotTiles) {
+            Point p = tile.getPosition();
+            occupancy.setHotTile(p.x, p.y, true);
+        }
+        for (UnbreakableBlock block : unbreakableBlocks) {
+            Point p = block.getPosition();
+            occupancy.setUnbreakable(p.x, p.y, true);
+        }
+    }
+
+    /**
+     * Vincula una entidad móvil al índice y la cuenta si ocupa su celda.
+     */
+    private void track(Entity entity) {
+        entity.setObserver(this);
+        if (entity.occupiesCell()) {
+            Point p = entity.getPosition();
+            occupy(entity.getEntityType(), p.x, p.y, true);
+        }
+    }
+
+    /**
+     * Desvincula una entidad del índice y libera su identificador.
+     */
+    private void untrack(Entity entity) {
+        entity.setObserver(null);
+        unregister(entity);
+    }
+
+    // ==================== CONTADORES DE FRUTAS ====================
+
+    /**
+     * Frutas de un tipo que quedan por recolectar en la oleada activa.
+     */
+    public int getRemainingFruits(FruitType type) {
+        return remainingFruits[type.ordinal()];
+    }
+
+    /**
+     * Frutas que quedan por recolectar en la oleada activa.
+     */
+    public int getRemainingFruitCount() {
+        return remainingFruitTotal;
+    }
+
+    /**
+     * Indica si todas las frutas de la oleada activa están recolectadas
+     * (también si no hay ninguna).
+     */
+    public boolean isWaveComplete() {
+        return remainingFruitTotal == 0;
+    }
+
+    private void countRemainingFruit(Fruit fruit, int delta) {
+        remainingFruits[fruit.getType().ordinal()] += delta;
+        remainingFruitTotal += delta;
+    }
+
+    /**
+     * Recalcula los contadores de frutas a partir de la lista (no se guardan
+     * al serializar).
+     */
+    private void rebuildFruitCounters() {
+        remainingFruits = new int[FruitType.values().length];
+        remainingFruitTotal = 0;
+        for (Fruit fruit : fruits) {
+            if (!fruit.isCollected()) {
+                countRemainingFruit(fruit, 1);
+            }
+        }
+    }
+
+    // ==================== IDENTIFICADORES ====================
+
+    /**
+     * Número de identificadores repartidos: cota superior de
+     * {@link Entity#getId()} para las entidades de esta partida.
+     */
+    public int getIdCapacity() {
+        return ids.getCapacity();
+    }
+
+    private void register(Entity entity) {
+        if (entity != null) {
+            int id = ids.allocate();
+            entity.assignId(id, ids.getGeneration(id));
+            if (id >= listOrder.length) {
+                listOrder = Arrays.copyOf(listOrder, Math.max(id + 1, listOrder.length * 2));
+            }
+            listOrder[id] = nextListOrder++;
+            TimingWheel timers = timersFor(entity.getEntityType());
+            if (timers != null) {
+                entity.setObserver(this);
+                timers.add(entity);
+                timers.schedule(entity, entity.getTimerDelay());
+            }
+        }
+    }
+
+    private void unregister(Entity entity) {
+        if (entity != null && entity.getId() >= 0) {
+            TimingWheel timers = timersFor(entity.getEntityType());
+            if (timers != null) {
+                timers.remove(entity);
+                entity.setObserver(null);
+            }
+            ids.release(entity.getId());
+            entity.assignId(-1, 0);
+        }
+    }
+
+    // ==================== TEMPORIZADORES ====================
+
+    private void createTimers() {
+        playerTimers = new TimingWheel(SimulationEngine.TICK_MS);
+        fruitTimers = new TimingWheel(SimulationEngine.TICK_MS);
+        iceTimers = new TimingWheel(SimulationEngine.TICK_MS);
+        listOrder = new long[16];
+    }
+
+    /**
+     * Rueda de temporizadores de un tipo de entidad (null para los que se
+     * actualizan en cada tick, como los enemigos).
+     */
+    private TimingWheel timersFor(EntityType type) {
+        switch (type) {
+            case PLAYER:
+                return playerTimers;
+            case FRUIT:
+                return fruitTimers;
+            case ICE_BLOCK:
+                return iceTimers;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Avanza el reloj de jugadores, frutas o bloques de hielo y devuelve las
+     * entidades de ese tipo cuyo temporizador vence en este tick, en el
+     * orden de sus listas. Sus contadores quedan al día hasta el tick
+     * anterior: quien llama les aplica update(deltaTime) y después
+     * {@link #scheduleTimers(Entity)}. Las demás no se tocan.
+     *
+     * @param type      PLAYER, FRUIT o ICE_BLOCK
+     * @param deltaTime Tiempo del tick en milisegundos
+     * @param woken     Lista de salida (vacía)
+     */
+    public void wakeTimers(EntityType type, int deltaTime, List<Entity> woken) {
+        TimingWheel timers = timersFor(type);
+        timers.advance(deltaTime, woken);
+        for (int i = 0; i < woken.size(); i++) {
+            Entity entity = woken.get(i);
+            // Antes del vencimiento update() solo acumula: basta una llamada
+            // para los ticks en que no se despertó
+            long behind = timers.getTime() - deltaTime - timers.getSyncedAt(entity);
+            if (behind > 0) {
+                entity.update((int) behind);
+            }
+            timers.markSynced(entity);
+        }
+        // Mismo orden que el recorrido completo de antes (la cereza usa el
+        // azar): inserción según el orden de alta, sin reservar memoria
+        for (int i = 1; i < woken.size(); i++) {
+            Entity entity = woken.get(i);
+            long key = listOrder[entity.getId()];
+            int j = i - 1;
+            while (j >= 0 && listOrder[woken.get(j).getId()] > key) {
+                woken.set(j + 1, woken.get(j));
+                j--;
+            }
+            woken.set(j + 1, entity);
+        }
+    }
+
+    /**
+     * Programa el próximo vencimiento de una entidad despertada por
+     * {@link #wakeTimers(EntityType, int, List)}.
+     */
+    public void scheduleTimers(Entity entity) {
+        TimingWheel timers = timersFor(entity.getEntityType());
+        if (timers != null && timers.contains(entity)) {
+            timers.schedule(entity, entity.getTimerDelay());
+        }
+    }
+
+    /**
+     * Aplica a una entidad el tiempo que lleva sin despertarse.
+     */
+    private void catchUpTimers(Entity entity) {
+        TimingWheel timers = timersFor(entity.getEntityType());
+        if (timers != null && timers.contains(entity)) {
+            long behind = timers.getTime() - timers.getSyncedAt(entity);
+            if (behind > 0) {
+                entity.update((int) behind);
+            }
+            timers.markSynced(entity);
+        }
+    }
+
+    /**
+     * Pone al día los contadores de jugadores y frutas antes de escribirlos
+     * (el hielo solo cuenta mientras se rompe, y entonces se despierta en
+     * cada tick).
+     */
+    private void catchUpTimers() {
+        if (player != null) {
+            catchUpTimers(player);
+        }
+        if (player2 != null) {
+            catchUpTimers(player2);
+        }
+        for (int i = 0; i < fruits.size(); i++) {
+            catchUpTimers(fruits.get(i));
+        }
+    }
+
+    /**
+     * Reparte identificadores nuevos a todas las entidades (no se guardan
+     * al serializar).
+     */
+    private void reassignIds() {
+        ids = new EntityIds();
+        register(player);
+        register(player2);
+        for (Enemy enemy : enemies) {
+            register(enemy);
+        }
+        for (Fruit fruit : fruits) {
+            register(fruit);
+        }
+        for (IceBlock ice : iceBlocks) {
+            register(ice);
+        }
+    }
+
+    private void occupy(EntityType type, int x, int y, boolean add) {
+        if (type == EntityType.ENEMY) {
+            if (add) {
+                occupancy.addEnemy(x, y);
+            } else {
+                occupancy.removeEnemy(x, y);
+            }
+        } else if (type == EntityType.FRUIT) {
+            if (add) {
+                occupancy.addFruit(x, y);
+            } else {
+                occupancy.removeFruit(x, y);
+            }
+        }
+    }
+
+    @Override
+    public void onEntityMoved(Entity entity, int oldX, int oldY) {
+        occupy(entity.getEntityType(), oldX, oldY, false);
+        occupy(entity.getEntityType(), entity.getX(), entity.getY(), true);
+    }
+
+    @Override
+    public void onOccupancyChanged(Entity entity, boolean occupies) {
+        occupy(entity.getEntityType(), entity.getX(), entity.getY(), occupies);
+    }
+
+    @Override
+    public void onFruitCollected(Fruit fruit) {
+        countRemainingFruit(fruit, -1);
+    }
+
+    @Override
+    public void onTimersChanging(Entity entity) {
+        catchUpTimers(entity);
+    }
+
+    @Override
+    public void onTimersChanged(Entity entity) {
+        scheduleTimers(entity);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (random == null) {
+            // Partidas guardadas antes de que existiera la semilla
+            seed = new java.util.Random().nextLong();
+            random = new GameRandom(seed);
+        }
+        createTimers();
+        enemyTable = new EnemyTable(Math.max(8, enemies.size()));
+        for (Enemy enemy : enemies) {
+            enemyTable.add(enemy);
+        }
+        reassignIds();
+        rebuildOccupancy();
+        rebuildFruitCounters();
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        catchUpTimers();
+        out.defaultWriteObject();
+    }
+
+    // ==================== ESTADO BINARIO ====================
+
+    /** Secciones del formato binario, en el orden en que se escriben. */
+    public static final int SECTION_HEADER = 0;
+    public static final int SECTION_PLAYERS = 1;
+    public static final int SECTION_ENEMIES = 2;
+    public static final int SECTION_FRUITS = 3;
+    public static final int SECTION_ICE = 4;
+    public static final int SECTION_STATIC = 5;
+    public static final int SECTION_COUNT = 6;
+
+    private static final int FLAG_PLAYER2 = 16;
+    private static final int FLAG_IGLU = 32;
+
+    /**
+     * Escribe el estado completo de la partida en formato binario compacto
+     * (todas las secciones en orden). Las celdas van empaquetadas en un
+     * byte, los enumerados como ordinal y los números como VarInt. La
+     * cabecera y la versión las añade GameStateCodec.
+     *
+     * @param out Flujo de salida
+     * @throws IOException si falla la escritura
+     */
+    public void writeState(DataOutput out) throws IOException {
+        for (int section = 0; section < SECTION_COUNT; section++) {
+            writeSection(section, out);
+        }
+    }
+
+    /**
+     * Lee un estado escrito con {@link #writeState(DataOutput)}.
+     *
+     * @param in Flujo de entrada
+     * @return Estado reconstruido, con el índice de ocupación al día
+     * @throws IOException si los datos están incompletos o corruptos
+     */
+    public static GameState readState(DataInput in) throws IOException {
+        int level = VarInt.readInt(in);
+        int numberOfPlayers = VarInt.readInt(in);
+        GameState state = new GameState(null, level, numberOfPlayers, 0L);
+        state.readHeaderFields(in);
+        for (int section = SECTION_PLAYERS; section < SECTION_COUNT; section++) {
+            state.readSection(section, in);
+        }
+        return state;
+    }
+
+    /**
+     * Escribe una sección del estado. El diario de autoguardado escribe solo
+     * las secciones que cambiaron.
+     *
+     * @param section Sección (SECTION_*)
+     * @param out     Flujo de salida
+     * @throws IOException si falla la escritura
+     */
+    public void writeSection(int section, DataOutput out) throws IOException {
+        switch (section) {
+            case SECTION_HEADER:
+                VarInt.write(out, level);
+                VarInt.write(out, numberOfPlayers);
+                out.writeByte((gameOver ? 1 : 0) | (victory ? 2 : 0) | (timeUp ? 4 : 0) | (p2CPU ? 8 : 0)
+                        | (player2 != null ? FLAG_PLAYER2 : 0) | (iglu != null ? FLAG_IGLU : 0));
+                VarInt.write(out, timeRemaining);
+                VarInt.writeSigned(out, score);
+                VarInt.writeSigned(out, scorePlayer2);
+                out.writeLong(seed);
+                out.writeLong(random.getInitialSeed());
+                out.writeLong(random.getState());
+                break;
+            case SECTION_PLAYERS:
+                catchUpTimers();
+                writePlayer(out, player);
+                if (player2 != null) {
+                    writePlayer(out, player2);
+                }
+                break;
+            case SECTION_ENEMIES:
+                VarInt.write(out, enemies.size());
+                for (int i = 0; i < enemies.size(); i++) {
+                    writeRecord(SECTION_ENEMIES, i, out);
+                }
+                break;
+            case SECTION_FRUITS:
+                catchUpTimers();
+                writeFruits(out, fruits);
+                VarInt.write(out, pendingFruitWaves.size());
+                for (List<Fruit> wave : pendingFruitWaves) {
+                    writeFruits(out, wave);
+                }
+                break;
+            case SECTION_ICE:
+                VarInt.write(out, iceBlocks.size());
+                for (IceBlock ice : iceBlocks) {
+                    VarInt.writeCell(out, ice.getPosition());
+                    ice.writeState(out);
+                }
+                break;
+            case SECTION_STATIC:
+                VarInt.write(out, hotTiles.size());
+                for (HotTile tile : hotTiles) {
+                    VarInt.writeCell(out, tile.getPosition());
+                }
+                if (iglu != null) {
+                    VarInt.writeCell(out, iglu.getPosition());
+                }
+                VarInt.write(out, unbreakableBlocks.size());
+                for (UnbreakableBlock block : unbreakableBlocks) {
+                    VarInt.writeCell(out, block.getPosition());
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Sección desconocida: " + section);
+        }
+    }
+
+    /**
+     * Reemplaza una sección del estado con los datos leídos. Las secciones de
+     * jugadores y estructura dependen de la última cabecera leída. Leer una
+     * sección no altera la secuencia de la fuente aleatoria.
+     *
+     * @param section Sección (SECTION_*)
+     * @param in      Flujo de entrada
+     * @throws IOException si los datos están incompletos o corruptos
+     */
+    public void readSection(int section, DataInput in) throws IOException {
+        long randomSeed = random.getInitialSeed();
+        long randomState = random.getState();
+        switch (section) {
+            case SECTION_HEADER:
+                level = VarInt.readInt(in);
+                numberOfPlayers = VarInt.readInt(in);
+                readHeaderFields(in);
+                return;
+            case SECTION_PLAYERS:
+                unregister(player);
+                unregister(player2);
+                player = readPlayer(in);
+                player2 = (headerFlags & FLAG_PLAYER2) != 0 ? readPlayer(in) : null;
+                register(player);
+                register(player2);
+                break;
+            case SECTION_ENEMIES:
+                clearEnemies();
+                String[] enemyTypes = EnemyFactory.getSupportedTypes();
+                int enemyCount = VarInt.readInt(in);
+                for (int i = 0; i < enemyCount; i++) {
+                    int type = in.readUnsignedByte();
+                    if (type >= enemyTypes.length) {
+                        throw new IOException("Tipo de enemigo desconocido: " + type);
+                    }
+                    Enemy enemy = EnemyFactory.createEnemy(VarInt.readCell(in), enemyTypes[type], random);
+                    enemy.readState(in);
+                    addEnemy(enemy);
+                }
+                break;
+            case SECTION_FRUITS:
+                clearFruits();
+                pendingFruitWaves.clear();
+                for (Fruit fruit : readFruits(in, random)) {
+                    addFruit(fruit);
+                }
+                int waveCount = VarInt.readInt(in);
+                for (int i = 0; i < waveCount; i++) {
+                    addPendingFruitWave(readFruits(in, random));
+                }
+                break;
+            case SECTION_ICE:
+                clearIceBlocks();
+                int iceCount = VarInt.readInt(in);
+                for (int i = 0; i < iceCount; i++) {
+                    IceBlock ice = new IceBlock(VarInt.readCell(in));
+                    ice.readState(in);
+                    addIceBlock(ice);
+                }
+                break;
+            case SECTION_STATIC:
+                clearHotTiles();
+                clearUnbreakableBlocks();
+                int hotTileCount = VarInt.readInt(in);
+                for (int i = 0; i < hotTileCount; i++) {
+                    addHotTile(new HotTile(VarInt.readCell(in)));
+                }
+                iglu = (headerFlags & FLAG_IGLU) != 0 ? new Iglu(VarInt.readCell(in)) : null;
+                int blockCount = VarInt.readInt(in);
+                for (int i = 0; i < blockCount; i++) {
+                    addUnbreakableBlock(new UnbreakableBlock(VarInt.readCell(in)));
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Sección desconocida: " + section);
+        }
+        // Construir enemigos y frutas consume números: se restaura la secuencia
+        random.restore(randomSeed, randomState);
+    }
+
+    /**
+     * Registros de una sección que el diario de autoguardado puede escribir
+     * por separado: los jugadores y los enemigos, en el orden de la sección.
+     *
+     * @param section Sección (SECTION_*)
+     * @return Número de registros, o -1 si la sección solo se escribe entera
+     */
+    public int getRecordCount(int section) {
+        switch (section) {
+            case SECTION_PLAYERS:
+                return player2 != null ? 2 : 1;
+            case SECTION_ENEMIES:
+                return enemies.size();
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Escribe un registro de una sección, con el mismo formato que dentro de
+     * {@link #writeSection(int, DataOutput)}.
+     *
+     * @param section Sección con registros (ver {@link #getRecordCount(int)})
+     * @param index   Registro dentro de la sección
+     * @param out     Flujo de salida
+     * @throws IOException si falla la escritura
+     */
+    public void writeRecord(int section, int index, DataOutput out) throws IOException {
+        switch (section) {
+            case SECTION_PLAYERS:
+                catchUpTimers();
+                writePlayer(out, index == 0 ? player : player2);
+                break;
+            case SECTION_ENEMIES:
+                Enemy enemy = enemies.get(index);
+                out.writeByte(enemyTypeIndex(enemy.getTypeName()));
+                VarInt.writeCell(out, enemy.getPosition());
+                enemy.writeState(out);
+                break;
+            default:
+                throw new IllegalArgumentException("Sección sin registros: " + section);
+        }
+    }
+
+    /**
+     * Reemplaza un registro de una sección con los datos leídos. El número
+     * de registros no cambia: los enemigos se actualizan en el sitio y deben
+     * ser del mismo tipo.
+     *
+     * @param section Sección con registros (ver {@link #getRecordCount(int)})
+     * @param index   Registro dentro de la sección
+     * @param in      Flujo de entrada
+     * @throws IOException si los datos están incompletos, corruptos o no
+     *                     corresponden al registro
+     */
+    public void readRecord(int section, int index, DataInput in) throws IOException {
+        if (index < 0 || index >= getRecordCount(section)) {
+            throw new IOException("Registro fuera de rango: " + index);
+        }
+        switch (section) {
+            case SECTION_PLAYERS:
+                Player read = readPlayer(in);
+                if (index == 0) {
+                    unregister(player);
+                    player = read;
+                } else {
+                    unregister(player2);
+                    player2 = read;
+                }
+                register(read);
+                break;
+            case SECTION_ENEMIES:
+                Enemy enemy = enemies.get(index);
+                int type = in.readUnsignedByte();
+                if (type != enemyTypeIndex(enemy.getTypeName())) {
+                    throw new IOException("Tipo de enemigo distinto en el registro " + index);
+                }
+                Point cell = VarInt.readCell(in);
+                // Fuera del índice mientras cambian celda y actividad
+                if (enemy.occupiesCell()) {
+                    occupy(EntityType.ENEMY, enemy.getX(), enemy.getY(), false);
+                }
+                enemy.setObserver(null);
+                enemy.moveTo(cell);
+                enemy.readState(in);
+                enemy.setObserver(this);
+                if (enemy.occupiesCell()) {
+                    occupy(EntityType.ENEMY, cell.x, cell.y, true);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Sección sin registros: " + section);
+        }
+    }
+
+    private static int enemyTypeIndex(String typeName) {
+        return Arrays.asList(EnemyFactory.getSupportedTypes()).indexOf(typeName);
+    }
+
+    /**
+     * Lee la cabecera a partir de las banderas (nivel y jugadores ya leídos).
+     */
+    private void readHeaderFields(DataInput in) throws IOException {
+        headerFlags = in.readUnsignedByte();
+        gameOver = (headerFlags & 1) != 0;
+        victory = (headerFlags & 2) != 0;
+        timeUp = (headerFlags & 4) != 0;
+        p2CPU = (headerFlags & 8) != 0;
+        timeRemaining = VarInt.read(in);
+        score = VarInt.readSignedInt(in);
+        scorePlayer2 = VarInt.readSignedInt(in);
+        seed = in.readLong();
+        long randomSeed = in.readLong();
+        long randomState = in.readLong();
+        random.restore(randomSeed, randomState);
+    }
+
+    private static void writePlayer(DataOutput out, Player player) throws IOException {
+        VarInt.writeCell(out, player.getPosition());
+        out.writeUTF(player.getCharacterType() != null ? player.getCharacterType() : "");
+        player.writeState(out);
+    }
+
+    private static Player readPlayer(DataInput in) throws IOException {
+        Point position = VarInt.readCell(in);
+        Player player = new Player(position, in.readUTF());
+        player.readState(in);
+        return player;
+    }
+
+    private static void writeFruits(DataOutput out, List<Fruit> list) throws IOException {
+        VarInt.write(out, list.size());
+        for (Fruit fruit : list) {
+            out.writeByte(fruit.getType().ordinal());
+            VarInt.writeCell(out, fruit.getPosition());
+            fruit.writeState(out);
+        }
+    }
+
+    private static List<Fruit> readFruits(DataInput in, GameRandom random) throws IOException {
+        int count = VarInt.readInt(in);
+        List<Fruit> list = new ArrayList<>(count);
+        FruitType[] types = FruitType.values();
+        for (int i = 0; i < count; i++) {
+            int type = in.readUnsignedByte();
+            if (type >= types.length) {
+                throw new IOException("Tipo de fruta desconocido: " + type);
+            }
+            Fruit fruit = new Fruit(VarInt.readCell(in), types[type], random);
+            fruit.readState(in);
+            list.add(fruit);
+        }
+        return list;
+    }
+
+    // ==================== ALEATORIEDAD ====================
+
+    /**
+     * Obtiene la semilla con la que se creó la partida.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Obtiene la fuente aleatoria compartida por toda la simulación.
+     */
+    public GameRandom getRandom() {
+        return random;
     }
 
     // ==================== ESTADO DEL JUEGO ====================
@@ -181,11 +1083,11 @@ public class GameState implements Serializable {
      * Limpia todas las entidades del estado del juego.
      */
     public void clear() {
-        enemies.clear();
-        fruits.clear();
-        iceBlocks.clear();
-        hotTiles.clear();
-        unbreakableBlocks.clear();
+        clearEnemies();
+        clearFruits();
+        clearIceBlocks();
+        clearHotTiles();
+        clearUnbreakableBlocks();
         iglu = null;
     }
 
@@ -252,12 +1154,42 @@ public class GameState implements Serializable {
      * @return Tiempo formateado
      */
     public String getFormattedTime() {
-        long seconds = timeRemaining / 1000;
+        return formatTime(timeRemaining);
+    }
+
+    /**
+     * Formatea un tiempo en milisegundos como MM:SS.
+     */
+    public static String formatTime(long millis) {
+        long seconds = millis / 1000;
         long minutes = seconds / 60;
         seconds = seconds % 60;
         return String.format("%02d:%02d", minutes, seconds);
     }
 
+    /**
+     * Verifica si la animación de muerte ha terminado completamente.
+     *
+     * @return true si la animación terminó
+     */
+    public boolean isDeathAnimationComplete() {
+        boolean p1Dead = (player != null) && !player.isDying() && !player.isAlive();
+        boolean p2Dead = (player2 != null) && !player2.isDying() && !player2.isAlive();
+
+        // In PvP/MvM, game over only if BOTH players die (GameLogic ensures isGameOver
+        // is set).
+        // Here we ensure we wait for BOTH animations to complete before showing
+        // summary.
+        if (timeUp) {
+            return true;
+        }
+
+        if (numberOfPlayers == 2 || numberOfPlayers == 0) {
+            return p1Dead && p2Dead;
+        }
+        return p1Dead;
+    }
+
     public void setPlayerNames(String p1Name, String p2Name) {
         if (player != null && p1Name != null) {
             player.setName(p1Name);
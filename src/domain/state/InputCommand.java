@@ -0,0 +1,56 @@
+package domain.state;
+
+/**
+ * Comandos de entrada que llegan a la fachada del juego.
+ * Cada comando tiene un código de un byte estable para los archivos de
+ * repetición: no reordenar ni reutilizar códigos.
+ */
+public enum InputCommand {
+    P1_UP(0),
+    P1_DOWN(1),
+    P1_LEFT(2),
+    P1_RIGHT(3),
+    P1_STOP(4),
+    P1_ACTION(5),
+    P2_UP(6),
+    P2_DOWN(7),
+    P2_LEFT(8),
+    P2_RIGHT(9),
+    P2_STOP(10),
+    P2_ACTION(11);
+
+    private static final InputCommand[] BY_CODE = new InputCommand[values().length];
+
+    static {
+        for (InputCommand command : values()) {
+            BY_CODE[command.code] = command;
+        }
+    }
+
+    private final int code;
+
+    InputCommand(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Jugador al que va dirigido el comando (0 para P1, 1 para P2).
+     */
+    public int getPlayerIndex() {
+        return code < P2_UP.code ? 0 : 1;
+    }
+
+    /**
+     * Obtiene el comando correspondiente a un código.
+     *
+     * @param code Código leído
+     * @return Comando, o null si el código no existe
+     */
+    public static InputCommand fromCode(int code) {
+        return (code >= 0 && code < BY_CODE.length) ? BY_CODE[code] : null;
+    }
+}
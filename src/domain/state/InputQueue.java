@@ -0,0 +1,67 @@
+package domain.state;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cola circular de comandos de entrada para un productor y un consumidor.
+ *
+ * Sin esperas: {@link #offer(InputCommand)} y {@link #poll()} terminan en
+ * un número fijo de pasos, sin bloqueos ni reintentos. Si la cola está
+ * llena, offer() devuelve false en lugar de esperar al consumidor.
+ */
+public final class InputQueue {
+
+    private final InputCommand[] slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // Siguiente a leer (consumidor)
+    private final AtomicLong tail = new AtomicLong(); // Siguiente a escribir (productor)
+
+    /**
+     * @param capacity Capacidad mínima (se redondea a potencia de 2)
+     */
+    public InputQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new InputCommand[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Encola un comando (lo llama el productor).
+     *
+     * @return false si la cola está llena y el comando se descartó
+     */
+    public boolean offer(InputCommand command) {
+        long t = tail.get();
+        if (t - head.get() == slots.length) {
+            return false;
+        }
+        slots[(int) (t & mask)] = command;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Saca el comando más antiguo (lo llama el consumidor).
+     *
+     * @return Comando, o null si la cola está vacía
+     */
+    public InputCommand poll() {
+        long h = head.get();
+        if (h == tail.get()) {
+            return null;
+        }
+        int index = (int) (h & mask);
+        InputCommand command = slots[index];
+        slots[index] = null;
+        head.lazySet(h + 1);
+        return command;
+    }
+
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+}
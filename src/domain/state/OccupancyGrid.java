@@ -0,0 +1,180 @@
+package domain.state;
+
+import domain.entity.IceBlock;
+
+/**
+ * Índice de ocupación por celda del grid.
+ * Lo mantiene GameState al agregar, quitar o mover entidades, de modo que
+ * las consultas de colisión no recorran las listas completas (O(1)).
+ *
+ * Las posiciones fuera del grid se consideran vacías.
+ */
+public class OccupancyGrid {
+
+    private final int size;
+    private final IceBlock[] ice;
+    private final int[] iceCount;
+    private final int[] enemyCount;
+    private final int[] fruitCount;
+    private final boolean[] unbreakable;
+    private final boolean[] hotTile;
+
+    /**
+     * Constructor del índice.
+     *
+     * @param size Tamaño del lado del grid
+     */
+    public OccupancyGrid(int size) {
+        this.size = size;
+        int cells = size * size;
+        this.ice = new IceBlock[cells];
+        this.iceCount = new int[cells];
+        this.enemyCount = new int[cells];
+        this.fruitCount = new int[cells];
+        this.unbreakable = new boolean[cells];
+        this.hotTile = new boolean[cells];
+    }
+
+    // ==================== UTILIDADES ====================
+
+    public boolean contains(int x, int y) {
+        return x >= 0 && x < size && y >= 0 && y < size;
+    }
+
+    private int index(int x, int y) {
+        return y * size + x;
+    }
+
+    // ==================== CONSULTAS ====================
+
+    public IceBlock getIce(int x, int y) {
+        return contains(x, y) ? ice[index(x, y)] : null;
+    }
+
+    public boolean hasIce(int x, int y) {
+        return contains(x, y) && iceCount[index(x, y)] > 0;
+    }
+
+    public int getEnemyCount(int x, int y) {
+        return contains(x, y) ? enemyCount[index(x, y)] : 0;
+    }
+
+    public int getFruitCount(int x, int y) {
+        return contains(x, y) ? fruitCount[index(x, y)] : 0;
+    }
+
+    public boolean hasUnbreakable(int x, int y) {
+        return contains(x, y) && unbreakable[index(x, y)];
+    }
+
+    public boolean hasHotTile(int x, int y) {
+        return contains(x, y) && hotTile[index(x, y)];
+    }
+
+    // ==================== HIELO ====================
+
+    /**
+     * Registra un bloque de hielo. Si la celda ya tenía uno se conserva
+     * el primero como referencia.
+     */
+    public void addIce(IceBlock block, int x, int y) {
+        if (!contains(x, y))
+            return;
+        int i = index(x, y);
+        if (ice[i] == null) {
+            ice[i] = block;
+        }
+        iceCount[i]++;
+    }
+
+    /**
+     * Quita un bloque de hielo de la celda.
+     *
+     * @param replacement Otro bloque que sigue en la celda (o null)
+     */
+    public void removeIce(IceBlock block, int x, int y, IceBlock replacement) {
+        if (!contains(x, y))
+            return;
+        int i = index(x, y);
+        if (iceCount[i] > 0) {
+            iceCount[i]--;
+        }
+        if (iceCount[i] == 0) {
+            ice[i] = null;
+        } else if (ice[i] == block) {
+            ice[i] = replacement;
+        }
+    }
+
+    /**
+     * Indica si la celda tiene más de un bloque de hielo registrado.
+     */
+    public boolean hasStackedIce(int x, int y) {
+        return contains(x, y) && iceCount[index(x, y)] > 1;
+    }
+
+    // ==================== ENEMIGOS Y FRUTAS ====================
+
+    public void addEnemy(int x, int y) {
+        if (contains(x, y))
+            enemyCount[index(x, y)]++;
+    }
+
+    public void removeEnemy(int x, int y) {
+        if (contains(x, y) && enemyCount[index(x, y)] > 0)
+            enemyCount[index(x, y)]--;
+    }
+
+    public void addFruit(int x, int y) {
+        if (contains(x, y))
+            fruitCount[index(x, y)]++;
+    }
+
+    public void removeFruit(int x, int y) {
+        if (contains(x, y) && fruitCount[index(x, y)] > 0)
+            fruitCount[index(x, y)]--;
+    }
+
+    // ==================== ESTRUCTURA ESTÁTICA ====================
+
+    public void setUnbreakable(int x, int y, boolean value) {
+        if (contains(x, y))
+            unbreakable[index(x, y)] = value;
+    }
+
+    public void setHotTile(int x, int y, boolean value) {
+        if (contains(x, y))
+            hotTile[index(x, y)] = value;
+    }
+
+    // ==================== LIMPIEZA ====================
+
+    public void clearIce() {
+        java.util.Arrays.fill(ice, null);
+        java.util.Arrays.fill(iceCount, 0);
+    }
+
+    public void clearEnemies() {
+        java.util.Arrays.fill(enemyCount, 0);
+    }
+
+    public void clearFruits() {
+        java.util.Arrays.fill(fruitCount, 0);
+    }
+
+    public void clearUnbreakable() {
+        java.util.Arrays.fill(unbreakable, false);
+    }
+
+    public void clearHotTiles() {
+        java.util.Arrays.fill(hotTile, false);
+    }
+
+    public void clear() {
+        clearIce();
+        clearEnemies();
+        clearFruits();
+        clearUnbreakable();
+        clearHotTiles();
+    }
+}
@@ -0,0 +1,175 @@
+package domain.state;
+
+import domain.dto.LevelConfigurationDTO;
+import java.util.Arrays;
+
+/**
+ * Repetición de una partida: parámetros de inicio, semilla y la secuencia de
+ * entradas con el tick en que se aplicaron.
+ *
+ * Como la simulación es de paso fijo y toda la aleatoriedad sale de la
+ * semilla, volver a crear la partida y aplicar las mismas entradas en los
+ * mismos ticks reproduce exactamente el mismo resultado.
+ */
+public class Replay {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    // Parámetros de inicio
+    private final long seed;
+    private final int level;
+    private final int numberOfPlayers;
+    private final String characterType;
+    private final String characterTypeP2;
+    private final String playerName;
+    private final String player2Name;
+    private final String aiTypeP1;
+    private final String aiTypeP2;
+    private final boolean p2CPU;
+    private final LevelConfigurationDTO initialConfiguration;
+    private LevelConfigurationDTO appliedConfiguration;
+
+    // Entradas: tick en que se aplicó cada comando (orden no decreciente)
+    private int[] eventTicks = new int[INITIAL_CAPACITY];
+    private byte[] eventCommands = new byte[INITIAL_CAPACITY];
+    private int eventCount;
+    private long endTick;
+
+    /**
+     * Constructor con todos los parámetros de inicio.
+     *
+     * @param initialConfiguration Configuración usada al crear la fachada (o null)
+     */
+    public Replay(long seed, int level, int numberOfPlayers, String characterType, String characterTypeP2,
+            String playerName, String player2Name, String aiTypeP1, String aiTypeP2, boolean p2CPU,
+            LevelConfigurationDTO initialConfiguration) {
+        this.seed = seed;
+        this.level = level;
+        this.numberOfPlayers = numberOfPlayers;
+        this.characterType = characterType;
+        this.characterTypeP2 = characterTypeP2;
+        this.playerName = playerName;
+        this.player2Name = player2Name;
+        this.aiTypeP1 = aiTypeP1;
+        this.aiTypeP2 = aiTypeP2;
+        this.p2CPU = p2CPU;
+        this.initialConfiguration = initialConfiguration != null ? initialConfiguration.copy() : null;
+    }
+
+    /**
+     * Crea una repetición vacía a partir de un estado recién inicializado.
+     *
+     * @param gameState            Estado en el tick 0
+     * @param initialConfiguration Configuración usada al crear la fachada (o null)
+     * @return Repetición lista para grabar
+     */
+    public static Replay startFrom(GameState gameState, LevelConfigurationDTO initialConfiguration) {
+        domain.entity.Player p1 = gameState.getPlayer();
+        domain.entity.Player p2 = gameState.getPlayer2();
+        return new Replay(gameState.getSeed(), gameState.getLevel(), gameState.getNumberOfPlayers(),
+                p1.getCharacterType(), p2 != null ? p2.getCharacterType() : null,
+                p1.getName(), p2 != null ? p2.getName() : null,
+                p1.getAIType() != null ? p1.getAIType().name() : null,
+                p2 != null && p2.getAIType() != null ? p2.getAIType().name() : null,
+                gameState.isP2CPU(), initialConfiguration);
+    }
+
+    // ==================== GRABACIÓN ====================
+
+    /**
+     * Registra una entrada aplicada antes del tick indicado.
+     *
+     * @param tick    Número de ticks ya simulados cuando llegó la entrada
+     * @param command Comando recibido
+     */
+    public void record(long tick, InputCommand command) {
+        if (eventCount == eventTicks.length) {
+            eventTicks = Arrays.copyOf(eventTicks, eventCount * 2);
+            eventCommands = Arrays.copyOf(eventCommands, eventCount * 2);
+        }
+        eventTicks[eventCount] = (int) tick;
+        eventCommands[eventCount] = (byte) command.getCode();
+        eventCount++;
+        endTick = Math.max(endTick, tick);
+    }
+
+    /**
+     * Registra la configuración aplicada sobre el nivel antes de empezar.
+     */
+    public void setAppliedConfiguration(LevelConfigurationDTO configuration) {
+        this.appliedConfiguration = configuration != null ? configuration.copy() : null;
+    }
+
+    /**
+     * Actualiza el último tick simulado de la partida grabada.
+     */
+    public void setEndTick(long endTick) {
+        this.endTick = Math.max(this.endTick, endTick);
+    }
+
+    // ==================== CONSULTAS ====================
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public int getEventTick(int index) {
+        return eventTicks[index];
+    }
+
+    public InputCommand getEventCommand(int index) {
+        return InputCommand.fromCode(eventCommands[index]);
+    }
+
+    public long getEndTick() {
+        return endTick;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getNumberOfPlayers() {
+        return numberOfPlayers;
+    }
+
+    public String getCharacterType() {
+        return characterType;
+    }
+
+    public String getCharacterTypeP2() {
+        return characterTypeP2;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public String getPlayer2Name() {
+        return player2Name;
+    }
+
+    public String getAiTypeP1() {
+        return aiTypeP1;
+    }
+
+    public String getAiTypeP2() {
+        return aiTypeP2;
+    }
+
+    public boolean isP2CPU() {
+        return p2CPU;
+    }
+
+    public LevelConfigurationDTO getInitialConfiguration() {
+        return initialConfiguration;
+    }
+
+    public LevelConfigurationDTO getAppliedConfiguration() {
+        return appliedConfiguration;
+    }
+}
@@ -0,0 +1,267 @@
+package domain.state;
+
+import domain.entity.Entity;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Rueda de temporizadores jerárquica sobre el tiempo de juego.
+ *
+ * Cada entidad miembro registra cuándo vence su próximo temporizador y la
+ * rueda solo la devuelve en el avance en que vence: las entidades sin
+ * temporizadores en marcha no cuestan nada por tick. Hay cuatro niveles
+ * de 64 casillas; el primero avanza una casilla por cada {@code resolution}
+ * milisegundos y cada nivel superior cubre 64 veces más tiempo. Las
+ * entradas bajan de nivel cuando el inferior da una vuelta completa.
+ *
+ * Reprogramar una entidad no busca su entrada anterior: se descarta al
+ * llegar a ella porque ya no coincide con el vencimiento vigente.
+ *
+ * El reloj de la rueda solo avanza con {@link #advance(int, List)}; cada
+ * fase del tick usa su propia rueda para que una fase que no se ejecuta
+ * (por ejemplo, las frutas con la partida terminada) no acumule tiempo.
+ *
+ * Los datos de cada miembro se guardan por su identificador denso
+ * (Entity.getId()).
+ */
+public class TimingWheel {
+
+    private static final int LEVEL_BITS = 6;
+    private static final int SLOTS = 1 << LEVEL_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long UNSCHEDULED = -1;
+
+    private final int resolution;
+    private final Slot[][] levels = new Slot[LEVELS][SLOTS];
+    private long now;
+    private long currentTick; // Casilla del primer nivel que se vacía en el próximo avance
+
+    // Por identificador de entidad
+    private Entity[] members = new Entity[16];
+    private long[] dueAt = new long[16];
+    private long[] syncedAt = new long[16];
+
+    /**
+     * @param resolution Milisegundos por casilla del primer nivel
+     */
+    public TimingWheel(int resolution) {
+        this.resolution = Math.max(1, resolution);
+        Arrays.fill(dueAt, UNSCHEDULED);
+    }
+
+    /**
+     * Tiempo de juego acumulado por esta rueda, en milisegundos.
+     */
+    public long getTime() {
+        return now;
+    }
+
+    // ==================== MIEMBROS ====================
+
+    /**
+     * Añade una entidad, al día en el instante actual y sin vencimiento.
+     *
+     * @param entity Entidad con identificador asignado
+     */
+    public void add(Entity entity) {
+        int id = entity.getId();
+        ensureCapacity(id);
+        members[id] = entity;
+        syncedAt[id] = now;
+        dueAt[id] = UNSCHEDULED;
+    }
+
+    /**
+     * Quita una entidad; sus entradas pendientes se descartan.
+     */
+    public void remove(Entity entity) {
+        if (contains(entity)) {
+            members[entity.getId()] = null;
+            dueAt[entity.getId()] = UNSCHEDULED;
+        }
+    }
+
+    public boolean contains(Entity entity) {
+        int id = entity.getId();
+        return id >= 0 && id < members.length && members[id] == entity;
+    }
+
+    /**
+     * Instante (reloj de esta rueda) hasta el que están al día los
+     * contadores de la entidad.
+     */
+    public long getSyncedAt(Entity entity) {
+        return syncedAt[entity.getId()];
+    }
+
+    /**
+     * Marca los contadores de la entidad como al día en el instante actual.
+     */
+    public void markSynced(Entity entity) {
+        syncedAt[entity.getId()] = now;
+    }
+
+    /**
+     * Programa el próximo vencimiento de la entidad: cuando el reloj haya
+     * avanzado {@code delay} desde el último instante en que estuvo al día.
+     *
+     * @param entity Entidad miembro
+     * @param delay  Milisegundos (ver Entity.getTimerDelay()), o
+     *               Entity.NO_TIMER para cancelar
+     */
+    public void schedule(Entity entity, int delay) {
+        int id = entity.getId();
+        if (delay == Entity.NO_TIMER) {
+            dueAt[id] = UNSCHEDULED;
+            return;
+        }
+        long due = syncedAt[id] + Math.max(1, delay);
+        if (dueAt[id] == due) {
+            return;
+        }
+        dueAt[id] = due;
+        insert(entity, due);
+    }
+
+    /**
+     * Indica si la entidad tiene un vencimiento programado.
+     */
+    public boolean isScheduled(Entity entity) {
+        return contains(entity) && dueAt[entity.getId()] != UNSCHEDULED;
+    }
+
+    // ==================== AVANCE ====================
+
+    /**
+     * Avanza el reloj y añade a {@code due} las entidades cuyo vencimiento
+     * ya llegó (quedan sin programar).
+     *
+     * @param deltaTime Milisegundos de juego transcurridos
+     * @param due       Lista de salida
+     */
+    public void advance(int deltaTime, List<Entity> due) {
+        now += deltaTime;
+        long targetTick = now / resolution;
+        while (true) {
+            drain(due);
+            if (currentTick >= targetTick) {
+                return;
+            }
+            currentTick++;
+            if ((currentTick & MASK) == 0) {
+                cascade();
+            }
+        }
+    }
+
+    /**
+     * Vacía la casilla actual del primer nivel. Las entradas que vencen más
+     * tarde dentro de la misma casilla se conservan.
+     */
+    private void drain(List<Entity> due) {
+        Slot slot = levels[0][(int) (currentTick & MASK)];
+        if (slot == null || slot.size == 0) {
+            return;
+        }
+        int kept = 0;
+        for (int i = 0; i < slot.size; i++) {
+            Entity entity = slot.entities[i];
+            long time = slot.times[i];
+            if (!isCurrent(entity, time)) {
+                continue;
+            }
+            if (time <= now) {
+                dueAt[entity.getId()] = UNSCHEDULED;
+                due.add(entity);
+            } else {
+                slot.entities[kept] = entity;
+                slot.times[kept++] = time;
+            }
+        }
+        Arrays.fill(slot.entities, kept, slot.size, null);
+        slot.size = kept;
+    }
+
+    /**
+     * Baja a los niveles inferiores las entradas del bloque que empieza.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int index = (int) ((currentTick >>> (LEVEL_BITS * level)) & MASK);
+            Slot slot = levels[level][index];
+            if (slot != null && slot.size > 0) {
+                int size = slot.size;
+                Entity[] entities = slot.entities;
+                long[] times = slot.times;
+                levels[level][index] = null; // Se reinsertan en otras casillas
+                for (int i = 0; i < size; i++) {
+                    if (isCurrent(entities[i], times[i])) {
+                        insert(entities[i], times[i]);
+                    }
+                }
+            }
+            if (index != 0) {
+                return;
+            }
+        }
+    }
+
+    private void insert(Entity entity, long due) {
+        long dueTick = Math.max(due / resolution, currentTick);
+        long delta = dueTick - currentTick;
+        int level;
+        if (delta < SLOTS) {
+            level = 0;
+        } else if (delta < 1L << (2 * LEVEL_BITS)) {
+            level = 1;
+        } else if (delta < 1L << (3 * LEVEL_BITS)) {
+            level = 2;
+        } else {
+            level = 3;
+            // Más allá del alcance de la rueda: se reinserta al dar la vuelta
+            dueTick = Math.min(dueTick, currentTick + (1L << (LEVELS * LEVEL_BITS)) - 1);
+        }
+        int index = (int) ((dueTick >>> (LEVEL_BITS * level)) & MASK);
+        Slot slot = levels[level][index];
+        if (slot == null) {
+            slot = new Slot();
+            levels[level][index] = slot;
+        }
+        slot.add(entity, due);
+    }
+
+    private boolean isCurrent(Entity entity, long due) {
+        return contains(entity) && dueAt[entity.getId()] == due;
+    }
+
+    private void ensureCapacity(int id) {
+        if (id < members.length) {
+            return;
+        }
+        int capacity = Math.max(id + 1, members.length * 2);
+        int old = members.length;
+        members = Arrays.copyOf(members, capacity);
+        syncedAt = Arrays.copyOf(syncedAt, capacity);
+        dueAt = Arrays.copyOf(dueAt, capacity);
+        Arrays.fill(dueAt, old, capacity, UNSCHEDULED);
+    }
+
+    /**
+     * Entradas de una casilla: entidad y vencimiento con el que se insertó.
+     */
+    private static final class Slot {
+        Entity[] entities = new Entity[4];
+        long[] times = new long[4];
+        int size;
+
+        void add(Entity entity, long time) {
+            if (size == entities.length) {
+                entities = Arrays.copyOf(entities, size * 2);
+                times = Arrays.copyOf(times, size * 2);
+            }
+            entities[size] = entity;
+            times[size++] = time;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package domain.state;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Triple buffer sin bloqueos para un productor y un consumidor.
+ *
+ * El productor escribe siempre en su buffer trasero y lo publica
+ * intercambiándolo con el del medio; el consumidor, al adquirir, se queda
+ * con el del medio si hay uno nuevo. Ninguno espera al otro: el productor
+ * puede publicar varias veces entre dos lecturas (el consumidor solo ve la
+ * última) y el consumidor puede leer el mismo buffer varias veces.
+ *
+ * El intercambio es un único getAndSet sobre el índice del medio, de modo
+ * que todo lo que el productor escribió antes de publicar es visible para
+ * el consumidor que adquiere ese buffer.
+ *
+ * @param <T> Tipo del buffer (se reutiliza: nunca se crean copias)
+ */
+public final class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 3;
+    private static final int DIRTY = 4; // El buffer del medio tiene datos no leídos
+
+    private final Object[] buffers;
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0; // Solo el productor
+    private int front = 2; // Solo el consumidor
+
+    public TripleBuffer(T first, T second, T third) {
+        this.buffers = new Object[] { first, second, third };
+    }
+
+    /**
+     * Buffer en el que escribe el productor antes de {@link #publish()}.
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[back];
+    }
+
+    /**
+     * Publica el buffer escrito y pasa a escribir en otro (lo llama el
+     * productor).
+     */
+    public void publish() {
+        back = middle.getAndSet(back | DIRTY) & INDEX_MASK;
+    }
+
+    /**
+     * Devuelve el último buffer publicado (lo llama el consumidor). Sigue
+     * siendo válido hasta la siguiente llamada.
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & DIRTY) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) buffers[front];
+    }
+
+    /**
+     * Devuelve el buffer adquirido por última vez, sin buscar uno más nuevo
+     * (lo llama el consumidor).
+     */
+    @SuppressWarnings("unchecked")
+    public T current() {
+        return (T) buffers[front];
+    }
+
+    /**
+     * Indica si hay un buffer publicado que el consumidor aún no adquirió.
+     */
+    public boolean hasUpdate() {
+        return (middle.get() & DIRTY) != 0;
+    }
+}
@@ -33,6 +33,10 @@ public class BadDopoException extends Exception {
         return new BadDopoException("Error al cargar la partida: " + details);
     }
 
+    public static BadDopoException deleteError(String filename, Throwable cause) {
+        return new BadDopoException("No se pudo borrar la partida: " + filename, cause);
+    }
+
     public static BadDopoException levelLoadError(String filename, Throwable cause) {
         return new BadDopoException(MSG_LEVEL_FILE_ERROR + filename, cause);
     }
@@ -64,4 +68,24 @@ public class BadDopoException extends Exception {
     public static BadDopoException legendNull() {
         return new BadDopoException(MSG_LEGEND_NULL);
     }
+
+    public static BadDopoException resultsWriteError(String filename, Throwable cause) {
+        return new BadDopoException("No se pudieron escribir los resultados en: " + filename, cause);
+    }
+
+    public static BadDopoException tournamentError(String details, Throwable cause) {
+        return new BadDopoException("Error durante el torneo: " + details, cause);
+    }
+
+    public static BadDopoException replayWriteError(String filename, Throwable cause) {
+        return new BadDopoException("No se pudo guardar la repetición: " + filename, cause);
+    }
+
+    public static BadDopoException replayReadError(String filename, Throwable cause) {
+        return new BadDopoException("No se pudo leer la repetición: " + filename, cause);
+    }
+
+    public static BadDopoException replayNotAvailable() {
+        return new BadDopoException("La partida actual no tiene repetición (partida cargada)");
+    }
 }
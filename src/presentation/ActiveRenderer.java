@@ -0,0 +1,188 @@
+package presentation;
+
+import java.awt.Canvas;
+import java.awt.DisplayMode;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.function.Consumer;
+
+/**
+ * Renderizado activo sobre un Canvas con BufferStrategy.
+ *
+ * Un hilo propio marca el ritmo de los frames según la frecuencia de la
+ * pantalla (60/120/144 Hz), dibuja cada frame y hace el cambio de página.
+ * El hilo de Swing no interviene: el painter solo debe leer datos que no
+ * modifique otro hilo (las fotos publicadas por el hilo de simulación y su
+ * propio estado de interpolación).
+ *
+ * Se activa con -Dbaddopo.activeRendering=true. La frecuencia se puede
+ * forzar con -Dbaddopo.targetFps=N.
+ */
+public class ActiveRenderer implements Runnable {
+
+    public static final String ENABLED_PROPERTY = "baddopo.activeRendering";
+    public static final String TARGET_FPS_PROPERTY = "baddopo.targetFps";
+
+    private static final int DEFAULT_REFRESH_RATE = 60;
+    private static final int BUFFER_COUNT = 2;
+    // Margen final de cada frame que se espera sin dormir (el sleep es poco preciso)
+    private static final long SPIN_WINDOW_NANOS = 1_000_000L;
+
+    private final Canvas canvas;
+    private final Consumer<Graphics2D> painter;
+
+    private volatile boolean running;
+    private Thread thread;
+    private BufferStrategy strategy;
+    private long framePeriodNanos;
+    private volatile long framesRendered;
+
+    /**
+     * @param canvas  Canvas donde se dibuja (debe estar en una ventana visible
+     *                antes de start())
+     * @param painter Dibuja un frame completo; se llama en el hilo de render
+     */
+    public ActiveRenderer(Canvas canvas, Consumer<Graphics2D> painter) {
+        this.canvas = canvas;
+        this.painter = painter;
+        canvas.setIgnoreRepaint(true);
+    }
+
+    /**
+     * Indica si el modo de renderizado activo está pedido por configuración.
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Duración de un frame para una frecuencia de refresco dada.
+     *
+     * @param refreshRate Frecuencia en Hz; 0 o negativa si es desconocida
+     * @return Nanosegundos por frame (60 Hz si la frecuencia es desconocida)
+     */
+    public static long framePeriodNanos(int refreshRate) {
+        int rate = refreshRate > 0 ? refreshRate : DEFAULT_REFRESH_RATE;
+        return 1_000_000_000L / rate;
+    }
+
+    /**
+     * Crea el BufferStrategy y arranca el hilo de render. Debe llamarse cuando
+     * el Canvas ya es visualizable (después de addNotify).
+     */
+    public synchronized void start() {
+        if (running || !canvas.isDisplayable()) {
+            return;
+        }
+        canvas.createBufferStrategy(BUFFER_COUNT);
+        strategy = canvas.getBufferStrategy();
+        framePeriodNanos = framePeriodNanos(Integer.getInteger(TARGET_FPS_PROPERTY, detectRefreshRate()));
+
+        running = true;
+        thread = new Thread(this, "BadDopo-Render");
+        thread.setDaemon(true);
+        thread.start();
+        domain.BadDopoLogger.logInfo("Renderizado activo a " + (1_000_000_000L / framePeriodNanos) + " Hz");
+    }
+
+    /**
+     * Detiene el hilo de render. No espera a que termine el frame en curso.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Frames mostrados desde que se arrancó.
+     */
+    public long getFramesRendered() {
+        return framesRendered;
+    }
+
+    @Override
+    public void run() {
+        long nextFrame = System.nanoTime();
+        try {
+            while (running) {
+                if (canvas.isShowing() && canvas.getWidth() > 0 && canvas.getHeight() > 0) {
+                    try {
+                        renderFrame();
+                    } catch (IllegalStateException e) {
+                        // El Canvas perdió su peer (ventana cerrada) entre comprobación y dibujo
+                        if (running) {
+                            domain.BadDopoLogger.logError("Renderizado activo detenido", e);
+                        }
+                        running = false;
+                    }
+                }
+
+                nextFrame += framePeriodNanos;
+                long now = System.nanoTime();
+                if (now - nextFrame > framePeriodNanos) {
+                    // Atrasado más de un frame: se descartan en vez de encadenarlos
+                    nextFrame = now;
+                }
+                waitUntil(nextFrame);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void renderFrame() {
+        do {
+            do {
+                Graphics2D frameGraphics = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    painter.accept(frameGraphics);
+                } catch (RuntimeException e) {
+                    domain.BadDopoLogger.logError("Error dibujando el frame", e);
+                } finally {
+                    frameGraphics.dispose();
+                }
+            } while (running && strategy.contentsRestored());
+            if (!running) {
+                return;
+            }
+            strategy.show();
+            Toolkit.getDefaultToolkit().sync();
+        } while (running && strategy.contentsLost());
+        framesRendered++;
+    }
+
+    /**
+     * Duerme hasta poco antes del instante indicado y espera el resto
+     * activamente, para no perder el frame por la granularidad del sleep.
+     */
+    private static void waitUntil(long deadline) throws InterruptedException {
+        long remaining = deadline - System.nanoTime();
+        if (remaining > SPIN_WINDOW_NANOS) {
+            long sleepNanos = remaining - SPIN_WINDOW_NANOS;
+            Thread.sleep(sleepNanos / 1_000_000L, (int) (sleepNanos % 1_000_000L));
+        }
+        while (System.nanoTime() < deadline) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private int detectRefreshRate() {
+        GraphicsConfiguration configuration = canvas.getGraphicsConfiguration();
+        if (configuration == null) {
+            return DisplayMode.REFRESH_RATE_UNKNOWN;
+        }
+        return configuration.getDevice().getDisplayMode().getRefreshRate();
+    }
+}
@@ -0,0 +1,110 @@
+package presentation;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+/**
+ * Animación ya decodificada: todos los fotogramas en un atlas (una sola
+ * imagen en cuadrícula) y la duración de cada uno.
+ *
+ * El fotograma se elige a partir de un tiempo que pasa quien dibuja, de
+ * modo que la animación avanza solo cuando avanza ese reloj (se detiene con
+ * la pausa) y no necesita hilos ni repintados propios como los GIF de
+ * ImageIcon.
+ */
+public class AnimatedSprite {
+
+    private final BufferedImage atlas;
+    private final BufferedImage[] frames;
+    private final int[] frameEnds; // Fin acumulado de cada fotograma (ms)
+    private final int duration;
+
+    /**
+     * Empaqueta los fotogramas en un atlas.
+     *
+     * @param frameImages Fotogramas completos, todos del mismo tamaño
+     * @param delays      Duración de cada fotograma en milisegundos (> 0)
+     */
+    public AnimatedSprite(List<BufferedImage> frameImages, int[] delays) {
+        if (frameImages.isEmpty() || frameImages.size() != delays.length) {
+            throw new IllegalArgumentException("Fotogramas y duraciones no coinciden");
+        }
+        int count = frameImages.size();
+        int width = frameImages.get(0).getWidth();
+        int height = frameImages.get(0).getHeight();
+        int columns = (int) Math.ceil(Math.sqrt(count));
+        int rows = (count + columns - 1) / columns;
+
+        this.atlas = new BufferedImage(columns * width, rows * height, BufferedImage.TYPE_INT_ARGB);
+        this.frames = new BufferedImage[count];
+        this.frameEnds = new int[count];
+        Graphics2D g = atlas.createGraphics();
+        try {
+            int end = 0;
+            for (int i = 0; i < count; i++) {
+                int x = (i % columns) * width;
+                int y = (i / columns) * height;
+                g.drawImage(frameImages.get(i), x, y, null);
+                frames[i] = atlas.getSubimage(x, y, width, height);
+                end += delays[i];
+                frameEnds[i] = end;
+            }
+            this.duration = end;
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Obtiene el fotograma que corresponde al tiempo indicado (la animación
+     * se repite).
+     *
+     * @param timeMs Tiempo de animación en milisegundos
+     */
+    public BufferedImage getFrameAt(long timeMs) {
+        return frames[getFrameIndexAt(timeMs)];
+    }
+
+    public int getFrameIndexAt(long timeMs) {
+        int t = (int) Math.floorMod(timeMs, (long) duration);
+        int low = 0;
+        int high = frameEnds.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (frameEnds[mid] > t) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    public BufferedImage getFrame(int index) {
+        return frames[index];
+    }
+
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+    /**
+     * Duración de un ciclo completo en milisegundos.
+     */
+    public int getDuration() {
+        return duration;
+    }
+
+    public int getWidth() {
+        return frames[0].getWidth();
+    }
+
+    public int getHeight() {
+        return frames[0].getHeight();
+    }
+
+    public BufferedImage getAtlas() {
+        return atlas;
+    }
+}
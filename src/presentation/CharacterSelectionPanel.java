@@ -226,6 +226,7 @@ public class CharacterSelectionPanel extends JPanel {
 
                 if (response == JOptionPane.YES_OPTION) {
                     selectedCharacterP1 = character;
+                    resources.loadCharacterAssets(character);
 
                     // Ask for name if Machine vs Machine OR PvP
                     String defaultName = (numberOfPlayers == 0) ? "Máquina 1" : "Jugador 1";
@@ -261,6 +262,7 @@ public class CharacterSelectionPanel extends JPanel {
 
                 if (response == JOptionPane.YES_OPTION) {
                     selectedCharacterP2 = character;
+                    resources.loadCharacterAssets(character);
 
                     // Ask for name
                     String defaultName = (numberOfPlayers == 0 || isP2CPU) ? "Máquina 2" : "Jugador 2";
@@ -286,6 +288,7 @@ public class CharacterSelectionPanel extends JPanel {
 
             if (response == JOptionPane.YES_OPTION) {
                 selectedCharacterP1 = character;
+                resources.loadCharacterAssets(character);
 
                 // Ask for name for Single Player
                 String inputName = showStyledInputDialog("Nombre para Jugador 1:", "P1");
@@ -500,6 +503,33 @@ public class CharacterSelectionPanel extends JPanel {
             // Draw "P1" or "P2" badges
             drawPlayerBadges(g2d);
         }
+
+        drawLoadProgress(g2d);
+    }
+
+    /**
+     * Barra con el avance de la decodificación de animaciones en segundo
+     * plano; desaparece cuando todo está listo.
+     */
+    private void drawLoadProgress(Graphics2D g2d) {
+        double progress = resources.getLoadProgress();
+        if (progress >= 1.0) {
+            return;
+        }
+        int barWidth = 400;
+        int barHeight = 12;
+        int barX = (WINDOW_WIDTH - barWidth) / 2;
+        int barY = WINDOW_HEIGHT - 60;
+
+        g2d.setColor(new Color(255, 255, 255, 60));
+        g2d.fillRect(barX, barY, barWidth, barHeight);
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(barX, barY, (int) (barWidth * progress), barHeight);
+        g2d.drawRect(barX, barY, barWidth, barHeight);
+
+        g2d.setFont(fontLoader.getBoldFont(16f));
+        String text = "Cargando animaciones... " + (int) (progress * 100) + "%";
+        g2d.drawString(text, (WINDOW_WIDTH - g2d.getFontMetrics().stringWidth(text)) / 2, barY - 8);
     }
 
     private void drawCharacterPreview(Graphics2D g2d, String name, Rectangle area, ImageIcon gif, int offX, int offY) {
@@ -1,6 +1,7 @@
 package presentation;
 
 import domain.GameFacade;
+import domain.dto.WorldFrame;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.FontMetrics;
@@ -18,6 +19,7 @@ public class GameHUD {
     private GameFacade gameFacade;
     private ResourceLoader resources;
     private FontLoader fontLoader;
+    private final List<String> fruitTypes; // Fijos durante la partida
 
     private static final int SIDEBAR_WIDTH = 200;
     private static final int SIDEBAR_PADDING = 20;
@@ -27,12 +29,16 @@ public class GameHUD {
         this.gameFacade = gameFacade;
         this.resources = resources;
         this.fontLoader = fontLoader;
+        this.fruitTypes = gameFacade.getUniqueFruitTypes();
     }
 
     /**
      * Dibuja el panel lateral con temporizador y contador de frutas.
+     *
+     * @param frame Foto que se está dibujando (el marcador sale de ella)
      */
-    public void drawSidebar(Graphics2D g2d, int mapOffsetX, int numberOfPlayers, int currentLevel) {
+    public void drawSidebar(Graphics2D g2d, WorldFrame frame, int mapOffsetX, int numberOfPlayers,
+            int currentLevel) {
         int sidebarX = mapOffsetX - SIDEBAR_WIDTH - 20;
         int sidebarY = 100;
         int sidebarHeight = 600;
@@ -49,7 +55,7 @@ public class GameHUD {
         int currentY = sidebarY + SIDEBAR_PADDING;
 
         // ==================== TEMPORIZADOR ====================
-        drawTimer(g2d, sidebarX, currentY);
+        drawTimer(g2d, frame, sidebarX, currentY);
         currentY += 80;
 
         // Línea separadora
@@ -58,7 +64,7 @@ public class GameHUD {
         currentY += 30;
 
         // ==================== FRUTAS RESTANTES ====================
-        currentY = drawFruitsRemaining(g2d, sidebarX, currentY);
+        currentY = drawFruitsRemaining(g2d, frame, sidebarX, currentY);
 
         // ==================== PUNTUACIÓN ====================
         currentY += 10;
@@ -66,13 +72,13 @@ public class GameHUD {
         g2d.drawLine(sidebarX + 20, currentY, sidebarX + SIDEBAR_WIDTH - 20, currentY);
         currentY += 30;
 
-        drawScores(g2d, sidebarX, currentY, numberOfPlayers);
+        drawScores(g2d, frame, sidebarX, currentY, numberOfPlayers);
 
         // ==================== CONTROLES ====================
         drawControlsHint(g2d, numberOfPlayers, currentLevel);
     }
 
-    private void drawTimer(Graphics2D g2d, int x, int y) {
+    private void drawTimer(Graphics2D g2d, WorldFrame frame, int x, int y) {
         g2d.setColor(Color.WHITE);
         g2d.setFont(fontLoader.getBoldFont(20f));
         String timeLabel = "TIEMPO";
@@ -80,8 +86,8 @@ public class GameHUD {
         g2d.drawString(timeLabel, x + (SIDEBAR_WIDTH - fmLabel.stringWidth(timeLabel)) / 2, y);
 
         y += 30;
-        String timeRemaining = gameFacade.getFormattedTime();
-        long timeInMs = gameFacade.getTimeRemaining();
+        String timeRemaining = frame.getFormattedTime();
+        long timeInMs = frame.getTimeRemaining();
 
         if (timeInMs <= 30000) {
             g2d.setColor(new Color(255, 50, 50));
@@ -110,16 +116,15 @@ public class GameHUD {
         }
     }
 
-    private int drawFruitsRemaining(Graphics2D g2d, int x, int y) {
+    private int drawFruitsRemaining(Graphics2D g2d, WorldFrame frame, int x, int y) {
         g2d.setColor(Color.WHITE);
         g2d.setFont(fontLoader.getBoldFont(18f));
         String fruitLabel = "FRUTAS";
         g2d.drawString(fruitLabel, x + (SIDEBAR_WIDTH - g2d.getFontMetrics().stringWidth(fruitLabel)) / 2, y);
         y += 35;
 
-        List<String> fruitTypes = gameFacade.getUniqueFruitTypes();
         for (String fruitType : fruitTypes) {
-            int remainingCount = gameFacade.countRemainingFruits(fruitType);
+            int remainingCount = frame.countRemainingFruits(fruitType); // O(1): contador de la foto
             ImageIcon fruitImage = resources.getFruitImage(fruitType);
             int fruitX = x + 30;
 
@@ -139,14 +144,14 @@ public class GameHUD {
         return y;
     }
 
-    private void drawScores(Graphics2D g2d, int x, int y, int numberOfPlayers) {
+    private void drawScores(Graphics2D g2d, WorldFrame frame, int x, int y, int numberOfPlayers) {
         g2d.setColor(Color.WHITE);
         g2d.setFont(fontLoader.getBoldFont(18f));
         String scoreLabel = "PUNTOS";
         g2d.drawString(scoreLabel, x + (SIDEBAR_WIDTH - g2d.getFontMetrics().stringWidth(scoreLabel)) / 2, y);
         y += 35;
 
-        int score = gameFacade.getScore();
+        int score = frame.getScore();
         g2d.setFont(fontLoader.getBoldFont(32f));
         g2d.setColor(new Color(255, 215, 0));
         g2d.drawString(String.valueOf(score),
@@ -154,7 +159,7 @@ public class GameHUD {
 
         if (numberOfPlayers == 2) {
             y += 40;
-            int score2 = gameFacade.getScorePlayer2();
+            int score2 = frame.getScorePlayer2();
             g2d.setColor(new Color(255, 100, 100));
             g2d.drawString(String.valueOf(score2),
                     x + (SIDEBAR_WIDTH - g2d.getFontMetrics().stringWidth(String.valueOf(score2))) / 2, y);
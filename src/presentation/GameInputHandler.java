@@ -30,7 +30,7 @@ public class GameInputHandler {
     }
 
     public void setupListeners() {
-        gamePanel.addKeyListener(new KeyAdapter() {
+        gamePanel.getInputComponent().addKeyListener(new KeyAdapter() {
             @Override
             public void keyPressed(KeyEvent e) {
                 int keyCode = e.getKeyCode();
@@ -63,7 +63,7 @@ public class GameInputHandler {
             }
         });
 
-        gamePanel.addMouseListener(new MouseAdapter() {
+        gamePanel.getInputComponent().addMouseListener(new MouseAdapter() {
             @Override
             public void mouseClicked(MouseEvent e) {
                 gamePanel.handleMouseClick(e.getPoint());
@@ -1,6 +1,8 @@
 package presentation;
 
 import domain.GameFacade;
+import domain.dto.SaveMetadataDTO;
+import domain.dto.WorldFrame;
 import exceptions.BadDopoException;
 import java.awt.BasicStroke;
 import java.awt.Color;
@@ -26,18 +28,26 @@ public class GameOverlay {
     // Estado del Menu (Mirror del GamePanel o gestionado aquí)
     // Para simplificar, recibimos el estado en draw
 
-    // Rectángulos de botones (para detección de click)
-    private Rectangle resumeButtonRect;
-    private Rectangle saveButtonRect;
-    private Rectangle loadButtonRect;
-    private Rectangle restartButtonRect;
-    private Rectangle exitButtonRect;
-    private Rectangle backButtonRect;
-    private List<Rectangle> loadGameButtonRects = new ArrayList<>();
-
-    private Rectangle summaryRestartButton;
-    private Rectangle summaryMenuButton;
-    private Rectangle summaryNextLevelButton;
+    // Rectángulos de botones (para detección de click). Los escribe quien
+    // dibuja (el hilo de render en renderizado activo) y los lee el hilo de
+    // Swing: cada dibujo publica objetos nuevos, nunca modifica los anteriores.
+    private volatile Rectangle resumeButtonRect;
+    private volatile Rectangle saveButtonRect;
+    private volatile Rectangle loadButtonRect;
+    private volatile Rectangle restartButtonRect;
+    private volatile Rectangle exitButtonRect;
+    private volatile Rectangle backButtonRect;
+    private volatile List<Rectangle> loadGameButtonRects = new ArrayList<>();
+    private volatile Rectangle previousPageButtonRect;
+    private volatile Rectangle nextPageButtonRect;
+
+    // Paginación del menú de carga: página pedida y primera partida dibujada
+    private volatile int loadPage;
+    private volatile int loadPageStart;
+
+    private volatile Rectangle summaryRestartButton;
+    private volatile Rectangle summaryMenuButton;
+    private volatile Rectangle summaryNextLevelButton;
 
     public GameOverlay(GameFacade gameFacade, FontLoader fontLoader, int width, int height) {
         this.gameFacade = gameFacade;
@@ -46,7 +56,7 @@ public class GameOverlay {
         this.windowHeight = height;
     }
 
-    public void drawPauseMenu(Graphics2D g2d, GamePanel.MenuState menuState, List<String> savedGamesList,
+    public void drawPauseMenu(Graphics2D g2d, GamePanel.MenuState menuState, List<SaveMetadataDTO> savedGamesList,
             Point mousePos) {
         g2d.setColor(new Color(0, 0, 0, 200));
         g2d.fillRect(0, 0, windowWidth, windowHeight);
@@ -83,10 +93,10 @@ public class GameOverlay {
                 buttonHeight, mousePos);
     }
 
-    private void drawLoadMenu(Graphics2D g2d, List<String> savedGamesList, Point mousePos) {
+    private void drawLoadMenu(Graphics2D g2d, List<SaveMetadataDTO> savedGamesList, Point mousePos) {
         int centerX = windowWidth / 2;
         int startY = 150;
-        int buttonWidth = 400;
+        int buttonWidth = 640;
         int buttonHeight = 40;
         int spacing = 10;
 
@@ -96,23 +106,101 @@ public class GameOverlay {
         g2d.drawString(title, centerX - g2d.getFontMetrics().stringWidth(title) / 2, 100);
 
         g2d.setFont(fontLoader.getBoldFont(18f));
-        loadGameButtonRects.clear();
+        List<Rectangle> pageRects = new ArrayList<>();
+        Rectangle previousRect = null;
+        Rectangle nextRect = null;
+        int pageStart = 0;
 
         if (savedGamesList.isEmpty()) {
             String msg = "No hay partidas guardadas";
             g2d.drawString(msg, centerX - g2d.getFontMetrics().stringWidth(msg) / 2, startY);
         } else {
-            for (int i = 0; i < savedGamesList.size(); i++) {
-                String saveName = savedGamesList.get(i);
-                Rectangle rect = drawButton(g2d, saveName, centerX, startY + i * (buttonHeight + spacing), buttonWidth,
-                        buttonHeight, mousePos);
-                loadGameButtonRects.add(rect);
+            // Por páginas de las que caben sobre el botón VOLVER
+            int pageSize = Math.max(1, (windowHeight - 130 - startY) / (buttonHeight + spacing));
+            int pageCount = (savedGamesList.size() + pageSize - 1) / pageSize;
+            int page = Math.max(0, Math.min(loadPage, pageCount - 1));
+            pageStart = page * pageSize;
+            int end = Math.min(savedGamesList.size(), pageStart + pageSize);
+            for (int i = pageStart; i < end; i++) {
+                String saveName = describeSave(savedGamesList.get(i));
+                Rectangle rect = drawButton(g2d, saveName, centerX,
+                        startY + (i - pageStart) * (buttonHeight + spacing), buttonWidth, buttonHeight, mousePos);
+                pageRects.add(rect);
+            }
+
+            if (pageCount > 1) {
+                g2d.setColor(Color.WHITE);
+                String pageText = "Página " + (page + 1) + " de " + pageCount;
+                g2d.drawString(pageText, centerX - g2d.getFontMetrics().stringWidth(pageText) / 2,
+                        windowHeight - 112);
+                if (page > 0) {
+                    previousRect = drawButton(g2d, "< ANTERIOR", centerX - 260, windowHeight - 100, 200, 50,
+                            mousePos);
+                }
+                if (page < pageCount - 1) {
+                    nextRect = drawButton(g2d, "SIGUIENTE >", centerX + 260, windowHeight - 100, 200, 50,
+                            mousePos);
+                }
             }
         }
+        loadPageStart = pageStart;
+        loadGameButtonRects = pageRects;
+        previousPageButtonRect = previousRect;
+        nextPageButtonRect = nextRect;
         backButtonRect = drawButton(g2d, "VOLVER", centerX, windowHeight - 100, 200, 50, mousePos);
     }
 
-    public void drawSummaryMenu(Graphics2D g2d, boolean isVictory, int numberOfPlayers, Point mousePos) {
+    /**
+     * Vuelve a la primera página del menú de carga.
+     */
+    public void resetLoadPage() {
+        loadPage = 0;
+    }
+
+    public void previousLoadPage() {
+        loadPage = Math.max(0, loadPage - 1);
+    }
+
+    /**
+     * Avanza una página; se ajusta a la última al dibujar.
+     */
+    public void nextLoadPage() {
+        loadPage++;
+    }
+
+    /**
+     * Índice en la lista de la partida del primer botón de
+     * {@link #getLoadGameButtonRects()}.
+     */
+    public int getLoadPageStart() {
+        return loadPageStart;
+    }
+
+    /**
+     * Texto del botón de una partida guardada, tomado del índice de guardados.
+     */
+    private String describeSave(SaveMetadataDTO save) {
+        String name = save.getFilename();
+        if (name.endsWith(".dat")) {
+            name = name.substring(0, name.length() - 4);
+        }
+        if (!save.isReadable()) {
+            return name + "  (ilegible)";
+        }
+        long seconds = save.getTimeRemaining() / 1000;
+        String score = save.getPlayer2Name() != null ? save.getScore() + "-" + save.getScorePlayer2()
+                : String.valueOf(save.getScore());
+        return String.format("%s  ·  Nivel %d  ·  %s pts  ·  %d:%02d", name, save.getLevel(), score, seconds / 60,
+                seconds % 60);
+    }
+
+    /**
+     * Dibuja el resumen de fin de partida.
+     *
+     * @param frame Foto que se está dibujando (el marcador sale de ella)
+     */
+    public void drawSummaryMenu(Graphics2D g2d, WorldFrame frame, boolean isVictory, int numberOfPlayers,
+            Point mousePos) {
         g2d.setColor(new Color(0, 0, 0, 220));
         g2d.fillRect(0, 0, windowWidth, windowHeight);
 
@@ -137,27 +225,27 @@ public class GameOverlay {
             String p2Name = (numberOfPlayers == 0) ? "Máquina 2" : "Jugador 2";
             String winnerText = "¡Empate!";
 
-            boolean p1Alive = gameFacade.isPlayerAlive();
-            boolean p2Alive = gameFacade.isPlayer2Alive();
+            boolean p1Alive = frame.isPlayerAlive();
+            boolean p2Alive = frame.isPlayer2Alive();
 
             if (p1Alive && !p2Alive)
                 winnerText = "Ganador: " + p1Name;
             else if (!p1Alive && p2Alive)
                 winnerText = "Ganador: " + p2Name;
             else {
-                if (gameFacade.getScore() > gameFacade.getScorePlayer2())
+                if (frame.getScore() > frame.getScorePlayer2())
                     winnerText = "Ganador: " + p1Name;
-                else if (gameFacade.getScorePlayer2() > gameFacade.getScore())
+                else if (frame.getScorePlayer2() > frame.getScore())
                     winnerText = "Ganador: " + p2Name;
             }
 
             g2d.drawString(winnerText, centerX - g2d.getFontMetrics().stringWidth(winnerText) / 2, scoreY);
             scoreY += 40;
-            String scoreText = p1Name + ": " + gameFacade.getScore() + " - " + p2Name + ": "
-                    + gameFacade.getScorePlayer2();
+            String scoreText = p1Name + ": " + frame.getScore() + " - " + p2Name + ": "
+                    + frame.getScorePlayer2();
             g2d.drawString(scoreText, centerX - g2d.getFontMetrics().stringWidth(scoreText) / 2, scoreY);
         } else {
-            String scoreText = "Puntuación Final: " + gameFacade.getScore();
+            String scoreText = "Puntuación Final: " + frame.getScore();
             g2d.drawString(scoreText, centerX - g2d.getFontMetrics().stringWidth(scoreText) / 2, scoreY);
         }
 
@@ -227,6 +315,14 @@ public class GameOverlay {
         return loadGameButtonRects;
     }
 
+    public Rectangle getPreviousPageButtonRect() {
+        return previousPageButtonRect;
+    }
+
+    public Rectangle getNextPageButtonRect() {
+        return nextPageButtonRect;
+    }
+
     public Rectangle getSummaryRestartButton() {
         return summaryRestartButton;
     }
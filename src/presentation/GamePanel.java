@@ -32,9 +32,16 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
     private static final int ICE_SIZE = 40;
 
     // Velocidad de movimiento
-    private static final int PLAYER_ANIMATION_SPEED = 4; // Rápido para respuesta inmediata (Humanos)
-    private static final int SMOOTH_ANIMATION_SPEED = 4; // Lento para suavidad visual (Enemigos/IA)
+    private static final int CELL_MOVE_MS = 200; // Duración del desplazamiento entre casillas
     private static final int FRAME_DELAY = 16;
+    private static final long MAX_ANIMATION_STEP_MS = 100; // Avance máximo del reloj de animación por tick
+
+    // Colores usados en cada frame
+    private static final Color BACKGROUND_COLOR = new Color(30, 30, 30);
+    private static final Color AI_LABEL_COLOR = new Color(255, 165, 0, 180);
+    private static final Color AI_P1_LABEL_COLOR = new Color(0, 191, 255, 180);
+    private static final Color P1_LABEL_COLOR = new Color(100, 200, 255, 180);
+    private static final Color P2_LABEL_COLOR = new Color(255, 100, 100, 180);
 
     // Recursos
     private ResourceLoader resources;
@@ -43,8 +50,8 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
     // Fachada del dominio
     private GameFacade gameFacade;
 
-    // Datos del nivel
-    private int currentLevel;
+    // Datos del nivel (currentLevel cambia al cargar y lo lee el hilo de render)
+    private volatile int currentLevel;
     private int numberOfPlayers;
 
     // Timers (javax.swing.Timer)
@@ -55,40 +62,46 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
     private GameInputHandler inputHandler;
     private GameHUD gameHUD;
     private GameOverlay gameOverlay;
+    private StaticBackgroundLayer staticLayer;
+
+    // Renderizado activo opcional (-Dbaddopo.activeRendering=true); null en modo Swing
+    private Canvas renderCanvas;
+    private ActiveRenderer activeRenderer;
+
+    // Reloj de animación de sprites (ms); se detiene con la pausa. Junto con
+    // la interpolación es del hilo que dibuja: el de Swing, o el de render activo
+    private long animationClock;
+    private long lastAnimationNanos;
+    private long frameTime; // Reloj de render del frame en curso
 
     // Menú de Pausa y Resumen
     public enum MenuState {
         NONE, MAIN, SAVE, LOAD, SUMMARY
     }
 
-    private MenuState menuState = MenuState.NONE;
-    private List<String> savedGamesList = new ArrayList<>();
+    // Los cambia el hilo de Swing y los lee también el hilo de render
+    private volatile MenuState menuState = MenuState.NONE;
+    private volatile List<SaveMetadataDTO> savedGamesList = new ArrayList<>();
     private boolean isVictory = false;
 
     // AI Types (Strings)
     // AI Types (Strings)
     private boolean isP2CPU;
 
-    // Variables para animación suave del jugador 1
-    private Point targetGridPosition;
-    private float currentPixelX;
-    private float currentPixelY;
-    private boolean isMoving;
-
-    // Variables para animación suave del jugador 2
-    private Point player2TargetGridPosition;
-    private float player2CurrentPixelX;
-    private float player2CurrentPixelY;
-    private boolean player2IsMoving;
+    // Interpolación de posiciones entre casillas (reloj de render)
+    private MotionTrack playerMotion;
+    private MotionTrack player2Motion;
+    private MotionTable enemyMotions; // Por identificador de entidad
+    private int motionLayoutVersion; // Versión del estado con la que se colocaron
 
-    // Variables para animación suave de enemigos (mapeadas por ID de entidad)
-    private Map<String, Point> enemyTargetPositions;
-    private Map<String, Float> enemyCurrentPixelX;
-    private Map<String, Float> enemyCurrentPixelY;
-    private Map<String, Boolean> enemyIsMoving;
+    // Renderizado activo: entradas de cada jugador que el hilo de render ya
+    // dibujó por completo (-1 mientras el jugador se desplaza)
+    private volatile long player1ShownInputs;
+    private volatile long player2ShownInputs;
 
     // Animación de hielo
     private Map<Point, Integer> iceAnimationProgress;
+    private long iceProgressClock; // Reloj de animación del último avance
     private Queue<Point> icePlacementQueue;
     private javax.swing.Timer icePlacementTimer;
 
@@ -137,17 +150,31 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
         setBackground(Color.BLACK);
         setFocusable(true);
 
+        if (ActiveRenderer.isEnabled()) {
+            // El Canvas cubre el panel; recibe el dibujo y también la entrada
+            setLayout(new BorderLayout());
+            renderCanvas = new Canvas();
+            renderCanvas.setBackground(Color.BLACK);
+            add(renderCanvas, BorderLayout.CENTER);
+            activeRenderer = new ActiveRenderer(renderCanvas, this::renderActiveFrame);
+        }
+
         // Facade is already initialized and passed
         // this.gameFacade = new GameFacade(characterType, characterTypeP2, p1Name,
         // p2Name, level, numberOfPlayers,
         // aiTypeP1, aiTypeP2, isP2CPU, config);
 
+        // Autosave: periodic checkpoint + journal under saves/ (-Dbaddopo.autosave=false lo apaga)
+        gameFacade.setAutosaveEnabled(GameFacade.isAutosaveRequested());
+
         // Initialize helper classes
         this.inputHandler = new GameInputHandler(this, gameFacade);
 
         // Correct Constructor Calls & Field Names
         this.gameOverlay = new GameOverlay(gameFacade, fontLoader, 1280, 768);
         this.gameHUD = new GameHUD(gameFacade, resources, fontLoader);
+        this.staticLayer = new StaticBackgroundLayer(gameFacade, resources, GRID_SIZE * CELL_SIZE, CELL_SIZE,
+                ICE_SIZE);
 
         // Listeners are setup by inputHandler.setupListeners() later
 
@@ -156,44 +183,18 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
 
         initializeAnimationTimers();
 
-        // Animation State Initialization
-        this.iceAnimationProgress = new HashMap<>();
+        // Animation State Initialization (el hilo de render también la recorre)
+        this.iceAnimationProgress = new java.util.concurrent.ConcurrentHashMap<>();
         this.icePlacementQueue = new LinkedList<>();
         this.restartScheduled = false;
 
-        this.enemyTargetPositions = new HashMap<>();
-        this.enemyCurrentPixelX = new HashMap<>();
-        this.enemyCurrentPixelY = new HashMap<>();
-        this.enemyIsMoving = new HashMap<>();
+        // Decodificar en segundo plano los sprites de este nivel
+        preloadLevelAssets();
 
-        // Initialize Enemy Animation States
-        for (domain.dto.EnemySnapshot enemySnapshot : gameFacade.getEnemySnapshots()) {
-            String id = enemySnapshot.getId();
-            Point pos = enemySnapshot.getPosition();
-            enemyTargetPositions.put(id, new Point(pos));
-            enemyCurrentPixelX.put(id, (float) (pos.x * CELL_SIZE));
-            enemyCurrentPixelY.put(id, (float) (pos.y * CELL_SIZE));
-            enemyIsMoving.put(id, false);
-        }
-
-        // Initialize Player 1 Animation State
-        Point initialPos = gameFacade.getPlayerPosition();
-        if (initialPos != null) {
-            this.targetGridPosition = new Point(initialPos);
-            this.currentPixelX = initialPos.x * CELL_SIZE;
-            this.currentPixelY = initialPos.y * CELL_SIZE;
-            this.isMoving = false;
-        }
-
-        // Initialize Player 2 Animation State
-        domain.dto.PlayerSnapshot p2Snapshot = gameFacade.getPlayer2Snapshot();
-        if (p2Snapshot != null) {
-            Point p2Pos = p2Snapshot.getPosition();
-            this.player2TargetGridPosition = new Point(p2Pos);
-            this.player2CurrentPixelX = p2Pos.x * CELL_SIZE;
-            this.player2CurrentPixelY = p2Pos.y * CELL_SIZE;
-            this.player2IsMoving = false;
-        }
+        // Initialize Player and Enemy Animation States
+        WorldFrame initialFrame = gameFacade.captureFrame();
+        this.enemyMotions = new MotionTable(initialFrame.getEnemies().size());
+        seedMotions(initialFrame);
 
         String modeText = numberOfPlayers == 0 ? "Machine vs Machine" : numberOfPlayers + " player(s)";
         domain.BadDopoLogger.logInfo("GamePanel initialized for level " + currentLevel + " with " + modeText);
@@ -213,6 +214,29 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
         this(new GameFacade(character, level, numberOfPlayers), resources, null);
     }
 
+    /**
+     * Pide al ResourceLoader las animaciones de los personajes y enemigos de
+     * la partida. Lo que no esté listo al dibujarse se decodifica en ese
+     * momento.
+     */
+    private void preloadLevelAssets() {
+        resources.preloadCommonAssets();
+        domain.dto.PlayerSnapshot p1Snapshot = gameFacade.getPlayerSnapshot();
+        if (p1Snapshot != null) {
+            resources.loadCharacterAssets(p1Snapshot.getCharacterType());
+        }
+        domain.dto.PlayerSnapshot p2Snapshot = gameFacade.getPlayer2Snapshot();
+        if (p2Snapshot != null) {
+            resources.loadCharacterAssets(p2Snapshot.getCharacterType());
+        }
+        java.util.Set<String> enemyTypes = new java.util.HashSet<>();
+        for (domain.dto.EnemySnapshot enemySnapshot : gameFacade.getEnemySnapshots()) {
+            if (enemyTypes.add(enemySnapshot.getEnemyType())) {
+                resources.loadEnemyAssets(enemySnapshot.getEnemyType());
+            }
+        }
+    }
+
     private void initializeAnimationTimers() {
         // Placeholder for additional animation timers if needed
     }
@@ -225,7 +249,7 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
     public void actionPerformed(java.awt.event.ActionEvent e) {
         if (e.getSource() == gameTimer) {
             if (menuState != MenuState.NONE && menuState != MenuState.SUMMARY) {
-                repaint();
+                requestRepaint();
                 return;
             }
 
@@ -234,7 +258,7 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
             } else {
                 updateGame();
             }
-            repaint();
+            requestRepaint();
         }
     }
 
@@ -301,34 +325,45 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
     }
 
     private void processMovement() {
-        if (numberOfPlayers == 0) {
-            updatePlayerAnimation();
-            updatePlayer2Animation();
-        } else {
+        if (numberOfPlayers != 0) {
             processHumanPlayerMovement();
-            if (numberOfPlayers == 2) {
-                if (isP2CPU) {
-                    updatePlayer2Animation();
-                } else {
-                    processHumanPlayer2Movement();
-                }
+            if (numberOfPlayers == 2 && !isP2CPU) {
+                processHumanPlayer2Movement();
             }
         }
+        if (activeRenderer == null) {
+            // La interpolación sigue al estado en este mismo tick (IA incluida);
+            // en renderizado activo lo hace el hilo de render con su foto
+            updatePlayerAnimation();
+            updatePlayer2Animation(gameFacade.getPlayer2Snapshot());
+        }
     }
 
     private void processHumanPlayerMovement() {
-        if (!isMoving) {
-            boolean moved = handleMovementInput(
+        // Una casilla por desplazamiento: no se acepta otra hasta que termine de dibujarse
+        if (isStepFinished(0)) {
+            handleMovementInput(
                     KeyEvent.VK_W, KeyEvent.VK_S, KeyEvent.VK_A, KeyEvent.VK_D,
                     gameFacade::movePlayerUp, gameFacade::movePlayerDown, gameFacade::movePlayerLeft,
                     gameFacade::movePlayerRight, gameFacade::stopPlayer);
+        }
+    }
 
-            if (moved) {
-                updatePlayerAnimation();
-            }
-        } else {
-            // System.out.println("DEBUG: Input blocked because isMoving=true");
+    /**
+     * Indica si el jugador puede dar otro paso: el anterior terminó de
+     * dibujarse y la foto dibujada ya refleja todas sus entradas encoladas.
+     * En renderizado activo lo decide lo último que publicó el hilo de
+     * render.
+     *
+     * @param player 0 para P1, 1 para P2
+     */
+    private boolean isStepFinished(int player) {
+        if (activeRenderer != null) {
+            long shown = player == 0 ? player1ShownInputs : player2ShownInputs;
+            return shown == gameFacade.getSubmittedInputs(player);
         }
+        MotionTrack motion = player == 0 ? playerMotion : player2Motion;
+        return motion != null && !motion.isMoving(renderClock()) && !gameFacade.isInputPending(player);
     }
 
     /**
@@ -336,146 +371,106 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
      */
     private void updatePlayerAnimation() {
         Point newGridPos = gameFacade.getPlayerPosition();
-        if (!newGridPos.equals(targetGridPosition)) {
-            targetGridPosition = new Point(newGridPos);
-            isMoving = true;
-        }
+        playerMotion.moveTo(newGridPos.x, newGridPos.y, CELL_SIZE, renderClock(), CELL_MOVE_MS);
     }
 
     /**
      * Procesa el movimiento del jugador 2 (Flechas).
      */
     private void processHumanPlayer2Movement() {
-        if (!player2IsMoving) {
-            boolean moved = handleMovementInput(
+        if (isStepFinished(1)) {
+            handleMovementInput(
                     KeyEvent.VK_UP, KeyEvent.VK_DOWN, KeyEvent.VK_LEFT, KeyEvent.VK_RIGHT,
                     gameFacade::movePlayer2Up, gameFacade::movePlayer2Down, gameFacade::movePlayer2Left,
                     gameFacade::movePlayer2Right, gameFacade::stopPlayer2);
-
-            if (moved) {
-                updatePlayer2Animation();
-            }
         }
     }
 
     /**
      * Actualiza la animación del jugador 2.
      */
-    private void updatePlayer2Animation() {
-        PlayerSnapshot p2 = gameFacade.getPlayer2Snapshot();
-        if (p2 != null) {
-            Point newGridPos = p2.getPosition();
-            if (!newGridPos.equals(player2TargetGridPosition)) {
-                player2TargetGridPosition = new Point(newGridPos);
-                player2IsMoving = true;
-            }
+    private void updatePlayer2Animation(PlayerSnapshot p2) {
+        if (p2 != null && player2Motion != null) {
+            player2Motion.moveTo(p2.getCellX(), p2.getCellY(), CELL_SIZE, renderClock(), CELL_MOVE_MS);
         }
     }
 
     /**
-     * Actualiza la posición en píxeles del jugador 2.
+     * Registra en la interpolación las casillas actuales de los enemigos. Cada
+     * paso dura lo mismo que una casilla del jugador, o el intervalo de
+     * movimiento del enemigo si es más corto, para que termine antes de que
+     * empiece el siguiente.
      */
-    private void updatePlayer2PixelPosition() {
-        if (player2TargetGridPosition == null)
-            return;
-
-        if (player2IsMoving) {
-            float targetPixelX = player2TargetGridPosition.x * CELL_SIZE;
-            float targetPixelY = player2TargetGridPosition.y * CELL_SIZE;
-
-            // MvM/P1vsCPU use smooth speed
-            int speed = SMOOTH_ANIMATION_SPEED;
-            java.awt.geom.Point2D.Float nextPos = calculateSmoothPosition(player2CurrentPixelX, player2CurrentPixelY,
-                    targetPixelX, targetPixelY, speed);
-
-            player2CurrentPixelX = nextPos.x;
-            player2CurrentPixelY = nextPos.y;
+    private void updateEnemyMotions(WorldFrame frame) {
+        if (!frame.isVictory()) {
+            List<EnemySnapshot> enemySnapshots = frame.getEnemies();
+            long now = renderClock();
+            // Los enemigos que no se actualicen en este frame dejan de estar vigentes
+            enemyMotions.beginFrame();
+
+            for (int i = 0, n = enemySnapshots.size(); i < n; i++) {
+                EnemySnapshot enemySnapshot = enemySnapshots.get(i);
+                int id = enemySnapshot.getId();
+                if (!enemySnapshot.isActive() || id < 0)
+                    continue;
 
-            if (player2CurrentPixelX == targetPixelX && player2CurrentPixelY == targetPixelY) {
-                player2IsMoving = false;
+                int interval = enemySnapshot.getMoveInterval();
+                int duration = interval > 0 ? Math.min(CELL_MOVE_MS, interval) : CELL_MOVE_MS;
+                enemyMotions.update(id, enemySnapshot.getGeneration(), enemySnapshot.getCellX(),
+                        enemySnapshot.getCellY(), CELL_SIZE, now, duration);
             }
-        } else {
-            // Force sync
-            player2CurrentPixelX = player2TargetGridPosition.x * CELL_SIZE;
-            player2CurrentPixelY = player2TargetGridPosition.y * CELL_SIZE;
         }
     }
 
     /**
-     * Actualiza la posición en píxeles de enemigos.
+     * Coloca a los jugadores y enemigos en sus casillas de la foto, sin
+     * animación (al empezar, cargar o reiniciar).
      */
-    /**
-     * Actualiza la posición en píxeles de enemigos.
-     */
-    private void updateEnemiesPixelPosition() {
-        if (!gameFacade.isVictory()) {
-            // Limpiar enemigos que ya no existen
-            Set<String> currentEnemyIds = new HashSet<>();
-
-            for (EnemySnapshot enemySnapshot : gameFacade.getEnemySnapshots()) {
-                if (!enemySnapshot.isActive())
-                    continue;
-
-                String enemyId = enemySnapshot.getId();
-                currentEnemyIds.add(enemyId);
-                Point actualPosition = enemySnapshot.getPosition();
-
-                // Inicializar si es nuevo enemigo
-                if (!enemyTargetPositions.containsKey(enemyId)) {
-                    enemyTargetPositions.put(enemyId, new Point(actualPosition));
-                    enemyCurrentPixelX.put(enemyId, (float) (actualPosition.x * CELL_SIZE));
-                    enemyCurrentPixelY.put(enemyId, (float) (actualPosition.y * CELL_SIZE));
-                    enemyIsMoving.put(enemyId, false);
-                }
-
-                Point currentTarget = enemyTargetPositions.get(enemyId);
-
-                if (!actualPosition.equals(currentTarget)) {
-                    enemyTargetPositions.put(enemyId, new Point(actualPosition));
-                    enemyIsMoving.put(enemyId, true);
-                }
-
-                if (enemyIsMoving.get(enemyId)) {
-                    float currentX = enemyCurrentPixelX.get(enemyId);
-                    float currentY = enemyCurrentPixelY.get(enemyId);
-                    float targetX = actualPosition.x * CELL_SIZE;
-                    float targetY = actualPosition.y * CELL_SIZE;
-
-                    int speed = SMOOTH_ANIMATION_SPEED;
-
-                    // High speed interpolation for Drilling Narval
-                    if (enemySnapshot.isDrilling()) {
-                        speed = 12; // Adjusted for 120ms logic speed (~8px/frame needed)
-                    }
-
-                    java.awt.geom.Point2D.Float nextPos = calculateSmoothPosition(currentX, currentY, targetX, targetY,
-                            speed);
-
-                    enemyCurrentPixelX.put(enemyId, nextPos.x);
-                    enemyCurrentPixelY.put(enemyId, nextPos.y);
+    private void seedMotions(WorldFrame frame) {
+        PlayerSnapshot p1 = frame.getPlayer();
+        if (playerMotion == null) {
+            playerMotion = new MotionTrack(p1.getCellX(), p1.getCellY(), CELL_SIZE);
+        } else {
+            playerMotion.snap(p1.getCellX(), p1.getCellY(), CELL_SIZE);
+        }
 
-                    if (nextPos.x == targetX && nextPos.y == targetY) {
-                        enemyIsMoving.put(enemyId, false);
-                    }
-                }
+        PlayerSnapshot p2 = frame.getPlayer2();
+        if (p2 != null) {
+            if (player2Motion == null) {
+                player2Motion = new MotionTrack(p2.getCellX(), p2.getCellY(), CELL_SIZE);
+            } else {
+                player2Motion.snap(p2.getCellX(), p2.getCellY(), CELL_SIZE);
             }
+        }
 
-            // Limpiar posiciones de enemigos que ya no existen
-            enemyTargetPositions.keySet().retainAll(currentEnemyIds);
-            enemyCurrentPixelX.keySet().retainAll(currentEnemyIds);
-            enemyCurrentPixelY.keySet().retainAll(currentEnemyIds);
-            enemyIsMoving.keySet().retainAll(currentEnemyIds);
+        enemyMotions.clear();
+        enemyMotions.beginFrame();
+        List<EnemySnapshot> enemySnapshots = frame.getEnemies();
+        for (int i = 0, n = enemySnapshots.size(); i < n; i++) {
+            EnemySnapshot enemySnapshot = enemySnapshots.get(i);
+            if (enemySnapshot.getId() >= 0) {
+                enemyMotions.update(enemySnapshot.getId(), enemySnapshot.getGeneration(),
+                        enemySnapshot.getCellX(), enemySnapshot.getCellY(), CELL_SIZE, 0L, 0);
+            }
         }
+        motionLayoutVersion = frame.getLayoutVersion();
     }
 
     /**
-     * Actualiza el progreso de animación de hielo (fade in).
+     * Actualiza el progreso de animación de hielo (fade in): un 10% por cada
+     * FRAME_DELAY del reloj de animación, dibuje a la frecuencia que dibuje.
      */
     private void updateIceAnimationProgress() {
+        long steps = (animationClock - iceProgressClock) / FRAME_DELAY;
+        if (steps <= 0) {
+            return;
+        }
+        iceProgressClock += steps * FRAME_DELAY;
+        int increment = (int) Math.min(steps * 10, 100);
         Iterator<Map.Entry<Point, Integer>> iterator = iceAnimationProgress.entrySet().iterator();
         while (iterator.hasNext()) {
             Map.Entry<Point, Integer> entry = iterator.next();
-            int progress = entry.getValue() + 10;
+            int progress = entry.getValue() + increment;
             if (progress >= 100) {
                 iterator.remove();
             } else {
@@ -497,6 +492,11 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
             if (gameFacade.isPaused())
                 return; // No actualizar lógica si está pausado
 
+            if (activeRenderer != null) {
+                // Nadie más dibuja en este hilo: adquirir la foto de las consultas de este tick
+                gameFacade.captureFrame();
+            }
+
             // Debug prints (remove later)
             if (gameFacade.isGameOver()) {
                 // domain.BadDopoLogger.logInfo("DEBUG: GameOver=true, RestartLevel=" +
@@ -516,8 +516,10 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
                     // domain.BadDopoLogger.logInfo("DEBUG: Victory detected! Setting menuState to
                     // SUMMARY.");
                     restartScheduled = true;
+                    gameFacade.stopSimulationThread();
+                    saveLastReplay();
                     menuState = MenuState.SUMMARY;
-                    repaint();
+                    requestRepaint();
                 } else {
                     // Failsafe: ensure menu is showing
                     // domain.BadDopoLogger.logInfo("DEBUG: Victory is true, restartScheduled is
@@ -525,7 +527,7 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
                     // + menuState + ". Forcing SUMMARY.");
                     menuState = MenuState.SUMMARY;
                     gameTimer.stop(); // Stop here too
-                    repaint();
+                    requestRepaint();
                 }
                 if (menuState == MenuState.SUMMARY && gameTimer.isRunning()) {
                     gameTimer.stop();
@@ -537,29 +539,48 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
             if (gameFacade.shouldRestartLevel() && !restartScheduled) {
                 // domain.BadDopoLogger.logInfo("DEBUG: Triggering Game Over Menu");
                 restartScheduled = true;
+                gameFacade.stopSimulationThread();
+                saveLastReplay();
                 isVictory = false; // Si alguien muere o se acaba el tiempo, es derrota (Game Over)
                 menuState = MenuState.SUMMARY;
 
                 // Stop timers to prevent CPU loop
                 gameTimer.stop();
 
-                repaint();
+                requestRepaint();
                 return;
             }
 
             gameFacade.update();
             processMovement();
-            repaint();
+            requestRepaint();
         });
         gameTimer.start();
 
+        if (domain.service.SimulationThread.isEnabled() || activeRenderer != null) {
+            // Los ticks pasan a su propio hilo; gameTimer solo lee la entrada y los menús.
+            // El renderizado activo lo necesita: su hilo dibuja solo desde fotos publicadas
+            gameFacade.setActionListener(
+                    positions -> SwingUtilities.invokeLater(() -> startIcePlacementAnimation(positions)));
+            gameFacade.startSimulationThread(activeRenderer != null);
+        }
+
+        lastAnimationNanos = System.nanoTime();
+        if (activeRenderer != null) {
+            return; // El hilo de render avanza el reloj y la interpolación en cada frame
+        }
         animationTimer = new javax.swing.Timer(FRAME_DELAY, e -> {
             try {
+                long now = System.nanoTime();
+                long elapsedMs = (now - lastAnimationNanos) / 1_000_000L;
+                lastAnimationNanos = now;
                 if (gameFacade.isPaused())
                     return;
+                // Reloj de animación: solo avanza sin pausa (tope para no saltar tras un bloqueo)
+                animationClock += Math.min(elapsedMs, MAX_ANIMATION_STEP_MS);
                 // System.out.println("DEBUG: Animation Tick");
                 updateAnimation();
-                repaint();
+                requestRepaint();
             } catch (Exception ex) {
                 System.err.println("CRITICAL: Animation Timer Crashed!");
                 ex.printStackTrace();
@@ -569,60 +590,57 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
     }
 
     /**
-     * Actualiza la animación del juego (interpolación).
+     * Guarda la repetición de la partida terminada (replays/last_replay.bdr).
+     * Las partidas cargadas desde un guardado no tienen repetición.
      */
-    private void updateAnimation() {
-        if (!isMoving) {
-            // Force sync to prevent ghost sliding after restart
-            float targetPixelX = targetGridPosition.x * CELL_SIZE;
-            float targetPixelY = targetGridPosition.y * CELL_SIZE;
-            if (currentPixelX != targetPixelX || currentPixelY != targetPixelY) {
-                // System.out.println("DEBUG: Forcing pixel sync in updateAnimation"); //
-                // Optional log
-                currentPixelX = targetPixelX;
-                currentPixelY = targetPixelY;
-            }
+    private void saveLastReplay() {
+        if (gameFacade.getReplay() == null)
+            return;
+        try {
+            gameFacade.saveReplay();
+        } catch (BadDopoException e) {
+            domain.BadDopoLogger.logError("No se pudo guardar la repetición", e);
         }
+    }
 
-        if (isMoving) {
-            float targetPixelX = targetGridPosition.x * CELL_SIZE;
-            float targetPixelY = targetGridPosition.y * CELL_SIZE;
-
-            float deltaX = targetPixelX - currentPixelX;
-            float deltaY = targetPixelY - currentPixelY;
-
-            // System.out.println("DEBUG: Animating P1. Curr: " + currentPixelX + "," +
-            // currentPixelY + " Target: " + targetPixelX + "," + targetPixelY);
-
-            // En MvM (0 players) usar velocidad suave, en PvP/1P usar velocidad rápida
-            int speed = (numberOfPlayers == 0) ? SMOOTH_ANIMATION_SPEED : PLAYER_ANIMATION_SPEED;
+    /**
+     * Actualiza la animación del juego (interpolación).
+     */
+    private void updateAnimation() {
+        updateAnimation(gameFacade.captureFrame());
+    }
 
-            if (Math.abs(deltaX) < speed && Math.abs(deltaY) < speed) {
-                currentPixelX = targetPixelX;
-                currentPixelY = targetPixelY;
-                isMoving = false;
-            } else {
-                // MANHATTAN INTERPOLATION: Move only one axis at a time to prevent diagonal
-                // slide
-                if (Math.abs(deltaX) > 0.5f) {
-                    currentPixelX += Math.signum(deltaX) * speed;
-                    // Snap Y if trying to move X to avoid micro-diagonals
-                    if (Math.abs(deltaY) < speed)
-                        currentPixelY = targetPixelY;
-                } else if (Math.abs(deltaY) > 0.5f) {
-                    currentPixelY += Math.signum(deltaY) * speed;
-                    // Snap X
-                    if (Math.abs(deltaX) < speed)
-                        currentPixelX = targetPixelX;
-                }
-            }
+    /**
+     * Lleva la interpolación a las casillas de la foto. Si la foto es de
+     * otro estado (carga o reinicio), coloca todo sin animación.
+     */
+    private void updateAnimation(WorldFrame frame) {
+        if (frame.getLayoutVersion() != motionLayoutVersion) {
+            seedMotions(frame);
         }
-
-        updatePlayer2PixelPosition();
-        updateEnemiesPixelPosition();
+        // Los jugadores también pueden cambiar de casilla sin input (IA, reinicio)
+        PlayerSnapshot p1 = frame.getPlayer();
+        if (playerMotion != null) {
+            playerMotion.moveTo(p1.getCellX(), p1.getCellY(), CELL_SIZE, renderClock(), CELL_MOVE_MS);
+        }
+        updatePlayer2Animation(frame.getPlayer2());
+        updateEnemyMotions(frame);
         updateIceAnimationProgress();
     }
 
+    /**
+     * Reloj usado para interpolar: el reloj de animación más el tiempo
+     * transcurrido desde su último tick (como mucho un tick), de modo que
+     * cada frame dibujado entre dos ticks muestra una posición distinta.
+     */
+    private long renderClock() {
+        if (gameFacade.isPaused()) {
+            return animationClock;
+        }
+        long sinceTick = (System.nanoTime() - lastAnimationNanos) / 1_000_000L;
+        return animationClock + Math.max(0, Math.min(sinceTick, FRAME_DELAY));
+    }
+
     /**
      * Maneja el reinicio del nivel.
      */
@@ -632,10 +650,100 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
+        if (activeRenderer != null) {
+            return; // El hilo de render dibuja en el Canvas
+        }
+        renderFrame((Graphics2D) g, gameFacade.captureFrame());
+    }
+
+    /**
+     * Pide un repintado en modo Swing. En renderizado activo no hace nada:
+     * el hilo de render dibuja cada frame por su cuenta.
+     */
+    private void requestRepaint() {
+        if (activeRenderer == null) {
+            repaint();
+        }
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (activeRenderer != null) {
+            activeRenderer.start();
+        }
+    }
 
+    @Override
+    public void removeNotify() {
+        if (activeRenderer != null) {
+            activeRenderer.stop();
+        }
+        super.removeNotify();
+    }
+
+    @Override
+    public boolean requestFocusInWindow() {
+        if (renderCanvas != null) {
+            return renderCanvas.requestFocusInWindow();
+        }
+        return super.requestFocusInWindow();
+    }
+
+    /**
+     * Componente que recibe teclado y ratón: el Canvas en renderizado activo
+     * o el propio panel.
+     */
+    java.awt.Component getInputComponent() {
+        return renderCanvas != null ? renderCanvas : this;
+    }
+
+    private Point getMouseInPanel() {
+        return renderCanvas != null ? renderCanvas.getMousePosition() : getMousePosition();
+    }
+
+    /**
+     * Dibuja un frame del renderizado activo, en el hilo de render. Este hilo
+     * es el dueño del reloj de animación y de la interpolación; del resto
+     * solo lee la foto publicada para él por el hilo de simulación y el
+     * estado de los menús. Al terminar publica, para el hilo de Swing, qué
+     * entradas de cada jugador ya se ven completas.
+     */
+    private void renderActiveFrame(Graphics2D g2d) {
+        WorldFrame frame = gameFacade.acquireViewFrame();
+        if (frame == null) {
+            return; // El hilo de simulación todavía no arrancó
+        }
+
+        long now = System.nanoTime();
+        long elapsedMs = (now - lastAnimationNanos) / 1_000_000L;
+        if (gameFacade.isPaused()) {
+            lastAnimationNanos = now; // El reloj de animación no avanza en pausa
+        } else if (elapsedMs > MAX_ANIMATION_STEP_MS) {
+            animationClock += MAX_ANIMATION_STEP_MS; // Tope para no saltar tras un bloqueo
+            lastAnimationNanos = now;
+        } else {
+            // Solo se descuentan los ms enteros, para no perder las fracciones a 120/144 Hz
+            animationClock += elapsedMs;
+            lastAnimationNanos += elapsedMs * 1_000_000L;
+        }
+
+        updateAnimation(frame);
+        renderFrame(g2d, frame);
+
+        player1ShownInputs = playerMotion != null && playerMotion.isMoving(frameTime) ? -1
+                : frame.getAppliedInputs(0);
+        player2ShownInputs = player2Motion != null && player2Motion.isMoving(frameTime) ? -1
+                : frame.getAppliedInputs(1);
+    }
+
+    /**
+     * Dibuja un frame completo de la foto dada. Se usa desde paintComponent
+     * (hilo de Swing) o desde el hilo de render activo.
+     */
+    private void renderFrame(Graphics2D g2d, WorldFrame frame) {
         // Renderizado del juego
-        g2d.setColor(new Color(30, 30, 30));
+        g2d.setColor(BACKGROUND_COLOR);
         g2d.fillRect(0, 0, getWidth(), getHeight());
 
         int mapWidth = GRID_SIZE * CELL_SIZE;
@@ -643,67 +751,51 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
         int offsetX = (WINDOW_WIDTH - SIDEBAR_WIDTH - mapWidth) / 2 + SIDEBAR_WIDTH;
         int offsetY = (WINDOW_HEIGHT - mapHeight) / 2;
 
-        g2d.translate(offsetX, offsetY);
-        drawGridBackground(g2d);
-        g2d.translate(-offsetX, -offsetY);
+        frameTime = renderClock();
 
-        drawUnbreakableBlocks(g2d, offsetX, offsetY);
-        drawHotTiles(g2d, offsetX, offsetY);
-        drawIglu(g2d, offsetX, offsetY);
-        drawFruits(g2d, offsetX, offsetY);
-        drawIceBlocks(g2d, offsetX, offsetY);
-        drawEnemies(g2d, offsetX, offsetY);
-        drawPlayer(g2d, offsetX, offsetY);
+        // Fondo, bloques irrompibles e iglú: una sola copia de la capa pre-renderizada
+        staticLayer.draw(g2d, offsetX, offsetY, getGraphicsConfiguration());
+
+        // Una sola foto por frame; los snapshots se reutilizan entre frames
+        drawHotTiles(g2d, frame.getHotTiles(), offsetX, offsetY); // GIF animado: se dibuja en cada frame
+        drawFruits(g2d, frame.getFruits(), offsetX, offsetY);
+        drawIceBlocks(g2d, frame.getIceBlocks(), offsetX, offsetY);
+        drawEnemies(g2d, frame.getEnemies(), frame.isVictory(), offsetX, offsetY);
+        drawPlayer(g2d, frame.getPlayer(), offsetX, offsetY);
 
         if (numberOfPlayers == 2 || numberOfPlayers == 0) {
-            drawPlayer2(g2d, offsetX, offsetY);
+            drawPlayer2(g2d, frame.getPlayer2(), offsetX, offsetY);
         }
 
         // Delegar dibujo de UI
-        gameHUD.drawSidebar(g2d, offsetX, numberOfPlayers, currentLevel);
+        gameHUD.drawSidebar(g2d, frame, offsetX, numberOfPlayers, currentLevel);
 
         // Menús superpuestos
-        if (gameFacade.isPaused() && menuState != MenuState.SUMMARY) {
-            gameOverlay.drawPauseMenu(g2d, menuState, savedGamesList, getMousePosition());
+        MenuState menu = menuState;
+        if (gameFacade.isPaused() && menu != MenuState.SUMMARY) {
+            gameOverlay.drawPauseMenu(g2d, menu, savedGamesList, getMouseInPanel());
         }
 
-        // Game Over / Victory
-        if (gameFacade.isGameOver() || gameFacade.isVictory()) {
-            boolean allPlayersDead = (numberOfPlayers > 0)
-                    ? (!gameFacade.isPlayerAlive() && (!gameFacade.isPlayer2Alive() || numberOfPlayers == 1))
-                    : false;
-            // PvP Logic handled in Facade/Logic, assume facade.isGameOver() is truth
-
-            if (gameFacade.isGameOver()) {
-                isVictory = false;
-                if (!gameFacade.isDeathAnimationComplete()) {
-                    gameTimer.stop(); // Stop game timer but allow animation
-                    return; // Don't show menu yet
-                }
-                menuState = MenuState.SUMMARY;
-                gameOverlay.drawSummaryMenu(g2d, false, numberOfPlayers, getMousePosition());
-            } else if (gameFacade.isVictory()) {
-                isVictory = true;
-                menuState = MenuState.SUMMARY;
-                gameOverlay.drawSummaryMenu(g2d, true, numberOfPlayers, getMousePosition());
+        // Game Over / Victory: gameTimer pasa el menú a SUMMARY y detiene la
+        // partida; aquí solo se dibuja (el resumen de derrota espera a que
+        // termine la animación de muerte)
+        if (frame.isGameOver()) {
+            if (frame.isDeathAnimationComplete()) {
+                gameOverlay.drawSummaryMenu(g2d, frame, false, numberOfPlayers, getMouseInPanel());
             }
-        }
-    }
-
-    private void drawGridBackground(Graphics2D g2d) {
-        if (resources.fondoMapa != null) {
-            g2d.drawImage(resources.fondoMapa, 0, 0, GRID_SIZE * CELL_SIZE, GRID_SIZE * CELL_SIZE, this);
+        } else if (frame.isVictory()) {
+            gameOverlay.drawSummaryMenu(g2d, frame, true, numberOfPlayers, getMouseInPanel());
         }
     }
 
     /**
      * Dibuja todas las frutas del juego.
      */
-    private void drawFruits(Graphics2D g2d, int offsetX, int offsetY) {
-        for (FruitSnapshot fruitSnapshot : gameFacade.getFruitSnapshots()) {
+    private void drawFruits(Graphics2D g2d, List<FruitSnapshot> fruits, int offsetX, int offsetY) {
+        for (int i = 0, n = fruits.size(); i < n; i++) {
+            FruitSnapshot fruitSnapshot = fruits.get(i);
             // Draw all fruits provided by the snapshot (GameLogic handles
             // visibility/activity)
-            Point pos = fruitSnapshot.getPosition();
             String fruitType = fruitSnapshot.getFruitType();
             String state = fruitSnapshot.getState(); // Now available
 
@@ -717,33 +809,33 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
                 currentFruitSize = 50;
             }
 
-            int x = offsetX + pos.x * CELL_SIZE + (CELL_SIZE - currentFruitSize) / 2;
-            int y = offsetY + pos.y * CELL_SIZE + (CELL_SIZE - currentFruitSize) / 2;
+            int x = offsetX + fruitSnapshot.getCellX() * CELL_SIZE + (CELL_SIZE - currentFruitSize) / 2;
+            int y = offsetY + fruitSnapshot.getCellY() * CELL_SIZE + (CELL_SIZE - currentFruitSize) / 2;
 
             ImageIcon fruitGif = resources.getFruitGif(fruitType, state);
-            if (fruitGif != null) {
-                g2d.drawImage(fruitGif.getImage(), x, y, currentFruitSize, currentFruitSize, this);
-            }
+            drawAnimated(g2d, fruitGif, x, y, currentFruitSize, currentFruitSize);
         }
     }
 
     /**
      * Dibuja todos los bloques de hielo del juego.
      */
-    private void drawIceBlocks(Graphics2D g2d, int offsetX, int offsetY) {
-        for (IceBlockSnapshot iceSnapshot : gameFacade.getIceBlockSnapshots()) {
-            Point pos = iceSnapshot.getPosition();
-            int x = offsetX + pos.x * CELL_SIZE + (CELL_SIZE - ICE_SIZE) / 2;
-            int y = offsetY + pos.y * CELL_SIZE + (CELL_SIZE - ICE_SIZE) / 2;
-
-            Integer progress = iceAnimationProgress.get(pos);
+    private void drawIceBlocks(Graphics2D g2d, List<IceBlockSnapshot> iceBlocks, int offsetX, int offsetY) {
+        // Las animaciones de aparición son raras: sin ninguna no hace falta buscar por Point
+        boolean appearing = !iceAnimationProgress.isEmpty();
+        for (int i = 0, n = iceBlocks.size(); i < n; i++) {
+            IceBlockSnapshot iceSnapshot = iceBlocks.get(i);
+            int x = offsetX + iceSnapshot.getCellX() * CELL_SIZE + (CELL_SIZE - ICE_SIZE) / 2;
+            int y = offsetY + iceSnapshot.getCellY() * CELL_SIZE + (CELL_SIZE - ICE_SIZE) / 2;
+
+            Integer progress = appearing ? iceAnimationProgress.get(iceSnapshot.getPosition()) : null;
             if (progress != null) {
                 // Animación de aparición (scale)
                 float scale = progress / 100.0f;
                 int scaledSize = (int) (ICE_SIZE * scale);
                 int scaledX = x + (ICE_SIZE - scaledSize) / 2;
                 int scaledY = y + (ICE_SIZE - scaledSize) / 2;
-                g2d.drawImage(resources.iceBlockNormalImage, scaledX, scaledY, scaledSize, scaledSize, this);
+                drawSprite(g2d, resources.iceBlockNormalImage, scaledX, scaledY, scaledSize, scaledSize);
             } else if (iceSnapshot.isBreaking()) {
                 // Animación de ruptura (fade out + shrink)
                 int breakProgress = iceSnapshot.getBreakProgress();
@@ -757,70 +849,72 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
                 int shrunkX = x + (ICE_SIZE - shrunkSize) / 2;
                 int shrunkY = y + (ICE_SIZE - shrunkSize) / 2;
 
-                g2dIce.drawImage(resources.iceBlockBrokenImage, shrunkX, shrunkY, shrunkSize, shrunkSize, this);
+                drawSprite(g2dIce, resources.iceBlockBrokenImage, shrunkX, shrunkY, shrunkSize, shrunkSize);
                 g2dIce.dispose();
             } else {
-                g2d.drawImage(resources.iceBlockNormalImage, x, y, ICE_SIZE, ICE_SIZE, this);
+                drawSprite(g2d, resources.iceBlockNormalImage, x, y, ICE_SIZE, ICE_SIZE);
             }
         }
     }
 
     /**
-     * Dibuja todas las baldosas calientes del juego.
+     * Dibuja un sprite con el tamaño indicado usando la versión pre-escalada
+     * si existe; si no (GIF animado), lo escala al dibujar.
      */
-    private void drawHotTiles(Graphics2D g2d, int offsetX, int offsetY) {
-        for (HotTileSnapshot tileSnapshot : gameFacade.getHotTileSnapshots()) {
-            Point pos = tileSnapshot.getPosition();
-            int size = ICE_SIZE; // Use ICE_SIZE (40) as requested
-            int x = offsetX + pos.x * CELL_SIZE + (CELL_SIZE - size) / 2;
-            int y = offsetY + pos.y * CELL_SIZE + (CELL_SIZE - size) / 2;
-            g2d.drawImage(resources.hotTileImage.getImage(), x, y, size, size, this);
+    private void drawSprite(Graphics2D g2d, Image image, int x, int y, int width, int height) {
+        Image scaled = resources.getScaledSprite(image, width, height);
+        if (scaled != null) {
+            g2d.drawImage(scaled, x, y, this);
+        } else if (image != null && width > 0 && height > 0) {
+            g2d.drawImage(image, x, y, width, height, this);
         }
     }
 
     /**
-     * Dibuja el Iglú central.
+     * Dibuja el fotograma que toca según el reloj de animación. Si el GIF no
+     * se pudo decodificar se usa la animación de ImageIcon como antes.
      */
-    private void drawIglu(Graphics2D g2d, int offsetX, int offsetY) {
-        IgluSnapshot iglu = gameFacade.getIgluSnapshot();
-        if (iglu != null) {
-            Point pos = iglu.getPosition();
-            int width = iglu.getWidth() * CELL_SIZE;
-            int height = iglu.getHeight() * CELL_SIZE;
-            int x = offsetX + pos.x * CELL_SIZE;
-            int y = offsetY + pos.y * CELL_SIZE;
-            g2d.drawImage(resources.igluImage.getImage(), x, y, width, height, this);
+    private void drawAnimated(Graphics2D g2d, ImageIcon icon, int x, int y, int width, int height) {
+        if (icon == null) {
+            return;
+        }
+        AnimatedSprite animation = resources.getAnimation(icon);
+        if (animation != null) {
+            drawSprite(g2d, animation.getFrameAt(animationClock), x, y, width, height);
+        } else {
+            g2d.drawImage(icon.getImage(), x, y, width, height, this);
         }
     }
 
     /**
-     * Dibuja los bloques irrompibles.
+     * Dibuja todas las baldosas calientes del juego.
      */
-    private void drawUnbreakableBlocks(Graphics2D g2d, int offsetX, int offsetY) {
-        for (UnbreakableBlockSnapshot block : gameFacade.getUnbreakableBlockSnapshots()) {
-            Point pos = block.getPosition();
-            int size = ICE_SIZE; // Matches ice size per requirement (40px)
-            int x = offsetX + pos.x * CELL_SIZE + (CELL_SIZE - size) / 2;
-            int y = offsetY + pos.y * CELL_SIZE + (CELL_SIZE - size) / 2;
-            if (resources.unbreakableBlockImage != null) {
-                g2d.drawImage(resources.unbreakableBlockImage.getImage(), x, y, size, size, this);
-            }
+    private void drawHotTiles(Graphics2D g2d, List<HotTileSnapshot> hotTiles, int offsetX, int offsetY) {
+        for (int i = 0, n = hotTiles.size(); i < n; i++) {
+            HotTileSnapshot tileSnapshot = hotTiles.get(i);
+            int size = ICE_SIZE; // Use ICE_SIZE (40) as requested
+            int x = offsetX + tileSnapshot.getCellX() * CELL_SIZE + (CELL_SIZE - size) / 2;
+            int y = offsetY + tileSnapshot.getCellY() * CELL_SIZE + (CELL_SIZE - size) / 2;
+            drawAnimated(g2d, resources.hotTileImage, x, y, size, size);
         }
     }
 
     /**
      * Dibuja todos los enemigos del juego.
      */
-    private void drawEnemies(Graphics2D g2d, int offsetX, int offsetY) {
-        if (!gameFacade.isVictory()) {
-            for (EnemySnapshot enemySnapshot : gameFacade.getEnemySnapshots()) {
+    private void drawEnemies(Graphics2D g2d, List<EnemySnapshot> enemies, boolean victory, int offsetX,
+            int offsetY) {
+        if (!victory) {
+            for (int i = 0, n = enemies.size(); i < n; i++) {
+                EnemySnapshot enemySnapshot = enemies.get(i);
                 if (enemySnapshot.isActive()) {
                     drawEnemy(g2d, enemySnapshot, offsetX, offsetY);
                 }
             }
         } else {
             // En victoria, enemigos en estado idle
-            for (EnemySnapshot enemySnapshot : gameFacade.getEnemySnapshots()) {
+            for (int i = 0, n = enemies.size(); i < n; i++) {
+                EnemySnapshot enemySnapshot = enemies.get(i);
                 if (enemySnapshot.isActive()) {
                     drawEnemyIdle(g2d, enemySnapshot, offsetX, offsetY);
                 }
@@ -833,10 +927,15 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
      */
     private void drawEnemy(Graphics2D g2d, EnemySnapshot enemySnapshot, int offsetX, int offsetY) {
         float pixelX, pixelY;
-        Point gridPos = enemySnapshot.getPosition();
+        int id = enemySnapshot.getId();
 
-        pixelX = enemyCurrentPixelX.getOrDefault(enemySnapshot.getId(), (float) (gridPos.x * CELL_SIZE));
-        pixelY = enemyCurrentPixelY.getOrDefault(enemySnapshot.getId(), (float) (gridPos.y * CELL_SIZE));
+        if (enemyMotions.contains(id)) {
+            pixelX = enemyMotions.getX(id, frameTime);
+            pixelY = enemyMotions.getY(id, frameTime);
+        } else {
+            pixelX = enemySnapshot.getCellX() * CELL_SIZE;
+            pixelY = enemySnapshot.getCellY() * CELL_SIZE;
+        }
 
         int x = offsetX + (int) pixelX + (CELL_SIZE - TROLL_SIZE) / 2;
         int y = offsetY + (int) pixelY + (CELL_SIZE - TROLL_SIZE) / 2;
@@ -853,13 +952,10 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
             enemyGif = resources.getEnemyGif(enemyType, direction, isBreakingIce);
         }
 
-        if (enemyGif != null) {
-            Image enemyImage = enemyGif.getImage();
-            g2d.drawImage(enemyImage, x, y, TROLL_SIZE, TROLL_SIZE, this);
-        }
+        drawAnimated(g2d, enemyGif, x, y, TROLL_SIZE, TROLL_SIZE);
 
         if (numberOfPlayers == 0) {
-            g2d.setColor(new Color(255, 165, 0, 180));
+            g2d.setColor(AI_LABEL_COLOR);
             g2d.setFont(fontLoader.getBoldFont(16f));
             String aiLabel = "AI";
             FontMetrics fm = g2d.getFontMetrics();
@@ -872,9 +968,8 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
      * Dibuja un enemigo en estado idle (victoria).
      */
     private void drawEnemyIdle(Graphics2D g2d, EnemySnapshot enemySnapshot, int offsetX, int offsetY) {
-        Point pos = enemySnapshot.getPosition();
-        int x = offsetX + pos.x * CELL_SIZE + (CELL_SIZE - TROLL_SIZE) / 2;
-        int y = offsetY + pos.y * CELL_SIZE + (CELL_SIZE - TROLL_SIZE) / 2;
+        int x = offsetX + enemySnapshot.getCellX() * CELL_SIZE + (CELL_SIZE - TROLL_SIZE) / 2;
+        int y = offsetY + enemySnapshot.getCellY() * CELL_SIZE + (CELL_SIZE - TROLL_SIZE) / 2;
 
         String enemyType = enemySnapshot.getEnemyType();
         ImageIcon idleGif;
@@ -888,29 +983,26 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
             idleGif = resources.calamarWalkDownGif;
         }
 
-        if (idleGif != null) {
-            Image enemyImage = idleGif.getImage();
-            g2d.drawImage(enemyImage, x, y, TROLL_SIZE, TROLL_SIZE, this);
-        }
+        drawAnimated(g2d, idleGif, x, y, TROLL_SIZE, TROLL_SIZE);
     }
 
     /**
      * Dibuja el jugador 1.
      */
-    private void drawPlayer(Graphics2D g2d, int offsetX, int offsetY) {
-        PlayerSnapshot playerSnapshot = gameFacade.getPlayerSnapshot();
+    private void drawPlayer(Graphics2D g2d, PlayerSnapshot playerSnapshot, int offsetX, int offsetY) {
         if (playerSnapshot.isActive()) {
-            drawPlayerEntity(g2d, playerSnapshot, currentPixelX, currentPixelY, offsetX, offsetY, "P1");
+            drawPlayerEntity(g2d, playerSnapshot, playerMotion.getX(frameTime), playerMotion.getY(frameTime),
+                    offsetX, offsetY, "P1");
         }
     }
 
     /**
      * Dibuja el jugador 2.
      */
-    private void drawPlayer2(Graphics2D g2d, int offsetX, int offsetY) {
-        PlayerSnapshot playerSnapshot = gameFacade.getPlayer2Snapshot();
-        if (playerSnapshot != null && playerSnapshot.isActive()) {
-            drawPlayerEntity(g2d, playerSnapshot, player2CurrentPixelX, player2CurrentPixelY, offsetX, offsetY, "P2");
+    private void drawPlayer2(Graphics2D g2d, PlayerSnapshot playerSnapshot, int offsetX, int offsetY) {
+        if (playerSnapshot != null && playerSnapshot.isActive() && player2Motion != null) {
+            drawPlayerEntity(g2d, playerSnapshot, player2Motion.getX(frameTime), player2Motion.getY(frameTime),
+                    offsetX, offsetY, "P2");
         }
     }
 
@@ -932,8 +1024,7 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
             int playerX = offsetX + (int) pixelX + (CELL_SIZE - PLAYER_SIZE) / 2;
             int playerY = offsetY + (int) pixelY + (CELL_SIZE - PLAYER_SIZE) / 2;
 
-            Image playerImage = playerGif.getImage();
-            g2d.drawImage(playerImage, playerX, playerY, PLAYER_SIZE, PLAYER_SIZE, this);
+            drawAnimated(g2d, playerGif, playerX, playerY, PLAYER_SIZE, PLAYER_SIZE);
 
             // Label P1/P2/AI
             // Label P1/P2/AI
@@ -943,9 +1034,9 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
             }
 
             if (numberOfPlayers == 0) {
-                g2d.setColor(label.equals("P1") ? new Color(0, 191, 255, 180) : new Color(255, 165, 0, 180));
+                g2d.setColor(label.equals("P1") ? AI_P1_LABEL_COLOR : AI_LABEL_COLOR);
             } else {
-                g2d.setColor(label.equals("P1") ? new Color(100, 200, 255, 180) : new Color(255, 100, 100, 180));
+                g2d.setColor(label.equals("P1") ? P1_LABEL_COLOR : P2_LABEL_COLOR);
             }
 
             g2d.setFont(fontLoader.getBoldFont(16f));
@@ -969,12 +1060,15 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
      * Limpia los recursos del panel al cerrarse.
      */
     public void cleanup() {
+        if (activeRenderer != null)
+            activeRenderer.stop();
         if (gameTimer != null)
             gameTimer.stop();
         if (animationTimer != null)
             animationTimer.stop();
         if (icePlacementTimer != null)
             icePlacementTimer.stop();
+        gameFacade.stopSimulationThread();
     }
 
     void handleMouseClick(Point point) {
@@ -989,14 +1083,14 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
         if (menuState == MenuState.NONE) {
             gameFacade.togglePause();
             menuState = MenuState.MAIN;
-            repaint();
+            requestRepaint();
         } else if (menuState == MenuState.MAIN) {
             gameFacade.togglePause();
             menuState = MenuState.NONE;
-            repaint();
+            requestRepaint();
         } else if (menuState == MenuState.LOAD || menuState == MenuState.SAVE) {
             menuState = MenuState.MAIN;
-            repaint();
+            requestRepaint();
         }
     }
 
@@ -1017,16 +1111,27 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
                     if (!selectedFile.getName().toLowerCase().endsWith(".dat")) {
                         selectedFile = new File(selectedFile.getParentFile(), selectedFile.getName() + ".dat");
                     }
-                    try {
-                        gameFacade.saveGame(selectedFile);
-                        JOptionPane.showMessageDialog(this, "Partida guardada exitosamente.");
-                    } catch (BadDopoException e) {
-                        JOptionPane.showMessageDialog(this, "Error al guardar: " + e.getMessage());
-                    }
+                    gameFacade.saveGameAsync(selectedFile, new domain.service.SaveListener() {
+                        @Override
+                        public void onSaveCompleted(String filename) {
+                            SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(GamePanel.this,
+                                    "Partida guardada exitosamente."));
+                        }
+
+                        @Override
+                        public void onSaveFailed(BadDopoException error) {
+                            SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(GamePanel.this,
+                                    "Error al guardar: " + error.getMessage()));
+                        }
+                    });
                 }
             } else if (gameOverlay.getLoadButtonRect() != null
                     && gameOverlay.getLoadButtonRect().contains(clickPoint)) {
-                savedGamesList = gameFacade.getSavedGames();
+                // Las más recientes primero (el índice las da por nombre)
+                List<SaveMetadataDTO> saves = new ArrayList<>(gameFacade.getSaveMetadata());
+                saves.sort(Comparator.comparingLong(SaveMetadataDTO::getSavedAt).reversed());
+                savedGamesList = saves;
+                gameOverlay.resetLoadPage();
                 menuState = MenuState.LOAD;
             } else if (gameOverlay.getRestartButtonRect() != null
                     && gameOverlay.getRestartButtonRect().contains(clickPoint)) {
@@ -1044,11 +1149,17 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
         } else if (menuState == MenuState.LOAD) {
             if (gameOverlay.getBackButtonRect() != null && gameOverlay.getBackButtonRect().contains(clickPoint)) {
                 menuState = MenuState.MAIN;
+            } else if (gameOverlay.getPreviousPageButtonRect() != null
+                    && gameOverlay.getPreviousPageButtonRect().contains(clickPoint)) {
+                gameOverlay.previousLoadPage();
+            } else if (gameOverlay.getNextPageButtonRect() != null
+                    && gameOverlay.getNextPageButtonRect().contains(clickPoint)) {
+                gameOverlay.nextLoadPage();
             } else {
                 List<Rectangle> loadRects = gameOverlay.getLoadGameButtonRects();
                 for (int i = 0; i < loadRects.size(); i++) {
                     if (loadRects.get(i).contains(clickPoint)) {
-                        String saveFile = savedGamesList.get(i);
+                        String saveFile = savedGamesList.get(gameOverlay.getLoadPageStart() + i).getFilename();
                         try {
                             gameFacade.loadGame(saveFile);
                             resetAnimationState();
@@ -1062,7 +1173,7 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
                 }
             }
         }
-        repaint();
+        requestRepaint();
     }
 
     private void handleSummaryMenuClick(Point clickPoint) {
@@ -1091,7 +1202,7 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
                         JOptionPane.INFORMATION_MESSAGE);
             }
         }
-        repaint();
+        requestRepaint();
     }
 
     /**
@@ -1135,42 +1246,10 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
      * Prevents "ghosting" movement after level restart.
      */
     private void resetAnimationState() {
-        // Reset Player 1
-        Point p1Pos = gameFacade.getPlayerPosition();
-        domain.BadDopoLogger.logInfo("DEBUG: resetAnimationState called. New Logical Pos: " + p1Pos +
-                ", Old Pixel X: " + currentPixelX + ", Old Pixel Y: " + currentPixelY);
-
-        this.targetGridPosition = new Point(p1Pos);
-        this.currentPixelX = p1Pos.x * CELL_SIZE;
-        this.currentPixelY = p1Pos.y * CELL_SIZE;
-        this.isMoving = false;
-
-        System.out
-                .println("DEBUG: Reset Complete. Curr Pixel X: " + currentPixelX + ", Curr Pixel Y: " + currentPixelY);
-
-        // Reset Player 2
-        PlayerSnapshot p2Snapshot = gameFacade.getPlayer2Snapshot();
-        if (p2Snapshot != null) {
-            Point p2Pos = p2Snapshot.getPosition();
-            this.player2TargetGridPosition = new Point(p2Pos);
-            this.player2CurrentPixelX = p2Pos.x * CELL_SIZE;
-            this.player2CurrentPixelY = p2Pos.y * CELL_SIZE;
-            this.player2IsMoving = false;
-        }
-
-        // Reset Enemies
-        this.enemyTargetPositions.clear();
-        this.enemyCurrentPixelX.clear();
-        this.enemyCurrentPixelY.clear();
-        this.enemyIsMoving.clear();
-
-        for (EnemySnapshot enemySnapshot : gameFacade.getEnemySnapshots()) {
-            String id = enemySnapshot.getId();
-            Point pos = enemySnapshot.getPosition();
-            enemyTargetPositions.put(id, new Point(pos));
-            enemyCurrentPixelX.put(id, (float) (pos.x * CELL_SIZE));
-            enemyCurrentPixelY.put(id, (float) (pos.y * CELL_SIZE));
-            enemyIsMoving.put(id, false);
+        // Reset Players and Enemies (tras cargar, el hilo de simulación ya corre: se lee
+        // su foto). En renderizado activo los recoloca el hilo de render al ver el estado nuevo
+        if (activeRenderer == null) {
+            seedMotions(gameFacade.captureFrame());
         }
 
         // Reset inputs
@@ -1196,6 +1275,7 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
             animationTimer.stop();
         if (icePlacementTimer != null)
             icePlacementTimer.stop();
+        gameFacade.stopSimulationThread();
 
         SwingUtilities.invokeLater(() -> {
             Window window = SwingUtilities.getWindowAncestor(this);
@@ -1280,35 +1360,4 @@ public class GamePanel extends JPanel implements java.awt.event.ActionListener {
         }
         return moved;
     }
-
-    /**
-     * Calculates the next pixel position using Manhattan Interpolation (moves
-     * usually in one axis at a time).
-     */
-    private java.awt.geom.Point2D.Float calculateSmoothPosition(float currentX, float currentY, float targetX,
-            float targetY, int speed) {
-        float deltaX = targetX - currentX;
-        float deltaY = targetY - currentY;
-
-        float nextX = currentX;
-        float nextY = currentY;
-
-        if (Math.abs(deltaX) < speed && Math.abs(deltaY) < speed) {
-            nextX = targetX;
-            nextY = targetY;
-        } else {
-            // MANHATTAN INTERPOLATION: Prevent diagonal slide
-            if (Math.abs(deltaX) > 0.5f) {
-                nextX += Math.signum(deltaX) * speed;
-                // Only move Y if X is close enough (snap effect)
-                if (Math.abs(deltaY) < speed)
-                    nextY = targetY;
-            } else if (Math.abs(deltaY) > 0.5f) {
-                nextY += Math.signum(deltaY) * speed;
-                if (Math.abs(deltaX) < speed)
-                    nextX = targetX;
-            }
-        }
-        return new java.awt.geom.Point2D.Float(nextX, nextY);
-    }
 }
@@ -0,0 +1,159 @@
+package presentation;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * Decodifica un GIF animado con ImageIO en fotogramas completos.
+ * Aplica la posición de cada fotograma dentro de la pantalla lógica y su
+ * método de descarte (ninguno, restaurar al fondo o restaurar al anterior),
+ * igual que hace el decodificador de Toolkit al animar un ImageIcon.
+ */
+public final class GifDecoder {
+
+    private static final String STREAM_FORMAT = "javax_imageio_gif_stream_1.0";
+    private static final String IMAGE_FORMAT = "javax_imageio_gif_image_1.0";
+
+    /** Duración usada cuando el GIF no indica una (o indica 0). */
+    private static final int DEFAULT_DELAY_MS = 100;
+
+    private GifDecoder() {
+    }
+
+    /**
+     * Decodifica el archivo completo.
+     *
+     * @param file Archivo GIF
+     * @return Animación con todos los fotogramas en un atlas
+     * @throws IOException si el archivo no existe o no es un GIF válido
+     */
+    public static AnimatedSprite decode(File file) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("gif");
+        if (!readers.hasNext()) {
+            throw new IOException("No hay lector de GIF disponible");
+        }
+        ImageReader reader = readers.next();
+        try (ImageInputStream in = ImageIO.createImageInputStream(file)) {
+            if (in == null) {
+                throw new IOException("No se puede abrir " + file);
+            }
+            reader.setInput(in, false);
+            return decode(reader);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    private static AnimatedSprite decode(ImageReader reader) throws IOException {
+        int count = reader.getNumImages(true);
+        if (count <= 0) {
+            throw new IOException("GIF sin fotogramas");
+        }
+
+        int width = 0;
+        int height = 0;
+        IIOMetadata streamMetadata = reader.getStreamMetadata();
+        if (streamMetadata != null) {
+            Node screen = child(streamMetadata.getAsTree(STREAM_FORMAT), "LogicalScreenDescriptor");
+            width = intAttribute(screen, "logicalScreenWidth", 0);
+            height = intAttribute(screen, "logicalScreenHeight", 0);
+        }
+        if (width <= 0 || height <= 0) {
+            width = reader.getWidth(0);
+            height = reader.getHeight(0);
+        }
+
+        BufferedImage canvas = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        List<BufferedImage> frames = new ArrayList<>(count);
+        int[] delays = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            BufferedImage raw = reader.read(i);
+            Node tree = reader.getImageMetadata(i).getAsTree(IMAGE_FORMAT);
+            Node descriptor = child(tree, "ImageDescriptor");
+            Node control = child(tree, "GraphicControlExtension");
+            int left = intAttribute(descriptor, "imageLeftPosition", 0);
+            int top = intAttribute(descriptor, "imageTopPosition", 0);
+            String disposal = stringAttribute(control, "disposalMethod", "none");
+            int delay = intAttribute(control, "delayTime", 0) * 10;
+            delays[i] = delay > 0 ? delay : DEFAULT_DELAY_MS;
+
+            BufferedImage previous = "restoreToPrevious".equals(disposal) ? copy(canvas) : null;
+
+            Graphics2D g = canvas.createGraphics();
+            try {
+                g.drawImage(raw, left, top, null);
+            } finally {
+                g.dispose();
+            }
+            frames.add(copy(canvas));
+
+            // Descarte antes del siguiente fotograma
+            if ("restoreToBackgroundColor".equals(disposal)) {
+                Graphics2D clear = canvas.createGraphics();
+                try {
+                    clear.setComposite(AlphaComposite.Clear);
+                    clear.fillRect(left, top, raw.getWidth(), raw.getHeight());
+                } finally {
+                    clear.dispose();
+                }
+            } else if (previous != null) {
+                canvas = previous;
+            }
+        }
+        return new AnimatedSprite(frames, delays);
+    }
+
+    private static BufferedImage copy(BufferedImage source) {
+        BufferedImage copy = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = copy.createGraphics();
+        try {
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return copy;
+    }
+
+    private static Node child(Node parent, String name) {
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (name.equals(node.getNodeName())) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private static String stringAttribute(Node node, String name, String defaultValue) {
+        if (node == null) {
+            return defaultValue;
+        }
+        NamedNodeMap attributes = node.getAttributes();
+        Node attribute = attributes != null ? attributes.getNamedItem(name) : null;
+        return attribute != null ? attribute.getNodeValue() : defaultValue;
+    }
+
+    private static int intAttribute(Node node, String name, int defaultValue) {
+        String value = stringAttribute(node, name, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
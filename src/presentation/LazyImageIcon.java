@@ -0,0 +1,73 @@
+package presentation;
+
+import javax.swing.ImageIcon;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Image;
+import java.awt.Toolkit;
+
+/**
+ * ImageIcon que no carga la imagen hasta que alguien la pide.
+ *
+ * Crear el icono solo guarda la ruta (como descripción), así que sirve de
+ * clave para las animaciones decodificadas de ResourceLoader sin arrancar el
+ * productor de imágenes de Toolkit. La imagen de Toolkit se carga la primera
+ * vez que se dibuja o se consulta su tamaño, igual que un ImageIcon normal.
+ */
+final class LazyImageIcon extends ImageIcon {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String path;
+    private boolean loaded;
+
+    LazyImageIcon(String path) {
+        super();
+        this.path = path;
+        setDescription(path);
+    }
+
+    /**
+     * Indica si la imagen de Toolkit ya se cargó.
+     */
+    synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    private synchronized void ensureLoaded() {
+        if (!loaded) {
+            loaded = true;
+            setImage(Toolkit.getDefaultToolkit().getImage(path));
+        }
+    }
+
+    @Override
+    public Image getImage() {
+        ensureLoaded();
+        return super.getImage();
+    }
+
+    @Override
+    public int getImageLoadStatus() {
+        ensureLoaded();
+        return super.getImageLoadStatus();
+    }
+
+    @Override
+    public int getIconWidth() {
+        ensureLoaded();
+        return super.getIconWidth();
+    }
+
+    @Override
+    public int getIconHeight() {
+        ensureLoaded();
+        return super.getIconHeight();
+    }
+
+    @Override
+    public void paintIcon(Component c, Graphics g, int x, int y) {
+        ensureLoaded();
+        super.paintIcon(c, g, x, y);
+    }
+}
@@ -0,0 +1,151 @@
+package presentation;
+
+import java.util.Arrays;
+
+/**
+ * Interpolación de muchas entidades a la vez, guardada por columnas.
+ *
+ * Hace lo mismo que un {@link MotionTrack} por entidad, pero cada campo vive
+ * en su propio array primitivo indexado por el identificador denso que
+ * reparte GameState (EntitySnapshot.getId()). La actualización de cada
+ * frame no crea objetos ni busca en mapas; los arrays solo crecen cuando
+ * aparece un identificador mayor que la capacidad actual.
+ *
+ * Una entrada cuya generación cambió, o que no se actualizó en el frame
+ * anterior, se considera nueva y se coloca sin animación: así un
+ * identificador reutilizado por otra entidad no hereda el recorrido de la
+ * anterior.
+ */
+public final class MotionTable {
+
+    private float[] fromX;
+    private float[] fromY;
+    private float[] toX;
+    private float[] toY;
+    private int[] cellX;
+    private int[] cellY;
+    private long[] startTime;
+    private int[] duration;
+    private int[] generation;
+    // Frame en que se actualizó cada entrada (0 = nunca)
+    private int[] seenFrame;
+    private int frame;
+
+    public MotionTable(int initialCapacity) {
+        allocate(Math.max(1, initialCapacity));
+    }
+
+    private void allocate(int capacity) {
+        fromX = new float[capacity];
+        fromY = new float[capacity];
+        toX = new float[capacity];
+        toY = new float[capacity];
+        cellX = new int[capacity];
+        cellY = new int[capacity];
+        startTime = new long[capacity];
+        duration = new int[capacity];
+        generation = new int[capacity];
+        seenFrame = new int[capacity];
+    }
+
+    private void ensureCapacity(int id) {
+        if (id < seenFrame.length) {
+            return;
+        }
+        int capacity = Math.max(id + 1, seenFrame.length * 2);
+        fromX = Arrays.copyOf(fromX, capacity);
+        fromY = Arrays.copyOf(fromY, capacity);
+        toX = Arrays.copyOf(toX, capacity);
+        toY = Arrays.copyOf(toY, capacity);
+        cellX = Arrays.copyOf(cellX, capacity);
+        cellY = Arrays.copyOf(cellY, capacity);
+        startTime = Arrays.copyOf(startTime, capacity);
+        duration = Arrays.copyOf(duration, capacity);
+        generation = Arrays.copyOf(generation, capacity);
+        seenFrame = Arrays.copyOf(seenFrame, capacity);
+    }
+
+    /**
+     * Empieza un frame de actualización. Las entradas que no se actualicen
+     * después de esta llamada dejan de estar vigentes.
+     */
+    public void beginFrame() {
+        frame++;
+    }
+
+    /**
+     * Descarta todas las entradas.
+     */
+    public void clear() {
+        Arrays.fill(seenFrame, 0);
+        frame = 0;
+    }
+
+    /**
+     * Registra la casilla actual de una entidad (ver
+     * {@link MotionTrack#moveTo(int, int, int, long, int)}).
+     *
+     * @param id         Identificador denso de la entidad
+     * @param generation Generación del identificador
+     * @param cellX      Casilla actual (columna)
+     * @param cellY      Casilla actual (fila)
+     * @param cellSize   Tamaño de la casilla en píxeles
+     * @param now        Reloj de render en milisegundos
+     * @param moveMs     Duración del desplazamiento en milisegundos
+     */
+    public void update(int id, int generation, int cellX, int cellY, int cellSize, long now, int moveMs) {
+        ensureCapacity(id);
+        boolean continuing = seenFrame[id] != 0 && seenFrame[id] >= frame - 1
+                && this.generation[id] == generation;
+        seenFrame[id] = frame;
+        this.generation[id] = generation;
+        if (!continuing
+                || Math.abs(cellX - this.cellX[id]) + Math.abs(cellY - this.cellY[id]) > 1) {
+            snap(id, cellX, cellY, cellSize);
+            return;
+        }
+        if (cellX == this.cellX[id] && cellY == this.cellY[id]) {
+            return;
+        }
+        float startX = getX(id, now);
+        float startY = getY(id, now);
+        fromX[id] = startX;
+        fromY[id] = startY;
+        toX[id] = cellX * cellSize;
+        toY[id] = cellY * cellSize;
+        this.cellX[id] = cellX;
+        this.cellY[id] = cellY;
+        startTime[id] = now;
+        duration[id] = Math.max(1, moveMs);
+    }
+
+    private void snap(int id, int cellX, int cellY, int cellSize) {
+        this.cellX[id] = cellX;
+        this.cellY[id] = cellY;
+        fromX[id] = toX[id] = cellX * cellSize;
+        fromY[id] = toY[id] = cellY * cellSize;
+        duration[id] = 0;
+    }
+
+    /**
+     * Indica si la entidad se actualizó en el frame vigente.
+     */
+    public boolean contains(int id) {
+        return id >= 0 && id < seenFrame.length
+                && seenFrame[id] != 0 && seenFrame[id] == frame;
+    }
+
+    public float getX(int id, long now) {
+        float alpha = MotionTrack.alpha(now, startTime[id], duration[id]);
+        return MotionTrack.pathX(fromX[id], fromY[id], toX[id], toY[id], alpha);
+    }
+
+    public float getY(int id, long now) {
+        float alpha = MotionTrack.alpha(now, startTime[id], duration[id]);
+        return MotionTrack.pathY(fromX[id], fromY[id], toX[id], toY[id], alpha);
+    }
+
+    public int getCapacity() {
+        return seenFrame.length;
+    }
+}
@@ -0,0 +1,142 @@
+package presentation;
+
+/**
+ * Interpolación de la posición en pantalla de una entidad que se mueve por
+ * casillas.
+ *
+ * Guarda la posición anterior y la actual de la simulación (en píxeles) y el
+ * instante en que cambió. La posición dibujada mezcla ambas según la fracción
+ * del desplazamiento ya transcurrida (alpha), calculada con el reloj de
+ * render: la velocidad en pantalla depende del tiempo y no de cuántos frames
+ * se dibujen.
+ *
+ * El recorrido es Manhattan (primero X, luego Y), como la animación anterior,
+ * para que las entidades no se deslicen en diagonal.
+ */
+public class MotionTrack {
+
+    private float fromX;
+    private float fromY;
+    private float toX;
+    private float toY;
+    private int cellX;
+    private int cellY;
+    private long startTime;
+    private int duration;
+
+    /**
+     * @param cellX    Casilla inicial (columna)
+     * @param cellY    Casilla inicial (fila)
+     * @param cellSize Tamaño de la casilla en píxeles
+     */
+    public MotionTrack(int cellX, int cellY, int cellSize) {
+        snap(cellX, cellY, cellSize);
+    }
+
+    /**
+     * Coloca la entidad en la casilla sin animación.
+     */
+    public void snap(int cellX, int cellY, int cellSize) {
+        this.cellX = cellX;
+        this.cellY = cellY;
+        this.fromX = this.toX = cellX * cellSize;
+        this.fromY = this.toY = cellY * cellSize;
+        this.duration = 0;
+    }
+
+    /**
+     * Actualiza la casilla lógica. Si cambió a una casilla vecina, empieza un
+     * desplazamiento desde la posición dibujada en este instante (así un
+     * cambio a mitad de camino no produce saltos). Los saltos de más de una
+     * casilla (reinicio, teletransporte) se colocan sin animación.
+     *
+     * @param cellX    Casilla actual (columna)
+     * @param cellY    Casilla actual (fila)
+     * @param cellSize Tamaño de la casilla en píxeles
+     * @param now      Reloj de render en milisegundos
+     * @param duration Duración del desplazamiento en milisegundos
+     * @return true si la casilla cambió
+     */
+    public boolean moveTo(int cellX, int cellY, int cellSize, long now, int duration) {
+        if (cellX == this.cellX && cellY == this.cellY) {
+            return false;
+        }
+        if (Math.abs(cellX - this.cellX) + Math.abs(cellY - this.cellY) > 1) {
+            snap(cellX, cellY, cellSize);
+            return true;
+        }
+        float startX = getX(now);
+        float startY = getY(now);
+        this.fromX = startX;
+        this.fromY = startY;
+        this.toX = cellX * cellSize;
+        this.toY = cellY * cellSize;
+        this.cellX = cellX;
+        this.cellY = cellY;
+        this.startTime = now;
+        this.duration = Math.max(1, duration);
+        return true;
+    }
+
+    /**
+     * Fracción del desplazamiento recorrida (0.0 a 1.0).
+     */
+    public float getAlpha(long now) {
+        return alpha(now, startTime, duration);
+    }
+
+    public boolean isMoving(long now) {
+        return getAlpha(now) < 1f;
+    }
+
+    public float getX(long now) {
+        return pathX(fromX, fromY, toX, toY, getAlpha(now));
+    }
+
+    public float getY(long now) {
+        return pathY(fromX, fromY, toX, toY, getAlpha(now));
+    }
+
+    // ==================== CÁLCULO COMPARTIDO (MotionTable) ====================
+
+    static float alpha(long now, long startTime, int duration) {
+        if (duration <= 0) {
+            return 1f;
+        }
+        long elapsed = now - startTime;
+        if (elapsed <= 0) {
+            return 0f;
+        }
+        return elapsed >= duration ? 1f : (float) elapsed / duration;
+    }
+
+    static float pathX(float fromX, float fromY, float toX, float toY, float alpha) {
+        float dx = Math.abs(toX - fromX);
+        float travelled = (dx + Math.abs(toY - fromY)) * alpha;
+        if (travelled >= dx) {
+            return toX;
+        }
+        return fromX + Math.signum(toX - fromX) * travelled;
+    }
+
+    static float pathY(float fromX, float fromY, float toX, float toY, float alpha) {
+        float dx = Math.abs(toX - fromX);
+        float dy = Math.abs(toY - fromY);
+        float travelled = (dx + dy) * alpha - dx;
+        if (travelled <= 0) {
+            return fromY;
+        }
+        if (travelled >= dy) {
+            return toY;
+        }
+        return fromY + Math.signum(toY - fromY) * travelled;
+    }
+
+    public int getCellX() {
+        return cellX;
+    }
+
+    public int getCellY() {
+        return cellY;
+    }
+}
@@ -1,13 +1,50 @@
 package presentation;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import javax.swing.*;
 import java.awt.*;
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
 import domain.entity.FruitState;
 
+/**
+ * Carga y guarda los recursos gráficos.
+ *
+ * Los recursos de menús (fondos, títulos y botones) se leen al construir.
+ * Los GIF del juego solo se registran en grupos (un grupo por personaje,
+ * por enemigo, frutas y mapa): cada GIF se decodifica la primera vez que se
+ * dibuja, o antes si se pide su grupo, en un pool de hilos acotado.
+ */
 public class ResourceLoader {
 
+    // Grupos de recursos del juego
+    public static final String GROUP_CHOCOLATE = "CHOCOLATE";
+    public static final String GROUP_FRESA = "FRESA";
+    public static final String GROUP_VAINILLA = "VAINILLA";
+    public static final String GROUP_TROLL = "TROLL";
+    public static final String GROUP_MACETA = "MACETA";
+    public static final String GROUP_CALAMAR = "CALAMAR";
+    public static final String GROUP_NARVAL = "NARVAL";
+    public static final String GROUP_FRUTAS = "FRUTAS";
+    public static final String GROUP_MAPA = "MAPA";
+
+    // Tamaño de la ventana de menús (el fondo no se guarda más grande)
+    private static final int WINDOW_WIDTH = 1280;
+    private static final int WINDOW_HEIGHT = 720;
+
     // Imágenes de fondo y títulos
     public Image wallpaperImage;
     public ImageIcon titleGif;
@@ -181,15 +218,221 @@ public class ResourceLoader {
     public ImageIcon igluImage;
     public ImageIcon unbreakableBlockImage;
 
+    // Sprites pre-escalados por tamaño de dibujo
+    private final SpriteCache spriteCache = new SpriteCache();
+
+    // GIF decodificados en fotogramas, por ruta (resultado null si no se pudo decodificar)
+    private final Map<String, FutureTask<AnimatedSprite>> animations = new ConcurrentHashMap<>();
+
+    // Iconos del juego por grupo, en orden de registro
+    private final Map<String, List<ImageIcon>> assetGroups = new LinkedHashMap<>();
+
     public ResourceLoader() {
         loadAllImages();
     }
 
+    /**
+     * Obtiene un sprite estático ya escalado al tamaño de dibujo. El escalado
+     * se hace una vez por tamaño y se reutiliza en los frames siguientes.
+     *
+     * @return Imagen escalada, o null si no se puede pre-escalar (GIF
+     *         animado o tamaño no positivo)
+     */
+    public Image getScaledSprite(Image source, int width, int height) {
+        return spriteCache.get(source, width, height);
+    }
+
+    public SpriteCache getSpriteCache() {
+        return spriteCache;
+    }
+
+    /**
+     * Obtiene la animación decodificada de un GIF cargado como ImageIcon.
+     * Se decodifica la primera vez que se pide y queda en caché; si otro hilo
+     * ya la está decodificando, espera a ese resultado.
+     *
+     * @param icon ImageIcon creado a partir de la ruta del GIF
+     * @return Animación, o null si el icono no es un GIF que se pueda leer
+     */
+    public AnimatedSprite getAnimation(ImageIcon icon) {
+        if (icon == null || icon.getDescription() == null) {
+            return null;
+        }
+        String path = icon.getDescription();
+        FutureTask<AnimatedSprite> task = animations.get(path);
+        if (task == null) {
+            FutureTask<AnimatedSprite> created = new FutureTask<>(() -> decodeGif(path));
+            task = animations.putIfAbsent(path, created);
+            if (task == null) {
+                task = created;
+                task.run();
+            }
+        }
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private static AnimatedSprite decodeGif(String path) {
+        if (!path.toLowerCase().endsWith(".gif")) {
+            return null;
+        }
+        try {
+            return GifDecoder.decode(new File(path));
+        } catch (IOException | RuntimeException e) {
+            domain.BadDopoLogger.logError("No se pudo decodificar el GIF: " + path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Decodifica en segundo plano las animaciones de un personaje.
+     *
+     * @param characterType Chocolate, Fresa o Vainilla
+     * @return Futuro que se completa cuando el grupo está listo
+     */
+    public CompletableFuture<Void> loadCharacterAssets(String characterType) {
+        String character = characterType == null ? "" : characterType.toLowerCase();
+        if (character.equals("chocolate")) {
+            return loadGroup(GROUP_CHOCOLATE);
+        } else if (character.equals("fresa")) {
+            return loadGroup(GROUP_FRESA);
+        }
+        return loadGroup(GROUP_VAINILLA);
+    }
+
+    /**
+     * Decodifica en segundo plano las animaciones de un tipo de enemigo.
+     *
+     * @param enemyType TROLL, MACETA, CALAMAR o NARVAL
+     * @return Futuro que se completa cuando el grupo está listo
+     */
+    public CompletableFuture<Void> loadEnemyAssets(String enemyType) {
+        return loadGroup(enemyType == null ? GROUP_TROLL : enemyType.toUpperCase());
+    }
+
+    /**
+     * Decodifica en segundo plano los recursos que usan todos los niveles
+     * (frutas y mapa).
+     */
+    public CompletableFuture<Void> preloadCommonAssets() {
+        return CompletableFuture.allOf(loadGroup(GROUP_FRUTAS), loadGroup(GROUP_MAPA));
+    }
+
+    /**
+     * Decodifica en segundo plano todos los GIF de un grupo. Cada GIF se
+     * decodifica en una tarea del pool; los que ya estaban listos no se
+     * repiten.
+     *
+     * @param group Nombre del grupo (constantes GROUP_*)
+     * @return Futuro que se completa cuando el grupo está listo
+     */
+    public CompletableFuture<Void> loadGroup(String group) {
+        List<ImageIcon> icons = assetGroups.get(group);
+        if (icons == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<CompletableFuture<AnimatedSprite>> tasks = new ArrayList<>(icons.size());
+        for (ImageIcon icon : icons) {
+            tasks.add(CompletableFuture.supplyAsync(() -> getAnimation(icon), AssetExecutor.INSTANCE));
+        }
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Fracción de GIF del juego ya decodificados (de 0 a 1).
+     */
+    public double getLoadProgress() {
+        int total = 0;
+        int done = 0;
+        for (List<ImageIcon> icons : assetGroups.values()) {
+            for (ImageIcon icon : icons) {
+                total++;
+                FutureTask<AnimatedSprite> task = animations.get(icon.getDescription());
+                if (task != null && task.isDone()) {
+                    done++;
+                }
+            }
+        }
+        return total == 0 ? 1.0 : (double) done / total;
+    }
+
+    /**
+     * Lee una imagen saltando píxeles (submuestreo) para que quede lo más
+     * cerca posible del tamaño en que se dibuja, sin bajar de él. Evita
+     * tener en memoria fondos con mucha más resolución que la ventana.
+     */
+    private static Image readSubsampled(File file, int minWidth, int minHeight) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file)) {
+            java.util.Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                return ImageIO.read(file);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int step = Math.max(1, Math.min(reader.getWidth(0) / minWidth, reader.getHeight(0) / minHeight));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Lee una imagen en el pool de recursos. Si falla se registra el error y
+     * el resultado es null, como cuando falta un recurso.
+     */
+    private static CompletableFuture<Image> readAsync(java.util.concurrent.Callable<Image> reader) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return reader.call();
+            } catch (Exception e) {
+                domain.BadDopoLogger.logError("Error cargando imágenes: " + e.getMessage(), e);
+                return null;
+            }
+        }, AssetExecutor.INSTANCE);
+    }
+
+    /**
+     * Registra un recurso del juego sin cargarlo todavía.
+     */
+    private ImageIcon gif(String group, String path) {
+        ImageIcon icon = new LazyImageIcon(path);
+        assetGroups.computeIfAbsent(group, key -> new ArrayList<>()).add(icon);
+        return icon;
+    }
+
+    /**
+     * Pool acotado de decodificación compartido (se crea al primer uso).
+     */
+    private static final class AssetExecutor {
+        private static final ExecutorService INSTANCE = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())), runnable -> {
+                    Thread thread = new Thread(runnable, "BadDopo-Assets");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
     private void loadAllImages() {
         try {
+            // Las dos imágenes grandes se decodifican en el pool mientras se
+            // leen los botones en este hilo
+            CompletableFuture<Image> wallpaper = readAsync(
+                    () -> readSubsampled(new File("Resources/Wallpaper.jpg"), WINDOW_WIDTH, WINDOW_HEIGHT));
+            CompletableFuture<Image> mapBackground = readAsync(
+                    () -> ImageIO.read(new File("Resources/Map/fondo mapa.png")));
+
             // ========== RECURSOS DE MENÚS ==========
 
-            wallpaperImage = ImageIO.read(new File("Resources/Wallpaper.jpg"));
             titleGif = new ImageIcon("Resources/Titulo/BAD-DOPO-CREAM-11-21-2025 (1).gif");
             characterSelectionGif = new ImageIcon("Resources/Titulo/character_selection.gif");
             levelSelectionGif = new ImageIcon("Resources/Titulo/level_selection.gif");
@@ -216,209 +459,183 @@ public class ResourceLoader {
                     .read(new File("Resources/Helados/Vainilla/Gif/vainilla_quieto_abajo animation.gif"));
             marcoSeleccionImage = ImageIO.read(new File("Resources/Seleccion de personaje/Marco_Seleccion.png"));
 
+            wallpaperImage = wallpaper.join();
+
             // ========== RECURSOS DEL JUEGO ==========
 
-            fondoMapa = ImageIO.read(new File("Resources/Map/fondo mapa.png"));
+            fondoMapa = mapBackground.join();
 
             // CHOCOLATE
-            chocolateIdleUpGif = new ImageIcon("Resources/Helados/Chocolate/Gif/chocolate_quieto_arriba animation.gif");
-            chocolateIdleDownGif = new ImageIcon(
+            chocolateIdleUpGif = gif(GROUP_CHOCOLATE,
+                    "Resources/Helados/Chocolate/Gif/chocolate_quieto_arriba animation.gif");
+            chocolateIdleDownGif = gif(GROUP_CHOCOLATE,
                     "Resources/Helados/Chocolate/Gif/chocolate_quieto_abajo animation.gif");
-            chocolateIdleLeftGif = new ImageIcon(
+            chocolateIdleLeftGif = gif(GROUP_CHOCOLATE,
                     "Resources/Helados/Chocolate/Gif/chocolate_quieto_izquierda animation.gif");
-            chocolateIdleRightGif = new ImageIcon(
+            chocolateIdleRightGif = gif(GROUP_CHOCOLATE,
                     "Resources/Helados/Chocolate/Gif/chocolate_quieto_derecha animation.gif");
-            chocolateWalkUpGif = new ImageIcon(
+            chocolateWalkUpGif = gif(GROUP_CHOCOLATE,
                     "Resources/Helados/Chocolate/Gif/chocolate_caminando_arriba animation.gif");
-            chocolateWalkDownGif = new ImageIcon(
+            chocolateWalkDownGif = gif(GROUP_CHOCOLATE,
                     "Resources/Helados/Chocolate/Gif/chocolate_caminando_abajo animation.gif");
-            chocolateWalkLeftGif = new ImageIcon(
+            chocolateWalkLeftGif = gif(GROUP_CHOCOLATE,
                     "Resources/Helados/Chocolate/Gif/chocolate_caminando_izquierda animation.gif");
-            chocolateWalkRightGif = new ImageIcon(
+            chocolateWalkRightGif = gif(GROUP_CHOCOLATE,
                     "Resources/Helados/Chocolate/Gif/chocolate_caminando_derecha animation.gif");
-            chocolateSneezeUpGif = new ImageIcon(
+            chocolateSneezeUpGif = gif(GROUP_CHOCOLATE,
                     "Resources/Helados/Chocolate/Gif/chocolate_estornudo_arriba animation.gif");
-            chocolateSneezeDownGif = new ImageIcon(
+            chocolateSneezeDownGif = gif(GROUP_CHOCOLATE,
                     "Resources/Helados/Chocolate/Gif/chocolate_estornudo_abajo animation.gif");
-            chocolateSneezeLeftGif = new ImageIcon(
+            chocolateSneezeLeftGif = gif(GROUP_CHOCOLATE,
                     "Resources/Helados/Chocolate/Gif/chocolate_estornudo_izquierda animation.gif");
-            chocolateSneezeRightGif = new ImageIcon(
+            chocolateSneezeRightGif = gif(GROUP_CHOCOLATE,
                     "Resources/Helados/Chocolate/Gif/chocolate_estornudo_derecha animation.gif");
-            chocolateKickGif = new ImageIcon("Resources/Helados/Chocolate/Gif/chocolate_patada animation.gif");
-            chocolateDeathGif = new ImageIcon("Resources/Helados/Chocolate/Gif/chocolate_muerte animation.gif");
-            chocolateVictoryGif = new ImageIcon("Resources/Helados/Chocolate/Gif/chocolate_victoria animation.gif");
+            chocolateKickGif = gif(GROUP_CHOCOLATE, "Resources/Helados/Chocolate/Gif/chocolate_patada animation.gif");
+            chocolateDeathGif = gif(GROUP_CHOCOLATE, "Resources/Helados/Chocolate/Gif/chocolate_muerte animation.gif");
+            chocolateVictoryGif = gif(GROUP_CHOCOLATE,
+                    "Resources/Helados/Chocolate/Gif/chocolate_victoria animation.gif");
 
             // ROSA
-            rosaIdleUpGif = new ImageIcon("Resources/Helados/Rosa/Gif/rosa_quieto_arriba animation.gif");
-            rosaIdleDownGif = new ImageIcon("Resources/Helados/Rosa/Gif/rosa_quieto_abajo animation.gif");
-            rosaIdleLeftGif = new ImageIcon("Resources/Helados/Rosa/Gif/rosa_quieto_izquierda animation.gif");
-            rosaIdleRightGif = new ImageIcon("Resources/Helados/Rosa/Gif/rosa_quieto_derecha animation.gif");
-            rosaWalkUpGif = new ImageIcon("Resources/Helados/Rosa/Gif/rosa_caminando_arriba animation.gif");
-            rosaWalkDownGif = new ImageIcon("Resources/Helados/Rosa/Gif/rosa_caminando_abajo animation.gif");
-            rosaWalkLeftGif = new ImageIcon("Resources/Helados/Rosa/Gif/rosa_caminando_izquierda animation.gif");
-            rosaWalkRightGif = new ImageIcon("Resources/Helados/Rosa/Gif/rosa_caminando_derecha animation.gif");
-            rosaSneezeUpGif = new ImageIcon("Resources/Helados/Rosa/Gif/rosa_estornudo_arriba animation.gif");
-            rosaSneezeDownGif = new ImageIcon("Resources/Helados/Rosa/Gif/rosa_estornudo_abajo animation.gif");
-            rosaSneezeLeftGif = new ImageIcon("Resources/Helados/Rosa/Gif/rosa_estornudo_izquierda animation.gif");
-            rosaSneezeRightGif = new ImageIcon("Resources/Helados/Rosa/Gif/rosa_estornudo_derecha animation.gif");
-            rosaKickGif = new ImageIcon("Resources/Helados/Rosa/Gif/rosa_patada animation.gif");
-            rosaDeathGif = new ImageIcon("Resources/Helados/Rosa/Gif/rosa_muerte animation.gif");
-            rosaVictoryGif = new ImageIcon("Resources/Helados/Rosa/Gif/rosa_victoria animation.gif");
+            rosaIdleUpGif = gif(GROUP_FRESA, "Resources/Helados/Rosa/Gif/rosa_quieto_arriba animation.gif");
+            rosaIdleDownGif = gif(GROUP_FRESA, "Resources/Helados/Rosa/Gif/rosa_quieto_abajo animation.gif");
+            rosaIdleLeftGif = gif(GROUP_FRESA, "Resources/Helados/Rosa/Gif/rosa_quieto_izquierda animation.gif");
+            rosaIdleRightGif = gif(GROUP_FRESA, "Resources/Helados/Rosa/Gif/rosa_quieto_derecha animation.gif");
+            rosaWalkUpGif = gif(GROUP_FRESA, "Resources/Helados/Rosa/Gif/rosa_caminando_arriba animation.gif");
+            rosaWalkDownGif = gif(GROUP_FRESA, "Resources/Helados/Rosa/Gif/rosa_caminando_abajo animation.gif");
+            rosaWalkLeftGif = gif(GROUP_FRESA, "Resources/Helados/Rosa/Gif/rosa_caminando_izquierda animation.gif");
+            rosaWalkRightGif = gif(GROUP_FRESA, "Resources/Helados/Rosa/Gif/rosa_caminando_derecha animation.gif");
+            rosaSneezeUpGif = gif(GROUP_FRESA, "Resources/Helados/Rosa/Gif/rosa_estornudo_arriba animation.gif");
+            rosaSneezeDownGif = gif(GROUP_FRESA, "Resources/Helados/Rosa/Gif/rosa_estornudo_abajo animation.gif");
+            rosaSneezeLeftGif = gif(GROUP_FRESA, "Resources/Helados/Rosa/Gif/rosa_estornudo_izquierda animation.gif");
+            rosaSneezeRightGif = gif(GROUP_FRESA, "Resources/Helados/Rosa/Gif/rosa_estornudo_derecha animation.gif");
+            rosaKickGif = gif(GROUP_FRESA, "Resources/Helados/Rosa/Gif/rosa_patada animation.gif");
+            rosaDeathGif = gif(GROUP_FRESA, "Resources/Helados/Rosa/Gif/rosa_muerte animation.gif");
+            rosaVictoryGif = gif(GROUP_FRESA, "Resources/Helados/Rosa/Gif/rosa_victoria animation.gif");
 
             // VAINILLA
-            vainillaIdleUpGif = new ImageIcon("Resources/Helados/Vainilla/Gif/vainilla_quieto_arriba animation.gif");
-            vainillaIdleDownGif = new ImageIcon("Resources/Helados/Vainilla/Gif/vainilla_quieto_abajo animation.gif");
-            vainillaIdleLeftGif = new ImageIcon(
+            vainillaIdleUpGif = gif(GROUP_VAINILLA,
+                    "Resources/Helados/Vainilla/Gif/vainilla_quieto_arriba animation.gif");
+            vainillaIdleDownGif = gif(GROUP_VAINILLA,
+                    "Resources/Helados/Vainilla/Gif/vainilla_quieto_abajo animation.gif");
+            vainillaIdleLeftGif = gif(GROUP_VAINILLA,
                     "Resources/Helados/Vainilla/Gif/vainilla_quieto_izquierda animation.gif");
-            vainillaIdleRightGif = new ImageIcon(
+            vainillaIdleRightGif = gif(GROUP_VAINILLA,
                     "Resources/Helados/Vainilla/Gif/vainilla_quieto_derecha animation.gif");
-            vainillaWalkUpGif = new ImageIcon("Resources/Helados/Vainilla/Gif/vainilla_caminando_arriba animation.gif");
-            vainillaWalkDownGif = new ImageIcon(
+            vainillaWalkUpGif = gif(GROUP_VAINILLA,
+                    "Resources/Helados/Vainilla/Gif/vainilla_caminando_arriba animation.gif");
+            vainillaWalkDownGif = gif(GROUP_VAINILLA,
                     "Resources/Helados/Vainilla/Gif/vainilla_caminando_abajo animation.gif");
-            vainillaWalkLeftGif = new ImageIcon(
+            vainillaWalkLeftGif = gif(GROUP_VAINILLA,
                     "Resources/Helados/Vainilla/Gif/vainilla_caminando_izquierda animation.gif");
-            vainillaWalkRightGif = new ImageIcon(
+            vainillaWalkRightGif = gif(GROUP_VAINILLA,
                     "Resources/Helados/Vainilla/Gif/vainilla_caminando_derecha animation.gif");
-            vainillaSneezeUpGif = new ImageIcon(
+            vainillaSneezeUpGif = gif(GROUP_VAINILLA,
                     "Resources/Helados/Vainilla/Gif/vainilla_estornudo_arriba animation.gif");
-            vainillaSneezeDownGif = new ImageIcon(
+            vainillaSneezeDownGif = gif(GROUP_VAINILLA,
                     "Resources/Helados/Vainilla/Gif/vainilla_estornudo_abajo animation.gif");
-            vainillaSneezeLeftGif = new ImageIcon(
+            vainillaSneezeLeftGif = gif(GROUP_VAINILLA,
                     "Resources/Helados/Vainilla/Gif/vainilla_estornudo_izquierda animation.gif");
-            vainillaSneezeRightGif = new ImageIcon(
+            vainillaSneezeRightGif = gif(GROUP_VAINILLA,
                     "Resources/Helados/Vainilla/Gif/vainilla_estornudo_derecha animation.gif");
-            vainillaKickGif = new ImageIcon("Resources/Helados/Vainilla/Gif/vainilla_patada animation.gif");
-            vainillaDeathGif = new ImageIcon("Resources/Helados/Vainilla/Gif/vainilla_muerte animation.gif");
-            vainillaVictoryGif = new ImageIcon("Resources/Helados/Vainilla/Gif/vainilla_victoria animation.gif");
+            vainillaKickGif = gif(GROUP_VAINILLA, "Resources/Helados/Vainilla/Gif/vainilla_patada animation.gif");
+            vainillaDeathGif = gif(GROUP_VAINILLA, "Resources/Helados/Vainilla/Gif/vainilla_muerte animation.gif");
+            vainillaVictoryGif = gif(GROUP_VAINILLA, "Resources/Helados/Vainilla/Gif/vainilla_victoria animation.gif");
 
             // TROLLS
-            trollIdleGif = new ImageIcon("Resources/Enemigos/Troll/GIF/troll_preguntas animation.gif");
-            trollWalkUpGif = new ImageIcon("Resources/Enemigos/Troll/GIF/troll_caminando_arriba animation.gif");
-            trollWalkDownGif = new ImageIcon("Resources/Enemigos/Troll/GIF/troll_caminando_abajo animation.gif");
-            trollWalkLeftGif = new ImageIcon("Resources/Enemigos/Troll/GIF/troll_caminando_izquierda animation.gif");
-            trollWalkRightGif = new ImageIcon("Resources/Enemigos/Troll/GIF/troll_caminando_derecha animation.gif");
+            trollIdleGif = gif(GROUP_TROLL, "Resources/Enemigos/Troll/GIF/troll_preguntas animation.gif");
+            trollWalkUpGif = gif(GROUP_TROLL, "Resources/Enemigos/Troll/GIF/troll_caminando_arriba animation.gif");
+            trollWalkDownGif = gif(GROUP_TROLL, "Resources/Enemigos/Troll/GIF/troll_caminando_abajo animation.gif");
+            trollWalkLeftGif = gif(GROUP_TROLL, "Resources/Enemigos/Troll/GIF/troll_caminando_izquierda animation.gif");
+            trollWalkRightGif = gif(GROUP_TROLL, "Resources/Enemigos/Troll/GIF/troll_caminando_derecha animation.gif");
 
             // MACETAS
-            macetaWalkUpGif = new ImageIcon("Resources/Enemigos/Maceta/GIF/maceta-caminando-arriba.gif");
-            macetaWalkDownGif = new ImageIcon("Resources/Enemigos/Maceta/GIF/maceta_caminando_abajo.gif");
-            macetaWalkLeftGif = new ImageIcon("Resources/Enemigos/Maceta/GIF/maceta-caminando_izquierda.gif");
-            macetaWalkRightGif = new ImageIcon("Resources/Enemigos/Maceta/GIF/maceta-caminando-derecha.gif");
+            macetaWalkUpGif = gif(GROUP_MACETA, "Resources/Enemigos/Maceta/GIF/maceta-caminando-arriba.gif");
+            macetaWalkDownGif = gif(GROUP_MACETA, "Resources/Enemigos/Maceta/GIF/maceta_caminando_abajo.gif");
+            macetaWalkLeftGif = gif(GROUP_MACETA, "Resources/Enemigos/Maceta/GIF/maceta-caminando_izquierda.gif");
+            macetaWalkRightGif = gif(GROUP_MACETA, "Resources/Enemigos/Maceta/GIF/maceta-caminando-derecha.gif");
 
             // CALAMARES
-            calamarWalkUpGif = new ImageIcon(
+            calamarWalkUpGif = gif(GROUP_CALAMAR,
                     "Resources/Enemigos/Calamar/SpriteSheet_Without_Background/calamar_caminando_arriba animation.gif");
-            calamarWalkDownGif = new ImageIcon(
+            calamarWalkDownGif = gif(GROUP_CALAMAR,
                     "Resources/Enemigos/Calamar/SpriteSheet_Without_Background/calamar_caminando_abajo animation.gif");
-            calamarWalkLeftGif = new ImageIcon(
+            calamarWalkLeftGif = gif(GROUP_CALAMAR,
                     "Resources/Enemigos/Calamar/SpriteSheet_Without_Background/calamar_caminando_izquierda animation.gif");
-            calamarWalkRightGif = new ImageIcon(
+            calamarWalkRightGif = gif(GROUP_CALAMAR,
                     "Resources/Enemigos/Calamar/SpriteSheet_Without_Background/calamar_caminando_derecha animation.gif");
-            calamarBreakUpGif = new ImageIcon(
+            calamarBreakUpGif = gif(GROUP_CALAMAR,
                     "Resources/Enemigos/Calamar/SpriteSheet_Without_Background/calamar_rompe_hielo_arriba animation.gif");
-            calamarBreakDownGif = new ImageIcon(
+            calamarBreakDownGif = gif(GROUP_CALAMAR,
                     "Resources/Enemigos/Calamar/SpriteSheet_Without_Background/calamar_ropmpe_hielo_abajo animation.gif");
-            calamarBreakLeftGif = new ImageIcon(
+            calamarBreakLeftGif = gif(GROUP_CALAMAR,
                     "Resources/Enemigos/Calamar/SpriteSheet_Without_Background/calamar_rompe_hielo_izquierda animation.gif");
-            calamarBreakRightGif = new ImageIcon(
+            calamarBreakRightGif = gif(GROUP_CALAMAR,
                     "Resources/Enemigos/Calamar/SpriteSheet_Without_Background/calamar_rompe_hielo_derecha animation.gif");
 
             // NARVAL
-            narvalWalkUpGif = new ImageIcon("Resources/Enemigos/Narval/GIF/Narval_caminando_arriba.gif");
-            narvalWalkDownGif = new ImageIcon("Resources/Enemigos/Narval/GIF/Narval_caminando_abajo.gif");
-            narvalWalkLeftGif = new ImageIcon("Resources/Enemigos/Narval/GIF/Narval_caminando_izquierda.gif");
-            narvalWalkRightGif = new ImageIcon("Resources/Enemigos/Narval/GIF/Narval_caminando_derecha.gif");
-
-            narvalBreakUpGif = new ImageIcon("Resources/Enemigos/Narval/GIF/Narval_rompiendoHielo_arriba.gif");
-            narvalBreakDownGif = new ImageIcon("Resources/Enemigos/Narval/GIF/Narval_rompiendoHielo_abajo.gif");
-            narvalBreakLeftGif = new ImageIcon("Resources/Enemigos/Narval/GIF/Narval_rompiendoHielo_izquierda.gif");
-            narvalBreakRightGif = new ImageIcon("Resources/Enemigos/Narval/GIF/Narval_rompiendoHielo_derecha.gif");
-
-            narvalDrillUpGif = new ImageIcon("Resources/Enemigos/Narval/GIF/Narval_drill_arriba.gif");
-            narvalDrillDownGif = new ImageIcon("Resources/Enemigos/Narval/GIF/Narval_drill_abajo.gif");
-            narvalDrillLeftGif = new ImageIcon("Resources/Enemigos/Narval/GIF/Narval_drill_izquierda.gif"); // Uppercase
+            narvalWalkUpGif = gif(GROUP_NARVAL, "Resources/Enemigos/Narval/GIF/Narval_caminando_arriba.gif");
+            narvalWalkDownGif = gif(GROUP_NARVAL, "Resources/Enemigos/Narval/GIF/Narval_caminando_abajo.gif");
+            narvalWalkLeftGif = gif(GROUP_NARVAL, "Resources/Enemigos/Narval/GIF/Narval_caminando_izquierda.gif");
+            narvalWalkRightGif = gif(GROUP_NARVAL, "Resources/Enemigos/Narval/GIF/Narval_caminando_derecha.gif");
+
+            narvalBreakUpGif = gif(GROUP_NARVAL, "Resources/Enemigos/Narval/GIF/Narval_rompiendoHielo_arriba.gif");
+            narvalBreakDownGif = gif(GROUP_NARVAL, "Resources/Enemigos/Narval/GIF/Narval_rompiendoHielo_abajo.gif");
+            narvalBreakLeftGif = gif(GROUP_NARVAL, "Resources/Enemigos/Narval/GIF/Narval_rompiendoHielo_izquierda.gif");
+            narvalBreakRightGif = gif(GROUP_NARVAL, "Resources/Enemigos/Narval/GIF/Narval_rompiendoHielo_derecha.gif");
+
+            narvalDrillUpGif = gif(GROUP_NARVAL, "Resources/Enemigos/Narval/GIF/Narval_drill_arriba.gif");
+            narvalDrillDownGif = gif(GROUP_NARVAL, "Resources/Enemigos/Narval/GIF/Narval_drill_abajo.gif");
+            narvalDrillLeftGif = gif(GROUP_NARVAL,
+                    "Resources/Enemigos/Narval/GIF/Narval_drill_izquierda.gif"); // Uppercase
                                                                                                             // 'N'
                                                                                                             // requested
                                                                                                             // by User
-            narvalDrillRightGif = new ImageIcon("Resources/Enemigos/Narval/GIF/Narval_drill_derecha.gif");
+            narvalDrillRightGif = gif(GROUP_NARVAL, "Resources/Enemigos/Narval/GIF/Narval_drill_derecha.gif");
 
             // HIELO
             iceBlockNormalImage = ImageIO.read(new File("Resources/Hielo/GIF/Screenshot 2025-11-23 005254.png"));
             iceBlockBrokenImage = ImageIO.read(new File("Resources/Hielo/GIF/Screenshot 2025-11-23 005304.png"));
 
             // FRUTAS - CACTUS
-            cactusSpawnGif = new ImageIcon("Resources/Frutas/GIF/Cactus/cactus_apareciendo.gif");
-            cactusIdleGif = new ImageIcon("Resources/Frutas/GIF/Cactus/cactus_normal.gif");
-            cactusSpikesWarningGif = new ImageIcon("Resources/Frutas/GIF/Cactus/cactus_generando_espinas.gif");
-            cactusSpikesActiveGif = new ImageIcon("Resources/Frutas/GIF/Cactus/cactus_con_espinas.gif");
-            cactusSpikesCooldownGif = new ImageIcon("Resources/Frutas/GIF/Cactus/cactus_quitando_espinas.gif");
-            cactusCollectedGif = new ImageIcon("Resources/Frutas/GIF/Cactus/cactus_recolectado.gif");
-
-            // FRUTAS - CEREZA
-            cherrySpawnGif = new ImageIcon("Resources/Frutas/GIF/Cereza/cereza_apareciendo.gif");
-            cherryIdleGif = new ImageIcon("Resources/Frutas/GIF/Cereza/cereza_normal.gif");
-            cherryTeleportOutGif = new ImageIcon("Resources/Frutas/GIF/Cereza/cereza_teletransportando.gif");
-            cherryTeleportInGif = new ImageIcon("Resources/Frutas/GIF/Cereza/cereza_llegando_teletransporte.gif");
-            cherryCollectedGif = new ImageIcon("Resources/Frutas/GIF/Cereza/cereza_recolectada.gif");
-            cerezaImage = cherryIdleGif; // Backward compat
-
-            // FRUTAS - PIÑA
-            pineappleSpawnGif = new ImageIcon("Resources/Frutas/GIF/Piña/piña_apareciendo.gif");
-            pineappleIdleGif = new ImageIcon("Resources/Frutas/GIF/Piña/piña_normal.gif");
-            pineappleCollectedGif = new ImageIcon("Resources/Frutas/GIF/Piña/piña_recolectado.gif");
-            pinaImage = pineappleIdleGif;
-
-            // FRUTAS - PLATANO
-            bananaSpawnGif = new ImageIcon("Resources/Frutas/GIF/Platano/platano_apareciendo.gif");
-            bananaIdleGif = new ImageIcon("Resources/Frutas/GIF/Platano/platano_normal.gif");
-            bananaCollectedGif = new ImageIcon("Resources/Frutas/GIF/Platano/platano_recolectado.gif");
-            platanoImage = bananaIdleGif;
-
-            // FRUTAS - UVA
-            grapeSpawnGif = new ImageIcon("Resources/Frutas/GIF/Uvas/uva_apareciendo.gif");
-            grapeIdleGif = new ImageIcon("Resources/Frutas/GIF/Uvas/uva_normal.gif");
-            grapeCollectedGif = new ImageIcon("Resources/Frutas/GIF/Uvas/uva_recolectada.gif");
-            uvaImage = grapeIdleGif;
-
-            // FRUTAS - CACTUS
-            cactusSpawnGif = new ImageIcon("Resources/Frutas/GIF/Cactus/cactus_apareciendo.gif");
-            cactusIdleGif = new ImageIcon("Resources/Frutas/GIF/Cactus/cactus_normal.gif");
-            cactusSpikesWarningGif = new ImageIcon("Resources/Frutas/GIF/Cactus/cactus_generando_espinas.gif");
-            cactusSpikesActiveGif = new ImageIcon("Resources/Frutas/GIF/Cactus/cactus_con_espinas.gif");
-            cactusSpikesCooldownGif = new ImageIcon("Resources/Frutas/GIF/Cactus/cactus_quitando_espinas.gif");
-            cactusCollectedGif = new ImageIcon("Resources/Frutas/GIF/Cactus/cactus_recolectado.gif");
+            cactusSpawnGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Cactus/cactus_apareciendo.gif");
+            cactusIdleGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Cactus/cactus_normal.gif");
+            cactusSpikesWarningGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Cactus/cactus_generando_espinas.gif");
+            cactusSpikesActiveGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Cactus/cactus_con_espinas.gif");
+            cactusSpikesCooldownGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Cactus/cactus_quitando_espinas.gif");
+            cactusCollectedGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Cactus/cactus_recolectado.gif");
 
             // FRUTAS - CEREZA
-            cherrySpawnGif = new ImageIcon("Resources/Frutas/GIF/Cereza/cereza_apareciendo.gif");
-            cherryIdleGif = new ImageIcon("Resources/Frutas/GIF/Cereza/cereza_normal.gif");
-            cherryTeleportOutGif = new ImageIcon("Resources/Frutas/GIF/Cereza/cereza_teletransportando.gif");
-            cherryTeleportInGif = new ImageIcon("Resources/Frutas/GIF/Cereza/cereza_llegando_teletransporte.gif");
-            cherryCollectedGif = new ImageIcon("Resources/Frutas/GIF/Cereza/cereza_recolectada.gif");
+            cherrySpawnGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Cereza/cereza_apareciendo.gif");
+            cherryIdleGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Cereza/cereza_normal.gif");
+            cherryTeleportOutGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Cereza/cereza_teletransportando.gif");
+            cherryTeleportInGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Cereza/cereza_llegando_teletransporte.gif");
+            cherryCollectedGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Cereza/cereza_recolectada.gif");
             cerezaImage = cherryIdleGif; // Backward compat
 
             // FRUTAS - PIÑA
-            pineappleSpawnGif = new ImageIcon("Resources/Frutas/GIF/Piña/piña_apareciendo.gif");
-            pineappleIdleGif = new ImageIcon("Resources/Frutas/GIF/Piña/piña_normal.gif");
-            pineappleCollectedGif = new ImageIcon("Resources/Frutas/GIF/Piña/piña_recolectado.gif");
+            pineappleSpawnGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Piña/piña_apareciendo.gif");
+            pineappleIdleGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Piña/piña_normal.gif");
+            pineappleCollectedGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Piña/piña_recolectado.gif");
             pinaImage = pineappleIdleGif;
 
             // FRUTAS - PLATANO
-            bananaSpawnGif = new ImageIcon("Resources/Frutas/GIF/Platano/platano_apareciendo.gif");
-            bananaIdleGif = new ImageIcon("Resources/Frutas/GIF/Platano/platano_normal.gif");
-            bananaCollectedGif = new ImageIcon("Resources/Frutas/GIF/Platano/platano_recolectado.gif");
+            bananaSpawnGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Platano/platano_apareciendo.gif");
+            bananaIdleGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Platano/platano_normal.gif");
+            bananaCollectedGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Platano/platano_recolectado.gif");
             platanoImage = bananaIdleGif;
 
             // FRUTAS - UVA
-            grapeSpawnGif = new ImageIcon("Resources/Frutas/GIF/Uvas/uva_apareciendo.gif");
-            grapeIdleGif = new ImageIcon("Resources/Frutas/GIF/Uvas/uva_normal.gif");
-            grapeCollectedGif = new ImageIcon("Resources/Frutas/GIF/Uvas/uva_recolectada.gif");
+            grapeSpawnGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Uvas/uva_apareciendo.gif");
+            grapeIdleGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Uvas/uva_normal.gif");
+            grapeCollectedGif = gif(GROUP_FRUTAS, "Resources/Frutas/GIF/Uvas/uva_recolectada.gif");
             uvaImage = grapeIdleGif;
 
             // BALDOSA CALIENTE
-            hotTileImage = new ImageIcon("Resources/Baldosa caliente/baldosa_caliente.gif");
+            hotTileImage = gif(GROUP_MAPA, "Resources/Baldosa caliente/baldosa_caliente.gif");
 
             // IGLU Y BLOQUES
-            igluImage = new ImageIcon("Resources/iglu_wallpaper.png");
-            unbreakableBlockImage = new ImageIcon("Resources/Bloque_Irrompible/Bloque_irrompible.jpg");
+            igluImage = gif(GROUP_MAPA, "Resources/iglu_wallpaper.png");
+            unbreakableBlockImage = gif(GROUP_MAPA, "Resources/Bloque_Irrompible/Bloque_irrompible.jpg");
 
         } catch (Exception e) {
             domain.BadDopoLogger.logError("Error cargando imágenes: " + e.getMessage(), e);
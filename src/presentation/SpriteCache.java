@@ -0,0 +1,92 @@
+package presentation;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Caché de sprites pre-escalados por (imagen, tamaño destino).
+ * Cada combinación se escala una sola vez a una imagen compatible con la
+ * pantalla; después dibujarla es una copia directa, sin escalar en cada
+ * frame.
+ *
+ * Solo se escalan imágenes estáticas (BufferedImage). Las imágenes de
+ * Toolkit (los GIF animados de ImageIcon) cambian de fotograma por su
+ * cuenta, así que {@link #get} devuelve null y se dibujan como antes.
+ *
+ * Se usa desde el hilo que dibuja (el de Swing, o el de render activo
+ * mientras la partida está en pantalla); no está sincronizada.
+ */
+public class SpriteCache {
+
+    private final Map<Image, Map<Integer, BufferedImage>> cache = new IdentityHashMap<>();
+    private GraphicsConfiguration configuration;
+    private boolean configurationResolved;
+
+    /**
+     * Obtiene la imagen escalada al tamaño indicado.
+     *
+     * @return Imagen escalada, o null si la imagen no se puede pre-escalar
+     *         o el tamaño no es positivo
+     */
+    public BufferedImage get(Image source, int width, int height) {
+        if (!(source instanceof BufferedImage) || width <= 0 || height <= 0 || width > 0xFFFF
+                || height > 0xFFFF) {
+            return null;
+        }
+        Map<Integer, BufferedImage> sizes = cache.computeIfAbsent(source, s -> new HashMap<>());
+        Integer key = (width << 16) | height;
+        BufferedImage scaled = sizes.get(key);
+        if (scaled == null) {
+            scaled = scale((BufferedImage) source, width, height);
+            sizes.put(key, scaled);
+        }
+        return scaled;
+    }
+
+    /**
+     * Número de imágenes escaladas en caché.
+     */
+    public int size() {
+        int count = 0;
+        for (Map<Integer, BufferedImage> sizes : cache.values()) {
+            count += sizes.size();
+        }
+        return count;
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private BufferedImage scale(BufferedImage source, int width, int height) {
+        GraphicsConfiguration gc = configuration();
+        BufferedImage scaled = (gc != null)
+                ? gc.createCompatibleImage(width, height, source.getTransparency())
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            // Mismo escalado que drawImage(img, x, y, w, h) en cada frame
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    private GraphicsConfiguration configuration() {
+        if (!configurationResolved) {
+            configurationResolved = true;
+            if (!GraphicsEnvironment.isHeadless()) {
+                configuration = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                        .getDefaultConfiguration();
+            }
+        }
+        return configuration;
+    }
+}
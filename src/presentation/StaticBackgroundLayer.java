@@ -0,0 +1,143 @@
+package presentation;
+
+import domain.GameFacade;
+import domain.dto.IgluSnapshot;
+import domain.dto.UnbreakableBlockSnapshot;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Point;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * Capa pre-renderizada con la parte fija del mapa: fondo, bloques
+ * irrompibles e iglú. Se compone una vez por nivel y en cada frame se
+ * copia con una sola llamada a drawImage.
+ *
+ * Usa una VolatileImage (memoria de vídeo) cuando hay GraphicsConfiguration
+ * y una BufferedImage si no. Se vuelve a componer cuando cambia el mapa
+ * (carga o reinicio), cuando cambia la configuración gráfica o cuando la
+ * imagen de vídeo pierde su contenido.
+ */
+public class StaticBackgroundLayer {
+
+    private static final Color EMPTY_COLOR = new Color(30, 30, 30);
+
+    private final GameFacade gameFacade;
+    private final ResourceLoader resources;
+    private final int mapSize;
+    private final int cellSize;
+    private final int blockSize;
+
+    private VolatileImage volatileLayer;
+    private BufferedImage bufferedLayer;
+    private GraphicsConfiguration layerConfiguration;
+    private int layoutVersion = -1;
+
+    /**
+     * @param mapSize   Lado del mapa en píxeles
+     * @param cellSize  Lado de una celda en píxeles
+     * @param blockSize Lado de un bloque irrompible en píxeles
+     */
+    public StaticBackgroundLayer(GameFacade gameFacade, ResourceLoader resources, int mapSize, int cellSize,
+            int blockSize) {
+        this.gameFacade = gameFacade;
+        this.resources = resources;
+        this.mapSize = mapSize;
+        this.cellSize = cellSize;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Descarta la capa; se volverá a componer en el próximo dibujo.
+     */
+    public void invalidate() {
+        layoutVersion = -1;
+    }
+
+    /**
+     * Dibuja la capa en la posición del mapa, componiéndola antes si hace
+     * falta.
+     *
+     * @param gc Configuración gráfica del componente (null sin pantalla)
+     */
+    public void draw(Graphics2D g2d, int offsetX, int offsetY, GraphicsConfiguration gc) {
+        if (gc != layerConfiguration || gameFacade.getLayoutVersion() != layoutVersion) {
+            release();
+            layerConfiguration = gc;
+            layoutVersion = gameFacade.getLayoutVersion();
+        }
+
+        if (gc == null) {
+            if (bufferedLayer == null) {
+                bufferedLayer = new BufferedImage(mapSize, mapSize, BufferedImage.TYPE_INT_RGB);
+                render(bufferedLayer.createGraphics());
+            }
+            g2d.drawImage(bufferedLayer, offsetX, offsetY, null);
+            return;
+        }
+
+        // Las VolatileImage pueden perder su contenido (cambio de modo, otra pantalla)
+        do {
+            if (volatileLayer == null) {
+                volatileLayer = gc.createCompatibleVolatileImage(mapSize, mapSize, Transparency.OPAQUE);
+                render(volatileLayer.createGraphics());
+            } else {
+                int status = volatileLayer.validate(gc);
+                if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                    volatileLayer.flush();
+                    volatileLayer = null;
+                    continue;
+                }
+                if (status == VolatileImage.IMAGE_RESTORED) {
+                    render(volatileLayer.createGraphics());
+                }
+            }
+            g2d.drawImage(volatileLayer, offsetX, offsetY, null);
+        } while (volatileLayer == null || volatileLayer.contentsLost());
+    }
+
+    private void release() {
+        if (volatileLayer != null) {
+            volatileLayer.flush();
+            volatileLayer = null;
+        }
+        bufferedLayer = null;
+    }
+
+    /**
+     * Compone el fondo, los bloques irrompibles y el iglú (coordenadas del
+     * mapa, sin desplazamiento).
+     */
+    private void render(Graphics2D g) {
+        try {
+            g.setColor(EMPTY_COLOR);
+            g.fillRect(0, 0, mapSize, mapSize);
+            if (resources.fondoMapa != null) {
+                g.drawImage(resources.fondoMapa, 0, 0, mapSize, mapSize, null);
+            }
+
+            if (resources.unbreakableBlockImage != null) {
+                Image block = resources.unbreakableBlockImage.getImage();
+                for (UnbreakableBlockSnapshot snapshot : gameFacade.getUnbreakableBlockSnapshots()) {
+                    Point pos = snapshot.getPosition();
+                    int x = pos.x * cellSize + (cellSize - blockSize) / 2;
+                    int y = pos.y * cellSize + (cellSize - blockSize) / 2;
+                    g.drawImage(block, x, y, blockSize, blockSize, null);
+                }
+            }
+
+            IgluSnapshot iglu = gameFacade.getIgluSnapshot();
+            if (iglu != null && resources.igluImage != null) {
+                Point pos = iglu.getPosition();
+                g.drawImage(resources.igluImage.getImage(), pos.x * cellSize, pos.y * cellSize,
+                        iglu.getWidth() * cellSize, iglu.getHeight() * cellSize, null);
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package presentation;
+
+import domain.BadDopoLogger;
+import domain.dto.LevelConfigurationDTO;
+import domain.dto.MatchResultDTO;
+import domain.service.MapLoaderService;
+import domain.service.TournamentService;
+import exceptions.BadDopoException;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Punto de entrada de línea de comandos para torneos Máquina vs Máquina.
+ * No usa Swing: las partidas se simulan a máxima velocidad y los resultados
+ * se escriben en CSV.
+ *
+ * Uso:
+ * java presentation.TournamentMain [--matches N] [--threads N] [--levels 1,2]
+ * [--fruits UVA=8,PLATANO=8] [--enemies TROLL=1,MACETA=1] [--hot-tiles N]
+ * [--seed N] [--out tournament.csv]
+ */
+public class TournamentMain {
+
+    public static void main(String[] args) {
+        int matches = 10;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String levelsArg = null;
+        String fruitsArg = "UVA=8,PLATANO=8";
+        String enemiesArg = "TROLL=1,MACETA=1";
+        int hotTiles = 0;
+        String out = "tournament.csv";
+        Long seed = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String value = (i + 1 < args.length) ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "--matches":
+                        matches = Integer.parseInt(value);
+                        i++;
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(value);
+                        i++;
+                        break;
+                    case "--levels":
+                        levelsArg = value;
+                        i++;
+                        break;
+                    case "--fruits":
+                        fruitsArg = value;
+                        i++;
+                        break;
+                    case "--enemies":
+                        enemiesArg = value;
+                        i++;
+                        break;
+                    case "--hot-tiles":
+                        hotTiles = Integer.parseInt(value);
+                        i++;
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(value);
+                        i++;
+                        break;
+                    case "--out":
+                        out = value;
+                        i++;
+                        break;
+                    default:
+                        System.err.println("Opción desconocida: " + args[i]);
+                        System.exit(2);
+                }
+            }
+        } catch (NumberFormatException | NullPointerException e) {
+            System.err.println("Argumentos inválidos: " + e.getMessage());
+            System.exit(2);
+        }
+
+        LevelConfigurationDTO config = new LevelConfigurationDTO();
+        parseCounts(fruitsArg, config, true);
+        parseCounts(enemiesArg, config, false);
+        config.setHotTileCount(hotTiles);
+        config.setSeed(seed);
+
+        List<Integer> levels = new ArrayList<>();
+        if (levelsArg != null) {
+            for (String id : levelsArg.split(",")) {
+                levels.add(Integer.parseInt(id.trim()));
+            }
+        } else {
+            levels = new MapLoaderService().getAvailableLevelIds();
+        }
+
+        BadDopoLogger.setQuiet(true);
+        TournamentService tournament = new TournamentService(config, threads);
+        long start = System.currentTimeMillis();
+        try {
+            List<MatchResultDTO> results = tournament.runTournament(levels, matches);
+            tournament.writeCsv(results, Paths.get(out));
+            long elapsed = System.currentTimeMillis() - start;
+            System.out.println(results.size() + " partidas en " + elapsed + " ms -> " + out
+                    + " (semilla " + tournament.getBaseSeed() + ")");
+        } catch (BadDopoException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Parsea una lista "TIPO=N,TIPO=N" hacia la configuración.
+     */
+    private static void parseCounts(String spec, LevelConfigurationDTO config, boolean fruits) {
+        if (spec == null || spec.isEmpty())
+            return;
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2)
+                continue;
+            String type = parts[0].trim().toUpperCase();
+            int count = Integer.parseInt(parts[1].trim());
+            if (fruits) {
+                config.addFruit(type, count);
+            } else {
+                config.addEnemy(type, count);
+            }
+        }
+    }
+}
@@ -25,6 +25,9 @@ public class WelcomeScreen extends JFrame {
 
         screenManager = new ScreenManager(mainPanel, titleLabel, resources, this);
         screenManager.showStartScreen();
+
+        // Frutas y mapa se decodifican mientras el usuario navega los menús
+        resources.preloadCommonAssets();
     }
 
     private void setupUI() {
@@ -6,14 +6,21 @@ import domain.entity.enemy.Enemy;
 import domain.entity.enemy.EnemyFactory;
 import domain.service.*;
 import domain.state.GameState;
+import domain.state.TimingWheel;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.Assert;
 import java.awt.Point;
 import java.util.List;
 
 public class DomainPackageTest {
 
+    // Guardados, índice y autoguardado de las pruebas de persistencia
+    @Rule
+    public TemporaryFolder saves = new TemporaryFolder();
+
     @Test
     public void testGameStateInitialValues() {
         GameState gs = new GameState("Chocolate", 1, 1);
@@ -182,7 +189,7 @@ public class DomainPackageTest {
     @Test
     public void testPersistenceSaveLoadRoundtrip() throws Exception {
         GameState gs = new GameState("Chocolate", 2, 1);
-        PersistenceService ps = new PersistenceService();
+        PersistenceService ps = new PersistenceService(saves.getRoot().toPath());
         String name = ps.saveGame(gs);
         Assert.assertNotNull(name);
         GameState loaded = ps.loadGame(name);
@@ -190,6 +197,287 @@ public class DomainPackageTest {
         Assert.assertEquals(gs.getLevel(), loaded.getLevel());
     }
 
+    @Test
+    public void testBinarySaveRoundtripAndLegacyFallback() throws Exception {
+        domain.dto.LevelConfigurationDTO config = new domain.dto.LevelConfigurationDTO();
+        config.addFruit("UVA", 4);
+        config.addFruit("CEREZA", 3);
+        config.addEnemy("TROLL", 1);
+        config.addEnemy("NARVAL", 1);
+        config.setHotTileCount(2);
+        config.setSeed(7L);
+        GameFacade facade = new GameFacade("Chocolate", "Fresa", "A", "B", 1, 0, "EXPERT", "FEARFUL", false, config);
+        facade.getSimulationEngine().runUntilFinished(900);
+        GameState gs = facade.getGameState();
+
+        domain.service.GameStateCodec codec = new domain.service.GameStateCodec();
+        byte[] binary = codec.encode(gs);
+        java.io.ByteArrayOutputStream legacy = new java.io.ByteArrayOutputStream();
+        try (java.io.ObjectOutputStream oos = new java.io.ObjectOutputStream(legacy)) {
+            oos.writeObject(gs);
+        }
+        Assert.assertTrue(binary.length * 4 < legacy.size());
+
+        GameState loaded = codec.decode(binary);
+        Assert.assertEquals(gs.getScore(), loaded.getScore());
+        Assert.assertEquals(gs.getScorePlayer2(), loaded.getScorePlayer2());
+        Assert.assertEquals(gs.getTimeRemaining(), loaded.getTimeRemaining());
+        Assert.assertEquals(gs.getSeed(), loaded.getSeed());
+        Assert.assertEquals(gs.getRandom().getState(), loaded.getRandom().getState());
+        Assert.assertEquals(gs.getPlayer().getPosition(), loaded.getPlayer().getPosition());
+        Assert.assertEquals(gs.getPlayer().getName(), loaded.getPlayer().getName());
+        Assert.assertEquals(gs.getPlayer2().getAIType(), loaded.getPlayer2().getAIType());
+        Assert.assertEquals(gs.getEnemies().size(), loaded.getEnemies().size());
+        for (int i = 0; i < gs.getEnemies().size(); i++) {
+            Assert.assertEquals(gs.getEnemies().get(i).getTypeName(), loaded.getEnemies().get(i).getTypeName());
+            Assert.assertEquals(gs.getEnemies().get(i).getPosition(), loaded.getEnemies().get(i).getPosition());
+            Assert.assertEquals(gs.getEnemies().get(i).getCurrentDirection(),
+                    loaded.getEnemies().get(i).getCurrentDirection());
+        }
+        Assert.assertEquals(gs.getFruits().size(), loaded.getFruits().size());
+        for (int i = 0; i < gs.getFruits().size(); i++) {
+            Assert.assertEquals(gs.getFruits().get(i).getState(), loaded.getFruits().get(i).getState());
+            Assert.assertEquals(gs.getFruits().get(i).isCollected(), loaded.getFruits().get(i).isCollected());
+        }
+        Assert.assertEquals(gs.getPendingFruitWaves().size(), loaded.getPendingFruitWaves().size());
+        Assert.assertEquals(gs.getIceBlocks().size(), loaded.getIceBlocks().size());
+        Assert.assertEquals(gs.getHotTiles().size(), loaded.getHotTiles().size());
+        Assert.assertEquals(gs.getUnbreakableBlocks().size(), loaded.getUnbreakableBlocks().size());
+        Assert.assertEquals(gs.getIglu().getPosition(), loaded.getIglu().getPosition());
+        for (int y = 0; y < GameState.getGridSize(); y++) {
+            for (int x = 0; x < GameState.getGridSize(); x++) {
+                Assert.assertEquals(gs.getOccupancy().hasIce(x, y), loaded.getOccupancy().hasIce(x, y));
+                Assert.assertEquals(gs.getOccupancy().getEnemyCount(x, y), loaded.getOccupancy().getEnemyCount(x, y));
+            }
+        }
+
+        // Un .dat con serialización de Java se sigue cargando
+        java.nio.file.Files.write(saves.getRoot().toPath().resolve("legacy_roundtrip_test.dat"), legacy.toByteArray());
+        GameState fromLegacy = new PersistenceService(saves.getRoot().toPath()).loadGame("legacy_roundtrip_test.dat");
+        Assert.assertEquals(gs.getScore(), fromLegacy.getScore());
+        Assert.assertEquals(gs.getEnemies().size(), fromLegacy.getEnemies().size());
+    }
+
+    @Test
+    public void testCorruptOrdinalInBinarySaveIsIOException() throws Exception {
+        Fruit fruit = new Fruit(new Point(3, 3), FruitType.UVA);
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        fruit.writeState(new java.io.DataOutputStream(bytes));
+        byte[] data = bytes.toByteArray();
+        data[1] = (byte) 0xFF; // Ordinal de FruitState
+        try {
+            new Fruit(new Point(3, 3), FruitType.UVA)
+                    .readState(new java.io.DataInputStream(new java.io.ByteArrayInputStream(data)));
+            Assert.fail("Se esperaba IOException");
+        } catch (java.io.IOException expected) {
+            Assert.assertTrue(expected.getMessage().contains("fuera de rango"));
+        }
+    }
+
+    @Test
+    public void testAsyncSavesCoalesceAndWriteAtomically() throws Exception {
+        PersistenceService ps = new PersistenceService(saves.getRoot().toPath());
+        java.io.File file = new java.io.File(saves.getRoot(), "async_save_test.dat");
+        java.util.concurrent.CountDownLatch done = new java.util.concurrent.CountDownLatch(3);
+        java.util.List<String> completed = java.util.Collections.synchronizedList(new java.util.ArrayList<>());
+        domain.service.SaveListener listener = new domain.service.SaveListener() {
+            @Override
+            public void onSaveCompleted(String filename) {
+                completed.add(filename);
+                done.countDown();
+            }
+
+            @Override
+            public void onSaveFailed(exceptions.BadDopoException error) {
+                done.countDown();
+            }
+        };
+
+        for (int score = 1; score <= 3; score++) {
+            GameState gs = new GameState("Chocolate", 1, 1);
+            gs.addScore(score * 100);
+            ps.saveGameAsync(gs, file, listener);
+        }
+        Assert.assertTrue(done.await(5, java.util.concurrent.TimeUnit.SECONDS));
+        Assert.assertTrue(ps.awaitPendingSaves(5000));
+        Assert.assertEquals(3, completed.size());
+
+        // Siempre queda la última petición y ningún temporal
+        Assert.assertEquals(300, ps.loadGame(file.getName()).getScore());
+        java.io.File[] temps = saves.getRoot().listFiles((d, n) -> n.endsWith(".tmp"));
+        Assert.assertEquals(0, temps.length);
+    }
+
+    @Test
+    public void testAtomicSaveKeepsFilePermissions() throws Exception {
+        java.io.File file = new java.io.File(saves.getRoot(), "permissions_save_test.dat");
+        java.nio.file.Path path = file.toPath();
+        java.nio.file.Files.write(path, new byte[] { 0 });
+        org.junit.Assume.assumeNotNull(java.nio.file.Files.getFileAttributeView(path,
+                java.nio.file.attribute.PosixFileAttributeView.class));
+        java.util.Set<java.nio.file.attribute.PosixFilePermission> perms =
+                java.nio.file.attribute.PosixFilePermissions.fromString("rw-r--r--");
+        java.nio.file.Files.setPosixFilePermissions(path, perms);
+
+        new PersistenceService(saves.getRoot().toPath()).saveGame(new GameState("Chocolate", 1, 1), file);
+        Assert.assertEquals(perms, java.nio.file.Files.getPosixFilePermissions(path));
+    }
+
+    @Test
+    public void testAutosaveJournalRestoresLatestState() throws Exception {
+        domain.dto.LevelConfigurationDTO config = new domain.dto.LevelConfigurationDTO();
+        config.addFruit("UVA", 4);
+        config.addEnemy("TROLL", 1);
+        config.addEnemy("NARVAL", 1);
+        config.setSeed(11L);
+        GameFacade facade = new GameFacade("Chocolate", "Fresa", "A", "B", 1, 0, "EXPERT", "HUNGRY", false, config);
+        SimulationEngine engine = facade.getSimulationEngine();
+        GameState gs = facade.getGameState();
+
+        PersistenceService ps = new PersistenceService(saves.getRoot().toPath());
+        ps.enableAutosave(10000, 100);
+        java.io.File journal = new java.io.File(saves.getRoot(), "autosave.journal");
+        try {
+            for (int t = 0; t < 700 && !engine.isFinished(); t++) {
+                engine.step();
+                ps.autosave(gs, engine.getElapsedGameTime());
+            }
+            ps.autosave(gs, engine.getElapsedGameTime() + 100);
+            Assert.assertTrue(ps.awaitPendingSaves(5000));
+            Assert.assertTrue(journal.length() > 9);
+
+            GameState restored = ps.loadAutosave();
+            assertSameState(gs, restored);
+
+            // Una entrada final cortada a medias se descarta sin perder las anteriores
+            try (java.io.FileOutputStream out = new java.io.FileOutputStream(journal, true)) {
+                out.write(new byte[] { 40, 1, 2, 3 });
+            }
+            assertSameState(gs, ps.loadGame("autosave.dat"));
+        } finally {
+            ps.disableAutosave();
+        }
+    }
+
+    @Test
+    public void testAutosaveJournalWritesOnlyChangedEnemies() throws Exception {
+        GameState gs = new GameState("Chocolate", 1, 2, 5L);
+        for (int i = 0; i < 8; i++) {
+            gs.addEnemy(EnemyFactory.createEnemy(new Point(1 + i, 3), "TROLL", gs.getRandom()));
+        }
+        domain.service.AutosaveJournal journal = new domain.service.AutosaveJournal(
+                new domain.service.GameStateCodec());
+        byte[] checkpoint = journal.encodeCheckpoint(gs);
+        byte[] header = journal.encodeJournalHeader();
+        byte[] unchanged = journal.encodeDelta(gs, 100);
+
+        gs.getEnemies().get(5).moveTo(6, 4);
+        byte[] moved = journal.encodeDelta(gs, 200);
+        // Un enemigo movido añade su registro, no la sección entera
+        Assert.assertTrue(moved.length - unchanged.length < 20);
+
+        byte[] entries = new byte[header.length + unchanged.length + moved.length];
+        System.arraycopy(header, 0, entries, 0, header.length);
+        System.arraycopy(unchanged, 0, entries, header.length, unchanged.length);
+        System.arraycopy(moved, 0, entries, header.length + unchanged.length, moved.length);
+        GameState restored = new domain.service.AutosaveJournal(new domain.service.GameStateCodec())
+                .restore(checkpoint, entries);
+        assertSameState(gs, restored);
+        Assert.assertEquals(1, restored.getOccupancy().getEnemyCount(6, 4));
+        Assert.assertEquals(0, restored.getOccupancy().getEnemyCount(6, 3));
+    }
+
+    @Test
+    public void testAutosaveRewritesCheckpointWhenJournalIsMissing() throws Exception {
+        GameState gs = new GameState("Chocolate", 1, 1, 3L);
+        PersistenceService ps = new PersistenceService(saves.getRoot().toPath());
+        ps.enableAutosave(100000, 10);
+        java.io.File journal = new java.io.File(saves.getRoot(), "autosave.journal");
+        try {
+            ps.autosave(gs, 0);
+            Assert.assertTrue(ps.awaitPendingSaves(5000));
+            Assert.assertTrue(journal.delete());
+
+            gs.addScore(10);
+            ps.autosave(gs, 20); // Falla al no haber diario
+            Assert.assertTrue(ps.awaitPendingSaves(5000));
+            gs.addScore(10);
+            ps.autosave(gs, 40); // Nuevo checkpoint con su diario
+            Assert.assertTrue(ps.awaitPendingSaves(5000));
+            Assert.assertTrue(journal.exists());
+            Assert.assertEquals(20, ps.loadAutosave().getScore());
+        } finally {
+            ps.disableAutosave();
+        }
+    }
+
+    @Test
+    public void testSaveIndexListsMetadataWithoutReadingSaves() throws Exception {
+        PersistenceService ps = new PersistenceService(saves.getRoot().toPath());
+        GameState gs = new GameState("Chocolate", 2, 1);
+        gs.addScore(450);
+        java.io.File file = new java.io.File(saves.getRoot(), "index_test.dat");
+        try {
+            ps.saveGame(gs, file);
+            domain.dto.SaveMetadataDTO meta = findSave(ps.getSaveMetadata(), file.getName());
+            Assert.assertNotNull(meta);
+            Assert.assertTrue(meta.isReadable());
+            Assert.assertEquals(2, meta.getLevel());
+            Assert.assertEquals(450, meta.getScore());
+            Assert.assertEquals(gs.getTimeRemaining(), meta.getTimeRemaining());
+            Assert.assertEquals(gs.getPlayer().getName(), meta.getPlayer1Name());
+            Assert.assertTrue(ps.getSavedGames().contains(file.getName()));
+
+            // Un servicio nuevo lee el índice del disco; un archivo cambiado por fuera se re-indexa
+            gs.addScore(50);
+            java.nio.file.Files.write(file.toPath(), new domain.service.GameStateCodec().encode(gs));
+            file.setLastModified(file.lastModified() + 2000);
+            Assert.assertEquals(500,
+                    findSave(new PersistenceService(saves.getRoot().toPath()).getSaveMetadata(), file.getName())
+                            .getScore());
+
+            ps.deleteSave(file.getName());
+            Assert.assertFalse(file.exists());
+            Assert.assertNull(findSave(ps.getSaveMetadata(), file.getName()));
+        } finally {
+            file.delete();
+        }
+    }
+
+    private static domain.dto.SaveMetadataDTO findSave(java.util.List<domain.dto.SaveMetadataDTO> saves, String name) {
+        for (domain.dto.SaveMetadataDTO save : saves) {
+            if (save.getFilename().equals(name)) {
+                return save;
+            }
+        }
+        return null;
+    }
+
+    private static void assertSameState(GameState expected, GameState actual) {
+        Assert.assertEquals(expected.getScore(), actual.getScore());
+        Assert.assertEquals(expected.getScorePlayer2(), actual.getScorePlayer2());
+        Assert.assertEquals(expected.getTimeRemaining(), actual.getTimeRemaining());
+        Assert.assertEquals(expected.getRandom().getState(), actual.getRandom().getState());
+        Assert.assertEquals(expected.getPlayer().getPosition(), actual.getPlayer().getPosition());
+        Assert.assertEquals(expected.getPlayer2().getPosition(), actual.getPlayer2().getPosition());
+        for (int i = 0; i < expected.getEnemies().size(); i++) {
+            Assert.assertEquals(expected.getEnemies().get(i).getPosition(), actual.getEnemies().get(i).getPosition());
+        }
+        for (int i = 0; i < expected.getFruits().size(); i++) {
+            Assert.assertEquals(expected.getFruits().get(i).getState(), actual.getFruits().get(i).getState());
+            Assert.assertEquals(expected.getFruits().get(i).getPosition(), actual.getFruits().get(i).getPosition());
+        }
+        java.util.Set<Point> expectedIce = new java.util.HashSet<>();
+        for (domain.entity.IceBlock ice : expected.getIceBlocks()) {
+            expectedIce.add(ice.getPosition());
+        }
+        java.util.Set<Point> actualIce = new java.util.HashSet<>();
+        for (domain.entity.IceBlock ice : actual.getIceBlocks()) {
+            actualIce.add(ice.getPosition());
+        }
+        Assert.assertEquals(expectedIce, actualIce);
+    }
+
     @Test
     public void testEntityEqualsHash() {
         Entity e1 = EnemyFactory.createEnemy(new Point(1, 2), "TROLL");
@@ -223,6 +511,29 @@ public class DomainPackageTest {
         Assert.assertNotNull(gf.getIceBlockSnapshots());
     }
 
+    @Test
+    public void testCaptureFrameReusesSnapshots() {
+        GameFacade gf = new GameFacade("Chocolate", 1, 1);
+        domain.dto.WorldFrame first = gf.captureFrame();
+        domain.dto.PlayerSnapshot player = first.getPlayer();
+        int enemies = first.getEnemies().size();
+        domain.dto.EnemySnapshot enemy = enemies > 0 ? first.getEnemies().get(0) : null;
+
+        gf.getGameState().getPlayer().moveTo(1, 1);
+        domain.dto.WorldFrame second = gf.captureFrame();
+
+        Assert.assertSame(first, second);
+        Assert.assertSame(player, second.getPlayer());
+        Assert.assertEquals(1, second.getPlayer().getCellX());
+        Assert.assertEquals(1, second.getPlayer().getCellY());
+        Assert.assertEquals(gf.getEnemySnapshots().size(), second.getEnemies().size());
+        if (enemy != null) {
+            Assert.assertSame(enemy, second.getEnemies().get(0));
+        }
+        Assert.assertEquals(gf.getFruitSnapshots().size(), second.getFruits().size());
+        Assert.assertEquals(gf.getIceBlockSnapshots().size(), second.getIceBlocks().size());
+    }
+
     @Test
     public void testCountRemainingFruitsAndUniqueTypes() {
         GameFacade gf = new GameFacade("Chocolate", 1, 1);
@@ -610,6 +921,88 @@ public class DomainPackageTest {
         Assert.assertEquals(3, gf.getHotTileCountConfig());
     }
 
+    @Test
+    public void testFruitCountersFollowCollectAndRemove() {
+        GameState state = new GameState("Chocolate", 1, 1, 7L);
+        Assert.assertTrue(state.isWaveComplete());
+        state.addFruit(new Fruit(new Point(1, 1), FruitType.UVA));
+        state.addFruit(new Fruit(new Point(2, 1), FruitType.UVA));
+        state.addFruit(new Fruit(new Point(3, 1), FruitType.PLATANO));
+        Assert.assertEquals(2, state.getRemainingFruits(FruitType.UVA));
+        Assert.assertEquals(3, state.getRemainingFruitCount());
+
+        state.getFruits().get(0).collect();
+        state.getFruits().get(0).collect(); // Recolectar dos veces no descuenta dos
+        Assert.assertEquals(1, state.getRemainingFruits(FruitType.UVA));
+        state.removeFruit(0); // Ya recolectada
+        state.removeFruit(0);
+        Assert.assertEquals(0, state.getRemainingFruits(FruitType.UVA));
+        Assert.assertFalse(state.isWaveComplete());
+
+        state.clearFruits();
+        Assert.assertTrue(state.isWaveComplete());
+        Assert.assertEquals(0, state.getRemainingFruits(FruitType.PLATANO));
+    }
+
+    @Test
+    public void testRemoveFruitAndIceByIdentityOnSharedCell() {
+        GameState gs = new GameState("Chocolate", 1, 1);
+        Fruit live = new Fruit(new Point(4, 4), FruitType.UVA);
+        Fruit collected = new Fruit(new Point(4, 4), FruitType.UVA);
+        gs.addFruit(live);
+        gs.addFruit(collected);
+        collected.collect();
+        Assert.assertEquals(1, gs.getRemainingFruitCount());
+
+        Assert.assertTrue(gs.removeFruit(collected));
+        Assert.assertEquals(1, gs.getFruits().size());
+        Assert.assertSame(live, gs.getFruits().get(0));
+        Assert.assertEquals(1, gs.getRemainingFruitCount());
+        Assert.assertTrue(live.getId() >= 0);
+
+        IceBlock bottom = new IceBlock(new Point(5, 5));
+        IceBlock top = new IceBlock(new Point(5, 5));
+        gs.addIceBlock(bottom);
+        gs.addIceBlock(top);
+        gs.removeIceBlock(top);
+        Assert.assertEquals(1, gs.getIceBlocks().size());
+        Assert.assertSame(bottom, gs.getIceBlocks().get(0));
+        Assert.assertSame(bottom, gs.getOccupancy().getIce(5, 5));
+    }
+
+    @Test
+    public void testTimingWheelFiresAtDueTimeAcrossLevels() {
+        TimingWheel wheel = new TimingWheel(16);
+        Fruit near = new Fruit(new Point(1, 1), FruitType.UVA);
+        Fruit far = new Fruit(new Point(2, 1), FruitType.UVA);
+        near.assignId(0, 0);
+        far.assignId(1, 0);
+        wheel.add(near);
+        wheel.add(far);
+        wheel.schedule(near, 40);
+        wheel.schedule(far, 20000); // Fuera del primer nivel
+        wheel.schedule(near, 100); // La entrada anterior se descarta
+
+        List<Entity> due = new java.util.ArrayList<>();
+        int elapsed = 0;
+        while (due.isEmpty()) {
+            wheel.advance(16, due);
+            elapsed += 16;
+        }
+        Assert.assertEquals(112, elapsed);
+        Assert.assertEquals(1, due.size());
+        Assert.assertSame(near, due.get(0));
+        Assert.assertFalse(wheel.isScheduled(near));
+
+        due.clear();
+        while (due.isEmpty()) {
+            wheel.advance(16, due);
+            elapsed += 16;
+        }
+        Assert.assertSame(far, due.get(0));
+        Assert.assertTrue(elapsed >= 20000 && elapsed < 20016);
+    }
+
     @Test
     public void testGameFacadeCountRemainingFruits() {
         GameFacade gf = new GameFacade("Chocolate", 1, 1);
@@ -702,6 +1095,119 @@ public class DomainPackageTest {
         Assert.assertEquals(6, f.getPosition().x);
     }
 
+    // ==================== HILO DE SIMULACIÓN ====================
+
+    @Test
+    public void testTripleBufferHandsOverLatestPublished() {
+        domain.state.TripleBuffer<StringBuilder> buffer = new domain.state.TripleBuffer<>(
+                new StringBuilder(), new StringBuilder(), new StringBuilder());
+        StringBuilder front = buffer.acquire();
+        Assert.assertFalse(buffer.hasUpdate());
+
+        buffer.getWriteBuffer().setLength(0);
+        buffer.getWriteBuffer().append("uno");
+        buffer.publish();
+        buffer.getWriteBuffer().setLength(0);
+        buffer.getWriteBuffer().append("dos");
+        buffer.publish(); // El consumidor solo ve la última
+
+        StringBuilder latest = buffer.acquire();
+        Assert.assertNotSame(front, latest);
+        Assert.assertEquals("dos", latest.toString());
+        Assert.assertSame(latest, buffer.acquire());
+        Assert.assertNotSame(latest, buffer.getWriteBuffer());
+    }
+
+    @Test
+    public void testInputQueueIsFifoAndBounded() {
+        domain.state.InputQueue queue = new domain.state.InputQueue(3);
+        Assert.assertEquals(4, queue.getCapacity());
+        Assert.assertNull(queue.poll());
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(queue.offer(domain.state.InputCommand.fromCode(i)));
+        }
+        Assert.assertFalse(queue.offer(domain.state.InputCommand.P1_ACTION));
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(domain.state.InputCommand.fromCode(i), queue.poll());
+        }
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testSimulationThreadTicksAndQueuesInput() throws Exception {
+        GameFacade gf = new GameFacade("Chocolate", 1, 1);
+        gf.startSimulationThread();
+        try {
+            Assert.assertTrue(gf.isSimulationThreadRunning());
+            long initialTime = gf.getTimeRemaining();
+            long deadline = System.currentTimeMillis() + 5000;
+            // El HUD se sirve desde la foto adquirida, no del estado vivo
+            while (gf.captureFrame() != null && gf.getTimeRemaining() == initialTime
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            Assert.assertTrue(gf.getTimeRemaining() < initialTime);
+            Assert.assertEquals(gf.captureFrame().getTimeRemaining(), gf.getTimeRemaining());
+            Assert.assertFalse(gf.isGameOver());
+            Assert.assertTrue(gf.isPlayerAlive());
+
+            gf.stopPlayer(); // Se encola para el hilo de simulación
+            Assert.assertTrue(gf.isInputPending(0));
+            Assert.assertFalse(gf.isInputPending(1));
+            deadline = System.currentTimeMillis() + 5000;
+            // Queda pendiente hasta adquirir una foto tomada después de aplicarla
+            while (gf.captureFrame() != null && gf.isInputPending(0) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            Assert.assertFalse(gf.isInputPending(0));
+
+            gf.stopPlayer();
+            gf.togglePause(); // Detiene el hilo: la entrada pendiente se aplica antes
+            Assert.assertFalse(gf.isSimulationThreadRunning());
+            Assert.assertFalse(gf.isInputPending(0));
+            Assert.assertEquals(2, gf.getReplay().getEventCount());
+
+            long ticks = gf.getSimulationEngine().getTickCount();
+            Thread.sleep(50);
+            Assert.assertEquals(ticks, gf.getSimulationEngine().getTickCount());
+            gf.togglePause();
+            Assert.assertTrue(gf.isSimulationThreadRunning());
+        } finally {
+            gf.stopSimulationThread();
+        }
+    }
+
+    @Test
+    public void testSimulationThreadPublishesViewFrames() throws Exception {
+        GameFacade gf = new GameFacade("Chocolate", 1, 1);
+        Assert.assertNull(gf.acquireViewFrame());
+        gf.startSimulationThread(true);
+        try {
+            gf.stopPlayer();
+            Assert.assertEquals(1, gf.getSubmittedInputs(0));
+            Assert.assertEquals(0, gf.getSubmittedInputs(1));
+            long deadline = System.currentTimeMillis() + 5000;
+            // El render propio ve la entrada en su foto sin tocar la del hilo de Swing
+            while (gf.acquireViewFrame().getAppliedInputs(0) < 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            Assert.assertEquals(1, gf.acquireViewFrame().getAppliedInputs(0));
+            Assert.assertTrue(gf.isInputPending(0));
+
+            int layoutVersion = gf.acquireViewFrame().getLayoutVersion();
+            gf.restartLevel();
+            Assert.assertTrue(gf.isSimulationThreadRunning());
+            Assert.assertEquals(layoutVersion + 1, gf.acquireViewFrame().getLayoutVersion());
+
+            gf.togglePause(); // Con el hilo detenido sigue sirviendo la última foto
+            domain.dto.WorldFrame last = gf.acquireViewFrame();
+            Assert.assertNotNull(last);
+            Assert.assertSame(last, gf.acquireViewFrame());
+        } finally {
+            gf.stopSimulationThread();
+        }
+    }
+
     // ==================== ENEMY ADDITIONAL TESTS ====================
 
     @Test
@@ -711,8 +1217,11 @@ public class DomainPackageTest {
             domain.entity.enemy.Narval narval = (domain.entity.enemy.Narval) enemy;
             narval.startDrilling();
             Assert.assertTrue(narval.isDrilling());
+            Assert.assertEquals(240, narval.getCurrentMoveInterval());
+            Assert.assertEquals(240, domain.dto.EnemySnapshot.from(narval).getMoveInterval());
             narval.stopDrilling();
             Assert.assertFalse(narval.isDrilling());
+            Assert.assertEquals(narval.getMoveInterval(), narval.getCurrentMoveInterval());
         }
     }
 
@@ -727,7 +1236,56 @@ public class DomainPackageTest {
     @Test
     public void testEnemyGetId() {
         Enemy e = EnemyFactory.createEnemy(new Point(1, 1), "TROLL");
-        Assert.assertNotNull(e.getId());
+        Assert.assertEquals(-1, e.getId());
+        GameState gs = new GameState("Chocolate", 1, 1);
+        gs.addEnemy(e);
+        Assert.assertTrue(e.getId() >= 0);
+    }
+
+    @Test
+    public void testEnemyTableKeepsEnemyStateAcrossTablesAndSaves() throws Exception {
+        domain.entity.enemy.Narval narval = (domain.entity.enemy.Narval) EnemyFactory.createEnemy(
+                new Point(2, 3), "NARVAL", new java.util.Random(1));
+        narval.startDrilling();
+        narval.update(100);
+        narval.setDirection(Direction.LEFT);
+
+        GameState gs = new GameState("Chocolate", 1, 1, 5L);
+        gs.addEnemy(narval);
+        domain.state.EnemyTable table = gs.getEnemyTable();
+        Assert.assertEquals(1, table.size());
+        Assert.assertSame(narval, table.getEnemy(0));
+        Assert.assertEquals(100, table.getMoveTimer(0));
+        Assert.assertTrue(table.isDrilling(0));
+
+        narval.move(2, 4); // La vista escribe en la fila de la partida
+        Assert.assertEquals(4, table.getY(0));
+        List<Enemy> ready = new java.util.ArrayList<>();
+        table.advance(200, ready); // Moverse reinicia el temporizador
+        Assert.assertTrue(ready.isEmpty());
+        table.advance(40, ready); // Intervalo de embestida: 240
+        Assert.assertEquals(1, ready.size());
+
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        try (java.io.ObjectOutputStream out = new java.io.ObjectOutputStream(bytes)) {
+            out.writeObject(gs);
+        }
+        GameState loaded;
+        try (java.io.ObjectInputStream in = new java.io.ObjectInputStream(
+                new java.io.ByteArrayInputStream(bytes.toByteArray()))) {
+            loaded = (GameState) in.readObject();
+        }
+        Enemy copy = loaded.getEnemies().get(0);
+        Assert.assertSame(copy, loaded.getEnemyTable().getEnemy(0));
+        Assert.assertTrue(copy.isDrilling());
+        Assert.assertEquals(Direction.LEFT, copy.getCurrentDirection());
+        Assert.assertEquals(narval.getMoveTimer(), copy.getMoveTimer());
+
+        gs.clearEnemies(); // Fuera de la partida conserva su estado
+        Assert.assertEquals(0, table.size());
+        Assert.assertTrue(narval.isDrilling());
+        Assert.assertEquals(2, narval.getX());
+        Assert.assertEquals(4, narval.getY());
     }
 
     // ==================== PLAYER ADDITIONAL TESTS ====================
@@ -800,4 +1358,347 @@ public class DomainPackageTest {
         Assert.assertTrue(cd.isPositionBlocked(new Point(5, 5)));
     }
 
+    @Test
+    public void testSimulationEngineAccumulatesFixedTicks() {
+        GameState gs = new GameState("Chocolate", 1, 1);
+        gs.addFruit(new Fruit(new Point(1, 1), FruitType.UVA));
+        SimulationEngine engine = new SimulationEngine(gs, new GameLogic(gs));
+        Assert.assertEquals(2, engine.advance(40));
+        Assert.assertEquals(1, engine.advance(8));
+        Assert.assertEquals(3, engine.getTickCount());
+        Assert.assertEquals(180000 - 3 * SimulationEngine.TICK_MS, gs.getTimeRemaining());
+    }
+
+    @Test
+    public void testSimulationEngineRunsMatchHeadless() {
+        domain.dto.LevelConfigurationDTO config = new domain.dto.LevelConfigurationDTO();
+        config.addFruit("UVA", 4);
+        config.addEnemy("TROLL", 1);
+        GameFacade gf = new GameFacade("Chocolate", "Fresa", "P1", "P2", 1, 0, "EXPERT", "HUNGRY", false, config);
+        SimulationEngine engine = gf.getSimulationEngine();
+        engine.runUntilFinished(200000 / SimulationEngine.TICK_MS);
+        Assert.assertTrue(engine.isFinished());
+    }
+
+    @Test
+    public void testIceBlockBreaksWithGameTime() {
+        IceBlock ice = new IceBlock(new Point(3, 3));
+        ice.startBreaking();
+        Assert.assertFalse(ice.isFullyBroken());
+        ice.update(150);
+        Assert.assertEquals(50, ice.getBreakProgress());
+        ice.update(150);
+        Assert.assertTrue(ice.isFullyBroken());
+    }
+
+    @Test
+    public void testOccupancyIndexFollowsEntityChanges() {
+        GameState gs = new GameState("Chocolate", 1, 1);
+        CollisionDetector cd = new CollisionDetector(gs);
+        Enemy e = EnemyFactory.createEnemy(new Point(2, 2), "TROLL");
+        Fruit f = new Fruit(new Point(4, 4), FruitType.UVA);
+        gs.addEnemy(e);
+        gs.addFruit(f);
+
+        e.move(new Point(3, 2));
+        Assert.assertFalse(cd.hasEnemyAt(new Point(2, 2)));
+        Assert.assertTrue(cd.hasEnemyAt(new Point(3, 2)));
+        Assert.assertFalse(cd.hasOtherEnemyAt(new Point(3, 2), e));
+
+        f.collect();
+        Assert.assertFalse(cd.hasFruitAt(new Point(4, 4)));
+
+        gs.clearEnemies();
+        Assert.assertFalse(cd.hasEnemyAt(new Point(3, 2)));
+    }
+
+    @Test
+    public void testOccupancyIndexRebuiltAfterDeserialization() throws Exception {
+        GameState gs = new GameState("Chocolate", 1, 1);
+        gs.addIceBlock(new IceBlock(new Point(5, 5)));
+        gs.addEnemy(EnemyFactory.createEnemy(new Point(1, 1), "MACETA"));
+
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        try (java.io.ObjectOutputStream out = new java.io.ObjectOutputStream(bytes)) {
+            out.writeObject(gs);
+        }
+        GameState loaded;
+        try (java.io.ObjectInputStream in = new java.io.ObjectInputStream(
+                new java.io.ByteArrayInputStream(bytes.toByteArray()))) {
+            loaded = (GameState) in.readObject();
+        }
+
+        CollisionDetector cd = new CollisionDetector(loaded);
+        Assert.assertTrue(cd.hasIceAt(new Point(5, 5)));
+        Assert.assertTrue(cd.hasEnemyAt(new Point(1, 1)));
+        loaded.getEnemies().get(0).move(new Point(1, 2));
+        Assert.assertTrue(cd.hasEnemyAt(new Point(1, 2)));
+    }
+
+    @Test
+    public void testEntityIdsAreDenseAndReused() {
+        GameState gs = new GameState("Chocolate", 1, 1);
+        Assert.assertEquals(0, gs.getPlayer().getId());
+        Enemy e1 = EnemyFactory.createEnemy(new Point(1, 1), "TROLL");
+        Enemy e2 = EnemyFactory.createEnemy(new Point(2, 2), "TROLL");
+        Fruit f = new Fruit(new Point(4, 4), FruitType.UVA);
+        IceBlock ice = new IceBlock(new Point(5, 5));
+        Assert.assertEquals(-1, e1.getId());
+        gs.addEnemy(e1);
+        gs.addEnemy(e2);
+        gs.addFruit(f);
+        gs.addIceBlock(ice);
+        Assert.assertEquals(1, e1.getId());
+        Assert.assertEquals(2, e2.getId());
+        Assert.assertEquals(3, f.getId());
+        Assert.assertEquals(4, ice.getId());
+        Assert.assertEquals(2, domain.dto.EnemySnapshot.from(e2).getId());
+        Assert.assertEquals(4, domain.dto.IceBlockSnapshot.from(ice).getId());
+
+        // Los identificadores liberados se reutilizan con otra generación
+        gs.removeIceBlock(ice);
+        Assert.assertEquals(-1, ice.getId());
+        IceBlock sneezed = new IceBlock(new Point(6, 5));
+        gs.addIceBlock(sneezed);
+        Assert.assertEquals(4, sneezed.getId());
+        Assert.assertEquals(1, sneezed.getGeneration());
+        gs.clearEnemies();
+        Assert.assertEquals(-1, e1.getId());
+        Assert.assertEquals(5, gs.getIdCapacity());
+    }
+
+    @Test
+    public void testCellAccessorsWithoutPoints() {
+        GameState gs = new GameState("Chocolate", 1, 1);
+        CollisionDetector cd = new CollisionDetector(gs);
+        Enemy e = EnemyFactory.createEnemy(new Point(2, 2), "TROLL");
+        gs.addEnemy(e);
+
+        Point copy = e.getPosition();
+        e.moveTo(3, 2);
+        Assert.assertEquals(new Point(2, 2), copy); // las copias no cambian con la entidad
+        Assert.assertEquals(3, e.getX());
+        Assert.assertEquals(2, e.getY());
+        Assert.assertTrue(e.isAt(3, 2));
+        Assert.assertTrue(cd.hasEnemyAt(3, 2));
+        Assert.assertFalse(cd.hasEnemyAt(2, 2));
+        Assert.assertFalse(cd.canEnemyMoveTo(3, 2, EnemyFactory.createEnemy(new Point(4, 2), "TROLL")));
+        Assert.assertTrue(cd.canEnemyMoveTo(3, 2, e));
+        Assert.assertFalse(cd.isValidPosition(-1, 0));
+
+        e.setDirection(Direction.DOWN);
+        Assert.assertEquals(e.getNextPosition(), new Point(e.getNextX(), e.getNextY()));
+        Assert.assertEquals(new Point(3, 3), e.getNextPosition());
+    }
+
+    @Test
+    public void testDistanceFieldLayers() {
+        GameState gs = new GameState("Chocolate", 1, 1);
+        gs.addEnemy(EnemyFactory.createEnemy(new Point(1, 1), "TROLL"));
+        gs.addFruit(new Fruit(new Point(8, 8), FruitType.UVA));
+        gs.addIceBlock(new IceBlock(new Point(8, 7)));
+
+        DistanceField field = new DistanceField(GameState.getGridSize());
+        field.compute(gs);
+
+        Assert.assertEquals(3, field.getEnemyDistance(4, 1));
+        Assert.assertEquals(1, field.getNearestEnemyX(4, 1));
+        Assert.assertFalse(field.isSafe(2, 2));
+        Assert.assertFalse(field.isPassable(8, 7));
+        // El hielo en (8,7) obliga a rodear: desde (8,6) no se baja directamente
+        Assert.assertNotEquals(Direction.DOWN, field.nextStepTowardsFruit(8, 6));
+        Assert.assertEquals(Direction.UP, field.nextStepTowardsFruit(8, 9));
+        Assert.assertEquals(4, field.getFruitDistance(8, 6));
+    }
+
+    @Test
+    public void testTournamentPlaysEveryPairing() throws Exception {
+        domain.dto.LevelConfigurationDTO config = new domain.dto.LevelConfigurationDTO();
+        config.addFruit("UVA", 3);
+        config.addEnemy("TROLL", 1);
+        TournamentService tournament = new TournamentService(config, 2);
+        List<domain.dto.MatchResultDTO> results = tournament.runTournament(java.util.Arrays.asList(1), 1);
+        Assert.assertEquals(AIType.values().length * AIType.values().length, results.size());
+        for (domain.dto.MatchResultDTO result : results) {
+            Assert.assertTrue(result.getTicks() > 0);
+            Assert.assertNotNull(result.getWinner());
+        }
+    }
+
+    @Test
+    public void testReplayReproducesRecordedGame() throws Exception {
+        GameFacade live = new GameFacade("Chocolate", "Fresa", "A", "B", 1, 2, null, "HUNGRY", true);
+        domain.dto.LevelConfigurationDTO config = new domain.dto.LevelConfigurationDTO();
+        config.addFruit("UVA", 5);
+        config.addEnemy("TROLL", 2);
+        config.addEnemy("CALAMAR", 1);
+        live.setConfiguration(config);
+        live.applyConfiguration();
+
+        SimulationEngine engine = live.getSimulationEngine();
+        Runnable[] script = { live::movePlayerRight, live::movePlayerDown, live::performSpaceAction,
+                live::stopPlayer, live::movePlayerLeft, live::movePlayerUp, live::performSpaceAction };
+        for (int i = 0; i < 60; i++) {
+            script[i % script.length].run();
+            for (int t = 0; t < 7 && !engine.isFinished(); t++) {
+                engine.step();
+            }
+        }
+
+        java.io.File file = java.io.File.createTempFile("replay", ".bdr");
+        file.deleteOnExit();
+        live.saveReplay(file);
+        domain.state.Replay loaded = new domain.service.ReplayService().loadReplay(file);
+        Assert.assertEquals(live.getReplay().getEventCount(), loaded.getEventCount());
+        Assert.assertEquals(engine.getTickCount(), loaded.getEndTick());
+        Assert.assertTrue(file.length() < 1024);
+
+        domain.service.ReplayPlayer player = new domain.service.ReplayPlayer(loaded);
+        player.runToEnd();
+        GameState replayed = player.getGameState();
+        Assert.assertEquals(engine.getTickCount(), player.getCurrentTick());
+        Assert.assertEquals(live.getScore(), replayed.getScore());
+        Assert.assertEquals(live.getGameState().getPlayer().getPosition(), replayed.getPlayer().getPosition());
+        Assert.assertEquals(live.getGameState().getPlayer2().getPosition(), replayed.getPlayer2().getPosition());
+        Assert.assertEquals(live.getGameState().getIceBlocks().size(), replayed.getIceBlocks().size());
+        for (int i = 0; i < live.getGameState().getEnemies().size(); i++) {
+            Assert.assertEquals(live.getGameState().getEnemies().get(i).getPosition(),
+                    replayed.getEnemies().get(i).getPosition());
+        }
+
+        // Retroceder re-simula desde el inicio hasta el tick pedido
+        player.seek(100);
+        Assert.assertEquals(100, player.getCurrentTick());
+        player.runToEnd();
+        Assert.assertEquals(live.getGameState().getPlayer().getPosition(),
+                player.getGameState().getPlayer().getPosition());
+    }
+
+    @Test
+    public void testGameRandomMatchesJavaUtilRandom() {
+        java.util.Random reference = new java.util.Random(42L);
+        domain.state.GameRandom random = new domain.state.GameRandom(42L);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(reference.nextInt(13), random.nextInt(13));
+        }
+        Assert.assertEquals(reference.nextLong(), random.nextLong());
+        Assert.assertEquals(42L, random.getInitialSeed());
+
+        long state = random.getState();
+        int expected = random.nextInt(1000);
+        random.restore(42L, state);
+        Assert.assertEquals(expected, random.nextInt(1000));
+    }
+
+    @Test
+    public void testSameSeedReplaysSameMatch() {
+        domain.dto.LevelConfigurationDTO config = new domain.dto.LevelConfigurationDTO();
+        config.addFruit("UVA", 4);
+        config.addEnemy("TROLL", 2);
+        config.addEnemy("MACETA", 1);
+
+        GameFacade[] runs = new GameFacade[2];
+        for (int r = 0; r < runs.length; r++) {
+            config.setSeed(1234L);
+            runs[r] = new GameFacade("Chocolate", "Fresa", "A", "B", 1, 0, "EXPERT", "HUNGRY", false, config);
+            runs[r].getSimulationEngine().runUntilFinished(2000);
+        }
+        Assert.assertEquals(1234L, runs[0].getSeed());
+        Assert.assertEquals(runs[0].getScore(), runs[1].getScore());
+        Assert.assertEquals(runs[0].getScorePlayer2(), runs[1].getScorePlayer2());
+        Assert.assertEquals(runs[0].getSimulationEngine().getTickCount(),
+                runs[1].getSimulationEngine().getTickCount());
+        Assert.assertEquals(runs[0].getGameState().getPlayer().getPosition(),
+                runs[1].getGameState().getPlayer().getPosition());
+        for (int i = 0; i < runs[0].getGameState().getEnemies().size(); i++) {
+            Assert.assertEquals(runs[0].getGameState().getEnemies().get(i).getPosition(),
+                    runs[1].getGameState().getEnemies().get(i).getPosition());
+        }
+
+        TournamentService tournament = new TournamentService(config, 1, 99L);
+        domain.dto.MatchResultDTO first = tournament.playMatch(1, AIType.EXPERT, AIType.FEARFUL, 0);
+        domain.dto.MatchResultDTO second = tournament.playMatch(1, AIType.EXPERT, AIType.FEARFUL, 0);
+        Assert.assertEquals(first.getSeed(), second.getSeed());
+        Assert.assertEquals(first.getTicks(), second.getTicks());
+        Assert.assertEquals(first.getScoreP1(), second.getScoreP1());
+        Assert.assertEquals(first.getScoreP2(), second.getScoreP2());
+    }
+
+    @Test
+    public void testParallelEnemyPlanningMatchesSequential() {
+        String[] types = { "TROLL", "MACETA", "CALAMAR", "NARVAL" };
+        GameState[] states = new GameState[2];
+        for (int r = 0; r < states.length; r++) {
+            states[r] = new GameState("Chocolate", 1, 1, 42L);
+            java.util.Random layout = new java.util.Random(7);
+            for (int i = 0; i < 40; i++) {
+                states[r].addIceBlock(new IceBlock(new Point(layout.nextInt(13), layout.nextInt(13))));
+            }
+            for (int i = 0; i < 200; i++) {
+                states[r].addEnemy(EnemyFactory.createEnemy(new Point(layout.nextInt(13), layout.nextInt(13)),
+                        types[i % types.length], states[r].getRandom()));
+            }
+        }
+        GameLogic sequential = new GameLogic(states[0]);
+        GameLogic parallel = new GameLogic(states[1]);
+        sequential.setParallelThreshold(Integer.MAX_VALUE);
+        parallel.setParallelThreshold(1);
+
+        for (int tick = 0; tick < 300; tick++) {
+            sequential.updateEnemies(16);
+            parallel.updateEnemies(16);
+        }
+        List<Enemy> a = states[0].getEnemies();
+        List<Enemy> b = states[1].getEnemies();
+        for (int i = 0; i < a.size(); i++) {
+            Assert.assertEquals(a.get(i).getPosition(), b.get(i).getPosition());
+            Assert.assertEquals(a.get(i).getCurrentDirection(), b.get(i).getCurrentDirection());
+            Assert.assertEquals(a.get(i).getStuckCounter(), b.get(i).getStuckCounter());
+        }
+    }
+
+    @Test
+    public void testLoadedEnemiesKeepTheirRandomStreams() throws Exception {
+        GameState gs = new GameState("Chocolate", 1, 1, 11L);
+        for (int i = 0; i < 6; i++) {
+            gs.addEnemy(EnemyFactory.createEnemy(new Point(2 * i, 2), i % 2 == 0 ? "TROLL" : "MACETA",
+                    gs.getRandom()));
+        }
+        GameLogic original = new GameLogic(gs);
+        for (int tick = 0; tick < 100; tick++) {
+            original.updateEnemies(16);
+        }
+        domain.service.GameStateCodec codec = new domain.service.GameStateCodec();
+        GameState loaded = codec.decode(codec.encode(gs));
+        GameLogic resumed = new GameLogic(loaded);
+        for (int tick = 0; tick < 200; tick++) {
+            original.updateEnemies(16);
+            resumed.updateEnemies(16);
+        }
+        for (int i = 0; i < gs.getEnemies().size(); i++) {
+            Assert.assertEquals(gs.getEnemies().get(i).getPosition(), loaded.getEnemies().get(i).getPosition());
+            Assert.assertEquals(gs.getEnemies().get(i).getCurrentDirection(),
+                    loaded.getEnemies().get(i).getCurrentDirection());
+        }
+    }
+
+    @Test
+    public void testEnemyCommitGivesContestedCellToFirstRow() {
+        GameState gs = new GameState("Chocolate", 1, 1, 42L);
+        Enemy first = EnemyFactory.createEnemy(new Point(2, 3), "TROLL");
+        Enemy second = EnemyFactory.createEnemy(new Point(4, 3), "TROLL");
+        first.setDirection(Direction.RIGHT);
+        second.setDirection(Direction.LEFT);
+        gs.addEnemy(first);
+        gs.addEnemy(second);
+
+        new GameLogic(gs).updateEnemies(first.getMoveInterval());
+
+        Assert.assertEquals(new Point(3, 3), first.getPosition());
+        Assert.assertEquals(new Point(4, 3), second.getPosition());
+        Assert.assertEquals(first.getStuckCounter() + 1, second.getStuckCounter());
+        Assert.assertEquals(1, gs.getOccupancy().getEnemyCount(3, 3));
+        Assert.assertEquals(1, gs.getOccupancy().getEnemyCount(4, 3));
+    }
+
 }
@@ -681,4 +681,161 @@ public class PresentationPackageTest {
         ResourceLoader rl = new ResourceLoader();
         assertNotNull(rl.getCalamarGif("UP", true));
     }
+
+    // Static Background Layer Tests
+    @Test
+    public void testStaticBackgroundLayerComposesMapOnce() {
+        ResourceLoader rl = new ResourceLoader();
+        GameFacade facade = new GameFacade("Chocolate", 1, 1);
+        StaticBackgroundLayer layer = new StaticBackgroundLayer(facade, rl, 650, 50, 40);
+        java.awt.image.BufferedImage frame = new java.awt.image.BufferedImage(700, 700,
+                java.awt.image.BufferedImage.TYPE_INT_RGB);
+        java.awt.Graphics2D g = frame.createGraphics();
+        layer.draw(g, 10, 10, null);
+
+        // El bloque irrompible queda dentro de la capa
+        Point block = facade.getUnbreakableBlockSnapshots().get(0).getPosition();
+        int rgb = frame.getRGB(10 + block.x * 50 + 25, 10 + block.y * 50 + 25) & 0xFFFFFF;
+        assertNotEquals(0, rgb);
+
+        // Reiniciar cambia la versión del mapa y la capa se vuelve a componer
+        int version = facade.getLayoutVersion();
+        facade.restartLevel();
+        assertNotEquals(version, facade.getLayoutVersion());
+        layer.draw(g, 10, 10, null);
+        g.dispose();
+    }
+
+    @Test
+    public void testSpriteCacheScalesOncePerSize() {
+        SpriteCache cache = new SpriteCache();
+        java.awt.image.BufferedImage source = new java.awt.image.BufferedImage(100, 100,
+                java.awt.image.BufferedImage.TYPE_INT_ARGB);
+        java.awt.image.BufferedImage scaled = cache.get(source, 40, 40);
+        assertEquals(40, scaled.getWidth());
+        assertEquals(40, scaled.getHeight());
+        assertSame(scaled, cache.get(source, 40, 40));
+        assertNotSame(scaled, cache.get(source, 20, 20));
+        assertEquals(2, cache.size());
+
+        // Sin tamaño o con imágenes de Toolkit (GIF animados) no hay versión pre-escalada
+        assertNull(cache.get(source, 0, 40));
+        ResourceLoader rl = new ResourceLoader();
+        assertNull(rl.getScaledSprite(rl.hotTileImage.getImage(), 40, 40));
+        assertNotNull(rl.getScaledSprite(rl.iceBlockNormalImage, 40, 40));
+    }
+
+    // GIF Frame Atlas Tests
+    @Test
+    public void testGifDecodedIntoFrameAtlas() throws Exception {
+        AnimatedSprite walk = GifDecoder.decode(
+                new java.io.File("Resources/Helados/Chocolate/Gif/chocolate_caminando_abajo animation.gif"));
+        assertEquals(8, walk.getFrameCount());
+        assertEquals(8 * 160, walk.getDuration());
+        assertEquals(0, walk.getFrameIndexAt(0));
+        assertEquals(1, walk.getFrameIndexAt(160));
+        assertEquals(7, walk.getFrameIndexAt(walk.getDuration() - 1));
+        assertEquals(0, walk.getFrameIndexAt(walk.getDuration())); // se repite
+        assertTrue(walk.getAtlas().getWidth() >= walk.getWidth() * 3);
+
+        // El fotograma tiene contenido visible
+        java.awt.image.BufferedImage frame = walk.getFrameAt(0);
+        boolean opaque = false;
+        for (int x = 0; x < frame.getWidth() && !opaque; x++) {
+            for (int y = 0; y < frame.getHeight() && !opaque; y++) {
+                opaque = (frame.getRGB(x, y) >>> 24) != 0;
+            }
+        }
+        assertTrue(opaque);
+
+        ResourceLoader rl = new ResourceLoader();
+        AnimatedSprite troll = rl.getAnimation(rl.trollWalkDownGif);
+        assertNotNull(troll);
+        assertSame(troll, rl.getAnimation(rl.trollWalkDownGif));
+        assertNotNull(rl.getScaledSprite(troll.getFrameAt(0), 45, 45));
+    }
+
+    // Lazy Asset Loading Tests
+    @Test
+    public void testGameGifsDecodedOnDemandByGroup() throws Exception {
+        ResourceLoader rl = new ResourceLoader();
+        assertNotNull(rl.narvalDrillUpGif);
+        assertEquals("Resources/Enemigos/Narval/GIF/Narval_drill_arriba.gif", rl.narvalDrillUpGif.getDescription());
+        double before = rl.getLoadProgress();
+        assertTrue(before < 1.0);
+
+        rl.loadEnemyAssets("NARVAL").get(30, java.util.concurrent.TimeUnit.SECONDS);
+        assertTrue(rl.getLoadProgress() > before);
+        AnimatedSprite drill = rl.getAnimation(rl.narvalDrillUpGif);
+        assertNotNull(drill);
+        assertSame(drill, rl.getAnimation(rl.narvalDrillUpGif));
+
+        // El icono sigue funcionando como ImageIcon normal si se consulta
+        assertTrue(rl.narvalDrillUpGif.getIconWidth() > 0);
+
+        rl.loadCharacterAssets("Fresa").get(30, java.util.concurrent.TimeUnit.SECONDS);
+        assertNotNull(rl.getAnimation(rl.rosaKickGif));
+    }
+
+    // Active Rendering Tests
+    @Test
+    public void testActiveRendererFramePacing() {
+        assertEquals(16_666_666L, ActiveRenderer.framePeriodNanos(60));
+        assertEquals(6_944_444L, ActiveRenderer.framePeriodNanos(144));
+        // Frecuencia desconocida (REFRESH_RATE_UNKNOWN = 0): 60 Hz
+        assertEquals(ActiveRenderer.framePeriodNanos(60), ActiveRenderer.framePeriodNanos(0));
+        assertFalse(ActiveRenderer.isEnabled());
+    }
+
+    // Render Interpolation Tests
+    @Test
+    public void testMotionTrackInterpolatesByTime() {
+        MotionTrack track = new MotionTrack(2, 3, 50);
+        assertEquals(100f, track.getX(0), 0.001f);
+        assertFalse(track.isMoving(0));
+
+        assertTrue(track.moveTo(3, 3, 50, 1000, 200));
+        assertEquals(100f, track.getX(1000), 0.001f);
+        assertEquals(125f, track.getX(1100), 0.001f); // mitad del tiempo, mitad del camino
+        assertEquals(0.5f, track.getAlpha(1100), 0.001f);
+        assertTrue(track.isMoving(1100));
+        assertEquals(150f, track.getX(1200), 0.001f);
+        assertFalse(track.isMoving(1250));
+        assertFalse(track.moveTo(3, 3, 50, 1300, 200));
+
+        // Un salto de varias casillas no se anima
+        track.moveTo(8, 8, 50, 2000, 200);
+        assertFalse(track.isMoving(2000));
+        assertEquals(400f, track.getY(2000), 0.001f);
+    }
+
+    @Test
+    public void testMotionTableMatchesMotionTrack() {
+        MotionTable table = new MotionTable(1);
+        MotionTrack track = new MotionTrack(2, 3, 50);
+        table.beginFrame();
+        table.update(5, 0, 2, 3, 50, 0, 0); // crece más allá de la capacidad inicial
+        assertTrue(table.contains(5));
+        assertFalse(table.contains(4));
+
+        table.beginFrame();
+        table.update(5, 0, 3, 3, 50, 1000, 200);
+        track.moveTo(3, 3, 50, 1000, 200);
+        for (long t = 1000; t <= 1250; t += 50) {
+            assertEquals(track.getX(t), table.getX(5, t), 0.001f);
+            assertEquals(track.getY(t), table.getY(5, t), 0.001f);
+        }
+
+        // Un identificador reutilizado (otra generación) se coloca sin animación
+        table.beginFrame();
+        table.update(5, 1, 4, 3, 50, 2000, 200);
+        assertEquals(200f, table.getX(5, 2000), 0.001f);
+
+        // Una entrada que se saltó un frame también
+        table.beginFrame();
+        table.beginFrame();
+        assertFalse(table.contains(5));
+        table.update(5, 1, 5, 3, 50, 3000, 200);
+        assertEquals(250f, table.getX(5, 3000), 0.001f);
+    }
 }